@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.checkers;
+
+import org.eclipse.cdt.codan.core.cxx.model.AbstractCIndexFileChecker;
+import org.eclipse.cdt.core.dom.ast.IFunction;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPMethod;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPSpecialization;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPTemplateDefinition;
+import org.eclipse.cdt.core.index.IIndexBinding;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexName;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Reports functions with external linkage that are defined in more than one file, a violation
+ * of the one definition rule that is only detected by the linker. Runs on the index, the
+ * definitions in other files are never parsed.
+ */
+public class MultipleDefinitionsChecker extends AbstractCIndexFileChecker {
+	public static final String ERR_ID = "org.eclipse.cdt.codan.internal.checkers.MultipleDefinitionsProblem"; //$NON-NLS-1$
+
+	@Override
+	protected void processIndexFile(IIndexFile file) throws CoreException {
+		IIndexFileLocation location = file.getLocation();
+		for (IIndexName name : file.findNames(0, Integer.MAX_VALUE)) {
+			if (!name.isDefinition())
+				continue;
+			IIndexBinding binding = index.findBinding(name);
+			if (!canHaveOneDefinitionOnly(binding))
+				continue;
+			for (IIndexName definition : index.findDefinitions(binding)) {
+				IIndexFileLocation otherLocation = definition.getFile().getLocation();
+				// The same file may be indexed several times, e.g. a header in different contexts.
+				if (!otherLocation.equals(location)) {
+					reportProblem(ERR_ID, name, binding.getName(), getDisplayPath(otherLocation));
+					break;
+				}
+			}
+		}
+	}
+
+	private static boolean canHaveOneDefinitionOnly(IIndexBinding binding) throws CoreException {
+		if (!(binding instanceof IFunction) || binding.isFileLocal())
+			return false;
+		IFunction function = (IFunction) binding;
+		// Inline functions, templates and class members may be defined in every translation unit.
+		return !function.isInline() && !(binding instanceof ICPPMethod) && !(binding instanceof ICPPTemplateDefinition)
+				&& !(binding instanceof ICPPSpecialization);
+	}
+
+	private static String getDisplayPath(IIndexFileLocation location) {
+		String fullPath = location.getFullPath();
+		return fullPath != null ? fullPath : location.getURI().getPath();
+	}
+}
@@ -15,8 +15,12 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Stack;
 
 import org.eclipse.cdt.codan.checkers.CodanCheckersActivator;
@@ -26,9 +30,11 @@ import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
 import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
 import org.eclipse.cdt.codan.core.model.cfg.ICfgData;
+import org.eclipse.cdt.codan.core.model.cfg.IConnectorNode;
 import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
 import org.eclipse.cdt.codan.core.model.cfg.IExitNode;
-import org.eclipse.cdt.codan.internal.core.cfg.ControlFlowGraph;
+import org.eclipse.cdt.codan.core.model.cfg.IStartNode;
+import org.eclipse.cdt.codan.internal.core.cfg.DataFlowAnalysis;
 import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.DOMException;
 import org.eclipse.cdt.core.dom.ast.EScopeKind;
@@ -91,6 +97,7 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	public static final String RET_LOCAL_ID = "org.eclipse.cdt.codan.checkers.localvarreturn"; //$NON-NLS-1$
 
 	private IType cachedReturnType = null;
+	private Collection<IBasicBlock> cachedDeadBlocks = null;
 
 	private enum RetType {
 		BY_REF, BY_PTR
@@ -292,6 +299,7 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 	@Override
 	protected void processFunction(IASTFunctionDefinition func) {
 		cachedReturnType = null;
+		cachedDeadBlocks = null;
 		ReturnStmpVisitor visitor = new ReturnStmpVisitor(func);
 		func.accept(visitor);
 		ReturnTypeKind returnKind = getReturnTypeKind(func);
@@ -331,10 +339,68 @@ public class ReturnChecker extends AbstractAstFunctionChecker {
 		return false;
 	}
 
-	// TODO: Any reason not to just expose getDeadNodes() in IControlFlowGraph?
 	public Collection<IBasicBlock> getDeadBlocks(IASTFunctionDefinition func) {
-		IControlFlowGraph graph = getModelCache().getControlFlowGraph(func);
-		return ((ControlFlowGraph) graph).getDeadNodes();
+		if (cachedDeadBlocks == null) {
+			IControlFlowGraph graph = getModelCache().getControlFlowGraph(func);
+			LiveBlocks liveBlocks = new LiveBlocks(graph.getStartNode());
+			liveBlocks.solve(graph);
+			Collection<IBasicBlock> deadBlocks = new ArrayList<>();
+			for (IBasicBlock node : graph.getNodes()) {
+				if (!liveBlocks.isLive(node))
+					deadBlocks.add(node);
+			}
+			cachedDeadBlocks = deadBlocks;
+		}
+		return cachedDeadBlocks;
+	}
+
+	/**
+	 * Finds the nodes reachable from the start node of a graph. As in the graph, the incoming
+	 * nodes of a live connector are live, e.g. the branch node of a label only reached by goto.
+	 */
+	private static class LiveBlocks extends DataFlowAnalysis {
+		private final IStartNode start;
+
+		LiveBlocks(IStartNode start) {
+			super(Direction.FORWARD, Meet.UNION, 1);
+			this.start = start;
+		}
+
+		@Override
+		protected void transfer(IBasicBlock node, BitSet value) {
+			if (node == start)
+				value.set(0);
+		}
+
+		@Override
+		protected IBasicBlock[] successors(IBasicBlock node) {
+			if (!(node instanceof IConnectorNode))
+				return node.getOutgoingNodes();
+			return concat(node.getOutgoingNodes(), node.getIncomingNodes());
+		}
+
+		@Override
+		protected IBasicBlock[] predecessors(IBasicBlock node) {
+			List<IBasicBlock> connectors = new ArrayList<>();
+			for (IBasicBlock outgoing : node.getOutgoingNodes()) {
+				if (outgoing instanceof IConnectorNode)
+					connectors.add(outgoing);
+			}
+			return concat(node.getIncomingNodes(), connectors.toArray(new IBasicBlock[connectors.size()]));
+		}
+
+		private static IBasicBlock[] concat(IBasicBlock[] first, IBasicBlock[] second) {
+			if (second.length == 0)
+				return first;
+			IBasicBlock[] result = Arrays.copyOf(first, first.length + second.length);
+			System.arraycopy(second, 0, result, first.length, second.length);
+			return result;
+		}
+
+		boolean isLive(IBasicBlock node) {
+			BitSet value = getOut(node);
+			return value != null && value.get(0);
+		}
 	}
 
 	protected void reportNoRet(IASTFunctionDefinition func, boolean hasRet) {
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.core.cxx;
 
+import org.eclipse.cdt.codan.core.cxx.internal.model.IndexUpdateCodanRunner;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
@@ -26,6 +27,7 @@ public class Activator extends Plugin {
 	public static final String PLUGIN_ID = "org.eclipse.cdt.codan.core.cxx"; //$NON-NLS-1$
 	// The shared instance
 	private static Activator plugin;
+	private IndexUpdateCodanRunner indexUpdateRunner;
 
 	/**
 	 * The constructor
@@ -37,10 +39,16 @@ public class Activator extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		indexUpdateRunner = new IndexUpdateCodanRunner();
+		indexUpdateRunner.install();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		if (indexUpdateRunner != null) {
+			indexUpdateRunner.uninstall();
+			indexUpdateRunner = null;
+		}
 		plugin = null;
 		super.stop(context);
 	}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.internal.core.CheckersRegistry;
+import org.eclipse.cdt.codan.internal.core.CodanRunner;
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.index.IIndexChangeEvent;
+import org.eclipse.cdt.core.index.IIndexChangeListener;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Runs the checkers enabled for {@link CheckerLaunchMode#RUN_ON_INDEX_UPDATE} on the files written
+ * by the indexer. Changes reported in quick succession are coalesced into a single run.
+ */
+public class IndexUpdateCodanRunner implements IIndexChangeListener {
+	/** The family of the jobs running the checkers. */
+	public static final Object JOB_FAMILY = IndexUpdateCodanRunner.class;
+	private static final long DELAY = 500;
+
+	private final Map<IProject, Set<IIndexFileLocation>> pendingFiles = new HashMap<>();
+	private final Job job = new Job(Messages.IndexUpdateCodanRunner_JobName) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			return processPendingFiles(monitor);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JOB_FAMILY;
+		}
+	};
+
+	public IndexUpdateCodanRunner() {
+		job.setSystem(true);
+	}
+
+	public void install() {
+		CCorePlugin.getIndexManager().addIndexChangeListener(this);
+	}
+
+	public void uninstall() {
+		CCorePlugin.getIndexManager().removeIndexChangeListener(this);
+		job.cancel();
+	}
+
+	@Override
+	public void indexChanged(IIndexChangeEvent event) {
+		Set<IIndexFileLocation> written = event.getFilesWritten();
+		if (written.isEmpty())
+			return;
+		IProject project = event.getAffectedProject().getProject();
+		synchronized (pendingFiles) {
+			pendingFiles.computeIfAbsent(project, p -> new LinkedHashSet<>()).addAll(written);
+		}
+		job.schedule(DELAY);
+	}
+
+	private IStatus processPendingFiles(IProgressMonitor monitor) {
+		Map<IProject, Set<IIndexFileLocation>> files;
+		synchronized (pendingFiles) {
+			files = new HashMap<>(pendingFiles);
+			pendingFiles.clear();
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, files.size());
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (Map.Entry<IProject, Set<IIndexFileLocation>> entry : files.entrySet()) {
+			if (progress.isCanceled())
+				return Status.CANCEL_STATUS;
+			if (!entry.getKey().isAccessible())
+				continue;
+			List<IFile> resources = new ArrayList<>(entry.getValue().size());
+			for (IIndexFileLocation location : entry.getValue()) {
+				String fullPath = location.getFullPath();
+				if (fullPath != null) {
+					IFile file = root.getFile(new Path(fullPath));
+					if (file.isAccessible() && file.getProject().equals(entry.getKey()))
+						resources.add(file);
+				}
+			}
+			if (!resources.isEmpty() && hasEnabledCheckers(resources.get(0))) {
+				CodanRunner.processFiles(resources, CheckerLaunchMode.RUN_ON_INDEX_UPDATE, progress.split(1));
+			} else {
+				progress.worked(1);
+			}
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Avoids setting up the analysis of each file when the mode is not enabled in the profile of
+	 * the project, which is the common case.
+	 */
+	private static boolean hasEnabledCheckers(IFile file) {
+		CheckersRegistry registry = CheckersRegistry.getInstance();
+		for (IChecker checker : registry) {
+			if (registry.isCheckerEnabled(checker, file, CheckerLaunchMode.RUN_ON_INDEX_UPDATE))
+				return true;
+		}
+		return false;
+	}
+}
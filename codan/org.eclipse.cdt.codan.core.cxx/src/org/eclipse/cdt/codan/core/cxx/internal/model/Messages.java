@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model;
+
+import org.eclipse.osgi.util.NLS;
+
+public final class Messages extends NLS {
+	public static String IndexUpdateCodanRunner_JobName;
+
+	private Messages() {
+		// Do not instantiate
+	}
+
+	static {
+		NLS.initializeMessages(Messages.class.getName(), Messages.class);
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.IProblemLocation;
+import org.eclipse.cdt.codan.core.model.IProblemWorkingCopy;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexName;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.ITranslationUnit;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Checker that queries the index for the contents of a file rather than parsing it. The file is
+ * processed once for every linkage and every variant in which it has been indexed, so checks
+ * that need knowledge of other files, e.g. about all the definitions of a binding, are cheap.
+ * <p>
+ * In addition to the usual launch modes, such checkers are enabled by default for
+ * {@link CheckerLaunchMode#RUN_ON_INDEX_UPDATE}, i.e. they run on the files written by the
+ * indexer as soon as the index has been updated. A file is not reported as changed when only
+ * the files it refers to change, so problems that involve several files are only updated on the
+ * file being reindexed.
+ * <p>
+ * Clients may extend this class.
+ * <p>
+ * <strong>EXPERIMENTAL</strong>. This class or interface has been added as
+ * part of a work in progress. There is no guarantee that this API will
+ * work or that it will remain the same.
+ * </p>
+ *
+ * @since 3.6
+ */
+public abstract class AbstractCIndexFileChecker extends AbstractCIndexChecker {
+	private ITranslationUnit unit;
+	// Read from the translation unit when the first problem is reported.
+	private char[] contents;
+
+	@Override
+	public void processUnit(ITranslationUnit unit) {
+		IIndexFileLocation location = IndexLocationFactory.getIFL(unit);
+		if (location == null)
+			return;
+		this.unit = unit;
+		try {
+			for (IIndexFile file : index.getFiles(location)) {
+				processIndexFile(file);
+			}
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+		} finally {
+			this.unit = null;
+			this.contents = null;
+		}
+	}
+
+	/**
+	 * Runs the checker on a file of the index. The index is locked for read access and is
+	 * available in {@link #index}.
+	 *
+	 * @param file - the index file, for a single linkage
+	 */
+	protected abstract void processIndexFile(IIndexFile file) throws CoreException;
+
+	/**
+	 * Reports a problem on a name of the file being processed.
+	 *
+	 * @param id - the id of the problem
+	 * @param name - the name in the file being processed
+	 * @param args - the problem arguments
+	 */
+	protected void reportProblem(String id, IIndexName name, Object... args) {
+		IFile file = getFile();
+		if (file == null)
+			return;
+		int start = name.getNodeOffset();
+		IProblemLocation location = getRuntime().getProblemLocationFactory().createProblemLocation(file, start,
+				start + name.getNodeLength(), getLineNumber(start));
+		reportProblem(id, location, args);
+	}
+
+	private int getLineNumber(int offset) {
+		if (contents == null && unit != null)
+			contents = unit.getContents();
+		if (contents == null)
+			return -1;
+		int line = 1;
+		for (int i = 0; i < offset && i < contents.length; i++) {
+			if (contents[i] == '\n')
+				line++;
+		}
+		return line;
+	}
+
+	@Override
+	public void initPreferences(IProblemWorkingCopy problem) {
+		getTopLevelPreference(problem); // initialize
+		// The index is not up to date when a file has just been saved.
+		getLaunchModePreference(problem).enableInLaunchModes(CheckerLaunchMode.RUN_ON_INDEX_UPDATE,
+				CheckerLaunchMode.RUN_ON_DEMAND, CheckerLaunchMode.RUN_ON_FULL_BUILD);
+	}
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import org.eclipse.cdt.codan.core.cxx.Activator;
 import org.eclipse.cdt.codan.core.model.AbstractCheckerWithProblemPreferences;
 import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.ICheckerWithSharedModels;
 import org.eclipse.cdt.codan.core.model.IProblem;
 import org.eclipse.cdt.codan.core.model.IProblemLocation;
 import org.eclipse.cdt.codan.core.model.IProblemLocationFactory;
@@ -51,7 +52,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Clients may extend this class.
  */
 public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblemPreferences
-		implements ICAstChecker, IRunnableInEditorChecker {
+		implements ICAstChecker, IRunnableInEditorChecker, ICheckerWithSharedModels {
 	private CxxModelsCache modelCache;
 
 	@Override
@@ -64,19 +65,51 @@ public abstract class AbstractIndexAstChecker extends AbstractCheckerWithProblem
 		return false;
 	}
 
-	private void processFile(IFile file) throws OperationCanceledException {
-		ICheckerInvocationContext context = getContext();
+	/**
+	 * Parses the file, so that the AST is not built while the lock of this checker is held.
+	 *
+	 * @since 3.6
+	 */
+	@Override
+	public void prepareModels(IResource resource, ICheckerInvocationContext context)
+			throws OperationCanceledException {
+		if (!(resource instanceof IFile) || !shouldProduceProblems(resource))
+			return;
+		CxxModelsCache cache = getModelCache((IFile) resource, context);
+		if (cache == null)
+			return;
+		try {
+			if (cache.getIndex().isFullyInitialized()) {
+				cache.getAST();
+			}
+		} catch (CoreException e) {
+			Activator.log(e);
+		}
+	}
+
+	/**
+	 * Returns the models of the file shared through the context, creating them if needed, or
+	 * {@code null} if the file is not a translation unit.
+	 */
+	private static CxxModelsCache getModelCache(IFile file, ICheckerInvocationContext context) {
 		synchronized (context) {
-			modelCache = context.get(CxxModelsCache.class);
-			if (modelCache == null) {
+			CxxModelsCache cache = context.get(CxxModelsCache.class);
+			if (cache == null) {
 				ICElement celement = CoreModel.getDefault().create(file);
 				if (!(celement instanceof ITranslationUnit)) {
-					return;
+					return null;
 				}
-				modelCache = new CxxModelsCache((ITranslationUnit) celement);
-				context.add(modelCache);
+				cache = new CxxModelsCache((ITranslationUnit) celement);
+				context.add(cache);
 			}
+			return cache;
 		}
+	}
+
+	private void processFile(IFile file) throws OperationCanceledException {
+		modelCache = getModelCache(file, getContext());
+		if (modelCache == null)
+			return;
 		try {
 			// Run the checker only if the index is fully initialized. Otherwise it may produce
 			// false positives.
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cfg;
+
+import java.util.BitSet;
+
+import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.ControlFlowGraphBuilder;
+import org.eclipse.cdt.codan.core.model.IChecker;
+import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
+import org.eclipse.cdt.codan.core.model.cfg.ICfgData;
+import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
+import org.eclipse.cdt.codan.core.tests.CodanFastCxxAstTestCase;
+import org.eclipse.cdt.codan.internal.core.cfg.DataFlowAnalysis;
+import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
+import org.eclipse.cdt.core.dom.ast.IASTExpression;
+import org.eclipse.cdt.core.dom.ast.IASTExpressionStatement;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTIdExpression;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+
+/**
+ * Tests for {@link DataFlowAnalysis}.
+ */
+public class DataFlowAnalysisTest extends CodanFastCxxAstTestCase {
+	private static final String[] VARIABLES = { "a", "b" };
+
+	/**
+	 * Computes which of the {@link #VARIABLES} are assigned before each node.
+	 */
+	private static class AssignedVariables extends DataFlowAnalysis {
+		AssignedVariables(Meet meet) {
+			super(Direction.FORWARD, meet, VARIABLES.length);
+		}
+
+		@Override
+		protected void transfer(IBasicBlock node, BitSet value) {
+			if (!(node instanceof ICfgData))
+				return;
+			Object data = ((ICfgData) node).getData();
+			if (!(data instanceof IASTExpressionStatement))
+				return;
+			IASTExpression expression = ((IASTExpressionStatement) data).getExpression();
+			if (expression instanceof IASTBinaryExpression
+					&& ((IASTBinaryExpression) expression).getOperator() == IASTBinaryExpression.op_assign) {
+				IASTExpression target = ((IASTBinaryExpression) expression).getOperand1();
+				if (target instanceof IASTIdExpression) {
+					String name = ((IASTIdExpression) target).getName().toString();
+					for (int i = 0; i < VARIABLES.length; i++) {
+						if (VARIABLES[i].equals(name))
+							value.set(i);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public IChecker getChecker() {
+		return null;
+	}
+
+	private IControlFlowGraph buildCfg(String code) {
+		parse(code);
+		IASTFunctionDefinition func = (IASTFunctionDefinition) tu.getDeclarations()[0];
+		return new ControlFlowGraphBuilder().build(func);
+	}
+
+	private IBasicBlock findNode(IControlFlowGraph graph, String signature) {
+		for (IBasicBlock node : graph.getNodes()) {
+			if (node instanceof ICfgData) {
+				Object data = ((ICfgData) node).getData();
+				if (data instanceof IASTNode && signature.equals(((IASTNode) data).getRawSignature()))
+					return node;
+			}
+		}
+		fail("No node for " + signature);
+		return null;
+	}
+
+	private BitSet solve(IControlFlowGraph graph, DataFlowAnalysis.Meet meet, String signature) {
+		AssignedVariables analysis = new AssignedVariables(meet);
+		analysis.solve(graph);
+		return analysis.getIn(findNode(graph, signature));
+	}
+
+	private BitSet bits(int... indices) {
+		BitSet result = new BitSet();
+		for (int i : indices) {
+			result.set(i);
+		}
+		return result;
+	}
+
+	//	void f(int c) {
+	//	  int a, b;
+	//	  a = 1;
+	//	  if (c) {
+	//	    b = 1;
+	//	  } else {
+	//	    a = 2;
+	//	  }
+	//	  c = 0;
+	//	}
+	public void testBranches() {
+		IControlFlowGraph graph = buildCfg(getAboveComment());
+		assertEquals(bits(0), solve(graph, DataFlowAnalysis.Meet.INTERSECTION, "c = 0;"));
+		assertEquals(bits(0, 1), solve(graph, DataFlowAnalysis.Meet.UNION, "c = 0;"));
+	}
+
+	//	void f(int c) {
+	//	  int a, b;
+	//	  while (c) {
+	//	    a = 1;
+	//	  }
+	//	  b = a;
+	//	}
+	public void testLoop() {
+		IControlFlowGraph graph = buildCfg(getAboveComment());
+		assertEquals(bits(), solve(graph, DataFlowAnalysis.Meet.INTERSECTION, "b = a;"));
+		assertEquals(bits(0), solve(graph, DataFlowAnalysis.Meet.UNION, "b = a;"));
+	}
+
+	//	void f(int c) {
+	//	  int a, b;
+	//	  do {
+	//	    a = 1;
+	//	    if (c)
+	//	      continue;
+	//	    b = 1;
+	//	  } while (c);
+	//	  c = 0;
+	//	}
+	public void testDoWhileWithContinue() {
+		IControlFlowGraph graph = buildCfg(getAboveComment());
+		assertEquals(bits(0), solve(graph, DataFlowAnalysis.Meet.INTERSECTION, "c = 0;"));
+		assertEquals(bits(0, 1), solve(graph, DataFlowAnalysis.Meet.UNION, "c = 0;"));
+	}
+
+	//	void f(int c) {
+	//	  int a, b;
+	//	  return;
+	//	  a = 1;
+	//	}
+	public void testDeadCode() {
+		IControlFlowGraph graph = buildCfg(getAboveComment());
+		// Dead code gets the boundary value.
+		assertEquals(bits(), solve(graph, DataFlowAnalysis.Meet.INTERSECTION, "a = 1;"));
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.internal.checkers;
+
+import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
+import org.eclipse.cdt.codan.internal.checkers.ReturnChecker;
+
+/**
+ * Runs the checkers based on control flow graphs on a large translation unit, which keeps more
+ * control flow graphs alive than a single function needs, and checks that every missing return
+ * is reported.
+ */
+public class FlowCheckersPerformanceTest extends CheckerTestCase {
+	private static final int FUNCTION_COUNT = 1000;
+	/** Every n-th function misses a return statement. */
+	private static final int ERROR_INTERVAL = 10;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		enableProblems(ReturnChecker.RET_NORET_ID, ReturnChecker.RET_ERR_VALUE_ID, ReturnChecker.RET_NO_VALUE_ID,
+				ReturnChecker.RET_LOCAL_ID);
+	}
+
+	private String generateCode() {
+		StringBuilder code = new StringBuilder();
+		for (int i = 0; i < FUNCTION_COUNT; i++) {
+			code.append("int f").append(i).append("(int x) {\n");
+			code.append("  for (int i = 0; i < x; i++) {\n");
+			code.append("    if (i == 5) break;\n");
+			code.append("    while (x > i) { x--; if (x == 7) continue; }\n");
+			code.append("  }\n");
+			code.append("  switch (x) {\n");
+			code.append("  case 1: return 1;\n");
+			if (i % ERROR_INTERVAL != 0)
+				code.append("  default: return 2;\n");
+			code.append("  }\n");
+			code.append("}\n");
+		}
+		return code.toString();
+	}
+
+	public void testLargeTranslationUnit() throws Exception {
+		loadcode(generateCode(), true);
+		runCodan();
+		assertEquals(FUNCTION_COUNT / ERROR_INTERVAL, markers.length);
+	}
+}
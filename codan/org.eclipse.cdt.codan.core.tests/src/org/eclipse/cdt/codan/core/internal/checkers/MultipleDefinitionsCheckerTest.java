@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.internal.checkers;
+
+import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.eclipse.cdt.codan.core.CodanRuntime;
+import org.eclipse.cdt.codan.core.cxx.internal.model.IndexUpdateCodanRunner;
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.core.model.IProblem;
+import org.eclipse.cdt.codan.core.model.IProblemProfile;
+import org.eclipse.cdt.codan.core.model.IProblemReporter;
+import org.eclipse.cdt.codan.core.param.LaunchModeProblemPreference;
+import org.eclipse.cdt.codan.core.param.RootProblemPreference;
+import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
+import org.eclipse.cdt.codan.internal.checkers.MultipleDefinitionsChecker;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Test for {@link MultipleDefinitionsChecker} class
+ */
+public class MultipleDefinitionsCheckerTest extends CheckerTestCase {
+	public static final String ERR_ID = MultipleDefinitionsChecker.ERR_ID;
+
+	/** Launch modes of the problem changed by the test, restored in {@link #tearDown()} */
+	private LaunchModeProblemPreference launchModes;
+	private final Map<CheckerLaunchMode, Boolean> savedLaunchModes = new EnumMap<>(CheckerLaunchMode.class);
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		enableProblems(ERR_ID);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		if (launchModes != null) {
+			for (Map.Entry<CheckerLaunchMode, Boolean> mode : savedLaunchModes.entrySet()) {
+				launchModes.setRunningMode(mode.getKey(), mode.getValue());
+			}
+			launchModes = null;
+			// Drop the profiles of the registry, so that the next tests start from the preferences
+			CodanRuntime.getInstance().getCheckersRegistry().updateProfile(cproject.getProject(), null);
+			Job.getJobManager().join(IndexUpdateCodanRunner.JOB_FAMILY, null);
+		}
+		super.tearDown();
+	}
+
+	@Override
+	public boolean isCpp() {
+		return true;
+	}
+
+	// void foo() {
+	// }
+
+	// int x;
+	// void foo() {
+	// }
+	public void testDefinedInTwoFiles() throws Exception {
+		CharSequence[] code = getContents(2);
+		File f1 = loadcode(code[0].toString());
+		File f2 = loadcode(code[1].toString());
+		runOnProject();
+		checkErrorLine(f1, 1, ERR_ID);
+		checkErrorLine(f2, 2, ERR_ID);
+	}
+
+	// static void foo() {
+	// }
+	// inline void bar() {
+	// }
+	// namespace {
+	// void baz() {
+	// }
+	// }
+
+	// static void foo() {
+	// }
+	// inline void bar() {
+	// }
+	// namespace {
+	// void baz() {
+	// }
+	// }
+	public void testInternalLinkageAndInline() throws Exception {
+		CharSequence[] code = getContents(2);
+		loadcode(code[0].toString());
+		loadcode(code[1].toString());
+		runOnProject();
+		checkNoErrorsOfKind(ERR_ID);
+	}
+
+	// void foo();
+	// struct A {
+	//   void m() {}
+	// };
+	// template<typename T> void t(T) {}
+
+	// void foo() {
+	// }
+	// struct A {
+	//   void m() {}
+	// };
+	// template<typename T> void t(T) {}
+	public void testDeclarationMembersAndTemplates() throws Exception {
+		CharSequence[] code = getContents(2);
+		loadcode(code[0].toString());
+		loadcode(code[1].toString());
+		runOnProject();
+		checkNoErrorsOfKind(ERR_ID);
+	}
+
+	// void foo() {
+	// }
+
+	// void foo() {
+	// }
+	public void testRunOnIndexUpdate() throws Exception {
+		IProblemProfile profile = CodanRuntime.getInstance().getCheckersRegistry().getWorkspaceProfile();
+		IProblem problem = profile.findProblem(ERR_ID);
+		launchModes = ((RootProblemPreference) problem.getPreference()).getLaunchModePreference();
+		for (CheckerLaunchMode mode : CheckerLaunchMode.values()) {
+			savedLaunchModes.put(mode, launchModes.isRunningInMode(mode));
+		}
+		launchModes.enableInLaunchModes(CheckerLaunchMode.RUN_ON_INDEX_UPDATE);
+		CodanRuntime.getInstance().getCheckersRegistry().updateProfile(cproject.getProject(), profile);
+
+		CharSequence[] code = getContents(2);
+		loadcode(code[0].toString());
+		File f2 = loadcode(code[1].toString());
+		// Markers are created without running code analysis on the project. Only the file
+		// indexed last knows about the other definition. Index change listeners are notified
+		// asynchronously.
+		long deadline = System.currentTimeMillis() + 10000;
+		while (true) {
+			Job.getJobManager().join(IndexUpdateCodanRunner.JOB_FAMILY, null);
+			markers = cproject.getProject().findMarkers(IProblemReporter.GENERIC_CODE_ANALYSIS_MARKER_TYPE, true,
+					1);
+			if (markers.length > 0 || System.currentTimeMillis() > deadline)
+				break;
+			Thread.sleep(100);
+		}
+		checkErrorLine(f2, 1, ERR_ID);
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.internal.checkers;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
+import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+/**
+ * Runs checkers on several files in parallel, see {@link PreferenceConstants#P_PARALLEL_JOBS}.
+ */
+public class ParallelAnalysisTest extends CheckerTestCase {
+	private static final String PROBLEM_ID = "org.eclipse.cdt.codan.internal.checkers.AssignmentToItselfProblem";
+	private static final int FILE_COUNT = 20;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		enableProblems(PROBLEM_ID);
+		InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID).putInt(PreferenceConstants.P_PARALLEL_JOBS, 4);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID).remove(PreferenceConstants.P_PARALLEL_JOBS);
+		super.tearDown();
+	}
+
+	// void main() {
+	//   int x = 0;
+	//   x = x;
+	// }
+	public void testMarkersOnAllFiles() throws Exception {
+		String code = getAboveComment();
+		for (int i = 0; i < FILE_COUNT; i++) {
+			loadcode(code);
+		}
+		runCodan();
+		checkOneMarkerPerFile();
+		// A second run updates the existing markers.
+		runCodan();
+		checkOneMarkerPerFile();
+	}
+
+	private void checkOneMarkerPerFile() {
+		assertEquals(FILE_COUNT, markers.length);
+		Set<String> files = new HashSet<>();
+		for (IMarker marker : markers) {
+			assertEquals(Integer.valueOf(3), getLine(marker));
+			files.add(marker.getResource().getName());
+		}
+		assertEquals(FILE_COUNT, files.size());
+	}
+}
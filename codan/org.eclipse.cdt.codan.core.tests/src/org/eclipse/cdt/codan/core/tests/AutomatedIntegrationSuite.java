@@ -27,11 +27,14 @@ import org.eclipse.cdt.codan.core.internal.checkers.CommentCheckerNestedTests;
 import org.eclipse.cdt.codan.core.internal.checkers.CopyrightCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.DecltypeAutoCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.FloatCompareCheckerTest;
+import org.eclipse.cdt.codan.core.internal.checkers.FlowCheckersPerformanceTest;
 import org.eclipse.cdt.codan.core.internal.checkers.FormatStringCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.GotoStatementCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.MagicNumberCheckerTest;
+import org.eclipse.cdt.codan.core.internal.checkers.MultipleDefinitionsCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.NoDiscardCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.NonVirtualDestructorCheckerTest;
+import org.eclipse.cdt.codan.core.internal.checkers.ParallelAnalysisTest;
 import org.eclipse.cdt.codan.core.internal.checkers.ProblemBindingCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.ReturnCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.ReturnStyleCheckerTest;
@@ -111,6 +114,9 @@ public class AutomatedIntegrationSuite extends TestSuite {
 		suite.addTestSuite(ShallowCopyCheckerTest.class);
 		suite.addTestSuite(MagicNumberCheckerTest.class);
 		suite.addTestSuite(NoDiscardCheckerTest.class);
+		suite.addTestSuite(MultipleDefinitionsCheckerTest.class);
+		suite.addTestSuite(ParallelAnalysisTest.class);
+		suite.addTestSuite(FlowCheckersPerformanceTest.class);
 		// framework
 		suite.addTest(CodanFastTestSuite.suite());
 		// quick fixes
@@ -21,4 +21,9 @@ public class PreferenceConstants {
 	public static final String P_RUN_IN_EDITOR = "inEditor"; //$NON-NLS-1$
 	public static final String P_PROBLEMS = "problems"; //$NON-NLS-1$
 	public static final String P_USE_PARENT = "useParentScope"; //$NON-NLS-1$
+	/**
+	 * Number of files analyzed in parallel on build and on demand.
+	 * @since 4.2
+	 */
+	public static final String P_PARALLEL_JOBS = "parallelJobs"; //$NON-NLS-1$
 }
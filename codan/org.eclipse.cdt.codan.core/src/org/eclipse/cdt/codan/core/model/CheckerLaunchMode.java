@@ -52,4 +52,10 @@ public enum CheckerLaunchMode {
 	 * Checker runs when explicit command is given.
 	 */
 	RUN_ON_DEMAND,
+	/**
+	 * Checker runs on the files that have been updated in the index. Meant for checkers that
+	 * query the index rather than the AST of a file.
+	 * @since 4.2
+	 */
+	RUN_ON_INDEX_UPDATE,
 }
\ No newline at end of file
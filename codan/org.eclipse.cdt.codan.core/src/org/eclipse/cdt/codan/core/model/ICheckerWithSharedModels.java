@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.model;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Interface for checkers that share models of a resource, such as its AST, with other checkers
+ * through the invocation context. The models are built before any checker is run on the
+ * resource, without holding the lock of the checker, so that the files analyzed in parallel
+ * are not parsed one at a time.
+ *
+ * @noextend This interface is not intended to be extended by clients.
+ * @since 4.2
+ */
+public interface ICheckerWithSharedModels {
+	/**
+	 * Builds the models of the given resource that the checker needs and stores them in the
+	 * context, unless another checker has already done so. May be called concurrently for
+	 * different resources.
+	 *
+	 * @param resource the resource to be checked
+	 * @param context the invocation context the checker will be run with
+	 * @throws OperationCanceledException if the operation was canceled
+	 */
+	void prepareModels(IResource resource, ICheckerInvocationContext context) throws OperationCanceledException;
+}
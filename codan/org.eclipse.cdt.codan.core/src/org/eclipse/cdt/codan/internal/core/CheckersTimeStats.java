@@ -13,12 +13,14 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Class to collect time states for checkers runs
+ * Class to collect time states for checkers runs. Measurements may be taken by several
+ * threads at the same time, e.g. when files are analyzed in parallel.
  */
 public class CheckersTimeStats {
 	public static final String ALL = "ALL"; //$NON-NLS-1$
@@ -35,17 +37,11 @@ public class CheckersTimeStats {
 
 	private static class TimeRecord {
 		private long duration;
-		private long current;
 		private int count;
 
-		public void start() {
-			current = System.currentTimeMillis();
-		}
-
-		public void stop() {
+		public void add(long elapsed) {
 			count++;
-			duration += System.currentTimeMillis() - current;
-			current = 0;
+			duration += elapsed;
 		}
 
 		@Override
@@ -61,6 +57,8 @@ public class CheckersTimeStats {
 	}
 
 	private Map<String, TimeRecord> records = new HashMap<>();
+	/** Start times of the measurements in progress on the current thread */
+	private final ThreadLocal<Map<String, Long>> startTimes = ThreadLocal.withInitial(HashMap::new);
 
 	/**
 	 * @param id - checker id
@@ -92,8 +90,7 @@ public class CheckersTimeStats {
 	 */
 	public void checkerStart(String id, String counter) {
 		if (enableStats) {
-			TimeRecord record = getTimeRecord(getKey(id, counter));
-			record.start();
+			startTimes.get().put(getKey(id, counter), System.currentTimeMillis());
 		}
 	}
 
@@ -107,7 +104,14 @@ public class CheckersTimeStats {
 	 */
 	public void checkerStop(String id, String counter) {
 		if (enableStats) {
-			getTimeRecord(getKey(id, counter)).stop();
+			String key = getKey(id, counter);
+			Long start = startTimes.get().remove(key);
+			if (start != null) {
+				long elapsed = System.currentTimeMillis() - start;
+				synchronized (this) {
+					getTimeRecord(key).add(elapsed);
+				}
+			}
 		}
 	}
 
@@ -128,26 +132,30 @@ public class CheckersTimeStats {
 	}
 
 	/**
-	 *
+	 * Prints the collected stats, the most expensive checkers first. With parallel analysis
+	 * the durations are the sums of the times spent by all threads.
 	 */
-	public void printStats() {
+	public synchronized void printStats() {
 		System.out.println("---"); //$NON-NLS-1$
 		String totalId = getKey(ALL, ELAPSED);
 		TimeRecord all = records.get(totalId);
-		for (Iterator<String> iterator = records.keySet().iterator(); iterator.hasNext();) {
-			String id = iterator.next();
+		long total = all == null ? 0 : all.duration;
+		List<Map.Entry<String, TimeRecord>> entries = new ArrayList<>(records.entrySet());
+		entries.sort((e1, e2) -> Long.compare(e2.getValue().duration, e1.getValue().duration));
+		for (Map.Entry<String, TimeRecord> entry : entries) {
+			String id = entry.getKey();
 			if (id.equals(totalId))
 				continue;
-			TimeRecord timeRecord = getTimeRecord(id);
-			System.out.println(timeRecord.toString(all.duration) + " " + id); //$NON-NLS-1$
+			System.out.println(entry.getValue().toString(total) + " " + id); //$NON-NLS-1$
 		}
-		System.out.println(all.toString() + " " + totalId); //$NON-NLS-1$
+		if (all != null)
+			System.out.println(all.toString() + " " + totalId); //$NON-NLS-1$
 	}
 
 	/**
 	 *
 	 */
-	public void reset() {
+	public synchronized void reset() {
 		records.clear();
 	}
 
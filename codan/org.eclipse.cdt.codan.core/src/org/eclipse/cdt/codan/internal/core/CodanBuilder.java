@@ -113,7 +113,12 @@ public class CodanBuilder extends IncrementalProjectBuilder implements ICodanBui
 	}
 
 	protected void fullBuild(final IProgressMonitor monitor) throws CoreException {
-		processResource(getProject(), monitor);
+		try {
+			processResource(getProject(), monitor);
+		} finally {
+			CheckersTimeStats.getInstance().traceStats();
+			CheckersTimeStats.getInstance().reset();
+		}
 	}
 
 	protected void incrementalBuild(IResourceDelta delta, IProgressMonitor monitor) throws CoreException {
@@ -14,16 +14,21 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.List;
+
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IChecker;
 import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
+import org.eclipse.cdt.codan.core.model.ICheckerWithSharedModels;
 import org.eclipse.cdt.codan.core.model.IRunnableInEditorChecker;
 import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.osgi.util.NLS;
 
@@ -59,9 +64,45 @@ public class CodanRunner {
 	 */
 	public static void processResource(IResource resource, CheckerLaunchMode checkerLaunchMode,
 			IProgressMonitor monitor) {
+		if (resource instanceof IContainer && isRecursive(checkerLaunchMode)) {
+			int jobs = ParallelCodanRunner.getNumberOfJobs(resource);
+			if (jobs > 1) {
+				new ParallelCodanRunner(jobs).processContainer((IContainer) resource, checkerLaunchMode, monitor);
+				return;
+			}
+		}
 		processResource(resource, null, checkerLaunchMode, monitor);
 	}
 
+	/**
+	 * Runs all checkers on the given files. The files are analyzed in parallel if the
+	 * {@link org.eclipse.cdt.codan.core.PreferenceConstants#P_PARALLEL_JOBS preferences} of the
+	 * project of the first file allow it.
+	 *
+	 * @param files - the files to run the checkers on
+	 * @param checkerLaunchMode - the checker launch mode
+	 * @param monitor - the progress monitor
+	 */
+	public static void processFiles(List<IFile> files, CheckerLaunchMode checkerLaunchMode, IProgressMonitor monitor) {
+		if (files.isEmpty())
+			return;
+		int jobs = ParallelCodanRunner.getNumberOfJobs(files.get(0));
+		if (jobs > 1 && files.size() > 1) {
+			new ParallelCodanRunner(jobs).processFiles(files, checkerLaunchMode, monitor);
+			return;
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, files.size());
+		for (IFile file : files) {
+			if (!runCheckers(file, null, checkerLaunchMode, progress.split(1)))
+				return;
+		}
+	}
+
+	static boolean isRecursive(CheckerLaunchMode checkerLaunchMode) {
+		return checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
+				|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND;
+	}
+
 	private static void processResource(IResource resource, Object model, CheckerLaunchMode checkerLaunchMode,
 			IProgressMonitor monitor) {
 		CheckersRegistry chegistry = CheckersRegistry.getInstance();
@@ -80,50 +121,94 @@ public class CodanRunner {
 		monitor.beginTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, resource.getFullPath().toString()),
 				checkers * (1 + numChildren * childWeight));
 		try {
-			CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
-			ICheckerInvocationContext context = new CheckerInvocationContext(resource);
-			try {
-				for (IChecker checker : chegistry) {
+			if (!runCheckers(resource, model, checkerLaunchMode, monitor))
+				return;
+
+			if (children != null && isRecursive(checkerLaunchMode)) {
+				for (IResource child : children) {
 					if (monitor.isCanceled())
 						return;
-					if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
-						synchronized (checker) {
-							try {
-								checker.before(resource);
-								CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
-								if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
-									((IRunnableInEditorChecker) checker).processModel(model, context);
-								} else {
-									checker.processResource(resource, context);
-								}
-							} catch (OperationCanceledException e) {
-								return;
-							} catch (Throwable e) {
-								CodanCorePlugin.log(e);
-							} finally {
-								CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
-								checker.after(resource);
+					processResource(child, null, checkerLaunchMode, new SubProgressMonitor(monitor, childWeight));
+				}
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Runs the enabled checkers on a single resource, not including its children. All checkers
+	 * share the models of the resource, such as its AST, through the invocation context.
+	 *
+	 * @return {@code false} if the run has been canceled
+	 */
+	static boolean runCheckers(IResource resource, Object model, CheckerLaunchMode checkerLaunchMode,
+			IProgressMonitor monitor) {
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
+		ICheckerInvocationContext context = new CheckerInvocationContext(resource);
+		try {
+			if (checkerLaunchMode != CheckerLaunchMode.RUN_AS_YOU_TYPE
+					&& !prepareModels(resource, checkerLaunchMode, context, monitor))
+				return false;
+			for (IChecker checker : chegistry) {
+				if (monitor.isCanceled())
+					return false;
+				if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
+					synchronized (checker) {
+						try {
+							checker.before(resource);
+							CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
+							if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
+								((IRunnableInEditorChecker) checker).processModel(model, context);
+							} else {
+								checker.processResource(resource, context);
 							}
+						} catch (OperationCanceledException e) {
+							return false;
+						} catch (Throwable e) {
+							CodanCorePlugin.log(e);
+						} finally {
+							CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
+							checker.after(resource);
 						}
 					}
-					monitor.worked(1);
 				}
-			} finally {
-				context.dispose();
-				CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
-				//CheckersTimeStats.getInstance().printStats();
+				monitor.worked(1);
 			}
+		} finally {
+			context.dispose();
+			CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
+			//CheckersTimeStats.getInstance().printStats();
+		}
+		return true;
+	}
 
-			if (children != null && (checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
-					|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND)) {
-				for (IResource child : children) {
-					if (monitor.isCanceled())
-						return;
-					processResource(child, null, checkerLaunchMode, new SubProgressMonitor(monitor, childWeight));
+	/**
+	 * Builds the models shared by the enabled checkers, such as the AST of a file, before the
+	 * checkers are run one at a time under their locks. Otherwise the first checker to need the
+	 * AST would parse the file under its lock, and the files analyzed in parallel would wait on
+	 * each other.
+	 *
+	 * @return {@code false} if the run has been canceled
+	 */
+	private static boolean prepareModels(IResource resource, CheckerLaunchMode checkerLaunchMode,
+			ICheckerInvocationContext context, IProgressMonitor monitor) {
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		for (IChecker checker : chegistry) {
+			if (monitor.isCanceled())
+				return false;
+			if (checker instanceof ICheckerWithSharedModels
+					&& chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
+				try {
+					((ICheckerWithSharedModels) checker).prepareModels(resource, context);
+				} catch (OperationCanceledException e) {
+					return false;
+				} catch (Throwable e) {
+					CodanCorePlugin.log(e);
 				}
 			}
-		} finally {
-			monitor.done();
 		}
+		return true;
 	}
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
+import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
+import org.eclipse.cdt.codan.internal.core.model.CodanMarkerProblemReporter;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.preferences.IScopeContext;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Runs checkers on the files of a container, or on a list of files, using a pool of worker
+ * threads.
+ * <p>
+ * Each file is analyzed by a single worker with its own invocation context, so the checkers
+ * running on a file share its AST. The checkers on the containers themselves are run by the
+ * calling thread. Workers don't touch markers, the marker updates of a group of files are
+ * collected by the worker and applied by the calling thread in one workspace operation. The
+ * calling thread may be a builder that holds the workspace lock.
+ */
+class ParallelCodanRunner {
+	private static final int FILES_PER_GROUP = 8;
+	private static final AtomicInteger threadCount = new AtomicInteger();
+
+	private final int jobs;
+
+	ParallelCodanRunner(int jobs) {
+		this.jobs = jobs;
+	}
+
+	/**
+	 * Returns the number of files that should be analyzed in parallel for the given resource.
+	 */
+	static int getNumberOfJobs(IResource resource) {
+		IScopeContext[] contexts;
+		if (resource.getProject() != null) {
+			contexts = new IScopeContext[] { new ProjectScope(resource.getProject()), InstanceScope.INSTANCE };
+		} else {
+			contexts = new IScopeContext[] { InstanceScope.INSTANCE };
+		}
+		return Platform.getPreferencesService().getInt(CodanCorePlugin.PLUGIN_ID, PreferenceConstants.P_PARALLEL_JOBS,
+				1, contexts);
+	}
+
+	void processContainer(IContainer container, CheckerLaunchMode checkerLaunchMode, IProgressMonitor monitor) {
+		SubMonitor progress = SubMonitor.convert(monitor,
+				NLS.bind(Messages.CodanRunner_Code_analysis_on, container.getFullPath().toString()), 10);
+		List<IFile> files = new ArrayList<>();
+		if (!collectFiles(container, checkerLaunchMode, files, progress.split(1)))
+			return;
+		processFiles(files, checkerLaunchMode, progress.split(9));
+	}
+
+	void processFiles(List<IFile> files, CheckerLaunchMode checkerLaunchMode, IProgressMonitor monitor) {
+		SubMonitor progress = SubMonitor.convert(monitor, files.size());
+		// Workers only poll for cancellation, progress is reported by this thread.
+		IProgressMonitor workerMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return progress.isCanceled();
+			}
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(jobs, runnable -> {
+			Thread thread = new Thread(runnable, "Code Analysis Worker " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			CompletionService<IWorkspaceRunnable> completionService = new ExecutorCompletionService<>(executor);
+			// The number of files of each submitted group, to report progress as groups complete
+			Map<Future<IWorkspaceRunnable>, Integer> groupSizes = new IdentityHashMap<>();
+			for (int i = 0; i < files.size(); i += FILES_PER_GROUP) {
+				List<IFile> group = files.subList(i, Math.min(i + FILES_PER_GROUP, files.size()));
+				groupSizes.put(completionService.submit(() -> processGroup(group, checkerLaunchMode, workerMonitor)),
+						group.size());
+			}
+			// Markers are applied for all processed files, even if the run is canceled or a group
+			// failed.
+			for (int i = groupSizes.size(); i > 0; i--) {
+				Future<IWorkspaceRunnable> completed = completionService.take();
+				try {
+					IWorkspaceRunnable markerUpdates = completed.get();
+					if (markerUpdates != null) {
+						ResourcesPlugin.getWorkspace().run(markerUpdates, null, IWorkspace.AVOID_UPDATE, null);
+					}
+				} catch (ExecutionException e) {
+					CodanCorePlugin.log(e.getCause());
+				} catch (CoreException e) {
+					CodanCorePlugin.log(e);
+				}
+				if (!progress.isCanceled()) {
+					progress.worked(groupSizes.get(completed));
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+			progress.done();
+		}
+	}
+
+	/**
+	 * Runs the checkers on the given container and its sub-containers, and collects the files
+	 * to be analyzed by the workers.
+	 *
+	 * @return {@code false} if the run has been canceled
+	 */
+	private boolean collectFiles(IContainer container, CheckerLaunchMode checkerLaunchMode, List<IFile> files,
+			IProgressMonitor monitor) {
+		if (!CodanRunner.runCheckers(container, null, checkerLaunchMode, new NullProgressMonitor()))
+			return false;
+		IResource[] members;
+		try {
+			members = container.members();
+		} catch (CoreException e) {
+			CodanCorePlugin.log(e);
+			return true;
+		}
+		for (IResource member : members) {
+			if (monitor.isCanceled())
+				return false;
+			if (member instanceof IFile) {
+				files.add((IFile) member);
+			} else if (member instanceof IContainer) {
+				if (!collectFiles((IContainer) member, checkerLaunchMode, files, monitor))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	private static IWorkspaceRunnable processGroup(List<IFile> group, CheckerLaunchMode checkerLaunchMode,
+			IProgressMonitor monitor) {
+		IWorkspaceRunnable markerUpdates;
+		CodanMarkerProblemReporter.beginBatch();
+		try {
+			for (IFile file : group) {
+				if (!CodanRunner.runCheckers(file, null, checkerLaunchMode, monitor))
+					break;
+			}
+		} finally {
+			markerUpdates = CodanMarkerProblemReporter.endBatch();
+		}
+		return markerUpdates;
+	}
+}
@@ -31,5 +31,6 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		node.putBoolean(PreferenceConstants.P_RUN_ON_BUILD, false);
 		node.putBoolean(PreferenceConstants.P_RUN_IN_EDITOR, true);
 		node.putBoolean(PreferenceConstants.P_USE_PARENT, true);
+		node.putInt(PreferenceConstants.P_PARALLEL_JOBS, 1);
 	}
 }
@@ -35,6 +35,8 @@ import org.eclipse.cdt.codan.core.model.cfg.IStartNode;
 public class ControlFlowGraph implements IControlFlowGraph {
 	private List<IExitNode> exitNodes;
 	private List<IBasicBlock> deadNodes = new ArrayList<>();
+	/** All nodes that are not reachable from the start node, computed on demand */
+	private Collection<IBasicBlock> allDeadNodes;
 	private IStartNode start;
 
 	public ControlFlowGraph(IStartNode start, Collection<IExitNode> exitNodes) {
@@ -60,6 +62,7 @@ public class ControlFlowGraph implements IControlFlowGraph {
 
 	public void setUnconnectedNodes(Collection<IBasicBlock> nodes) {
 		this.deadNodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+		allDeadNodes = null;
 	}
 
 	@Override
@@ -126,10 +129,16 @@ public class ControlFlowGraph implements IControlFlowGraph {
 		}
 	}
 
+	/**
+	 * @return unmodifiable collection of all nodes that are not reachable from the start node.
+	 */
 	public Collection<IBasicBlock> getDeadNodes() {
-		Collection<IBasicBlock> result = new LinkedHashSet<>();
-		getDeadNodes(result);
-		return result;
+		if (allDeadNodes == null) {
+			Collection<IBasicBlock> result = new LinkedHashSet<>();
+			getDeadNodes(result);
+			allDeadNodes = Collections.unmodifiableCollection(result);
+		}
+		return allDeadNodes;
 	}
 
 	private void getDeadNodes(Collection<IBasicBlock> result) {
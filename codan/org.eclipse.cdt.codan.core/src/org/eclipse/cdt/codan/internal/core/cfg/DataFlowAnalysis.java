@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core.cfg;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
+import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
+
+/**
+ * Worklist solver for data flow problems over the nodes of a control flow graph. The values
+ * are bit sets, e.g. one bit per variable or per definition, combined by union (may analysis)
+ * or intersection (must analysis).
+ * <p>
+ * Subclasses define the {@link #transfer(IBasicBlock, BitSet) transfer function} of a node and
+ * the {@link #getBoundaryValue() value} entering the graph, then call
+ * {@link #solve(IControlFlowGraph)}. For example, a forward union analysis where
+ * {@code transfer} clears the bits of the definitions killed by a node and sets the bits of the
+ * definitions generated by it computes reaching definitions.
+ * <p>
+ * Nodes are visited in reverse post-order of the analysis direction, so acyclic graphs are
+ * solved in a single pass.
+ */
+public abstract class DataFlowAnalysis {
+	public enum Direction {
+		FORWARD, BACKWARD
+	}
+
+	public enum Meet {
+		/** A bit is set if it is set on any path. */
+		UNION,
+		/** A bit is set if it is set on all paths. */
+		INTERSECTION
+	}
+
+	private final Direction direction;
+	private final Meet meet;
+	private final int size;
+	private final Map<IBasicBlock, Integer> indices = new IdentityHashMap<>();
+	private IBasicBlock[] nodes;
+	private BitSet[] in;
+	private BitSet[] out;
+
+	/**
+	 * @param direction the direction in which values flow
+	 * @param meet the operator combining the values of several paths
+	 * @param size the number of bits used by the analysis
+	 */
+	protected DataFlowAnalysis(Direction direction, Meet meet, int size) {
+		this.direction = direction;
+		this.meet = meet;
+		this.size = size;
+	}
+
+	/**
+	 * Computes the output value of a node from its input value. The input is the value before the
+	 * node in the direction of the analysis, i.e. after the node for backward analyses.
+	 *
+	 * @param node the node
+	 * @param value the input value, to be modified in place to become the output value
+	 */
+	protected abstract void transfer(IBasicBlock node, BitSet value);
+
+	/**
+	 * Returns the value entering the graph, i.e. the input of the start node of a forward analysis
+	 * or the input of the exit nodes of a backward analysis. Also used for nodes that can't be
+	 * reached. The default implementation returns an empty set.
+	 */
+	protected BitSet getBoundaryValue() {
+		return new BitSet(size);
+	}
+
+	/**
+	 * Solves the data flow equations for all nodes of the given graph.
+	 */
+	public void solve(IControlFlowGraph graph) {
+		order(graph.getNodes());
+		int n = nodes.length;
+		in = new BitSet[n];
+		out = new BitSet[n];
+		BitSet top = new BitSet(size);
+		if (meet == Meet.INTERSECTION)
+			top.set(0, size);
+		for (int i = 0; i < n; i++) {
+			out[i] = (BitSet) top.clone();
+		}
+
+		Deque<Integer> worklist = new ArrayDeque<>(n);
+		BitSet queued = new BitSet(n);
+		for (int i = 0; i < n; i++) {
+			worklist.add(i);
+			queued.set(i);
+		}
+		while (!worklist.isEmpty()) {
+			int i = worklist.poll();
+			queued.clear(i);
+			BitSet value = computeInput(i);
+			in[i] = (BitSet) value.clone();
+			transfer(nodes[i], value);
+			if (!value.equals(out[i])) {
+				out[i] = value;
+				for (IBasicBlock successor : successors(nodes[i])) {
+					Integer s = indices.get(successor);
+					if (s != null && !queued.get(s)) {
+						queued.set(s);
+						worklist.add(s);
+					}
+				}
+			}
+		}
+	}
+
+	private BitSet computeInput(int i) {
+		BitSet value = null;
+		for (IBasicBlock predecessor : predecessors(nodes[i])) {
+			Integer p = indices.get(predecessor);
+			if (p == null)
+				continue;
+			if (value == null) {
+				value = (BitSet) out[p].clone();
+			} else if (meet == Meet.UNION) {
+				value.or(out[p]);
+			} else {
+				value.and(out[p]);
+			}
+		}
+		return value != null ? value : getBoundaryValue();
+	}
+
+	/**
+	 * Numbers the nodes in reverse post-order, nodes that can't be reached from the entries of
+	 * the analysis come last.
+	 */
+	private void order(Collection<IBasicBlock> allNodes) {
+		indices.clear();
+		List<IBasicBlock> postOrder = new ArrayList<>(allNodes.size());
+		Map<IBasicBlock, Boolean> visited = new IdentityHashMap<>();
+		for (IBasicBlock node : allNodes) {
+			if (!hasKnownPredecessor(node, allNodes)) {
+				postOrder(node, allNodes, visited, postOrder);
+			}
+		}
+		List<IBasicBlock> ordered = new ArrayList<>(allNodes.size());
+		for (int i = postOrder.size(); --i >= 0;) {
+			ordered.add(postOrder.get(i));
+		}
+		for (IBasicBlock node : allNodes) {
+			if (!visited.containsKey(node))
+				ordered.add(node); // Only reachable through cycles.
+		}
+		nodes = ordered.toArray(new IBasicBlock[ordered.size()]);
+		for (int i = 0; i < nodes.length; i++) {
+			indices.put(nodes[i], i);
+		}
+	}
+
+	private boolean hasKnownPredecessor(IBasicBlock node, Collection<IBasicBlock> allNodes) {
+		for (IBasicBlock predecessor : predecessors(node)) {
+			if (predecessor != null && allNodes.contains(predecessor))
+				return true;
+		}
+		return false;
+	}
+
+	private void postOrder(IBasicBlock root, Collection<IBasicBlock> allNodes, Map<IBasicBlock, Boolean> visited,
+			List<IBasicBlock> result) {
+		// Iterative depth-first search, graphs of large functions are deep.
+		Deque<IBasicBlock> stack = new ArrayDeque<>();
+		Deque<Integer> next = new ArrayDeque<>();
+		if (visited.put(root, Boolean.TRUE) != null)
+			return;
+		stack.push(root);
+		next.push(0);
+		while (!stack.isEmpty()) {
+			IBasicBlock node = stack.peek();
+			int k = next.pop();
+			IBasicBlock[] successors = successors(node);
+			if (k < successors.length) {
+				next.push(k + 1);
+				IBasicBlock successor = successors[k];
+				if (successor != null && allNodes.contains(successor)
+						&& visited.put(successor, Boolean.TRUE) == null) {
+					stack.push(successor);
+					next.push(0);
+				}
+			} else {
+				stack.pop();
+				result.add(node);
+			}
+		}
+	}
+
+	/**
+	 * Returns the nodes to which the value of a node flows. The default implementation returns
+	 * the outgoing nodes of forward analyses and the incoming nodes of backward analyses.
+	 * Subclasses overriding this method must override {@link #predecessors(IBasicBlock)}
+	 * accordingly.
+	 */
+	protected IBasicBlock[] successors(IBasicBlock node) {
+		return direction == Direction.FORWARD ? node.getOutgoingNodes() : node.getIncomingNodes();
+	}
+
+	/**
+	 * Returns the nodes of which the values flow to a node, see {@link #successors(IBasicBlock)}.
+	 */
+	protected IBasicBlock[] predecessors(IBasicBlock node) {
+		return direction == Direction.FORWARD ? node.getIncomingNodes() : node.getOutgoingNodes();
+	}
+
+	/**
+	 * Returns the input value of a node, after {@link #solve(IControlFlowGraph)} has been called.
+	 * For backward analyses, this is the value after the node. The returned set must not be
+	 * modified.
+	 */
+	public BitSet getIn(IBasicBlock node) {
+		Integer i = indices.get(node);
+		return i == null ? null : in[i];
+	}
+
+	/**
+	 * Returns the output value of a node, after {@link #solve(IControlFlowGraph)} has been called.
+	 * For backward analyses, this is the value before the node. The returned set must not be
+	 * modified.
+	 */
+	public BitSet getOut(IBasicBlock node) {
+		Integer i = indices.get(node);
+		return i == null ? null : out[i];
+	}
+
+	/**
+	 * Returns the number of bits used by the analysis.
+	 */
+	public int getSize() {
+		return size;
+	}
+}
@@ -16,6 +16,7 @@ package org.eclipse.cdt.codan.internal.core.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.CodanRuntime;
@@ -43,6 +44,8 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	private IResource resource;
 	private IChecker checker;
 	private ArrayList<ICodanProblemMarker> toAdd = new ArrayList<>();
+	/** Marker updates deferred by the current thread, see {@link #beginBatch()} */
+	private static final ThreadLocal<List<IWorkspaceRunnable>> batch = new ThreadLocal<>();
 
 	/**
 	 * Create instance, which can be use as factory for
@@ -172,7 +175,13 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 	@Override
 	public void done() {
 		if (checker != null) {
-			if (toAdd.isEmpty()) {
+			List<IWorkspaceRunnable> pending = batch.get();
+			if (pending != null) {
+				// Apply the markers later, together with the other updates of the batch.
+				CodanMarkerProblemReporter copy = new CodanMarkerProblemReporter(resource, checker);
+				copy.toAdd.addAll(toAdd);
+				pending.add(monitor -> copy.done());
+			} else if (toAdd.isEmpty()) {
 				deleteProblems(false);
 			} else {
 				reconcileMarkers();
@@ -181,6 +190,36 @@ public class CodanMarkerProblemReporter extends AbstractProblemReporter
 		}
 	}
 
+	/**
+	 * Starts deferring the marker updates of the session reporters that are done on the current
+	 * thread. This allows checkers to run on threads that cannot acquire the workspace lock, for
+	 * example while a build is in progress.
+	 *
+	 * @see #endBatch()
+	 */
+	public static void beginBatch() {
+		batch.set(new ArrayList<>());
+	}
+
+	/**
+	 * Stops deferring marker updates on the current thread.
+	 *
+	 * @return an operation applying the deferred marker updates, to be run by
+	 *     {@link IWorkspace#run(IWorkspaceRunnable, IProgressMonitor)}, or {@code null} if there
+	 *     are no updates.
+	 */
+	public static IWorkspaceRunnable endBatch() {
+		List<IWorkspaceRunnable> pending = batch.get();
+		batch.remove();
+		if (pending == null || pending.isEmpty())
+			return null;
+		return monitor -> {
+			for (IWorkspaceRunnable runnable : pending) {
+				runnable.run(monitor);
+			}
+		};
+	}
+
 	protected void reconcileMarkers() {
 		try {
 			ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
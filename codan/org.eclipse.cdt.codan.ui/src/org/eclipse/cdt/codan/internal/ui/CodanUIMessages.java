@@ -23,6 +23,7 @@ import org.eclipse.osgi.util.NLS;
  */
 public class CodanUIMessages extends NLS {
 	public static String BuildPropertyPage_Description;
+	public static String BuildPropertyPage_ParallelJobs;
 	public static String BuildPropertyPage_RunAsYouType;
 	public static String BuildPropertyPage_RunWithBuild;
 	public static String CheckedTreeEditor_SelectionCannotBeEmpty;
@@ -94,6 +95,7 @@ public class CodanUIMessages extends NLS {
 	public static String LaunchModesPropertyPage_RunOnIncrementalBuild;
 	public static String LaunchModesPropertyPage_RunOnFileSave;
 	public static String LaunchModesPropertyPage_RunOnFileOpen;
+	public static String LaunchModesPropertyPage_RunOnIndexUpdate;
 
 	static {
 		NLS.initializeMessages(CodanUIMessages.class.getName(), CodanUIMessages.class);
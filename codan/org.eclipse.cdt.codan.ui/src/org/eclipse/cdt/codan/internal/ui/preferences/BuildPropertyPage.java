@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.ui.IWorkbenchPropertyPage;
 
 public class BuildPropertyPage extends FieldEditorPreferencePage implements IWorkbenchPropertyPage {
@@ -40,6 +41,10 @@ public class BuildPropertyPage extends FieldEditorPreferencePage implements IWor
 				CodanUIMessages.BuildPropertyPage_RunWithBuild, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(PreferenceConstants.P_RUN_IN_EDITOR,
 				CodanUIMessages.BuildPropertyPage_RunAsYouType, getFieldEditorParent()));
+		IntegerFieldEditor parallelJobs = new IntegerFieldEditor(PreferenceConstants.P_PARALLEL_JOBS,
+				CodanUIMessages.BuildPropertyPage_ParallelJobs, getFieldEditorParent());
+		parallelJobs.setValidRange(1, 64);
+		addField(parallelJobs);
 	}
 
 	@Override
@@ -64,6 +64,7 @@ public class LaunchModesPropertyPage extends FieldEditorPreferencePage {
 		addEditor(CheckerLaunchMode.RUN_ON_INC_BUILD, CodanUIMessages.LaunchModesPropertyPage_RunOnIncrementalBuild);
 		addEditor(CheckerLaunchMode.RUN_ON_FULL_BUILD, CodanUIMessages.LaunchModesPropertyPage_RunOnFullBuild);
 		addEditor(CheckerLaunchMode.RUN_ON_DEMAND, CodanUIMessages.LaunchModesPropertyPage_RunOnDemand);
+		addEditor(CheckerLaunchMode.RUN_ON_INDEX_UPDATE, CodanUIMessages.LaunchModesPropertyPage_RunOnIndexUpdate);
 	}
 
 	private void addEditor(CheckerLaunchMode launchMode, String label) {
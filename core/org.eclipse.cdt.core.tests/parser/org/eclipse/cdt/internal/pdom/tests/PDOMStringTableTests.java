@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase5;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PDOMStringTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PDOMStringTableTests extends BaseTestCase5 {
+	protected File dbFile;
+	protected Database db;
+	protected PDOMStringTable stringTable;
+
+	@BeforeEach
+	protected void beforeEach() throws Exception {
+		dbFile = File.createTempFile("pdomstringtabletest", "db");
+		db = new Database(dbFile, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+		stringTable = new PDOMStringTable(db, Database.DATA_AREA);
+	}
+
+	@AfterEach
+	protected void afterEach() throws Exception {
+		db.close();
+		dbFile.deleteOnExit();
+	}
+
+	@Test
+	public void testIntern() throws Exception {
+		long a1 = stringTable.intern("a".toCharArray());
+		long b = stringTable.intern("b".toCharArray());
+		long a2 = stringTable.intern("a".toCharArray());
+		assertTrue(a1 != 0);
+		assertEquals(a1, a2);
+		assertNotEquals(a1, b);
+		assertEquals(2, stringTable.getReferenceCount(a1));
+		assertEquals(a1, stringTable.find("a".toCharArray()));
+		assertEquals(0, stringTable.find("c".toCharArray()));
+
+		// Equal interned strings are compared without reading their characters.
+		assertEquals(0, db.getString(a1).compare(db.getString(a2), true));
+		assertTrue(db.getString(a1).compare(db.getString(b), true) < 0);
+
+		stringTable.release(a1);
+		assertEquals(a1, stringTable.find("a".toCharArray()));
+		stringTable.release(a2);
+		assertEquals(0, stringTable.find("a".toCharArray()));
+		assertEquals(b, stringTable.find("b".toCharArray()));
+	}
+
+	@Test
+	public void testLongStrings() throws Exception {
+		char[] chars = new char[Database.MAX_MALLOC_SIZE];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = (char) ('a' + i % 26);
+		}
+		long s1 = stringTable.intern(chars);
+		long s2 = stringTable.intern(chars.clone());
+		assertEquals(s1, s2);
+		IString string = db.getString(s1);
+		assertEquals(new String(chars), string.getString());
+		stringTable.release(s1);
+		stringTable.release(s2);
+		assertEquals(0, stringTable.find(chars));
+	}
+
+	/**
+	 * Compares the space taken by names with many duplicates, as found in the index of a typical
+	 * project, when they are stored as separate copies and when they are interned.
+	 */
+	@Test
+	public void testSizeOfDuplicateNames() throws Exception {
+		final int names = 100000;
+		final int distinctNames = 2000;
+		File copiesFile = File.createTempFile("pdomstringcopiestest", "db");
+		Database copies = new Database(copiesFile, new ChunkCache(), 0, false);
+		copies.setExclusiveLock();
+		try {
+			for (int i = 0; i < names; i++) {
+				copies.newString(getName(i % distinctNames));
+			}
+			for (int i = 0; i < names; i++) {
+				stringTable.intern(getName(i % distinctNames));
+			}
+			copies.flush();
+			db.flush();
+			assertTrue(db.getSizeBytes() < copies.getSizeBytes());
+			// Each distinct name is stored once and referenced by all its duplicates.
+			long first = stringTable.find(getName(0));
+			assertEquals(names / distinctNames, stringTable.getReferenceCount(first));
+			assertEquals(first, stringTable.intern(getName(0)));
+		} finally {
+			copies.close();
+			copiesFile.deleteOnExit();
+		}
+	}
+
+	private static char[] getName(int i) {
+		return ("identifier_" + i).toCharArray();
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IndexFilter;
+import org.eclipse.cdt.core.parser.util.ArrayUtil;
+import org.eclipse.cdt.core.parser.util.CharArrayUtils;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Controls how prefix lookups performed on behalf of content assist use the index.
+ * <p>
+ * Scanning the index for all bindings matching a short prefix is by far the most expensive
+ * part of computing completion proposals. Content assist therefore runs the lookup twice: a
+ * first pass that {@link Mode#SKIP skips} the index scan and yields the proposals found in the
+ * AST and via direct index lookups (members, base classes, etc.), and a second pass that
+ * {@link Mode#COLLECT collects} the bindings contributed by the index scan only.
+ * <p>
+ * The second pass may be split in {@link Tier tiers}, so that the most relevant proposals found
+ * in the index are shown without waiting for a scan of the whole index.
+ * <p>
+ * The options are bound to the current thread for the duration of a lookup, see
+ * {@link #begin(Mode, IProgressMonitor)} and {@link #end()}.
+ */
+public final class ContentAssistIndexLookup {
+	public enum Mode {
+		/** The index is scanned as part of the lookup, this is the default. */
+		INCLUDE,
+		/** Prefix scans of the index are skipped. */
+		SKIP,
+		/** Prefix scans of the index are performed and their results are recorded. */
+		COLLECT
+	}
+
+	/**
+	 * The bindings looked for by an index prefix scan, from the most relevant to the least.
+	 */
+	public enum Tier {
+		/**
+		 * The bindings of which the name starts with the prefix, ignoring case. They are found
+		 * in a range of the index, and are the only ones matching the prefix in case.
+		 */
+		PREFIX,
+		/**
+		 * The other bindings matching the prefix according to the content assist matching rules,
+		 * e.g. by camel case. They are found by scanning a larger part of the index.
+		 */
+		OTHER
+	}
+
+	private static final ThreadLocal<ContentAssistIndexLookup> fCurrent = new ThreadLocal<>();
+
+	private final Mode fMode;
+	private final Tier fTier;
+	private final IProgressMonitor fMonitor;
+	private final Set<IBinding> fIndexBindings;
+
+	private ContentAssistIndexLookup(Mode mode, Tier tier, IProgressMonitor monitor) {
+		fMode = mode;
+		fTier = tier;
+		fMonitor = monitor;
+		fIndexBindings = mode == Mode.COLLECT ? new HashSet<>() : Collections.emptySet();
+	}
+
+	/**
+	 * Binds lookup options to the current thread. Must be followed by a call to {@link #end()}
+	 * in a {@code finally} block.
+	 *
+	 * @param mode the way index prefix scans are handled
+	 * @param monitor a monitor used to cancel index prefix scans, may be {@code null}
+	 * @return the options bound to the current thread
+	 */
+	public static ContentAssistIndexLookup begin(Mode mode, IProgressMonitor monitor) {
+		return begin(mode, null, monitor);
+	}
+
+	/**
+	 * Binds lookup options to the current thread. Must be followed by a call to {@link #end()}
+	 * in a {@code finally} block.
+	 *
+	 * @param mode the way index prefix scans are handled
+	 * @param tier the bindings looked for by index prefix scans, or {@code null} for all of them
+	 * @param monitor a monitor used to cancel index prefix scans, may be {@code null}
+	 * @return the options bound to the current thread
+	 */
+	public static ContentAssistIndexLookup begin(Mode mode, Tier tier, IProgressMonitor monitor) {
+		ContentAssistIndexLookup lookup = new ContentAssistIndexLookup(mode, tier, monitor);
+		fCurrent.set(lookup);
+		return lookup;
+	}
+
+	/**
+	 * Removes the options bound to the current thread.
+	 */
+	public static void end() {
+		fCurrent.remove();
+	}
+
+	/**
+	 * Returns {@code true} if a prefix scan of the index should be performed by the current thread.
+	 */
+	public static boolean shouldScanIndex() {
+		ContentAssistIndexLookup current = fCurrent.get();
+		return current == null || current.fMode != Mode.SKIP;
+	}
+
+	/**
+	 * Returns the monitor to pass to index prefix scans performed by the current thread,
+	 * or {@code null}.
+	 */
+	public static IProgressMonitor getMonitor() {
+		ContentAssistIndexLookup current = fCurrent.get();
+		return current == null ? null : current.fMonitor;
+	}
+
+	/**
+	 * Throws {@link OperationCanceledException} if the lookup performed by the current thread
+	 * has been canceled. Index prefix scans return partial results when canceled, this method is
+	 * used to make sure such results are never mistaken for complete ones.
+	 */
+	public static void checkCanceled() {
+		ContentAssistIndexLookup current = fCurrent.get();
+		if (current != null && current.fMonitor != null && current.fMonitor.isCanceled())
+			throw new OperationCanceledException();
+	}
+
+	/**
+	 * Scans the index for the bindings at file scope matching the given prefix, in the tier
+	 * looked for by the current thread.
+	 *
+	 * @throws OperationCanceledException if the lookup has been canceled during the scan
+	 */
+	public static IBinding[] scanIndex(IIndex index, char[] prefix, IndexFilter filter) throws CoreException {
+		ContentAssistIndexLookup current = fCurrent.get();
+		Tier tier = current == null ? null : current.fTier;
+		IBinding[] bindings;
+		if (tier == Tier.PREFIX) {
+			bindings = index.findBindingsForPrefix(prefix, true, filter, getMonitor());
+		} else {
+			bindings = selectTier(index.findBindingsForContentAssist(prefix, true, filter, getMonitor()), prefix);
+		}
+		checkCanceled();
+		return bindings;
+	}
+
+	/**
+	 * Returns the bindings, found by a prefix lookup, that belong to the tier looked for by the
+	 * current thread.
+	 */
+	public static IBinding[] selectTier(IBinding[] bindings, char[] prefix) {
+		ContentAssistIndexLookup current = fCurrent.get();
+		if (current == null || current.fTier == null)
+			return bindings;
+
+		IBinding[] result = IBinding.EMPTY_BINDING_ARRAY;
+		for (IBinding binding : bindings) {
+			char[] name = binding.getNameCharArray();
+			boolean prefixMatch = CharArrayUtils.equals(name, 0, prefix.length, prefix, true);
+			if (prefixMatch == (current.fTier == Tier.PREFIX)) {
+				result = ArrayUtil.append(result, binding);
+			}
+		}
+		return ArrayUtil.trim(result);
+	}
+
+	/**
+	 * Records bindings found by an index prefix scan performed by the current thread.
+	 */
+	public static void recordIndexBindings(IBinding[] bindings) {
+		ContentAssistIndexLookup current = fCurrent.get();
+		if (current != null && current.fMode == Mode.COLLECT) {
+			Collections.addAll(current.fIndexBindings, bindings);
+		}
+	}
+
+	public Mode getMode() {
+		return fMode;
+	}
+
+	/**
+	 * Returns {@code true} if the given binding was found by an index prefix scan while these
+	 * options were in {@link Mode#COLLECT} mode.
+	 */
+	public boolean isFromIndexScan(IBinding binding) {
+		return fIndexBindings.contains(binding);
+	}
+}
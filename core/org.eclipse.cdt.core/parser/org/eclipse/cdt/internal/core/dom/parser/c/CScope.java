@@ -62,6 +62,7 @@ import org.eclipse.cdt.core.parser.util.CharArrayObjectMap;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.dom.parser.ASTInternal;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.core.dom.parser.IASTAmbiguousDeclarator;
 import org.eclipse.cdt.internal.core.dom.parser.IASTAmbiguousParameterDeclaration;
 import org.eclipse.cdt.internal.core.dom.parser.IASTAmbiguousSimpleDeclaration;
@@ -360,19 +361,27 @@ public class CScope implements ICScope, IASTInternalScope {
 			}
 		}
 
-		if (physicalNode instanceof IASTTranslationUnit) {
+		final boolean prefixLookup = lookup.isPrefixLookup();
+		if (physicalNode instanceof IASTTranslationUnit
+				&& (!prefixLookup || ContentAssistIndexLookup.shouldScanIndex())) {
 			final IASTTranslationUnit tu = (IASTTranslationUnit) physicalNode;
 			IIndex index = tu.getIndex();
 			if (index != null) {
 				try {
-					IBinding[] bindings = lookup.isPrefixLookup()
-							? index.findBindingsForContentAssist(lookup.getLookupKey(), true,
-									INDEX_FILTERS[NAMESPACE_TYPE_BOTH], null)
-							: index.findBindings(lookup.getLookupKey(), INDEX_FILTERS[NAMESPACE_TYPE_BOTH], null);
+					IBinding[] bindings;
+					if (prefixLookup) {
+						bindings = ContentAssistIndexLookup.scanIndex(index, lookup.getLookupKey(),
+								INDEX_FILTERS[NAMESPACE_TYPE_BOTH]);
+					} else {
+						bindings = index.findBindings(lookup.getLookupKey(), INDEX_FILTERS[NAMESPACE_TYPE_BOTH], null);
+					}
 					IIndexFileSet filter = lookup.getIncludedFiles();
 					if (filter != null) {
 						bindings = filter.filterFileLocalBindings(bindings);
 					}
+					if (prefixLookup) {
+						ContentAssistIndexLookup.recordIndexBindings(bindings);
+					}
 
 					obj = ArrayUtil.addAll(Object.class, obj, bindings);
 				} catch (CoreException e) {
@@ -46,6 +46,7 @@ import org.eclipse.cdt.core.parser.util.CharArrayObjectMap;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.core.parser.util.ObjectSet;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.core.dom.parser.ProblemBinding;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVisitor;
@@ -195,29 +196,43 @@ abstract public class CPPScope implements ICPPASTInternalScope {
 			IIndex index = tu.getIndex();
 			if (index != null) {
 				IIndexFileSet fileSet = lookup.getIncludedFiles();
-				if (physicalNode instanceof IASTTranslationUnit) {
+				final boolean prefixLookup = lookup.isPrefixLookup();
+				// Content assist may compute the proposals contributed by the index separately.
+				final boolean useIndex = !prefixLookup || ContentAssistIndexLookup.shouldScanIndex();
+				if (useIndex && physicalNode instanceof IASTTranslationUnit) {
 					try {
 						IndexFilter filter = IndexFilter.CPP_DECLARED_OR_IMPLICIT_NO_INSTANCE;
 						final char[] nchars = lookup.getLookupKey();
-						IBinding[] bindings = lookup.isPrefixLookup()
-								? index.findBindingsForContentAssist(nchars, true, filter, null)
-								: index.findBindings(nchars, filter, null);
+						IBinding[] bindings;
+						if (prefixLookup) {
+							bindings = ContentAssistIndexLookup.scanIndex(index, nchars, filter);
+						} else {
+							bindings = index.findBindings(nchars, filter, null);
+						}
 						if (fileSet != null) {
 							bindings = fileSet.filterFileLocalBindings(bindings);
 						}
+						if (prefixLookup) {
+							ContentAssistIndexLookup.recordIndexBindings(bindings);
+						}
 						result = ArrayUtil.addAll(IBinding.class, result, bindings);
 					} catch (CoreException e) {
 						CCorePlugin.log(e);
 					}
-				} else if (physicalNode instanceof ICPPASTNamespaceDefinition) {
+				} else if (useIndex && physicalNode instanceof ICPPASTNamespaceDefinition) {
 					ICPPASTNamespaceDefinition ns = (ICPPASTNamespaceDefinition) physicalNode;
 					try {
 						IIndexBinding binding = index.findBinding(ns.getName());
 						if (binding instanceof ICPPNamespace) {
 							ICPPNamespaceScope indexNs = ((ICPPNamespace) binding).getNamespaceScope();
 							IBinding[] bindings = indexNs.getBindings(lookup);
+							if (prefixLookup) {
+								ContentAssistIndexLookup.checkCanceled();
+								bindings = ContentAssistIndexLookup.selectTier(bindings, lookup.getLookupKey());
+								ContentAssistIndexLookup.recordIndexBindings(bindings);
+							}
 							for (IBinding candidate : bindings) {
-								if (lookup.isPrefixLookup()
+								if (prefixLookup
 										|| CPPSemantics.declaredBefore(candidate, lookup.getLookupPoint(), true)) {
 									result = ArrayUtil.append(result, candidate);
 								}
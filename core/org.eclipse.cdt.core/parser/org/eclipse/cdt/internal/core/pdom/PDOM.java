@@ -81,6 +81,7 @@ import org.eclipse.cdt.internal.core.pdom.db.DBProperties;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.PDOMStringTable;
 import org.eclipse.cdt.internal.core.pdom.dom.BindingCollector;
 import org.eclipse.cdt.internal.core.pdom.dom.CompoundRecordIterator;
 import org.eclipse.cdt.internal.core.pdom.dom.FindBinding;
@@ -311,10 +312,11 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 *
 	 *  CDT 10.4 development
 	 *  220.0 - Changed marshalling of CPPBasicType to store new "from literal" flag, bug 573764
+	 *  221.0 - Names of bindings and macros are stored in a table of interned strings.
 	 */
-	private static final int MIN_SUPPORTED_VERSION = version(220, 0);
-	private static final int MAX_SUPPORTED_VERSION = version(220, Short.MAX_VALUE);
-	private static final int DEFAULT_VERSION = version(220, 0);
+	private static final int MIN_SUPPORTED_VERSION = version(221, 0);
+	private static final int MAX_SUPPORTED_VERSION = version(221, Short.MAX_VALUE);
+	private static final int DEFAULT_VERSION = version(221, 0);
 
 	private static int version(int major, int minor) {
 		return (major << 16) + minor;
@@ -351,7 +353,8 @@ public class PDOM extends PlatformObject implements IPDOM {
 	public static final int INDEX_OF_FILES_WITH_UNRESOLVED_INCLUDES = Database.DATA_AREA + 12;
 	public static final int PROPERTIES = Database.DATA_AREA + 16;
 	public static final int TAG_INDEX = Database.DATA_AREA + 20;
-	public static final int END = Database.DATA_AREA + 24;
+	public static final int STRING_TABLE = Database.DATA_AREA + 24;
+	public static final int END = Database.DATA_AREA + 28;
 	static {
 		assert END <= Database.CHUNK_SIZE;
 	}
@@ -413,6 +416,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	protected Database db;
 	private BTree fileIndex;
 	private PDOMTagIndex tagIndex;
+	private PDOMStringTable stringTable;
 	private BTree indexOfDefectiveFiles;
 	private BTree indexOfFiledWithUnresolvedIncludes;
 	private final Map<Integer, PDOMLinkage> fLinkageIDCache = new HashMap<>();
@@ -552,6 +556,16 @@ public class PDOM extends PlatformObject implements IPDOM {
 		return tagIndex;
 	}
 
+	/**
+	 * Returns the table of interned strings shared by the records of this PDOM.
+	 */
+	public PDOMStringTable getStringTable() {
+		if (stringTable == null) {
+			stringTable = new PDOMStringTable(db, STRING_TABLE);
+		}
+		return stringTable;
+	}
+
 	/**
 	 * Returns the index of files that were read with I/O errors.
 	 */
@@ -1514,6 +1528,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	private void clearCaches() {
 		fileIndex = null;
 		tagIndex = null;
+		stringTable = null;
 		indexOfDefectiveFiles = null;
 		indexOfFiledWithUnresolvedIncludes = null;
 		fLinkageIDCache.clear();
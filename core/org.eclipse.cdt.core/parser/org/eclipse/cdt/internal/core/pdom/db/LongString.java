@@ -178,6 +178,17 @@ public class LongString implements IString {
 		db.free(nextRecord);
 	}
 
+	/**
+	 * Returns {@code true} if the given string is stored in the same record, e.g. because both
+	 * are references to an interned string.
+	 */
+	private boolean isSameRecord(IString string) {
+		if (!(string instanceof LongString))
+			return false;
+		LongString other = (LongString) string;
+		return other.db == db && other.record == record;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this)
@@ -224,6 +235,8 @@ public class LongString implements IString {
 
 	@Override
 	public int compare(IString string, boolean caseSensitive) throws CoreException {
+		if (isSameRecord(string))
+			return 0;
 		return ShortString.compare(getChars(), string.getChars(), caseSensitive);
 	}
 
@@ -239,6 +252,8 @@ public class LongString implements IString {
 
 	@Override
 	public int compareCompatibleWithIgnoreCase(IString string) throws CoreException {
+		if (isSameRecord(string))
+			return 0;
 		return ShortString.compareCompatibleWithIgnoreCase(getChars(), string.getChars());
 	}
 
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A table of interned strings in the Database. Each distinct string is stored once and shared by
+ * all records referring to it, so two interned strings are equal if and only if their records
+ * are equal.
+ * <p>
+ * The strings are reference counted, every call to {@link #intern(char[])} has to be balanced by
+ * a call to {@link #release(long)} when the referring record is deleted or changes its string.
+ * Interned strings must not be deleted directly.
+ * <p>
+ * The table is a B-tree of entries sorted by their strings. Unlike {@link PDOMStringSet} it is
+ * suitable for large numbers of strings.
+ */
+public class PDOMStringTable {
+	private static final int STRING = 0;
+	private static final int REFERENCES = Database.PTR_SIZE;
+	private static final int ENTRY_SIZE = REFERENCES + Database.INT_SIZE;
+
+	private final Database db;
+	private final BTree btree;
+
+	/**
+	 * @param db the database containing the table
+	 * @param ptr offset into database of the pointer to the root node of the table
+	 */
+	public PDOMStringTable(Database db, long ptr) {
+		this.db = db;
+		this.btree = new BTree(db, ptr, (entry1, entry2) -> {
+			long string1 = db.getRecPtr(entry1 + STRING);
+			long string2 = db.getRecPtr(entry2 + STRING);
+			if (string1 == string2)
+				return 0;
+			return db.getString(string1).compare(db.getString(string2), true);
+		});
+	}
+
+	/**
+	 * Returns the record of the interned copy of the given string, creating it if necessary,
+	 * and increments its reference count.
+	 */
+	public long intern(char[] chars) throws CoreException {
+		long entry = findEntry(chars);
+		if (entry == 0) {
+			long string = db.newString(chars).getRecord();
+			entry = db.malloc(ENTRY_SIZE);
+			db.putRecPtr(entry + STRING, string);
+			btree.insert(entry);
+		}
+		db.putInt(entry + REFERENCES, db.getInt(entry + REFERENCES) + 1);
+		return db.getRecPtr(entry + STRING);
+	}
+
+	/**
+	 * Returns the record of the interned copy of the given string, or {@code 0} if the string
+	 * has not been interned.
+	 */
+	public long find(char[] chars) throws CoreException {
+		long entry = findEntry(chars);
+		return entry == 0 ? 0 : db.getRecPtr(entry + STRING);
+	}
+
+	/**
+	 * Decrements the reference count of an interned string and deletes the string when it is no
+	 * longer referenced.
+	 *
+	 * @param string the record returned by {@link #intern(char[])}
+	 */
+	public void release(long string) throws CoreException {
+		long entry = findEntry(string);
+		if (entry == 0)
+			throw new IllegalArgumentException("Not an interned string: " + string); //$NON-NLS-1$
+		int references = db.getInt(entry + REFERENCES) - 1;
+		if (references > 0) {
+			db.putInt(entry + REFERENCES, references);
+		} else {
+			btree.delete(entry);
+			db.free(entry);
+			db.getString(string).delete();
+		}
+	}
+
+	/**
+	 * Returns the number of references to an interned string.
+	 */
+	public int getReferenceCount(long string) throws CoreException {
+		long entry = findEntry(string);
+		return entry == 0 ? 0 : db.getInt(entry + REFERENCES);
+	}
+
+	private long findEntry(char[] chars) throws CoreException {
+		long[] result = new long[1];
+		btree.accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long entry) throws CoreException {
+				return db.getString(db.getRecPtr(entry + STRING)).compare(chars, true);
+			}
+
+			@Override
+			public boolean visit(long entry) throws CoreException {
+				result[0] = entry;
+				return false;
+			}
+		});
+		return result[0];
+	}
+
+	private long findEntry(long string) throws CoreException {
+		IString key = db.getString(string);
+		long[] result = new long[1];
+		btree.accept(new IBTreeVisitor() {
+			@Override
+			public int compare(long entry) throws CoreException {
+				long other = db.getRecPtr(entry + STRING);
+				return other == string ? 0 : db.getString(other).compare(key, true);
+			}
+
+			@Override
+			public boolean visit(long entry) throws CoreException {
+				result[0] = entry;
+				return false;
+			}
+		});
+		return result[0];
+	}
+}
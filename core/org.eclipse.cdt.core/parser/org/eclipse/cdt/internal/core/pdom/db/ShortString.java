@@ -93,6 +93,17 @@ public class ShortString implements IString {
 		return new String(getChars());
 	}
 
+	/**
+	 * Returns {@code true} if the given string is stored in the same record, e.g. because both
+	 * are references to an interned string.
+	 */
+	private boolean isSameRecord(IString string) {
+		if (!(string instanceof ShortString))
+			return false;
+		ShortString other = (ShortString) string;
+		return other.db == db && other.record == record;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj == this)
@@ -173,6 +184,8 @@ public class ShortString implements IString {
 
 	@Override
 	public int compare(IString string, boolean caseSensitive) throws CoreException {
+		if (isSameRecord(string))
+			return 0;
 		return compare(getChars(), string.getChars(), caseSensitive);
 	}
 
@@ -183,6 +196,8 @@ public class ShortString implements IString {
 
 	@Override
 	public int compareCompatibleWithIgnoreCase(IString string) throws CoreException {
+		if (isSameRecord(string))
+			return 0;
 		return compareCompatibleWithIgnoreCase(string.getChars());
 	}
 
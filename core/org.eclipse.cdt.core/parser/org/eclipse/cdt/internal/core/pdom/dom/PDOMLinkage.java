@@ -101,7 +101,7 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 	}
 
 	protected PDOMLinkage(PDOM pdom, String linkageID, char[] name) throws CoreException {
-		super(pdom.getDB(), name);
+		super(pdom, name);
 		final Database db = pdom.getDB();
 
 		fPDOM = pdom;
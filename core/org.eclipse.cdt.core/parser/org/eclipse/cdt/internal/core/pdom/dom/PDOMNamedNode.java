@@ -21,6 +21,7 @@ import java.util.Arrays;
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.internal.core.index.IIndexFragmentBinding;
+import org.eclipse.cdt.internal.core.pdom.PDOM;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
 import org.eclipse.core.runtime.CoreException;
@@ -30,7 +31,8 @@ import org.eclipse.core.runtime.CoreException;
  */
 public abstract class PDOMNamedNode extends PDOMNode {
 	/**
-	 * Offset of pointer to node name (relative to the beginning of the record).
+	 * Offset of pointer to node name (relative to the beginning of the record). Names are
+	 * interned in the {@link PDOM#getStringTable() string table} of the PDOM.
 	 */
 	private static final int NAME = PDOMNode.RECORD_SIZE + 0;
 
@@ -51,16 +53,16 @@ public abstract class PDOMNamedNode extends PDOMNode {
 
 		fName = name;
 		final Database db = linkage.getDB();
-		db.putRecPtr(record + NAME, name != null ? db.newString(name).getRecord() : 0);
+		db.putRecPtr(record + NAME, name != null ? linkage.getPDOM().getStringTable().intern(name) : 0);
 	}
 
 	/**
 	 * For linkages, only.
 	 */
-	protected PDOMNamedNode(Database db, char[] name) throws CoreException {
-		super(db);
+	protected PDOMNamedNode(PDOM pdom, char[] name) throws CoreException {
+		super(pdom.getDB());
 		fName = name;
-		db.putRecPtr(record + NAME, name != null ? db.newString(name).getRecord() : 0);
+		pdom.getDB().putRecPtr(record + NAME, name != null ? pdom.getStringTable().intern(name) : 0);
 	}
 
 	@Override
@@ -99,20 +101,27 @@ public abstract class PDOMNamedNode extends PDOMNode {
 
 		IString name = getDBName();
 		if (!name.equals(nameCharArray)) {
-			name.delete();
-			final Database db = getDB();
-			db.putRecPtr(record + NAME, db.newString(nameCharArray).getRecord());
+			deleteName();
+			getDB().putRecPtr(record + NAME, getPDOM().getStringTable().intern(nameCharArray));
 		}
 		fName = nameCharArray;
 	}
 
-	@Override
-	public void delete(PDOMLinkage linkage) throws CoreException {
+	/**
+	 * Releases the name of this node, the name must not be accessed afterwards.
+	 */
+	protected void deleteName() throws CoreException {
 		final Database db = getDB();
 		final long namerec = db.getRecPtr(record + NAME);
 		if (namerec != 0) {
-			db.free(namerec);
+			getPDOM().getStringTable().release(namerec);
+			db.putRecPtr(record + NAME, 0);
 		}
+	}
+
+	@Override
+	public void delete(PDOMLinkage linkage) throws CoreException {
+		deleteName();
 		super.delete(linkage);
 	}
 
@@ -204,7 +204,7 @@ class PDOMCPPTemplateTypeParameter extends PDOMCPPBinding
 
 	@Override
 	public void forceDelete(PDOMLinkage linkage) throws CoreException {
-		getDBName().delete();
+		deleteName();
 		getLinkage().storeType(record + DEFAULT_TYPE, null);
 	}
 }
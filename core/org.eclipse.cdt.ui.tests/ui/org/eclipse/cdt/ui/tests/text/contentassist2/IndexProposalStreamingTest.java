@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.ui.tests.text.contentassist2;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup.Tier;
+import org.eclipse.cdt.internal.ui.text.contentassist.CContentAssistProcessor;
+import org.eclipse.cdt.internal.ui.text.contentassist.CIndexContentAssistProcessor;
+import org.eclipse.cdt.ui.testplugin.EditorTestHelper;
+import org.eclipse.cdt.ui.text.ICCompletionProposal;
+import org.eclipse.cdt.ui.text.contentassist.ContentAssistInvocationContext;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+
+import junit.framework.Test;
+
+/**
+ * Tests content assist with the index proposals computed by separate
+ * {@link CIndexContentAssistProcessor}s, one per relevance tier, so that the first
+ * proposals are available without scanning the index.
+ */
+public class IndexProposalStreamingTest extends AbstractContentAssistTest {
+	private static final String SOURCE_FILE_NAME = "IndexProposalStreamingTest.cpp";
+	private static final String CURSOR_LOCATION_TAG = "/*cursor*/";
+	private static final int INDEXED_FUNCTION_COUNT = 2000;
+	private static final int MEASURED_RUNS = 5;
+
+	private int fCursorOffset;
+
+	public IndexProposalStreamingTest(String name) {
+		super(name, true);
+	}
+
+	public static Test suite() {
+		return BaseTestCase.suite(IndexProposalStreamingTest.class, "_");
+	}
+
+	@Override
+	protected IFile setUpProjectContent(IProject project) throws Exception {
+		// Functions declared in a file that is not included, proposals for them can only be
+		// found by scanning the index.
+		StringBuilder indexed = new StringBuilder();
+		// Half of them start with the prefix, the others only match it by camel case.
+		for (int i = 0; i < INDEXED_FUNCTION_COUNT / 2; i++) {
+			indexed.append("void sIndexed").append(i).append("(int);\n");
+			indexed.append("void sOtherIndexed").append(i).append("(int);\n");
+		}
+		createFile(project, "indexed.cpp", indexed.toString());
+
+		StringBuilder sourceContent = getContentsForTest(1)[0];
+		fCursorOffset = sourceContent.indexOf(CURSOR_LOCATION_TAG);
+		assertTrue("No cursor location specified", fCursorOffset >= 0);
+		sourceContent.delete(fCursorOffset, fCursorOffset + CURSOR_LOCATION_TAG.length());
+		return createFile(project, SOURCE_FILE_NAME, sourceContent.toString());
+	}
+
+	private Set<String> toDisplayStrings(ICompletionProposal[] proposals) {
+		assertNotNull(proposals);
+		Set<String> result = new TreeSet<>();
+		for (ICompletionProposal proposal : proposals) {
+			if (proposal instanceof ICCompletionProposal) {
+				result.add(proposal.getDisplayString());
+			}
+		}
+		return result;
+	}
+
+	private ISourceViewer getSourceViewer() {
+		ISourceViewer sourceViewer = EditorTestHelper.getSourceViewer((AbstractTextEditor) fEditor);
+		sourceViewer.setSelectedRange(fCursorOffset, 0);
+		return sourceViewer;
+	}
+
+	private CIndexContentAssistProcessor[] createIndexProcessors(ContentAssistant assistant,
+			CContentAssistProcessor primary) {
+		Tier[] tiers = Tier.values();
+		CIndexContentAssistProcessor[] processors = new CIndexContentAssistProcessor[tiers.length];
+		for (int i = 0; i < tiers.length; i++) {
+			processors[i] = new CIndexContentAssistProcessor(fEditor, assistant, primary, tiers[i]);
+		}
+		return processors;
+	}
+
+	// struct sILocalType {};
+	// int sILocal;
+	// void test() {
+	//   sI/*cursor*/
+	// }
+	public void testDeferredIndexProposals() throws Exception {
+		ISourceViewer sourceViewer = getSourceViewer();
+
+		ContentAssistant assistant = new ContentAssistant();
+		CContentAssistProcessor processor = new CContentAssistProcessor(fEditor, assistant,
+				IDocument.DEFAULT_CONTENT_TYPE);
+		Set<String> full = toDisplayStrings(processor.computeCompletionProposals(sourceViewer, fCursorOffset));
+
+		ContentAssistant streamingAssistant = new ContentAssistant(true);
+		CContentAssistProcessor primary = new CContentAssistProcessor(fEditor, streamingAssistant,
+				IDocument.DEFAULT_CONTENT_TYPE);
+		primary.setDeferIndexProposals(true);
+		CIndexContentAssistProcessor[] indexProcessors = createIndexProcessors(streamingAssistant, primary);
+		Set<String> first = toDisplayStrings(primary.computeCompletionProposals(sourceViewer, fCursorOffset));
+		Set<String> prefixTier = toDisplayStrings(
+				indexProcessors[Tier.PREFIX.ordinal()].computeCompletionProposals(sourceViewer, fCursorOffset));
+		Set<String> otherTier = toDisplayStrings(
+				indexProcessors[Tier.OTHER.ordinal()].computeCompletionProposals(sourceViewer, fCursorOffset));
+
+		// None of the functions only found in the index delay the first proposals
+		assertTrue(first.contains("sILocal : int"));
+		assertEquals(0, countIndexed(first, "sIndexed") + countIndexed(first, "sOtherIndexed"));
+		assertFalse(prefixTier.contains("sILocal : int"));
+		assertFalse(otherTier.contains("sILocal : int"));
+
+		// The names starting with the prefix are not delayed by the camel case matches
+		assertEquals(INDEXED_FUNCTION_COUNT / 2, countIndexed(prefixTier, "sIndexed"));
+		assertEquals(0, countIndexed(prefixTier, "sOtherIndexed"));
+		assertEquals(0, countIndexed(otherTier, "sIndexed"));
+		assertEquals(INDEXED_FUNCTION_COUNT / 2, countIndexed(otherTier, "sOtherIndexed"));
+
+		Set<String> streamed = new TreeSet<>(first);
+		streamed.addAll(prefixTier);
+		streamed.addAll(otherTier);
+		assertEquals(full, streamed);
+	}
+
+	// int sILocal;
+	// void test() {
+	//   sI/*cursor*/
+	// }
+	public void testLatency() throws Exception {
+		ISourceViewer sourceViewer = getSourceViewer();
+
+		ContentAssistant assistant = new ContentAssistant();
+		CContentAssistProcessor processor = new CContentAssistProcessor(fEditor, assistant,
+				IDocument.DEFAULT_CONTENT_TYPE);
+		ContentAssistant streamingAssistant = new ContentAssistant(true);
+		CContentAssistProcessor primary = new CContentAssistProcessor(fEditor, streamingAssistant,
+				IDocument.DEFAULT_CONTENT_TYPE);
+		primary.setDeferIndexProposals(true);
+		CIndexContentAssistProcessor[] indexProcessors = createIndexProcessors(streamingAssistant, primary);
+
+		// The first run warms up the parser and the index.
+		long[][] times = new long[2 + indexProcessors.length][MEASURED_RUNS + 1];
+		for (int run = 0; run <= MEASURED_RUNS; run++) {
+			times[0][run] = measure(processor, sourceViewer);
+			times[1][run] = measure(primary, sourceViewer);
+			for (int i = 0; i < indexProcessors.length; i++) {
+				times[2 + i][run] = measure(indexProcessors[i], sourceViewer);
+			}
+		}
+
+		StringBuilder report = new StringBuilder();
+		report.append("Content assist latency for ").append(INDEXED_FUNCTION_COUNT)
+				.append(" indexed functions, median of ").append(MEASURED_RUNS).append(" runs: all proposals ")
+				.append(median(times[0])).append(" ms, local proposals ").append(median(times[1])).append(" ms");
+		for (Tier tier : Tier.values()) {
+			report.append(", ").append(tier.name().toLowerCase()).append(" tier ")
+					.append(median(times[2 + tier.ordinal()])).append(" ms");
+		}
+		System.out.println(report);
+	}
+
+	private long measure(CContentAssistProcessor processor, ISourceViewer sourceViewer) {
+		long start = System.nanoTime();
+		assertNotNull(processor.computeCompletionProposals(sourceViewer, fCursorOffset));
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the median of the measured runs, ignoring the warm-up run.
+	 */
+	private static long median(long[] times) {
+		long[] measured = Arrays.copyOfRange(times, 1, times.length);
+		Arrays.sort(measured);
+		return measured[measured.length / 2];
+	}
+
+	private static int countIndexed(Set<String> displayStrings, String prefix) {
+		int count = 0;
+		for (String displayString : displayStrings) {
+			if (displayString.startsWith(prefix)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// int sLocal;
+	// void test() {
+	//   s/*cursor*/
+	// }
+	public void testCanceledComputation() throws Exception {
+		ISourceViewer sourceViewer = getSourceViewer();
+
+		ContentAssistant assistant = new ContentAssistant(true);
+		CContentAssistProcessor primary = new CContentAssistProcessor(fEditor, assistant,
+				IDocument.DEFAULT_CONTENT_TYPE);
+		CIndexContentAssistProcessor indexProcessor = new CIndexContentAssistProcessor(fEditor, assistant, primary,
+				Tier.PREFIX) {
+			@Override
+			protected List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset,
+					IProgressMonitor monitor, ContentAssistInvocationContext context) {
+				// A newer computation supersedes this one.
+				cancelComputation();
+				return super.collectProposals(viewer, offset, monitor, context);
+			}
+		};
+		ICompletionProposal[] proposals = indexProcessor.computeCompletionProposals(sourceViewer, fCursorOffset);
+		assertNotNull(proposals);
+		assertEquals(0, proposals.length);
+	}
+}
@@ -74,6 +74,8 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 				ContentAssistPreference.ORDER_PROPOSALS));
 		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
 				ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES));
+		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
+				ContentAssistPreference.STREAM_INDEX_PROPOSALS));
 		//		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN, ContentAssistPreference.ADD_INCLUDE));
 		overlayKeys.add(new OverlayPreferenceStore.OverlayKey(OverlayPreferenceStore.BOOLEAN,
 				ContentAssistPreference.CURRENT_FILE_SEARCH_SCOPE));
@@ -142,6 +144,9 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_showCamelCaseMatches;
 		addCheckBox(sortingGroup, label, ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES, 0);
 
+		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_streamIndexProposals;
+		addCheckBox(sortingGroup, label, ContentAssistPreference.STREAM_INDEX_PROPOSALS, 0);
+
 		//&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&
 		// The following items are grouped for Auto Activation
 		label = PreferencesMessages.CEditorPreferencePage_ContentAssistPage_autoActivationGroupTitle;
@@ -208,5 +213,6 @@ public class CodeAssistPreferencePage extends AbstractPreferencePage {
 		store.setDefault(ContentAssistPreference.PROPOSALS_FILTER,
 				ProposalFilterPreferencesUtil.getProposalFilternamesAsString());
 		store.setDefault(ContentAssistPreference.SHOW_CAMEL_CASE_MATCHES, true);
+		store.setDefault(ContentAssistPreference.STREAM_INDEX_PROPOSALS, false);
 	}
 }
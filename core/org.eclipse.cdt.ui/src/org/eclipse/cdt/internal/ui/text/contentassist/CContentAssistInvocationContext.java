@@ -39,6 +39,7 @@ import org.eclipse.cdt.core.index.IIndexManager;
 import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.core.parser.IToken;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.ui.editor.CEditor;
 import org.eclipse.cdt.internal.ui.text.CHeuristicScanner;
 import org.eclipse.cdt.internal.ui.text.Symbols;
@@ -73,6 +74,10 @@ public class CContentAssistInvocationContext extends ContentAssistInvocationCont
 	// Since this name can be adjusted by adjustCompletionNode(), the parse offset
 	// may need a corresponding adjustment, and this stores the adjusted offset.
 	private int fAdjustedParseOffset = -1;
+	// How prefix lookups performed for this context use the index.
+	private ContentAssistIndexLookup.Mode fIndexLookupMode = ContentAssistIndexLookup.Mode.INCLUDE;
+	// The bindings looked for by prefix lookups in the index, null for all of them.
+	private ContentAssistIndexLookup.Tier fIndexLookupTier;
 
 	private Lazy<Integer> fContextInfoPosition = new Lazy<>() {
 		@Override
@@ -593,6 +598,38 @@ public class CContentAssistInvocationContext extends ContentAssistInvocationCont
 		return fIsAutoActivated;
 	}
 
+	/**
+	 * Returns how prefix lookups performed on behalf of this context use the index.
+	 */
+	public ContentAssistIndexLookup.Mode getIndexLookupMode() {
+		return fIndexLookupMode;
+	}
+
+	/**
+	 * Specifies how prefix lookups performed on behalf of this context use the index.
+	 * {@link ContentAssistIndexLookup.Mode#SKIP} is used when the proposals contributed by
+	 * the index are computed separately, see {@link CIndexContentAssistProcessor}.
+	 */
+	public void setIndexLookupMode(ContentAssistIndexLookup.Mode mode) {
+		fIndexLookupMode = mode;
+	}
+
+	/**
+	 * Returns the bindings looked for by prefix lookups in the index performed on behalf of this
+	 * context, or {@code null} if all of them are looked for.
+	 */
+	public ContentAssistIndexLookup.Tier getIndexLookupTier() {
+		return fIndexLookupTier;
+	}
+
+	/**
+	 * Specifies the bindings looked for by prefix lookups in the index performed on behalf of this
+	 * context, {@code null} for all of them.
+	 */
+	public void setIndexLookupTier(ContentAssistIndexLookup.Tier tier) {
+		fIndexLookupTier = tier;
+	}
+
 	@Override
 	public void dispose() {
 		if (fIndex != null) {
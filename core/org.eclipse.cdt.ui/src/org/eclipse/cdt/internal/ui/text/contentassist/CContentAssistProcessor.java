@@ -27,6 +27,7 @@ import org.eclipse.cdt.core.dom.ast.IASTFieldReference;
 import org.eclipse.cdt.core.dom.ast.IASTName;
 import org.eclipse.cdt.core.dom.ast.IPointerType;
 import org.eclipse.cdt.core.dom.ast.IType;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.ICPPUnknownType;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPSemantics;
 import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.HeuristicResolver;
@@ -133,12 +134,27 @@ public class CContentAssistProcessor extends ContentAssistProcessor {
 	private ActivationSet fCContentAutoActivationCharacters;
 	private IContextInformationValidator fValidator;
 	private final IEditorPart fEditor;
+	private boolean fDeferIndexProposals;
 
 	public CContentAssistProcessor(IEditorPart editor, ContentAssistant assistant, String partition) {
 		super(assistant, partition);
 		fEditor = editor;
 	}
 
+	/**
+	 * Specifies whether the proposals contributed by scanning the index are left to a
+	 * {@link CIndexContentAssistProcessor} running alongside this processor.
+	 *
+	 * @param defer {@code true} to skip scanning the index for proposals
+	 */
+	public void setDeferIndexProposals(boolean defer) {
+		fDeferIndexProposals = defer;
+	}
+
+	protected IEditorPart getEditor() {
+		return fEditor;
+	}
+
 	@Override
 	public IContextInformationValidator getContextInformationValidator() {
 		if (fValidator == null) {
@@ -305,6 +321,9 @@ public class CContentAssistProcessor extends ContentAssistProcessor {
 			throw e;
 		}
 
+		if (context != null && isCompletion && fDeferIndexProposals) {
+			context.setIndexLookupMode(ContentAssistIndexLookup.Mode.SKIP);
+		}
 		return context;
 	}
 
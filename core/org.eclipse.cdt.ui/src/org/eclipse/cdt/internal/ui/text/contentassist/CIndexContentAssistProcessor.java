@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.ui.text.contentassist;
+
+import java.util.List;
+
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
+import org.eclipse.cdt.ui.text.contentassist.ContentAssistInvocationContext;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.contentassist.ContentAssistEvent;
+import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionListener;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.contentassist.IContextInformation;
+import org.eclipse.ui.IEditorPart;
+
+/**
+ * Computes the completion proposals contributed by scanning the index for names matching the
+ * completion prefix. Runs in the background next to a {@link CContentAssistProcessor} that has been
+ * told to {@link CContentAssistProcessor#setDeferIndexProposals(boolean) defer} the index scan, so
+ * that an asynchronous content assistant can show the local proposals before the index proposals
+ * are available.
+ * <p>
+ * The index proposals are split by {@link ContentAssistIndexLookup.Tier tier}, with one processor per
+ * tier, so that the names starting with the prefix are shown as soon as they have been found, without
+ * waiting for the slower scan looking for the other matches.
+ * <p>
+ * Each invocation parses the file on its own, the AST of the primary processor is not thread-safe.
+ * A computation is canceled when a newer one is started or when the content assist session ends.
+ */
+public class CIndexContentAssistProcessor extends CContentAssistProcessor {
+	private final CContentAssistProcessor fPrimaryProcessor;
+	private final ContentAssistIndexLookup.Tier fTier;
+	// Not shared with the primary processor, the computer is not thread-safe.
+	private final DOMCompletionProposalComputer fComputer = new DOMCompletionProposalComputer();
+
+	public CIndexContentAssistProcessor(IEditorPart editor, ContentAssistant assistant,
+			CContentAssistProcessor primaryProcessor, ContentAssistIndexLookup.Tier tier) {
+		super(editor, assistant, IDocument.DEFAULT_CONTENT_TYPE);
+		fPrimaryProcessor = primaryProcessor;
+		fTier = tier;
+		assistant.addCompletionListener(new ICompletionListener() {
+			@Override
+			public void assistSessionStarted(ContentAssistEvent event) {
+			}
+
+			@Override
+			public void assistSessionEnded(ContentAssistEvent event) {
+				cancelComputation();
+			}
+
+			@Override
+			public void selectionChanged(ICompletionProposal proposal, boolean smartToggle) {
+			}
+		});
+	}
+
+	@Override
+	protected boolean canComputeInBackground() {
+		return true;
+	}
+
+	@Override
+	protected boolean isAutoActivated() {
+		// Content assist session events are only sent to the primary processor.
+		return fPrimaryProcessor.isAutoActivated();
+	}
+
+	@Override
+	protected ContentAssistInvocationContext createContext(ITextViewer viewer, int offset, boolean isCompletion) {
+		if (!isCompletion)
+			return null;
+		// Unlike the primary processor, never modify the document.
+		CContentAssistInvocationContext context = new CContentAssistInvocationContext(viewer, offset, getEditor(),
+				isCompletion, isAutoActivated());
+		context.setIndexLookupMode(ContentAssistIndexLookup.Mode.COLLECT);
+		context.setIndexLookupTier(fTier);
+		return context;
+	}
+
+	@Override
+	protected List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor,
+			ContentAssistInvocationContext context) {
+		fComputer.sessionStarted();
+		try {
+			return fComputer.computeCompletionProposals(context, monitor);
+		} finally {
+			fComputer.sessionEnded();
+		}
+	}
+
+	@Override
+	public IContextInformation[] computeContextInformation(ITextViewer viewer, int offset) {
+		return null;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		// The primary processor reports missing completions.
+		return null;
+	}
+}
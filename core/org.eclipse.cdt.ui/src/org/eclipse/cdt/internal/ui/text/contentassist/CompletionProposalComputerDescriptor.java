@@ -34,6 +34,7 @@ import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.InvalidRegistryObjectException;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -311,6 +312,9 @@ final class CompletionProposalComputerDescriptor {
 			status = createExceptionStatus(x);
 		} catch (CoreException x) {
 			status = createExceptionStatus(x);
+		} catch (OperationCanceledException x) {
+			// The computation has become obsolete, this is not a failure of the extension.
+			throw x;
 		} catch (RuntimeException x) {
 			status = createExceptionStatus(x);
 		} finally {
@@ -83,6 +83,12 @@ public class ContentAssistPreference {
 	/** Key for boolean preference telling whether camel case/underscore matches are to be shown by content assist features or not*/
 	public static final String SHOW_CAMEL_CASE_MATCHES = "contentAssist.showCamelCaseMatches"; //$NON-NLS-1$
 
+	/**
+	 * Key for boolean preference telling whether proposals found by scanning the index are computed in the
+	 * background and added to the proposal list when available. Takes effect for newly opened editors.
+	 */
+	public static final String STREAM_INDEX_PROPOSALS = "contentAssist.streamIndexProposals"; //$NON-NLS-1$
+
 	private static Color getColor(IPreferenceStore store, String key, IColorManager manager) {
 		RGB rgb = PreferenceConverter.getColor(store, key);
 		return manager.getColor(rgb);
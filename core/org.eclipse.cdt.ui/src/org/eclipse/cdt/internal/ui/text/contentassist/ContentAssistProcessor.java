@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.internal.ui.dialogs.OptionalMessageDialog;
 import org.eclipse.cdt.internal.ui.util.Messages;
@@ -30,7 +31,9 @@ import org.eclipse.cdt.ui.text.contentassist.ContentAssistInvocationContext;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.action.LegacyActionTools;
 import org.eclipse.jface.bindings.TriggerSequence;
@@ -58,6 +61,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Link;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.PlatformUI;
@@ -79,6 +83,9 @@ import org.eclipse.ui.texteditor.ITextEditorActionDefinitionIds;
  * contexts are provided)</li>
  * <li>{@code getErrorMessage} to change error reporting</li>
  * </ul>
+ * <p>
+ * Each computation is cancelled as soon as a newer one is started by the same processor,
+ * computers observe this through the progress monitor passed to them.
  *
  * @since 4.0
  */
@@ -101,6 +108,23 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	private static final ICompletionProposal[] NO_PROPOSALS = {};
 
+	/**
+	 * A progress monitor that reports cancellation once a newer computation has been started.
+	 */
+	private class ComputationMonitor extends ProgressMonitorWrapper {
+		private final int fComputation;
+
+		ComputationMonitor(IProgressMonitor monitor, int computation) {
+			super(monitor);
+			fComputation = computation;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fComputationCount.get() != fComputation;
+		}
+	}
+
 	private final List<CompletionProposalCategory> fCategories;
 	private final String fPartition;
 	private final ContentAssistant fAssistant;
@@ -114,6 +138,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	private int fNumberOfComputedResults;
 	private String fErrorMessage;
 	private boolean fIsAutoActivated;
+	private final AtomicInteger fComputationCount = new AtomicInteger();
 
 	public ContentAssistProcessor(ContentAssistant assistant, String partition) {
 		Assert.isNotNull(partition);
@@ -193,7 +218,17 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 	@Override
 	public final ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
+		if (!canComputeInBackground() && Display.getCurrent() == null) {
+			// Called by an asynchronous content assistant. The contributed proposal computers are not
+			// required to be thread-safe, compute the proposals in the UI thread.
+			ICompletionProposal[][] result = { NO_PROPOSALS };
+			PlatformUI.getWorkbench().getDisplay()
+					.syncExec(() -> result[0] = computeCompletionProposals(viewer, offset));
+			return result[0];
+		}
+
 		long start = DEBUG ? System.currentTimeMillis() : 0;
+		int computation = fComputationCount.incrementAndGet();
 
 		if (isAutoActivated() && !verifyAutoActivation(viewer, offset)) {
 			return NO_PROPOSALS;
@@ -201,7 +236,7 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 
 		clearState();
 
-		IProgressMonitor monitor = createProgressMonitor();
+		IProgressMonitor monitor = new ComputationMonitor(createProgressMonitor(), computation);
 		monitor.beginTask(ContentAssistMessages.ContentAssistProcessor_computing_proposals, fCategories.size() + 1);
 
 		ContentAssistInvocationContext context = createContext(viewer, offset, true);
@@ -231,11 +266,32 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 			}
 
 			return result;
+		} catch (OperationCanceledException e) {
+			// A newer computation has been started, the result of this one is obsolete.
+			return NO_PROPOSALS;
 		} finally {
 			context.dispose();
 		}
 	}
 
+	/**
+	 * Returns whether this processor may compute proposals outside of the UI thread.
+	 * <p>
+	 * The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if proposals can be computed by a background thread
+	 */
+	protected boolean canComputeInBackground() {
+		return false;
+	}
+
+	/**
+	 * Cancels the computation currently performed by this processor, if any.
+	 */
+	protected void cancelComputation() {
+		fComputationCount.incrementAndGet();
+	}
+
 	/**
 	 * Verifies that auto activation is allowed.
 	 * <p>
@@ -254,7 +310,16 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		fNumberOfComputedResults = 0;
 	}
 
-	private List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor,
+	/**
+	 * Collects the proposals of all enabled categories.
+	 *
+	 * @param viewer the viewer that content assist is invoked on
+	 * @param offset the content assist offset
+	 * @param monitor a progress monitor, canceled when the computation becomes obsolete
+	 * @param context the context passed to the computers
+	 * @return the list of collected proposals
+	 */
+	protected List<ICompletionProposal> collectProposals(ITextViewer viewer, int offset, IProgressMonitor monitor,
 			ContentAssistInvocationContext context) {
 		List<ICompletionProposal> proposals = new ArrayList<>();
 		List<CompletionProposalCategory> providers = getCategories();
@@ -89,6 +89,7 @@ import org.eclipse.cdt.core.parser.util.CharArrayUtils;
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.dom.parser.ASTNode;
 import org.eclipse.cdt.internal.core.dom.parser.ASTQueries;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.core.dom.parser.IASTInactiveCompletionName;
 import org.eclipse.cdt.internal.core.dom.parser.c.CBuiltinParameter;
 import org.eclipse.cdt.internal.core.dom.parser.c.CBuiltinVariable;
@@ -109,6 +110,9 @@ import org.eclipse.cdt.internal.core.parser.util.ContentAssistMatcherFactory;
 import org.eclipse.cdt.internal.ui.viewsupport.CElementImageProvider;
 import org.eclipse.cdt.ui.CUIPlugin;
 import org.eclipse.cdt.ui.text.ICPartitions;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.text.BadLocationException;
@@ -142,13 +146,23 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 	@Override
 	protected List<ICompletionProposal> computeCompletionProposals(CContentAssistInvocationContext context,
 			IASTCompletionNode completionNode, String prefix) {
+		return computeCompletionProposals(context, completionNode, prefix, new NullProgressMonitor());
+	}
+
+	@Override
+	protected List<ICompletionProposal> computeCompletionProposals(CContentAssistInvocationContext context,
+			IASTCompletionNode completionNode, String prefix, IProgressMonitor monitor) {
 		fPrefix = prefix;
+		final ContentAssistIndexLookup.Mode indexLookupMode = context.getIndexLookupMode();
+		// When only the proposals contributed by the index scan are requested, everything else
+		// has already been proposed.
+		final boolean indexScanOnly = indexLookupMode == ContentAssistIndexLookup.Mode.COLLECT;
 		fGuessArguments = getPreferenceStore().getBoolean(ContentAssistPreference.GUESS_ARGUMENTS);
 		fAvailableElements = fGuessArguments ? getDefinedElements(context) : Collections.<IBinding>emptyList();
 		List<ICompletionProposal> proposals = new ArrayList<>();
 
 		if (inPreprocessorDirective(context)) {
-			if (!inPreprocessorKeyword(context)) {
+			if (!indexScanOnly && !inPreprocessorKeyword(context)) {
 				// Add only macros.
 				if (prefix.length() == 0) {
 					try {
@@ -182,22 +196,29 @@ public class DOMCompletionProposalComputer extends ParsingBasedProposalComputer
 				}
 
 				CPPSemantics.pushLookupPoint(name);
+				ContentAssistIndexLookup indexLookup = ContentAssistIndexLookup.begin(indexLookupMode,
+						context.getIndexLookupTier(), monitor);
 				try {
 					IBinding[] bindings = astContext.findBindings(name, !context.isContextInformationStyle());
 
 					if (bindings != null) {
 						AccessContext accessibilityContext = new AccessContext(name, true);
 						for (IBinding binding : bindings) {
+							if (monitor.isCanceled())
+								throw new OperationCanceledException();
+							if (indexScanOnly && !indexLookup.isFromIndexScan(binding))
+								continue;
 							if (accessibilityContext.isAccessible(binding))
 								handleBinding(binding, context, prefix, astContext, proposals);
 						}
 					}
 				} finally {
+					ContentAssistIndexLookup.end();
 					CPPSemantics.popLookupPoint();
 				}
 			}
 
-			if (handleMacros)
+			if (handleMacros && !indexScanOnly)
 				addMacroProposals(context, prefix, proposals);
 		}
 
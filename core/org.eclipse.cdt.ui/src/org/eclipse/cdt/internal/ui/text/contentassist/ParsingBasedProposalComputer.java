@@ -26,6 +26,7 @@ import org.eclipse.cdt.ui.text.contentassist.ContentAssistInvocationContext;
 import org.eclipse.cdt.ui.text.contentassist.ICompletionProposalComputer;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 
@@ -53,8 +54,10 @@ public abstract class ParsingBasedProposalComputer implements ICompletionProposa
 					prefix = cContext.computeIdentifierPrefix().toString();
 				}
 
-				return computeCompletionProposals(cContext, completionNode, prefix);
+				return computeCompletionProposals(cContext, completionNode, prefix, monitor);
 			}
+		} catch (OperationCanceledException e) {
+			throw e;
 		} catch (Exception e) {
 			fErrorMessage = e.toString();
 			CUIPlugin.log(e);
@@ -66,6 +69,17 @@ public abstract class ParsingBasedProposalComputer implements ICompletionProposa
 	protected abstract List<ICompletionProposal> computeCompletionProposals(CContentAssistInvocationContext context,
 			IASTCompletionNode completionNode, String prefix) throws CoreException;
 
+	/**
+	 * Computes the proposals for the given completion node. Subclasses performing lengthy computations
+	 * should override this method and stop as soon as the monitor is canceled.
+	 * <p>
+	 * The default implementation ignores the monitor.
+	 */
+	protected List<ICompletionProposal> computeCompletionProposals(CContentAssistInvocationContext context,
+			IASTCompletionNode completionNode, String prefix, IProgressMonitor monitor) throws CoreException {
+		return computeCompletionProposals(context, completionNode, prefix);
+	}
+
 	@Override
 	public List<IContextInformation> computeContextInformation(ContentAssistInvocationContext context,
 			IProgressMonitor monitor) {
@@ -24,6 +24,7 @@ import org.eclipse.swt.widgets.Display;
 
 /**
  * A registry that maps <code>ImageDescriptors</code> to <code>Image</code>.
+ * The registry may be accessed from any thread.
  */
 public class ImageDescriptorRegistry {
 
@@ -57,7 +58,7 @@ public class ImageDescriptorRegistry {
 	 * @return the image associated with the image descriptor or <code>null</code>
 	 *  if the image descriptor can't create the requested image.
 	 */
-	public Image get(ImageDescriptor descriptor) {
+	public synchronized Image get(ImageDescriptor descriptor) {
 		if (descriptor == null)
 			descriptor = ImageDescriptor.getMissingImageDescriptor();
 
@@ -75,7 +76,7 @@ public class ImageDescriptorRegistry {
 	/**
 	 * Disposes all images managed by this registry.
 	 */
-	public void dispose() {
+	public synchronized void dispose() {
 		for (Iterator<Image> iter = fRegistry.values().iterator(); iter.hasNext();) {
 			Image image = iter.next();
 			image.dispose();
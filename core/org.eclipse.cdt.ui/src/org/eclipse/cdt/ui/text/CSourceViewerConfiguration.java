@@ -29,6 +29,7 @@ import org.eclipse.cdt.core.model.ICProject;
 import org.eclipse.cdt.core.model.ILanguage;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.core.model.LanguageManager;
+import org.eclipse.cdt.internal.core.dom.parser.ContentAssistIndexLookup;
 import org.eclipse.cdt.internal.core.model.ProgressMonitorAndCanceler;
 import org.eclipse.cdt.internal.corext.util.CodeFormatterUtil;
 import org.eclipse.cdt.internal.ui.editor.CDocumentProvider;
@@ -54,6 +55,7 @@ import org.eclipse.cdt.internal.ui.text.c.hover.CInformationProvider;
 import org.eclipse.cdt.internal.ui.text.c.hover.CMacroExpansionExplorationControl;
 import org.eclipse.cdt.internal.ui.text.c.hover.CMacroExpansionInformationProvider;
 import org.eclipse.cdt.internal.ui.text.contentassist.CContentAssistProcessor;
+import org.eclipse.cdt.internal.ui.text.contentassist.CIndexContentAssistProcessor;
 import org.eclipse.cdt.internal.ui.text.contentassist.ContentAssistPreference;
 import org.eclipse.cdt.internal.ui.text.correction.CCorrectionAssistant;
 import org.eclipse.cdt.internal.ui.text.doctools.DocCommentOwnerManager;
@@ -420,16 +422,30 @@ public class CSourceViewerConfiguration extends TextSourceViewerConfiguration {
 			return null;
 		}
 
-		ContentAssistant assistant = new ContentAssistant();
+		boolean streamIndexProposals = fPreferenceStore != null
+				&& fPreferenceStore.getBoolean(ContentAssistPreference.STREAM_INDEX_PROPOSALS);
+		ContentAssistant assistant = new ContentAssistant(streamIndexProposals);
 		assistant.setDocumentPartitioning(getConfiguredDocumentPartitioning(sourceViewer));
 
 		assistant.setRestoreCompletionProposalSize(getSettings("completion_proposal_size")); //$NON-NLS-1$
 
-		IContentAssistProcessor processor = new CContentAssistProcessor(getEditor(), assistant,
+		CContentAssistProcessor cProcessor = new CContentAssistProcessor(getEditor(), assistant,
 				IDocument.DEFAULT_CONTENT_TYPE);
-		assistant.setContentAssistProcessor(processor, IDocument.DEFAULT_CONTENT_TYPE);
+		assistant.setContentAssistProcessor(cProcessor, IDocument.DEFAULT_CONTENT_TYPE);
+		if (streamIndexProposals) {
+			// The asynchronous assistant shows the proposals of the first processor without waiting for
+			// the index scans performed by the other ones, and those of each index tier as soon as its scan
+			// completes.
+			cProcessor.setDeferIndexProposals(true);
+			for (ContentAssistIndexLookup.Tier tier : ContentAssistIndexLookup.Tier.values()) {
+				assistant.addContentAssistProcessor(
+						new CIndexContentAssistProcessor(getEditor(), assistant, cProcessor, tier),
+						IDocument.DEFAULT_CONTENT_TYPE);
+			}
+		}
 
-		processor = new CContentAssistProcessor(getEditor(), assistant, ICPartitions.C_MULTI_LINE_COMMENT);
+		IContentAssistProcessor processor = new CContentAssistProcessor(getEditor(), assistant,
+				ICPartitions.C_MULTI_LINE_COMMENT);
 		assistant.setContentAssistProcessor(processor, ICPartitions.C_MULTI_LINE_COMMENT);
 
 		processor = new CContentAssistProcessor(getEditor(), assistant, ICPartitions.C_SINGLE_LINE_COMMENT);
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.executables;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.debug.internal.core.Trace;
+
+/**
+ * Keeps the source files found in the symbols of executables on disk, so that
+ * the symbols of an executable are not read again in a later session as long
+ * as the file has the same size and modification time.
+ * <p>
+ * There is a file per executable in the cache directory, named after a digest
+ * of the path of the executable.  Entries are replaced as a whole, so that
+ * several executables can be read at the same time.
+ * <p>
+ * The number of entries is bounded: when an entry is added beyond the bound,
+ * the entries used the least recently are deleted.  An entry is touched each
+ * time it is read, so its modification time is that of its last use.
+ */
+public class SourceFilesCache {
+
+	private static final int VERSION = 1;
+
+	private static final String TEMP_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+	// A temporary file older than this was left over by an interrupted write
+	private static final long STALE_TEMP_AGE = 60 * 60 * 1000;
+
+	/**
+	 * Default bound of the number of entries.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final File directory;
+
+	private final int maxEntries;
+
+	public SourceFilesCache(File directory) {
+		this(directory, DEFAULT_MAX_ENTRIES);
+	}
+
+	public SourceFilesCache(File directory, int maxEntries) {
+		this.directory = directory;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Returns the source files cached for the given executable, or null if
+	 * they are not cached or the executable has changed since.
+	 */
+	public String[] get(File executable) {
+		File entry = getEntryFile(executable);
+		if (entry == null || !entry.isFile()) {
+			return null;
+		}
+		String[] sourceFiles;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+			if (in.readInt() != VERSION || !in.readUTF().equals(executable.getAbsolutePath())
+					|| in.readLong() != executable.length() || in.readLong() != executable.lastModified()) {
+				return null;
+			}
+			sourceFiles = new String[in.readInt()];
+			for (int i = 0; i < sourceFiles.length; i++) {
+				sourceFiles[i] = in.readUTF();
+			}
+		} catch (IOException e) {
+			// A truncated or otherwise unreadable entry is read from the symbols again
+			if (Trace.DEBUG_EXECUTABLES)
+				Trace.getTrace().trace(null,
+						"Cannot read source files cache " + entry + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			entry.delete();
+			return null;
+		}
+		entry.setLastModified(System.currentTimeMillis());
+		return sourceFiles;
+	}
+
+	/**
+	 * Caches the source files found in the symbols of the given executable.
+	 */
+	public void put(File executable, String[] sourceFiles) {
+		File entry = getEntryFile(executable);
+		if (entry == null) {
+			return;
+		}
+		File temp = null;
+		try {
+			directory.mkdirs();
+			temp = File.createTempFile(entry.getName(), TEMP_SUFFIX, directory);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(executable.getAbsolutePath());
+				out.writeLong(executable.length());
+				out.writeLong(executable.lastModified());
+				out.writeInt(sourceFiles.length);
+				for (String sourceFile : sourceFiles) {
+					out.writeUTF(sourceFile);
+				}
+			}
+			Files.move(temp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			temp = null;
+			prune();
+		} catch (IOException e) {
+			if (Trace.DEBUG_EXECUTABLES)
+				Trace.getTrace().trace(null,
+						"Cannot write source files cache " + entry + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the entries used the least recently, so that there are no more
+	 * entries than the bound.  The temporary files of the entries being
+	 * written are left alone, unless they are old enough to have been left
+	 * over by an interrupted write.
+	 */
+	private void prune() {
+		File[] files = directory.listFiles(File::isFile);
+		if (files == null || files.length <= maxEntries) {
+			return;
+		}
+		List<File> entryList = new ArrayList<>(files.length);
+		long staleTime = System.currentTimeMillis() - STALE_TEMP_AGE;
+		for (File file : files) {
+			if (!file.getName().endsWith(TEMP_SUFFIX)) {
+				entryList.add(file);
+			} else if (file.lastModified() < staleTime) {
+				file.delete();
+			}
+		}
+		if (entryList.size() <= maxEntries) {
+			return;
+		}
+		File[] entries = entryList.toArray(new File[entryList.size()]);
+		long[] lastModified = new long[entries.length];
+		Integer[] order = new Integer[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			lastModified[i] = entries[i].lastModified();
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(lastModified[a], lastModified[b]));
+		for (int i = 0; i < entries.length - maxEntries; i++) {
+			entries[order[i]].delete();
+		}
+	}
+
+	private File getEntryFile(File executable) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			StringBuilder name = new StringBuilder();
+			for (byte b : digest.digest(executable.getAbsolutePath().getBytes(StandardCharsets.UTF_8))) {
+				name.append(String.format("%02x", b)); //$NON-NLS-1$
+			}
+			return new File(directory, name.toString());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+}
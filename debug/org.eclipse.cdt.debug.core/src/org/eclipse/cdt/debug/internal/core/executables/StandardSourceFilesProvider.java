@@ -21,6 +21,7 @@ import java.io.InputStream;
 import org.eclipse.cdt.core.IBinaryParser;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryFile;
 import org.eclipse.cdt.core.ISymbolReader;
+import org.eclipse.cdt.debug.core.CDebugCorePlugin;
 import org.eclipse.cdt.debug.core.executables.Executable;
 import org.eclipse.cdt.debug.core.executables.ISourceFilesProvider;
 import org.eclipse.cdt.internal.core.model.BinaryParserConfig;
@@ -34,6 +35,10 @@ import org.eclipse.core.runtime.PlatformObject;
 
 public class StandardSourceFilesProvider extends PlatformObject implements ISourceFilesProvider {
 
+	/** The source files read from the symbols of executables in earlier sessions */
+	private SourceFilesCache cache;
+	private boolean cacheCreated;
+
 	public IBinaryFile createBinaryFile(Executable executable) {
 		CModelManager factory = CModelManager.getDefault();
 
@@ -118,17 +123,45 @@ public class StandardSourceFilesProvider extends PlatformObject implements ISour
 	@Override
 	public String[] getSourceFiles(Executable executable, IProgressMonitor monitor) {
 
+		// Reading the symbols of a large executable takes a while, so the
+		// source files are read again only if the executable has changed
+		File file = executable.getPath().toFile();
+		SourceFilesCache sourceFilesCache = getCache();
+		if (sourceFilesCache != null) {
+			String[] sourceFiles = sourceFilesCache.get(file);
+			if (sourceFiles != null) {
+				return sourceFiles;
+			}
+		}
+
 		IBinaryFile bin = createBinaryFile(executable);
 		if (bin != null) {
 			try (ISymbolReader symbolreader = bin.getAdapter(ISymbolReader.class)) {
 				if (symbolreader != null) {
-					return symbolreader.getSourceFiles(monitor);
+					String[] sourceFiles = symbolreader.getSourceFiles(monitor);
+					if (sourceFilesCache != null && !monitor.isCanceled()) {
+						sourceFilesCache.put(file, sourceFiles);
+					}
+					return sourceFiles;
 				}
 			}
 		}
 		return new String[0];
 	}
 
+	private synchronized SourceFilesCache getCache() {
+		if (!cacheCreated) {
+			cacheCreated = true;
+			try {
+				cache = new SourceFilesCache(
+						CDebugCorePlugin.getDefault().getStateLocation().append("sourceFiles").toFile()); //$NON-NLS-1$
+			} catch (IllegalStateException e) {
+				// No instance location, the symbols are read every time
+			}
+		}
+		return cache;
+	}
+
 	@Override
 	public int getPriority(Executable executable) {
 		return ISourceFilesProvider.NORMAL_PRIORITY;
@@ -20,7 +20,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 
 // Add additional test case classes below
-@SuiteClasses({ PersistentSettingsManagerTest.class, VisualizerVirtualBoundsGraphicObjectTest.class, })
+@SuiteClasses({ PersistentSettingsManagerTest.class, VisualizerVirtualBoundsGraphicObjectTest.class,
+		MulticoreVisualizerModelUpdaterTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.gdb.multicorevisualizer.ui.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerCPU;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerCore;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerExecutionState;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerLoadInfo;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerModel;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerThread;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.view.MulticoreVisualizerModelUpdater;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MulticoreVisualizerModelUpdaterTest {
+
+	// ---- variables ----
+
+	private VisualizerModel m_model;
+	private VisualizerCore m_core0;
+	private VisualizerCore m_core1;
+	private MulticoreVisualizerModelUpdater m_updater;
+
+	// ---- setup ----
+
+	@Before
+	public void setUp() {
+		m_model = new VisualizerModel("session"); //$NON-NLS-1$
+		VisualizerCPU cpu = m_model.addCPU(new VisualizerCPU(0));
+		m_core0 = cpu.addCore(new VisualizerCore(cpu, 0));
+		m_core1 = cpu.addCore(new VisualizerCore(cpu, 1));
+		// no canvas: nothing to request updates from
+		m_updater = new MulticoreVisualizerModelUpdater(null);
+	}
+
+	private VisualizerThread addThread(int tid, VisualizerExecutionState state) {
+		VisualizerThread thread = new VisualizerThread(m_core0, 1, 1000 + tid, tid, state);
+		m_model.addThread(thread);
+		return thread;
+	}
+
+	// ---- tests ----
+
+	@Test
+	public void testNothingPending() {
+		assertFalse(m_updater.apply(m_model));
+	}
+
+	@Test
+	public void testChangesCoalesced() {
+		VisualizerThread thread = addThread(1, VisualizerExecutionState.SUSPENDED);
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.RUNNING, null, null);
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.SUSPENDED, m_core1, null);
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.CRASHED, null, null);
+
+		// changes are only applied on request
+		assertEquals(VisualizerExecutionState.SUSPENDED, thread.getState());
+		assertSame(m_core0, thread.getCore());
+
+		assertTrue(m_updater.apply(m_model));
+		assertEquals(VisualizerExecutionState.CRASHED, thread.getState());
+		// the thread moved, and did not move again since
+		assertSame(m_core1, thread.getCore());
+		assertFalse(m_updater.apply(m_model));
+	}
+
+	@Test
+	public void testStartedThenExited() {
+		addThread(1, VisualizerExecutionState.SUSPENDED);
+		m_updater.threadStarted(m_model,
+				new VisualizerThread(m_core1, 1, 1002, 2, VisualizerExecutionState.RUNNING));
+		m_updater.threadChanged(m_model, 2, VisualizerExecutionState.SUSPENDED, null, null);
+		m_updater.threadExited(m_model, 2);
+		m_updater.threadExited(m_model, 1);
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.RUNNING, null, null);
+
+		assertTrue(m_updater.apply(m_model));
+		assertTrue(m_model.getThreads().isEmpty());
+		assertNull(m_model.getThread(1));
+		assertNull(m_model.getThread(2));
+	}
+
+	@Test
+	public void testStartedTwice() {
+		VisualizerThread thread = addThread(1, VisualizerExecutionState.SUSPENDED);
+		m_updater.threadStarted(m_model,
+				new VisualizerThread(m_core1, 1, 1001, 1, VisualizerExecutionState.RUNNING));
+
+		assertTrue(m_updater.apply(m_model));
+		assertEquals(1, m_model.getThreads().size());
+		assertSame(thread, m_model.getThread(1));
+	}
+
+	@Test
+	public void testAllResumed() {
+		VisualizerThread thread1 = addThread(1, VisualizerExecutionState.SUSPENDED);
+		VisualizerThread thread2 = addThread(2, VisualizerExecutionState.SUSPENDED);
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.CRASHED, null, null);
+		m_updater.allThreadsResumed(m_model);
+		m_updater.threadChanged(m_model, 2, VisualizerExecutionState.SUSPENDED, m_core1, null);
+
+		assertTrue(m_updater.apply(m_model));
+		assertEquals(VisualizerExecutionState.RUNNING, thread1.getState());
+		assertEquals(VisualizerExecutionState.SUSPENDED, thread2.getState());
+		assertSame(m_core1, thread2.getCore());
+	}
+
+	@Test
+	public void testAllResumedKeepsCore() {
+		VisualizerThread thread = addThread(1, VisualizerExecutionState.SUSPENDED);
+		thread.setLocationInfo("main()"); //$NON-NLS-1$
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.SUSPENDED, m_core1, null);
+		m_updater.allThreadsResumed(m_model);
+
+		assertTrue(m_updater.apply(m_model));
+		assertEquals(VisualizerExecutionState.RUNNING, thread.getState());
+		assertNull(thread.getLocationInfo());
+		assertSame(m_core1, thread.getCore());
+	}
+
+	@Test
+	public void testOtherModel() {
+		VisualizerThread thread = addThread(1, VisualizerExecutionState.SUSPENDED);
+		VisualizerModel other = new VisualizerModel("session"); //$NON-NLS-1$
+		m_updater.threadChanged(m_model, 1, VisualizerExecutionState.RUNNING, null, null);
+
+		assertFalse(m_updater.apply(other));
+		// changes for a model are dropped once changes come for another one
+		m_updater.threadChanged(other, 1, VisualizerExecutionState.RUNNING, null, null);
+		assertFalse(m_updater.apply(m_model));
+		assertEquals(VisualizerExecutionState.SUSPENDED, thread.getState());
+	}
+
+	@Test
+	public void testCopyLoads() {
+		m_core0.setLoadInfo(new VisualizerLoadInfo(42));
+		m_core1.setLoadInfo(new VisualizerLoadInfo(7));
+		VisualizerModel model = new VisualizerModel("session"); //$NON-NLS-1$
+		VisualizerCPU cpu = model.addCPU(new VisualizerCPU(0));
+		VisualizerCore core0 = cpu.addCore(new VisualizerCore(cpu, 0));
+
+		model.copyLoads(m_model);
+		assertEquals(Integer.valueOf(42), core0.getLoad());
+	}
+}
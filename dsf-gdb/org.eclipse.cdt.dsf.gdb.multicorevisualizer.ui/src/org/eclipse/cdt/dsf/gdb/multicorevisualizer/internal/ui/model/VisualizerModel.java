@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class representing the state of the data to display in the MulticoreVisualizer.
@@ -38,6 +40,12 @@ public class VisualizerModel {
 	/** List of threads */
 	protected ArrayList<VisualizerThread> m_threads;
 
+	/**
+	 * Lookup table for threads, by GDB thread id. The DSF event handlers look up
+	 * threads while the canvas reads the thread list.
+	 */
+	protected Map<Integer, VisualizerThread> m_threadMap;
+
 	// Setting to remove exited threads, or keep them shown.
 	// If we are to support this, we should have a preference
 	// and a way to for the user to clean up old threads,
@@ -57,6 +65,7 @@ public class VisualizerModel {
 		m_cpus = new ArrayList<>();
 		m_cpuMap = new Hashtable<>();
 		m_threads = new ArrayList<>();
+		m_threadMap = new ConcurrentHashMap<>();
 	}
 
 	/** Dispose method */
@@ -76,6 +85,7 @@ public class VisualizerModel {
 			}
 			m_threads.clear();
 			m_threads = null;
+			m_threadMap.clear();
 		}
 		m_sessionId = null;
 	}
@@ -202,25 +212,21 @@ public class VisualizerModel {
 	 * we can uniquely find a thread based on its id.
 	 */
 	public VisualizerThread getThread(int threadId) {
-		VisualizerThread result = null;
-		for (VisualizerThread thread : m_threads) {
-			if (thread.getGDBTID() == threadId) {
-				result = thread;
-				break;
-			}
-		}
-		return result;
+		return m_threadMap.get(threadId);
 	}
 
 	/** Adds thread. */
 	public VisualizerThread addThread(VisualizerThread thread) {
 		m_threads.add(thread);
+		m_threadMap.put(thread.getGDBTID(), thread);
 		return thread;
 	}
 
 	/** Removes thread. */
 	public void removeThread(VisualizerThread thread) {
-		m_threads.remove(thread);
+		if (m_threads.remove(thread)) {
+			m_threadMap.remove(thread.getGDBTID(), thread);
+		}
 	}
 
 	/**
@@ -232,6 +238,7 @@ public class VisualizerModel {
 			VisualizerThread thread = itr.next();
 			if (thread.getGDBTID() == threadId) {
 				itr.remove();
+				m_threadMap.remove(threadId);
 				break;
 			}
 		}
@@ -243,10 +250,36 @@ public class VisualizerModel {
 	public void markThreadExited(int threadId) {
 		if (m_keepExitedThreads) {
 			VisualizerThread thread = getThread(threadId);
+			if (thread == null)
+				return;
 			thread.setState(VisualizerExecutionState.EXITED);
 			thread.setLocationInfo((String) null);
 		} else {
 			removeThread(threadId);
 		}
 	}
+
+	// --- load management ---
+
+	/**
+	 * Sets the loads of the CPUs and cores from the ones of the same ids in
+	 * the given model, so that a re-created model shows the loads sampled last
+	 * until they are sampled again.
+	 */
+	public void copyLoads(VisualizerModel model) {
+		if (model == null || model.m_cpus == null)
+			return;
+		for (VisualizerCPU cpu : m_cpus) {
+			VisualizerCPU other = model.getCPU(cpu.getID());
+			if (other == null)
+				continue;
+			cpu.setLoadInfo(new VisualizerLoadInfo(other.getLoad(), other.getHighLoadWatermark()));
+			for (VisualizerCore core : cpu.getCores()) {
+				VisualizerCore otherCore = other.getCore(core.getID());
+				if (otherCore != null) {
+					core.setLoadInfo(new VisualizerLoadInfo(otherCore.getLoad(), otherCore.getHighLoadWatermark()));
+				}
+			}
+		}
+	}
 }
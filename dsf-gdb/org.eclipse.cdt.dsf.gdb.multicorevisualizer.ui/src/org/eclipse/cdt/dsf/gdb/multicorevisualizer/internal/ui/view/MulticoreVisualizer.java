@@ -1097,8 +1097,9 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 		// clear CPU/core cache
 		m_cpuCoreContextsCache.clear();
 
+		VisualizerModel previousModel = fDataModel;
 		fDataModel = new VisualizerModel(m_sessionState.getSessionID());
-		getVisualizerModel(fDataModel);
+		getVisualizerModel(fDataModel, previousModel);
 	}
 
 	/** Sets canvas model. (Also updates canvas selection.) */
@@ -1152,6 +1153,15 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 	 * Starts visualizer model request.
 	 */
 	protected void getVisualizerModel(final VisualizerModel model) {
+		getVisualizerModel(model, null);
+	}
+
+	/**
+	 * Starts visualizer model request. The model is re-created on each stop in
+	 * all-stop mode, so it takes the loads of the previous model rather than
+	 * sampling them: loads are sampled on the load meter timer only.
+	 */
+	protected void getVisualizerModel(final VisualizerModel model, final VisualizerModel previousModel) {
 		m_sessionState.execute(new DsfRunnable() {
 			@Override
 			public void run() {
@@ -1160,7 +1170,14 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 					@Override
 					protected void handleCompleted() {
 						model.setLoadMetersEnabled(getLoadMetersEnabled());
-						updateLoads(model);
+						if (previousModel != null) {
+							model.copyLoads(previousModel);
+						} else {
+							updateLoads(model);
+						}
+						if (m_updateLoadMeterTimer != null) {
+							m_updateLoadMeterTimer.start();
+						}
 						model.sort();
 						setCanvasModel(model);
 					}
@@ -1424,16 +1441,19 @@ public class MulticoreVisualizer extends GraphicCanvasVisualizer implements IPin
 		}
 
 		// CPU context? Update the correct CPU in the model
+		// (the model may have been re-created since the load was requested)
 		if (context instanceof ICPUDMContext) {
 			ICPUDMContext cpuContext = (ICPUDMContext) context;
 			VisualizerCPU cpu = model.getCPU(Integer.parseInt(cpuContext.getId()));
-			cpu.setLoadInfo(new VisualizerLoadInfo(l));
+			if (cpu != null)
+				cpu.setLoadInfo(new VisualizerLoadInfo(l));
 		}
 		// Core context? Update the correct core in the model
 		else if (context instanceof ICoreDMContext) {
 			ICoreDMContext coreContext = (ICoreDMContext) context;
 			VisualizerCore core = model.getCore(Integer.parseInt(coreContext.getId()));
-			core.setLoadInfo(new VisualizerLoadInfo(l));
+			if (core != null)
+				core.setLoadInfo(new VisualizerLoadInfo(l));
 		}
 
 		rm.done();
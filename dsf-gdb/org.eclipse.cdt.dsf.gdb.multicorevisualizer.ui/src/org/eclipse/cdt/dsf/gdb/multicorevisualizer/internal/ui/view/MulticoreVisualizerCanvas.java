@@ -31,6 +31,7 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.MulticoreVisualizerUIPlugin;
 import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerCPU;
@@ -73,6 +74,12 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 	/** Update timer */
 	protected Timer m_updateTimer = null;
 
+	/** Whether an update has been requested since the update timer was last started */
+	protected AtomicBoolean m_updateRequested = new AtomicBoolean();
+
+	/** Model changes to apply on the next update */
+	protected MulticoreVisualizerModelUpdater m_modelUpdater = null;
+
 	/** Whether we need to recache graphic objects. */
 	protected boolean m_recache = true;
 
@@ -85,6 +92,12 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 	/** Whether the load information has changed and we need to update the load meters */
 	protected boolean m_recacheLoadMeters = true;
 
+	/** Whether the threads of the model have changed and we need to recache thread objects */
+	protected boolean m_recacheThreads = true;
+
+	/** Whether the cores have been resized and we need to lay out the threads of all cores */
+	protected boolean m_layoutAllThreads = true;
+
 	/** Whether we need to repaint the canvas */
 	protected boolean m_update = true;
 
@@ -218,10 +231,16 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 		// selection manager
 		m_selectionManager = new SelectionManager(this, "MulticoreVisualizerCanvas selection manager"); //$NON-NLS-1$
 
+		// model changes, applied on update timer ticks
+		m_modelUpdater = new MulticoreVisualizerModelUpdater(this);
+
 		// add update timer
 		m_updateTimer = new Timer(CANVAS_UPDATE_INTERVAL) {
 			@Override
 			public void run() {
+				if (m_modelUpdater != null && m_modelUpdater.apply(m_model)) {
+					requestRecacheThreads();
+				}
 				update();
 			}
 		};
@@ -241,6 +260,10 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 			m_updateTimer.dispose();
 			m_updateTimer = null;
 		}
+		if (m_modelUpdater != null) {
+			m_modelUpdater.dispose();
+			m_modelUpdater = null;
+		}
 		if (m_marquee != null) {
 			m_marquee.dispose();
 			m_marquee = null;
@@ -298,6 +321,11 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 		return m_model;
 	}
 
+	/** Gets the model changes to apply on the next update. */
+	public MulticoreVisualizerModelUpdater getModelUpdater() {
+		return m_modelUpdater;
+	}
+
 	/** Sets model to display, and requests canvas update. */
 	public void setModel(VisualizerModel model) {
 		m_model = model;
@@ -335,7 +363,11 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 	 * multiple update requests on same tick are batched.
 	 */
 	public void requestUpdate() {
+		// only post one request to the UI thread until the timer is started
+		if (m_updateRequested.getAndSet(true))
+			return;
 		GUIUtils.exec(() -> {
+			m_updateRequested.set(false);
 			if (m_updateTimer != null) {
 				m_updateTimer.start();
 			}
@@ -372,6 +404,17 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 		m_canvasFilterManager.updateCurrentFilter();
 	}
 
+	/**
+	 * Requests that the next paint call should recache thread objects,
+	 * after changes of the threads of the model.
+	 */
+	// synchronized so we don't change recache flags while doing a recache
+	public synchronized void requestRecacheThreads() {
+		m_recacheThreads = true;
+		// re-compute filter to reflect latest model changes
+		m_canvasFilterManager.updateCurrentFilter();
+	}
+
 	/**
 	 * Fits n square items into a rectangle of the specified size.
 	 *  Returns largest edge of one of the square items that allows
@@ -450,8 +493,10 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 				}
 			}
 
-			// we've recached state, which implies recacheing sizes and load meters
+			// we've recached state, which implies recacheing sizes and load meters,
+			// and threads since their objects refer to the core objects
 			m_recacheState = false;
+			m_recacheThreads = true;
 			m_recacheLoadMeters = true;
 			m_recacheSizes = true;
 		}
@@ -583,27 +628,26 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 			}
 
 			m_recacheSizes = false;
+			m_recacheThreads = true;
+			m_layoutAllThreads = true;
 		}
 		m_recache = false;
 	}
 
-	/** Invoked when canvas repaint event is raised.
-	 *  Default implementation clears canvas to background color.
+	/**
+	 * Recache thread objects, when the threads of the model or the cores have
+	 * changed. A thread keeps its graphic object while it stays on the same core,
+	 * and only the cores whose threads have changed are laid out again.
 	 */
-	@Override
-	public void paintCanvas(GC gc) {
-		// NOTE: We have a little setup to do first,
-		// so we delay clearing/redrawing the canvas until needed,
-		// to minimize any potential visual flickering.
-
-		// recache/resize tiles & shims if needed
-		recache();
-
-		// do any "per frame" updating/replacement of graphic objects
+	// synchronized so we don't change recache flags while doing a recache
+	public synchronized void recacheThreads() {
+		if (!m_recacheThreads)
+			return;
 
-		// recalculate process/thread graphic objects on the fly
-		// TODO: can we cache/pool these and just move them around?
+		Hashtable<VisualizerThread, MulticoreVisualizerThread> previousThreads = new Hashtable<>(m_threadMap);
+		Hashtable<MulticoreVisualizerCore, List<MulticoreVisualizerThread>> previousCoreThreads = new Hashtable<>();
 		for (MulticoreVisualizerCore core : m_cores) {
+			previousCoreThreads.put(core, new ArrayList<>(core.getThreads()));
 			core.removeAllThreads();
 		}
 		m_threads.clear();
@@ -623,7 +667,10 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 					VisualizerCore core = thread.getCore();
 					MulticoreVisualizerCore mcore = m_coreMap.get(core);
 					if (mcore != null) {
-						MulticoreVisualizerThread mthread = new MulticoreVisualizerThread(mcore, thread);
+						MulticoreVisualizerThread mthread = previousThreads.get(thread);
+						if (mthread == null || mthread.getCore() != mcore) {
+							mthread = new MulticoreVisualizerThread(mcore, thread);
+						}
 						mcore.addThread(mthread);
 						m_threads.add(mthread);
 						m_threadMap.put(thread, mthread);
@@ -631,38 +678,64 @@ public class MulticoreVisualizerCanvas extends GraphicCanvas implements ISelecti
 				}
 			}
 
-			// now set sizes of processes/threads for each tile
+			// now set sizes of processes/threads for the tiles whose threads have changed
 			for (MulticoreVisualizerCore core : m_cores) {
-				Rectangle bounds = core.getBounds();
-
-				// how we lay out threads depends on how many there are
-				List<MulticoreVisualizerThread> threads = core.getThreads();
-				int threadspotsize = MulticoreVisualizerThread.THREAD_SPOT_SIZE;
-				int threadheight = threadspotsize + THREAD_SPACING;
-				int count = threads.size();
-				int tileheight = bounds.height - 4;
-				int tx = bounds.x + 2;
-				int ty = bounds.y + 2;
-				int dty = (count < 1) ? 0 : tileheight / count;
-				if (dty > threadheight)
-					dty = threadheight;
-				if (count > 0 && dty * count <= tileheight) {
-					ty = bounds.y + 2 + (tileheight - (dty * count)) / 2;
-					if (ty < bounds.y + 2)
-						ty = bounds.y + 2;
-				} else if (count > 0) {
-					dty = tileheight / count;
-					if (dty > threadheight)
-						dty = threadheight;
-				}
-				int t = 0;
-				for (MulticoreVisualizerThread threadobj : threads) {
-					int y = ty + dty * (t++);
-					threadobj.setBounds(tx, y, threadspotsize, threadspotsize);
+				if (m_layoutAllThreads || !core.getThreads().equals(previousCoreThreads.get(core))) {
+					layoutThreads(core);
 				}
 			}
 		}
 
+		m_recacheThreads = false;
+		m_layoutAllThreads = false;
+	}
+
+	/** Sets sizes of the threads of a tile. */
+	protected void layoutThreads(MulticoreVisualizerCore core) {
+		Rectangle bounds = core.getBounds();
+
+		// how we lay out threads depends on how many there are
+		List<MulticoreVisualizerThread> threads = core.getThreads();
+		int threadspotsize = MulticoreVisualizerThread.THREAD_SPOT_SIZE;
+		int threadheight = threadspotsize + THREAD_SPACING;
+		int count = threads.size();
+		int tileheight = bounds.height - 4;
+		int tx = bounds.x + 2;
+		int ty = bounds.y + 2;
+		int dty = (count < 1) ? 0 : tileheight / count;
+		if (dty > threadheight)
+			dty = threadheight;
+		if (count > 0 && dty * count <= tileheight) {
+			ty = bounds.y + 2 + (tileheight - (dty * count)) / 2;
+			if (ty < bounds.y + 2)
+				ty = bounds.y + 2;
+		} else if (count > 0) {
+			dty = tileheight / count;
+			if (dty > threadheight)
+				dty = threadheight;
+		}
+		int t = 0;
+		for (MulticoreVisualizerThread threadobj : threads) {
+			int y = ty + dty * (t++);
+			threadobj.setBounds(tx, y, threadspotsize, threadspotsize);
+		}
+	}
+
+	/** Invoked when canvas repaint event is raised.
+	 *  Default implementation clears canvas to background color.
+	 */
+	@Override
+	public void paintCanvas(GC gc) {
+		// NOTE: We have a little setup to do first,
+		// so we delay clearing/redrawing the canvas until needed,
+		// to minimize any potential visual flickering.
+
+		// recache/resize tiles & shims if needed
+		recache();
+
+		// recalculate process/thread graphic objects, if the threads have changed
+		recacheThreads();
+
 		// restore canvas object highlighting from model object selection
 		restoreSelection();
 
@@ -22,8 +22,6 @@
 
 package org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.view;
 
-import java.util.List;
-
 import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.datamodel.DataModelInitializedEvent;
@@ -60,6 +58,8 @@ import org.eclipse.cdt.dsf.service.DsfServicesTracker;
  * DSF event listener class for the Multicore Visualizer.
  * This class will handle different relevant DSF events
  * and update the Multicore Visualizer accordingly.
+ * Thread changes are handed to the {@link MulticoreVisualizerModelUpdater}
+ * of the canvas, which applies them on the next canvas update.
  */
 public class MulticoreVisualizerEventListener {
 
@@ -140,7 +140,6 @@ public class MulticoreVisualizerEventListener {
 
 							if (threadTmp != null) {
 								final VisualizerThread thread = threadTmp;
-								assert thread.getState() == VisualizerExecutionState.RUNNING;
 
 								VisualizerExecutionState _newState = VisualizerExecutionState.SUSPENDED;
 
@@ -174,17 +173,17 @@ public class MulticoreVisualizerEventListener {
 																		if (isSuccess()) {
 																			frameData = getData();
 																		}
-																		updateThread(thread, newState, vCore,
-																				frameData);
+																		updateThread(model, thread, newState,
+																				vCore, frameData);
 																	}
 																});
 													} else {
-														updateThread(thread, newState, vCore, null);
+														updateThread(model, thread, newState, vCore, null);
 													}
 												}
 											});
 								} else {
-									updateThread(thread, newState, vCore, null);
+									updateThread(model, thread, newState, vCore, null);
 								}
 
 							}
@@ -195,12 +194,12 @@ public class MulticoreVisualizerEventListener {
 		}
 	}
 
-	private void updateThread(VisualizerThread thread, VisualizerExecutionState newState, VisualizerCore vCore,
-			IFrameDMData frameData) {
-		thread.setState(newState);
-		thread.setCore(vCore);
-		thread.setLocationInfo(frameData);
-		fVisualizer.refresh();
+	private void updateThread(VisualizerModel model, VisualizerThread thread, VisualizerExecutionState newState,
+			VisualizerCore vCore, IFrameDMData frameData) {
+		MulticoreVisualizerModelUpdater updater = getModelUpdater();
+		if (updater != null) {
+			updater.threadChanged(model, thread.getGDBTID(), newState, vCore, frameData);
+		}
 	}
 
 	/** Invoked when a thread or process is resumed. */
@@ -214,14 +213,14 @@ public class MulticoreVisualizerEventListener {
 
 		IDMContext context = event.getDMContext();
 
+		MulticoreVisualizerModelUpdater updater = getModelUpdater();
+		if (updater == null) {
+			return;
+		}
+
 		// in all-stop mode... : update all threads states to "running"
 		if (context != null && isSessionAllStop(context.getSessionId())) {
-			List<VisualizerThread> tList = model.getThreads();
-			for (VisualizerThread t : tList) {
-				t.setState(VisualizerExecutionState.RUNNING);
-				t.setLocationInfo((String) null);
-			}
-			fVisualizer.getMulticoreVisualizerCanvas().requestUpdate();
+			updater.allThreadsResumed(model);
 			return;
 		}
 
@@ -243,12 +242,7 @@ public class MulticoreVisualizerEventListener {
 			}
 
 			if (thread != null) {
-				assert thread.getState() == VisualizerExecutionState.SUSPENDED
-						|| thread.getState() == VisualizerExecutionState.CRASHED;
-
-				thread.setState(VisualizerExecutionState.RUNNING);
-				thread.setLocationInfo((String) null);
-				fVisualizer.getMulticoreVisualizerCanvas().requestUpdate();
+				updater.threadChanged(model, tid, VisualizerExecutionState.RUNNING, null, null);
 			}
 		}
 	}
@@ -297,9 +291,10 @@ public class MulticoreVisualizerEventListener {
 			// add thread if not already there - there is a potential race condition where a
 			// thread can be added twice to the model: once at model creation and once more
 			// through the listener.   Checking at both places to prevent this.
-			if (model.getThread(tid) == null) {
-				model.addThread(new VisualizerThread(vCore, pid, osTid, tid, VisualizerExecutionState.RUNNING));
-				fVisualizer.getMulticoreVisualizerCanvas().requestUpdate();
+			MulticoreVisualizerModelUpdater updater = getModelUpdater();
+			if (updater != null && model.getThread(tid) == null) {
+				updater.threadStarted(model,
+						new VisualizerThread(vCore, pid, osTid, tid, VisualizerExecutionState.RUNNING));
 			}
 			return;
 		}
@@ -361,10 +356,10 @@ public class MulticoreVisualizerEventListener {
 							// add thread if not already there - there is a potential race condition where a
 							// thread can be added twice to the model: once at model creation and once more
 							// through the listener.   Checking at both places to prevent this.
-							if (model.getThread(tid) == null) {
-								model.addThread(
+							MulticoreVisualizerModelUpdater updater = getModelUpdater();
+							if (updater != null && model.getThread(tid) == null) {
+								updater.threadStarted(model,
 										new VisualizerThread(vCore, pid, osTid, tid, VisualizerExecutionState.RUNNING));
-								fVisualizer.getMulticoreVisualizerCanvas().requestUpdate();
 							}
 						}
 					}
@@ -383,7 +378,10 @@ public class MulticoreVisualizerEventListener {
 		}
 
 		IDMContext context = event.getDMContext();
-		final MulticoreVisualizerCanvas canvas = fVisualizer.getMulticoreVisualizerCanvas();
+		final MulticoreVisualizerModelUpdater updater = getModelUpdater();
+		if (updater == null) {
+			return;
+		}
 
 		if (context instanceof IContainerDMContext) {
 			// process exited
@@ -416,13 +414,9 @@ public class MulticoreVisualizerEventListener {
 								continue;
 							}
 
-							model.markThreadExited(tid);
+							updater.threadExited(model, tid);
 						}
 					}
-
-					if (canvas != null) {
-						canvas.requestUpdate();
-					}
 				}
 
 				@Override
@@ -438,14 +432,10 @@ public class MulticoreVisualizerEventListener {
 			String strThreadId = ((IMIExecutionDMContext) context).getThreadId();
 			try {
 				tid = Integer.parseInt(strThreadId);
-				model.markThreadExited(tid);
+				updater.threadExited(model, tid);
 			} catch (NumberFormatException e) {
 				assert false : THE_THREAD_ID_DOES_NOT_CONVERT_TO_AN_INTEGER + strThreadId;
 			}
-
-			if (canvas != null) {
-				canvas.requestUpdate();
-			}
 		}
 	}
 
@@ -458,6 +448,15 @@ public class MulticoreVisualizerEventListener {
 
 	// helper functions
 
+	/**
+	 * Gets the thread changes to apply to the model on the next canvas update,
+	 * or null if there is no canvas
+	 */
+	private MulticoreVisualizerModelUpdater getModelUpdater() {
+		MulticoreVisualizerCanvas canvas = fVisualizer.getMulticoreVisualizerCanvas();
+		return canvas != null ? canvas.getModelUpdater() : null;
+	}
+
 	/** Returns whether the session is the "all-stop" kind */
 	private boolean isSessionAllStop(String sessionId) {
 		DsfServicesTracker servicesTracker = new DsfServicesTracker(MulticoreVisualizerUIPlugin.getBundleContext(),
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.view;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMData;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerCore;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerExecutionState;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerModel;
+import org.eclipse.cdt.dsf.gdb.multicorevisualizer.internal.ui.model.VisualizerThread;
+
+//----------------------------------------------------------------------------
+// MulticoreVisualizerModelUpdater
+//----------------------------------------------------------------------------
+
+/**
+ * Collects the thread changes reported by the DSF events for a
+ * {@link VisualizerModel}, and applies them to the model on the UI thread,
+ * once per canvas update.
+ * <p>
+ * Changes of the same thread are coalesced as they come in, so that a burst of
+ * events costs one change per thread, and the canvas is asked for a single
+ * update however many events are pending.
+ */
+public class MulticoreVisualizerModelUpdater {
+	// --- members ---
+
+	/** Canvas to update when changes are pending */
+	protected MulticoreVisualizerCanvas m_canvas;
+
+	/** Model the pending changes apply to */
+	protected VisualizerModel m_model = null;
+
+	/** Pending changes, by GDB thread id */
+	protected Map<Integer, ThreadUpdate> m_pending = new LinkedHashMap<>();
+
+	/** Whether all threads have resumed, before the pending changes */
+	protected boolean m_allResumed = false;
+
+	/** Pending change of a thread. */
+	protected static class ThreadUpdate {
+		/** Thread to add to the model, if it is not there yet */
+		VisualizerThread m_added = null;
+		/** Whether the thread has exited */
+		boolean m_exited = false;
+		/** Whether the state, core and location below are to be set */
+		boolean m_changed = false;
+		VisualizerExecutionState m_state = null;
+		/** New core of the thread, or null if unchanged */
+		VisualizerCore m_core = null;
+		IFrameDMData m_frame = null;
+
+		void apply(VisualizerThread thread) {
+			thread.setState(m_state);
+			if (m_core != null)
+				thread.setCore(m_core);
+			thread.setLocationInfo(m_frame);
+		}
+	}
+
+	// --- constructors/destructors ---
+
+	/** Constructor */
+	public MulticoreVisualizerModelUpdater(MulticoreVisualizerCanvas canvas) {
+		m_canvas = canvas;
+	}
+
+	/** Dispose method */
+	public synchronized void dispose() {
+		m_pending.clear();
+		m_model = null;
+		m_canvas = null;
+	}
+
+	// --- change methods, called from any thread ---
+
+	/** Adds the given thread to the model, unless a thread of the same GDB thread id is there. */
+	public synchronized void threadStarted(VisualizerModel model, VisualizerThread thread) {
+		ThreadUpdate update = pending(model, thread.getGDBTID());
+		update.m_added = thread;
+		update.m_exited = false;
+	}
+
+	/** Sets the state, core and location of the thread of the given GDB thread id. */
+	public synchronized void threadChanged(VisualizerModel model, int threadId, VisualizerExecutionState state,
+			VisualizerCore core, IFrameDMData frame) {
+		ThreadUpdate update = pending(model, threadId);
+		if (update.m_exited)
+			return;
+		update.m_state = state;
+		// a pending move to another core is kept until the thread moves again
+		if (core != null)
+			update.m_core = core;
+		update.m_frame = frame;
+		update.m_changed = true;
+	}
+
+	/** Marks the thread of the given GDB thread id as exited. */
+	public synchronized void threadExited(VisualizerModel model, int threadId) {
+		ThreadUpdate update = pending(model, threadId);
+		update.m_added = null;
+		update.m_changed = false;
+		update.m_exited = true;
+	}
+
+	/** Sets all the threads of the model running. */
+	public synchronized void allThreadsResumed(VisualizerModel model) {
+		pending(model);
+		m_allResumed = true;
+		// the states and locations pending so far are overridden, the cores are kept
+		for (ThreadUpdate update : m_pending.values()) {
+			update.m_state = VisualizerExecutionState.RUNNING;
+			update.m_frame = null;
+			update.m_changed = update.m_core != null;
+			if (update.m_added != null) {
+				update.m_added.setState(VisualizerExecutionState.RUNNING);
+				update.m_added.setLocationInfo((String) null);
+			}
+		}
+	}
+
+	/** Gets the pending change of the given thread. */
+	protected ThreadUpdate pending(VisualizerModel model, int threadId) {
+		pending(model);
+		return m_pending.computeIfAbsent(threadId, id -> new ThreadUpdate());
+	}
+
+	/**
+	 * Drops the changes pending for another model than the given one, and
+	 * requests a canvas update if there was no change pending yet.
+	 */
+	protected void pending(VisualizerModel model) {
+		if (model != m_model) {
+			m_pending.clear();
+			m_allResumed = false;
+			m_model = model;
+		}
+		if (m_pending.isEmpty() && !m_allResumed && m_canvas != null) {
+			m_canvas.requestUpdate();
+		}
+	}
+
+	// --- apply methods, called on the UI thread ---
+
+	/**
+	 * Applies the pending changes to the given model, if they are meant for it.
+	 * Returns whether the model has changed.
+	 */
+	public synchronized boolean apply(VisualizerModel model) {
+		if (model == null || model != m_model || (m_pending.isEmpty() && !m_allResumed))
+			return false;
+
+		if (m_allResumed) {
+			for (VisualizerThread thread : model.getThreads()) {
+				thread.setState(VisualizerExecutionState.RUNNING);
+				thread.setLocationInfo((String) null);
+			}
+			m_allResumed = false;
+		}
+		for (Map.Entry<Integer, ThreadUpdate> entry : m_pending.entrySet()) {
+			ThreadUpdate update = entry.getValue();
+			int threadId = entry.getKey();
+			if (update.m_exited) {
+				model.markThreadExited(threadId);
+				continue;
+			}
+			// there is a potential race condition where a thread can be added twice
+			// to the model: once at model creation and once more through the listener.
+			if (update.m_added != null && model.getThread(threadId) == null) {
+				model.addThread(update.m_added);
+			}
+			if (update.m_changed) {
+				VisualizerThread thread = model.getThread(threadId);
+				if (thread != null) {
+					update.apply(thread);
+				}
+			}
+		}
+		m_pending.clear();
+		return true;
+	}
+}
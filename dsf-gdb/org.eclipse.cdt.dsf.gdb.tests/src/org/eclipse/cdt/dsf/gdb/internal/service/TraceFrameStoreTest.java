@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.internal.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.cdt.dsf.gdb.internal.service.TraceFrameStore.MemoryBlock;
+import org.eclipse.cdt.dsf.gdb.internal.service.TraceFrameStore.TraceFrame;
+import org.junit.Test;
+
+public class TraceFrameStoreTest {
+	private static final int FRAMES = 100000;
+	private static final int REGISTERS = 16;
+
+	// The header written by tsave for two tracepoints and a trace state variable named "hits"
+	private static final String HEADER = "\u007fTRACE0\n" + "R " + Integer.toHexString(REGISTERS) + "\n"
+			+ "status 0;tstop:0;tframes:" + Integer.toHexString(FRAMES) + "\n" + "tsv 1:0:0:68697473\n"
+			+ "tp T1:0000000000400536:E:0:0\n" + "tp A1:0000000000400536:M601040,4\n"
+			+ "tp T2:0000000000400600:E:0:0\n" + "\n";
+
+	/**
+	 * Writes a trace file of frames alternating between the two tracepoints.
+	 * The frames of the first collect the registers and 4 bytes of memory, the
+	 * frames of the second collect the trace state variable.
+	 */
+	private static ByteBuffer createTraceFile(ByteOrder order) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] header = HEADER.getBytes(StandardCharsets.ISO_8859_1);
+		out.write(header, 0, header.length);
+		for (int i = 0; i < FRAMES; i++) {
+			ByteBuffer frame = ByteBuffer.allocate(64).order(order);
+			if (i % 2 == 0) {
+				frame.putShort((short) 1).putInt(1 + REGISTERS + 1 + 8 + 2 + 4);
+				frame.put((byte) 'R').put(new byte[REGISTERS]);
+				frame.put((byte) 'M').putLong(0x601040).putShort((short) 4).putInt(i);
+			} else {
+				frame.putShort((short) 2).putInt(1 + 4 + 8);
+				frame.put((byte) 'V').putInt(1).putLong(i);
+			}
+			out.write(frame.array(), 0, frame.position());
+		}
+		// The end of the frames
+		out.write(0);
+		out.write(0);
+		return ByteBuffer.wrap(out.toByteArray());
+	}
+
+	@Test
+	public void testIndex() throws IOException {
+		TraceFrameStore store = TraceFrameStore.load(createTraceFile(ByteOrder.LITTLE_ENDIAN));
+		assertEquals(FRAMES, store.getFrameCount());
+		assertEquals(1, store.getTracepoint(0));
+		assertEquals(2, store.getTracepoint(FRAMES - 1));
+		assertEquals("hits", store.getTraceVariableName(1));
+	}
+
+	@Test
+	public void testFrames() throws IOException {
+		TraceFrameStore store = TraceFrameStore.load(createTraceFile(ByteOrder.LITTLE_ENDIAN));
+		TraceFrame frame = store.getFrame(4);
+		assertEquals(BigInteger.valueOf(0x400536), frame.getPC());
+		assertEquals(REGISTERS, frame.getRegisters().length);
+		assertEquals(1, frame.getMemory().size());
+		MemoryBlock block = frame.getMemory().get(0);
+		assertEquals(BigInteger.valueOf(0x601040), block.getAddress());
+		assertArrayEquals(new byte[] { 4, 0, 0, 0 }, block.getContents());
+
+		frame = store.getFrame(5);
+		assertEquals(BigInteger.valueOf(0x400600), frame.getPC());
+		assertNull(frame.getRegisters());
+		assertEquals(Long.valueOf(5), frame.getTraceVariables().get(1));
+	}
+
+	@Test
+	public void testBigEndian() throws IOException {
+		TraceFrameStore store = TraceFrameStore.load(createTraceFile(ByteOrder.BIG_ENDIAN));
+		assertEquals(FRAMES, store.getFrameCount());
+		assertArrayEquals(new byte[] { 0, 0, 0, 4 }, store.getFrame(4).getMemory().get(0).getContents());
+	}
+
+	@Test
+	public void testFindFrames() throws IOException {
+		TraceFrameStore store = TraceFrameStore.load(createTraceFile(ByteOrder.LITTLE_ENDIAN));
+		assertEquals(FRAMES / 2, store.findFrames(2, null).length);
+		assertEquals(FRAMES / 2, store.findFrames(null, BigInteger.valueOf(0x400536)).length);
+		// The collected memory is found by any of its addresses
+		int[] frames = store.findFrames(null, BigInteger.valueOf(0x601043));
+		assertEquals(FRAMES / 2, frames.length);
+		assertEquals(2, frames[1]);
+		assertEquals(0, store.findFrames(2, BigInteger.valueOf(0x601040)).length);
+	}
+
+	@Test(expected = IOException.class)
+	public void testNotATraceFile() throws IOException {
+		TraceFrameStore.load(ByteBuffer.wrap("(gdb)\n".getBytes(StandardCharsets.US_ASCII)));
+	}
+}
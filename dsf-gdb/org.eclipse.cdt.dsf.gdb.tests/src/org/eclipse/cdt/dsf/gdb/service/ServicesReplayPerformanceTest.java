@@ -0,0 +1,692 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.datamodel.IDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IExpressions;
+import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IExpressions.IIndexedPartitionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.FormattedValueDMData;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues.IFormattedDataDMContext;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
+import org.eclipse.cdt.dsf.debug.service.IModules;
+import org.eclipse.cdt.dsf.debug.service.IModules.IModuleDMContext;
+import org.eclipse.cdt.dsf.debug.service.IModules.IModuleDMData;
+import org.eclipse.cdt.dsf.debug.service.IModules.ISymbolDMContext;
+import org.eclipse.cdt.dsf.debug.service.IProcesses.IThreadDMContext;
+import org.eclipse.cdt.dsf.debug.service.IProcesses.IThreadDMData;
+import org.eclipse.cdt.dsf.debug.service.IRegisters.IRegisterDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IStartedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StepType;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMData;
+import org.eclipse.cdt.dsf.debug.service.IStack.IVariableDMContext;
+import org.eclipse.cdt.dsf.debug.service.IStack.IVariableDMData;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.service.replay.MITranscript;
+import org.eclipse.cdt.dsf.gdb.service.replay.ReplayGDBBackend;
+import org.eclipse.cdt.dsf.gdb.service.replay.ReplayServicesFactory;
+import org.eclipse.cdt.dsf.mi.service.IMIContainerDMContext;
+import org.eclipse.cdt.dsf.mi.service.IMIExecutionDMContext;
+import org.eclipse.cdt.dsf.mi.service.IMIProcesses;
+import org.eclipse.cdt.dsf.mi.service.MIMemory;
+import org.eclipse.cdt.dsf.mi.service.MIRegisters;
+import org.eclipse.cdt.dsf.mi.service.MIStack;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Counts the MI commands the services send for common user actions, against a
+ * {@link ReplayGDBBackend} that answers like GDB 7.12 in non-stop mode. The
+ * budgets are the number of commands the services send today; a test failing
+ * means that an action became more expensive.
+ * <p>
+ * A scenario runs its action through {@link #measure}, gets the data of the
+ * contexts the way the views do with {@link #getAll}, and checks the commands
+ * sent with {@link #checkCommands}.
+ */
+public class ServicesReplayPerformanceTest extends CommonDsfTest {
+	private static final int TIMEOUT = 30;
+	private static final long LATENCY = 1;
+	private static final String GROUP_ID = "i1";
+	private static final int THREADS = 500;
+	private static final int FRAMES = 2000;
+	private static final int LOCALS = 200;
+	private static final int REGISTERS = 64;
+	private static final int CHANGED_REGISTERS = 2;
+	private static final int MEMORY_LINE = 64;
+	private static final int MEMORY_LINES = 64;
+	private static final int ARRAY_LENGTH = 1000000;
+	private static final int WATCHES = 50;
+	private static final int MODULES = 2000;
+
+	private ReplayServicesFactory fFactory;
+	private ReplayGDBBackend fBackend;
+	private DsfServicesTracker fTracker;
+	private IMIProcesses fProcesses;
+	private IRunControl fRunControl;
+	private MIStack fStack;
+	private MIRegisters fRegisters;
+	private MIMemory fMemory;
+	private IExpressions fExpressions;
+	private IModules fModules;
+	private ICommandControlService fCommandControl;
+	private IMIExecutionDMContext fThread;
+	private final BlockingQueue<ISuspendedDMEvent> fSuspendedEvents = new LinkedBlockingQueue<>();
+	private final BlockingQueue<IDMEvent<?>> fThreadEvents = new LinkedBlockingQueue<>();
+
+	@Before
+	public void startServices() throws Exception {
+		MITranscript transcript;
+		try (InputStream in = MITranscript.class.getResourceAsStream("gdb-7.12-non-stop.mi")) {
+			transcript = MITranscript.load(in);
+		}
+		addGeneratedAnswers(transcript);
+		fFactory = new ReplayServicesFactory(GdbDebugServicesFactory.GDB_7_12_VERSION, true, transcript);
+		query(rm -> fFactory.startServices(fSession, rm));
+		fBackend = fFactory.getBackend();
+		fBackend.setLatency(LATENCY, TimeUnit.MILLISECONDS);
+
+		query(rm -> {
+			fTracker = new DsfServicesTracker(GdbPlugin.getBundleContext(), fSession.getId());
+			fProcesses = fTracker.getService(IMIProcesses.class);
+			fRunControl = fTracker.getService(IRunControl.class);
+			fStack = fTracker.getService(MIStack.class);
+			fRegisters = fTracker.getService(MIRegisters.class);
+			fMemory = fTracker.getService(MIMemory.class);
+			fExpressions = fTracker.getService(IExpressions.class);
+			fModules = fTracker.getService(IModules.class);
+			fCommandControl = fTracker.getService(ICommandControlService.class);
+			fSession.addServiceEventListener(ServicesReplayPerformanceTest.this, null);
+			rm.done();
+		});
+
+		// The process has started, its threads were created and the first one
+		// stopped at a breakpoint
+		List<String> records = new ArrayList<>();
+		records.add("=thread-group-started,id=\"" + GROUP_ID + "\",pid=\"4242\"");
+		for (int i = 1; i <= THREADS; i++) {
+			records.add("=thread-created,id=\"" + i + "\",group-id=\"" + GROUP_ID + "\"");
+		}
+		records.add("*stopped,reason=\"breakpoint-hit\",disp=\"keep\",bkptno=\"1\",frame={addr=\"0x0000000000400536\","
+				+ "func=\"main\",args=[],file=\"main.c\",fullname=\"/tmp/main.c\",line=\"5\"},thread-id=\"1\","
+				+ "stopped-threads=[\"1\"],core=\"0\"");
+		fBackend.emit(records.toArray(new String[0]));
+		fThread = waitForSuspended();
+		query(rm -> ((IGDBMemory) fMemory)
+				.initializeMemoryData(DMContexts.getAncestorOfType(fThread, IMemoryDMContext.class), rm));
+
+		// The views show the stack and the locals of the thread
+		getFrames();
+		IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+		this.<IVariableDMContext[]> query(rm -> fStack.getLocals(frame, rm));
+	}
+
+	@After
+	public void stopServices() throws Exception {
+		query(rm -> {
+			fSession.removeServiceEventListener(ServicesReplayPerformanceTest.this);
+			fTracker.dispose();
+			fFactory.stopServices(fSession, rm);
+		});
+		tearDown();
+	}
+
+	@DsfServiceEventHandler
+	public void eventDispatched(ISuspendedDMEvent e) {
+		fSuspendedEvents.add(e);
+	}
+
+	@DsfServiceEventHandler
+	public void eventDispatched(IStartedDMEvent e) {
+		fThreadEvents.add(e);
+	}
+
+	@DsfServiceEventHandler
+	public void eventDispatched(IExitedDMEvent e) {
+		fThreadEvents.add(e);
+	}
+
+	/**
+	 * Adds the answers that depend on the size of the program.
+	 */
+	private static void addGeneratedAnswers(MITranscript transcript) {
+		transcript.add("-stack-info-depth", "^done,depth=\"" + FRAMES + "\"");
+
+		// The frames asked for, or all of them
+		transcript.add("-stack-list-frames", command -> {
+			String[] args = command.split(" ");
+			int low = 0;
+			int high = FRAMES - 1;
+			if (args[args.length - 1].matches("\\d+") && args[args.length - 2].matches("\\d+")) {
+				low = Integer.parseInt(args[args.length - 2]);
+				high = Math.min(high, Integer.parseInt(args[args.length - 1]));
+			}
+			StringBuilder stack = new StringBuilder("^done,stack=[");
+			for (int i = low; i <= high; i++) {
+				if (i > low) {
+					stack.append(',');
+				}
+				stack.append("frame={level=\"").append(i).append("\",addr=\"0x")
+						.append(Integer.toHexString(0x400536 + i)).append("\",func=\"f").append(i)
+						.append("\",file=\"main.c\",fullname=\"/tmp/main.c\",line=\"").append(i + 5).append("\"}");
+			}
+			return List.of(stack.append(']').toString());
+		});
+
+		StringBuilder locals = new StringBuilder("^done,locals=[");
+		for (int i = 0; i < LOCALS; i++) {
+			if (i > 0) {
+				locals.append(',');
+			}
+			locals.append("{name=\"v").append(i).append("\",value=\"").append(i).append("\"}");
+		}
+		transcript.add("-stack-list-locals", locals.append(']').toString());
+
+		StringBuilder threads = new StringBuilder("^done,threads=[");
+		for (int i = 1; i <= THREADS; i++) {
+			if (i > 1) {
+				threads.append(',');
+			}
+			threads.append("{id=\"").append(i).append("\",target-id=\"Thread 0x").append(Integer.toHexString(i))
+					.append(" (LWP ").append(4242 + i).append(")\",name=\"worker\",frame={level=\"0\",addr=")
+					.append("\"0x0000000000400536\",func=\"main\",args=[]},state=\"")
+					.append(i == 1 ? "stopped" : "running").append("\",core=\"0\"}");
+		}
+		transcript.add("-list-thread-groups " + GROUP_ID, threads.append(']').toString());
+		transcript.add("-thread-info", command -> {
+			String id = command.substring(command.lastIndexOf(' ') + 1);
+			return List.of("^done,threads=[{id=\"" + id + "\",target-id=\"Thread 0x" + id + "\",name=\"worker\","
+					+ "frame={level=\"0\",addr=\"0x0000000000400536\",func=\"main\",args=[]},state=\"running\"}]");
+		});
+
+		StringBuilder names = new StringBuilder("^done,register-names=[");
+		for (int i = 0; i < REGISTERS; i++) {
+			if (i > 0) {
+				names.append(',');
+			}
+			names.append("\"r").append(i).append('"');
+		}
+		transcript.add("-data-list-register-names", names.append(']').toString());
+		// The registers asked for follow the format, or all of them
+		transcript.add("-data-list-register-values", command -> {
+			String[] args = command.split(" ");
+			int first = args.length;
+			while (first > 0 && args[first - 1].matches("\\d+")) {
+				first--;
+			}
+			StringBuilder values = new StringBuilder("^done,register-values=[");
+			for (int i = 0; i < REGISTERS; i++) {
+				if (first < args.length && !List.of(args).subList(first, args.length).contains(Integer.toString(i))) {
+					continue;
+				}
+				if (values.charAt(values.length() - 1) != '[') {
+					values.append(',');
+				}
+				values.append("{number=\"").append(i).append("\",value=\"0x").append(Integer.toHexString(i))
+						.append("\"}");
+			}
+			return List.of(values.append(']').toString());
+		});
+		StringBuilder changed = new StringBuilder("^done,changed-registers=[");
+		for (int i = 0; i < CHANGED_REGISTERS; i++) {
+			if (i > 0) {
+				changed.append(',');
+			}
+			changed.append('"').append(i).append('"');
+		}
+		transcript.add("-data-list-changed-registers", changed.append(']').toString());
+
+		transcript.add("-var-create --thread 1 --frame 0 - * big",
+				"^done,name=\"big\",numchild=\"" + ARRAY_LENGTH + "\",value=\"[" + ARRAY_LENGTH + "]\",type=\"int ["
+						+ ARRAY_LENGTH + "]\",thread-id=\"1\",has_more=\"0\"");
+
+		// A variable object named after its expression, and of which only the
+		// first watch expression changes when all are updated
+		transcript.add("-var-create", command -> {
+			String expression = command.substring(command.lastIndexOf(' ') + 1);
+			return List.of("^done,name=\"var_" + expression + "\",numchild=\"0\",value=\"0\",type=\"int\","
+					+ "thread-id=\"1\",has_more=\"0\"");
+		});
+		transcript.add("-var-update", command -> List.of(command.endsWith(" *")
+				? "^done,changelist=[{name=\"var_w0\",value=\"1\",in_scope=\"true\",type_changed=\"false\","
+						+ "has_more=\"0\"}]"
+				: "^done,changelist=[]"));
+
+		String[] sharedLibraries = new String[MODULES + 2];
+		sharedLibraries[0] = "~\"From                To                  Syms Read   Shared Object Library\\n\"";
+		for (int i = 0; i < MODULES; i++) {
+			long from = 0x7ffff0000000L + 0x10000L * i;
+			sharedLibraries[i + 1] = String.format("~\"0x%016x  0x%016x  Yes         /usr/lib/lib%d.so\\n\"", from,
+					from + 0x8000, i);
+		}
+		sharedLibraries[MODULES + 1] = "^done";
+		transcript.add("info sharedlibrary", sharedLibraries);
+
+		// The value of each byte is the low byte of its address
+		transcript.add("-data-read-memory-bytes", command -> {
+			String[] args = command.split(" ");
+			long address = Long.decode(args[args.length - 2]);
+			int count = Integer.parseInt(args[args.length - 1]);
+			StringBuilder contents = new StringBuilder();
+			for (int i = 0; i < count; i++) {
+				contents.append(String.format("%02x", (address + i) & 0xff));
+			}
+			return List.of(String.format("^done,memory=[{begin=\"0x%x\",offset=\"0x0\",end=\"0x%x\",contents=\"%s\"}]",
+					address, address + count, contents));
+		});
+	}
+
+	private <V> V query(Consumer<DataRequestMonitor<V>> action) throws Exception {
+		Query<V> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<V> rm) {
+				action.accept(rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		return query.get(TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	private IMIExecutionDMContext waitForSuspended() throws InterruptedException {
+		ISuspendedDMEvent event = fSuspendedEvents.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertNotNull("No suspended event", event);
+		return DMContexts.getAncestorOfType(event.getDMContext(), IMIExecutionDMContext.class);
+	}
+
+	/**
+	 * Waits until the services stop sending commands.
+	 */
+	private void waitForIdle() throws Exception {
+		int count;
+		do {
+			count = fBackend.getCommands().size();
+			Thread.sleep(20 * LATENCY);
+			query(rm -> rm.done());
+		} while (count != fBackend.getCommands().size());
+	}
+
+	/**
+	 * Runs an action and checks that the services did not send more commands
+	 * than expected.
+	 */
+	private <T> T measure(String scenario, int budget, Callable<T> action) throws Exception {
+		// Let the services finish what the previous steps left behind
+		waitForIdle();
+		fBackend.resetCommands();
+		T result = action.call();
+		// Count the commands sent in the background as a result of the action
+		waitForIdle();
+		List<String> commands = fBackend.getCommands();
+		assertTrue(scenario + " sent " + commands.size() + " commands, expected at most " + budget + ": "
+				+ commands.subList(0, Math.min(commands.size(), 20)), commands.size() <= budget);
+		return result;
+	}
+
+	/**
+	 * Checks the commands sent during the last {@link #measure} that start
+	 * with the given prefix, and returns their number.
+	 */
+	private int checkCommands(String prefix, Predicate<String> check) {
+		int count = 0;
+		for (String command : fBackend.getCommands()) {
+			if (command.startsWith(prefix)) {
+				assertTrue(command, check.test(command));
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the data of all the given contexts at the same time, as the views
+	 * do, and returns it in the order of the contexts.
+	 */
+	private <C, D> List<D> getAll(C[] contexts, BiConsumer<C, DataRequestMonitor<D>> get) throws Exception {
+		return query(rm -> {
+			List<D> result = new ArrayList<>(Collections.nCopies(contexts.length, null));
+			CountingRequestMonitor crm = new CountingRequestMonitor(fSession.getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					rm.done(result);
+				}
+			};
+			crm.setDoneCount(contexts.length);
+			for (int i = 0; i < contexts.length; i++) {
+				int index = i;
+				get.accept(contexts[i], new ImmediateDataRequestMonitor<D>(crm) {
+					@Override
+					protected void handleSuccess() {
+						result.set(index, getData());
+						crm.done();
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Gets the values of all the given contexts in the natural format.
+	 */
+	private String[] getValues(IFormattedValues service, IFormattedDataDMContext[] contexts) throws Exception {
+		List<FormattedValueDMData> values = this.<IFormattedDataDMContext, FormattedValueDMData> getAll(contexts,
+				(context, rm) -> service.getFormattedExpressionValue(
+						service.getFormattedValueContext(context, IFormattedValues.NATURAL_FORMAT), rm));
+		return values.stream().map(FormattedValueDMData::getFormattedValue).toArray(String[]::new);
+	}
+
+	private IMIExecutionDMContext step() throws Exception {
+		query(rm -> fRunControl.step(fThread, StepType.STEP_OVER, rm));
+		return waitForSuspended();
+	}
+
+	@Test
+	public void testStepOver() throws Exception {
+		// The step, and the frames and locals prefetched when the thread stops
+		IMIExecutionDMContext thread = measure("Step over", 3, () -> step());
+		assertEquals(fThread, thread);
+	}
+
+	@Test
+	public void testStepAndShowStack() throws Exception {
+		int hits = fStack.getPrefetchHitCount();
+		measure("Step, stack and locals", 3, () -> {
+			step();
+			IFrameDMData[] frames = getFrames();
+			IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+			IVariableDMContext[] locals = query(rm -> fStack.getLocals(frame, rm));
+			assertEquals(FRAMES, frames.length);
+			assertEquals(LOCALS, locals.length);
+			return null;
+		});
+		assertEquals(hits + 2, fStack.getPrefetchHitCount());
+	}
+
+	@Test
+	public void testStepAndShowTopFrames() throws Exception {
+		int depth = 10;
+		step();
+		// The Debug view only shows the top frames. All the frames were
+		// prefetched at this stop, but the depth is still limited.
+		assertEquals(depth, (int) this.<Integer> query(rm -> fStack.getStackDepth(fThread, depth, rm)));
+		// The step, and only the top frames prefetched when the thread stops
+		measure("Step and top frames", 2, () -> {
+			step();
+			assertEquals(depth, (int) this.<Integer> query(rm -> fStack.getStackDepth(fThread, depth, rm)));
+			IFrameDMContext[] frames = query(rm -> fStack.getFrames(fThread, 0, depth - 1, rm));
+			assertEquals(depth, frames.length);
+			for (IFrameDMContext frame : frames) {
+				assertNotNull(this.<IFrameDMData> query(rm -> fStack.getFrameData(frame, rm)));
+			}
+			return null;
+		});
+		checkCommands("-stack-list-frames", command -> command.endsWith(" 0 " + (depth - 1)));
+	}
+
+	@Test
+	public void testRegisters() throws Exception {
+		// The architecture, the names, then the values of the registers in two
+		// formats, which the command cache coalesces into one command per format
+		measure("Registers, first time", 4, () -> getRegisterValues());
+		int hits = fRegisters.getPrefetchHitCount();
+		// The step, then the frames, the locals, the changed registers, which
+		// GDB starts comparing, and the registers in both formats, prefetched
+		// when the thread stops. Only the natural format is still used, the
+		// metadata of the registers being known.
+		String[] values = measure("Step and registers", 6, () -> {
+			step();
+			return getRegisterValues();
+		});
+		assertEquals(hits + 1, fRegisters.getPrefetchHitCount());
+		assertEquals(REGISTERS, values.length);
+		assertEquals("0x" + Integer.toHexString(REGISTERS - 1), values[REGISTERS - 1]);
+
+		// The step, then the frames, the locals, the changed registers and the
+		// values of only those
+		int reads = fRegisters.getChangedRegistersReadCount();
+		values = measure("Step, changed registers", 5, () -> {
+			step();
+			return getRegisterValues();
+		});
+		assertEquals(reads + 1, fRegisters.getChangedRegistersReadCount());
+		checkCommands("-data-list-register-values", command -> command.endsWith(" N 0 1"));
+		assertEquals(REGISTERS, values.length);
+		assertEquals("0x" + Integer.toHexString(REGISTERS - 1), values[REGISTERS - 1]);
+	}
+
+	/**
+	 * Gets the registers of the top frame, as the Registers view does.
+	 */
+	private String[] getRegisterValues() throws Exception {
+		IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+		IRegisterDMContext[] registers = query(rm -> fRegisters.getRegisters(frame, rm));
+		getAll(registers, fRegisters::getRegisterData);
+		return getValues(fRegisters, registers);
+	}
+
+	private IFrameDMData[] getFrames() throws Exception {
+		IFrameDMContext[] frames = query(rm -> fStack.getFrames(fThread, rm));
+		return getAll(frames, fStack::getFrameData).toArray(new IFrameDMData[0]);
+	}
+
+	@Test
+	public void testMemoryScrolling() throws Exception {
+		// A memory rendering scrolls down one line at a time; the cache reads
+		// whole pages and reads ahead once it sees the rendering scrolling
+		IMemoryDMContext memory = DMContexts.getAncestorOfType(fThread, IMemoryDMContext.class);
+		long requests = fMemory.getCacheRequestCount();
+		long hits = fMemory.getCacheHitCount();
+		long bytes = fMemory.getCacheBytesRead();
+		MemoryByte[] last = measure("Memory, " + MEMORY_LINES + " lines", 4, () -> {
+			MemoryByte[] line = null;
+			for (int i = 0; i < MEMORY_LINES; i++) {
+				IAddress address = new Addr64(Long.toString(0x601000 + i * MEMORY_LINE));
+				line = query(rm -> fMemory.getMemory(memory, address, 0, 1, MEMORY_LINE, rm));
+			}
+			return line;
+		});
+		assertEquals(MEMORY_LINE, last.length);
+		assertEquals((byte) 0xc0, last[0].getValue());
+		assertEquals(MEMORY_LINES, fMemory.getCacheRequestCount() - requests);
+		assertTrue(fMemory.getCacheHitCount() - hits >= MEMORY_LINES - 4);
+		assertTrue(fMemory.getCacheBytesRead() - bytes >= MEMORY_LINES * MEMORY_LINE);
+	}
+
+	@Test
+	public void testMemoryViewport() throws Exception {
+		// A memory rendering asks for all its lines at once; the reads of the
+		// same page are shared
+		IMemoryDMContext memory = DMContexts.getAncestorOfType(fThread, IMemoryDMContext.class);
+		MemoryByte[][] lines = measure("Memory, viewport", 1, () -> query(rm -> {
+			MemoryByte[][] result = new MemoryByte[8][];
+			CountingRequestMonitor crm = new CountingRequestMonitor(fSession.getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					rm.done(result);
+				}
+			};
+			crm.setDoneCount(result.length);
+			for (int i = 0; i < result.length; i++) {
+				int index = i;
+				IAddress address = new Addr64(Long.toString(0x700000 + i * MEMORY_LINE));
+				fMemory.getMemory(memory, address, 0, 1, MEMORY_LINE,
+						new ImmediateDataRequestMonitor<MemoryByte[]>(crm) {
+							@Override
+							protected void handleSuccess() {
+								result[index] = getData();
+								crm.done();
+							}
+						});
+			}
+		}));
+		for (int i = 0; i < lines.length; i++) {
+			assertEquals((byte) (i * MEMORY_LINE), lines[i][0].getValue());
+		}
+	}
+
+	@Test
+	public void testStackFrames() throws Exception {
+		IFrameDMData[] frames = measure("Stack of " + FRAMES + " frames", 2, () -> getFrames());
+		assertEquals(FRAMES, frames.length);
+		assertEquals("f" + (FRAMES - 1), frames[FRAMES - 1].getFunction());
+	}
+
+	@Test
+	public void testVariables() throws Exception {
+		// The locals, the depth of the stack to identify the frame of the
+		// variable objects, and a variable object per local
+		String[] values = measure("Variables of " + LOCALS + " locals", 2 + LOCALS, () -> {
+			IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+			IVariableDMContext[] locals = query(rm -> fStack.getLocals(frame, rm));
+			List<IVariableDMData> variables = getAll(locals, fStack::getVariableData);
+			IExpressionDMContext[] expressions = query(rm -> rm.done(variables.stream()
+					.map(variable -> fExpressions.createExpression(frame, variable.getName()))
+					.toArray(IExpressionDMContext[]::new)));
+			getAll(expressions, fExpressions::getExpressionData);
+			return getValues(fExpressions, expressions);
+		});
+		assertEquals(LOCALS, values.length);
+		for (String value : values) {
+			assertNotNull(value);
+		}
+	}
+
+	@Test
+	public void testStepAndWatchExpressions() throws Exception {
+		IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+		measure("Watches, first time", 1 + WATCHES, () -> getWatchValues(frame));
+		// The step, then the frames and the locals prefetched when the thread
+		// stops, the depth of the stack to identify the frame of the variable
+		// objects, and a single update of all of them
+		String[] values = measure("Step and " + WATCHES + " watches", 5, () -> {
+			step();
+			return getWatchValues(query(rm -> fStack.getTopFrame(fThread, rm)));
+		});
+		assertEquals(1, checkCommands("-var-update", command -> command.endsWith(" *")));
+		assertEquals(WATCHES, values.length);
+		assertEquals("1", values[0]);
+		assertEquals("0", values[WATCHES - 1]);
+	}
+
+	/**
+	 * Gets the values of the watch expressions in the given frame, as the
+	 * Expressions view does.
+	 */
+	private String[] getWatchValues(IFrameDMContext frame) throws Exception {
+		IExpressionDMContext[] expressions = query(rm -> {
+			IExpressionDMContext[] result = new IExpressionDMContext[WATCHES];
+			for (int i = 0; i < WATCHES; i++) {
+				result[i] = fExpressions.createExpression(frame, "w" + i);
+			}
+			rm.done(result);
+		});
+		return getValues(fExpressions, expressions);
+	}
+
+	@Test
+	public void testLargeArray() throws Exception {
+		// The view expands an array of a million elements down to its last
+		// partition, which must not cost more than a small array
+		IExpressionDMContext[] elements = measure("Last of " + ARRAY_LENGTH + " elements", 2, () -> {
+			IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+			IExpressionDMContext expression = fExpressions.createExpression(frame, "big");
+			IExpressionDMContext[] children;
+			do {
+				IExpressionDMContext parent = expression;
+				children = query(rm -> fExpressions.getSubExpressions(parent, rm));
+				expression = children[children.length - 1];
+			} while (expression instanceof IIndexedPartitionDMContext);
+			return children;
+		});
+		assertEquals("big[" + (ARRAY_LENGTH - 1) + "]", elements[elements.length - 1].getExpression());
+	}
+
+	@Test
+	public void testModules() throws Exception {
+		// A single command for the list of modules and the data of each one
+		IModuleDMData[] modules = measure("Modules of " + MODULES, 1, () -> {
+			ISymbolDMContext symbols = DMContexts.getAncestorOfType(fCommandControl.getContext(),
+					ISymbolDMContext.class);
+			IModuleDMContext[] moduleDmcs = query(rm -> fModules.getModules(symbols, rm));
+			return getAll(moduleDmcs, fModules::getModuleData).toArray(new IModuleDMData[0]);
+		});
+		assertEquals(MODULES, modules.length);
+		assertEquals("/usr/lib/lib" + (MODULES - 1) + ".so", modules[MODULES - 1].getName());
+	}
+
+	@Test
+	public void testThreadList() throws Exception {
+		IThreadDMData[] threads = measure("Thread list of " + THREADS, 2, this::getThreads);
+		assertEquals(THREADS, threads.length);
+		assertEquals("worker", threads[THREADS - 1].getName());
+	}
+
+	@Test
+	public void testThreadCreatedAndExited() throws Exception {
+		getThreads();
+		fThreadEvents.clear();
+		fBackend.emit("=thread-created,id=\"" + (THREADS + 1) + "\",group-id=\"" + GROUP_ID + "\"",
+				"=thread-exited,id=\"2\",group-id=\"" + GROUP_ID + "\"");
+		assertNotNull("No started event", fThreadEvents.poll(TIMEOUT, TimeUnit.SECONDS));
+		assertNotNull("No exited event", fThreadEvents.poll(TIMEOUT, TimeUnit.SECONDS));
+
+		// Only the new thread is unknown
+		IThreadDMData[] threads = measure("Thread list after event", 1, this::getThreads);
+		assertEquals(THREADS, threads.length);
+	}
+
+	private IThreadDMData[] getThreads() throws Exception {
+		IMIContainerDMContext container = query(
+				rm -> rm.done(fProcesses.createContainerContextFromGroupId(fCommandControl.getContext(), GROUP_ID)));
+		IDMContext[] executionDmcs = query(rm -> fProcesses.getProcessesBeingDebugged(container, rm));
+		IThreadDMContext[] threadDmcs = new IThreadDMContext[executionDmcs.length];
+		for (int i = 0; i < executionDmcs.length; i++) {
+			threadDmcs[i] = DMContexts.getAncestorOfType(executionDmcs[i], IThreadDMContext.class);
+		}
+		return getAll(threadDmcs, fProcesses::getExecutionData).toArray(new IThreadDMData[0]);
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.service.replay;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A recorded conversation with GDB, used by {@link ReplayGDBBackend} to answer
+ * the commands of the services.
+ * <p>
+ * The text format is line based:
+ * <pre>
+ * # a comment
+ * &lt;- =thread-group-added,id="i1"
+ * -&gt; -stack-info-depth
+ * &lt;- ^done,depth="3"
+ * </pre>
+ * Output lines before the first command are printed when GDB starts. The
+ * output lines following a command are its answer; the result record is sent
+ * with the token of the command. Tokens in the recorded lines are ignored, so
+ * that the MI trace of a real session can be pasted into a transcript.
+ * <p>
+ * A command is answered by the entry with the longest matching prefix made of
+ * whole words, e.g. <code>-var-create --thread 1 - * i</code> is answered by an
+ * entry for <code>-var-create</code> unless there is a more specific one. The
+ * entries for the same command are used in turn and the last one is repeated.
+ * <code>{seq}</code> in an answer is replaced by the number of times the entry
+ * was used, which helps making unique variable object names. Commands without
+ * an entry are answered with <code>^done</code>.
+ * <p>
+ * Answers that depend on the arguments of a command, such as the contents of
+ * memory, can be computed with {@link #add(String, Function)}.
+ */
+public class MITranscript {
+	private static final String COMMAND_PREFIX = "->";
+	private static final String OUTPUT_PREFIX = "<-";
+	private static final String PROMPT = "(gdb)";
+	private static final String SEQUENCE = "{seq}";
+	private static final List<String> DEFAULT_ANSWER = Collections.singletonList("^done");
+
+	private static class Entry {
+		final List<List<String>> fAnswers = new ArrayList<>();
+		Function<String, List<String>> fResponder;
+		int fUses;
+	}
+
+	private final List<String> fInitialOutput = new ArrayList<>();
+	private final Map<String, Entry> fEntries = new HashMap<>();
+	private final Set<String> fUnmatched = new LinkedHashSet<>();
+
+	/**
+	 * Reads a transcript in the text format described in the class comment.
+	 */
+	public static MITranscript load(InputStream in) throws IOException {
+		MITranscript transcript = new MITranscript();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		String command = null;
+		List<String> answer = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank() || line.startsWith("#")) {
+				continue;
+			}
+			if (line.startsWith(COMMAND_PREFIX)) {
+				if (command != null) {
+					transcript.add(command, answer);
+				}
+				command = stripToken(line.substring(COMMAND_PREFIX.length()).trim());
+				answer = new ArrayList<>();
+			} else if (line.startsWith(OUTPUT_PREFIX)) {
+				String output = stripToken(line.substring(OUTPUT_PREFIX.length()).trim());
+				if (output.equals(PROMPT)) {
+					continue;
+				}
+				if (command == null) {
+					transcript.fInitialOutput.add(output);
+				} else {
+					answer.add(output);
+				}
+			} else {
+				throw new IOException("Invalid transcript line: " + line);
+			}
+		}
+		if (command != null) {
+			transcript.add(command, answer);
+		}
+		return transcript;
+	}
+
+	/**
+	 * Adds an answer to a command, to be used after the answers added before.
+	 */
+	public synchronized MITranscript add(String command, String... answer) {
+		return add(command, Arrays.asList(answer));
+	}
+
+	private synchronized MITranscript add(String command, List<String> answer) {
+		fEntries.computeIfAbsent(command, c -> new Entry()).fAnswers.add(answer);
+		return this;
+	}
+
+	/**
+	 * Answers a command with the lines computed from the complete command,
+	 * instead of the recorded answers.
+	 */
+	public synchronized MITranscript add(String command, Function<String, List<String>> responder) {
+		fEntries.computeIfAbsent(command, c -> new Entry()).fResponder = responder;
+		return this;
+	}
+
+	/**
+	 * Adds a line printed by GDB when it starts.
+	 */
+	public synchronized MITranscript addInitialOutput(String line) {
+		fInitialOutput.add(line);
+		return this;
+	}
+
+	public synchronized List<String> getInitialOutput() {
+		return new ArrayList<>(fInitialOutput);
+	}
+
+	/**
+	 * Returns the lines answering a command, without the token.
+	 */
+	public synchronized List<String> answer(String command) {
+		String key = command.trim();
+		while (true) {
+			Entry entry = fEntries.get(key);
+			if (entry != null && entry.fResponder != null) {
+				entry.fUses++;
+				return entry.fResponder.apply(command.trim());
+			}
+			if (entry != null) {
+				int use = entry.fUses++;
+				List<String> answer = entry.fAnswers.get(Math.min(use, entry.fAnswers.size() - 1));
+				List<String> lines = new ArrayList<>(answer.size());
+				for (String line : answer) {
+					lines.add(line.replace(SEQUENCE, Integer.toString(use)));
+				}
+				return lines;
+			}
+			int space = key.lastIndexOf(' ');
+			if (space < 0) {
+				break;
+			}
+			key = key.substring(0, space).trim();
+		}
+		fUnmatched.add(command);
+		return DEFAULT_ANSWER;
+	}
+
+	/**
+	 * Returns the commands that were answered with the default answer, which
+	 * usually means that the transcript is missing entries.
+	 */
+	public synchronized Set<String> getUnmatchedCommands() {
+		return new LinkedHashSet<>(fUnmatched);
+	}
+
+	/**
+	 * Removes the token from the start of an MI command or record.
+	 */
+	static String stripToken(String line) {
+		int i = 0;
+		while (i < line.length() && Character.isDigit(line.charAt(i))) {
+			i++;
+		}
+		return line.substring(i);
+	}
+}
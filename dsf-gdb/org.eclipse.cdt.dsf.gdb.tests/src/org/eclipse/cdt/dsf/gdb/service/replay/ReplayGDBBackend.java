@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.service.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.service.IGDBBackend;
+import org.eclipse.cdt.dsf.gdb.service.SessionType;
+import org.eclipse.cdt.dsf.mi.service.IMIBackend;
+import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.osgi.framework.BundleContext;
+
+/**
+ * A stand-in for the GDB process that answers the MI commands of the services
+ * from a {@link MITranscript}, after a configurable latency. It records the
+ * commands it receives, so that tests can check how many commands the services
+ * send for a user action.
+ * <p>
+ * Asynchronous records, such as the events GDB prints when a thread is created,
+ * can be sent at any time with {@link #emit(String...)}.
+ */
+public class ReplayGDBBackend extends AbstractDsfService implements IGDBBackend {
+	private static final String PROMPT = "(gdb) ";
+	private static final byte[] EOF = new byte[0];
+
+	private final MITranscript fTranscript;
+	private final List<String> fCommands = new ArrayList<>();
+	private final BlockingQueue<byte[]> fOutput = new LinkedBlockingQueue<>();
+	private final ScheduledExecutorService fScheduler = Executors.newSingleThreadScheduledExecutor();
+	private final InputStream fMIInputStream = new ReplayInputStream();
+	private final OutputStream fMIOutputStream = new ReplayOutputStream();
+	private volatile long fLatency;
+	private volatile State fState = State.NOT_INITIALIZED;
+
+	public ReplayGDBBackend(DsfSession session, MITranscript transcript) {
+		super(session);
+		fTranscript = transcript;
+	}
+
+	@Override
+	protected BundleContext getBundleContext() {
+		return GdbPlugin.getBundleContext();
+	}
+
+	@Override
+	public void initialize(final RequestMonitor rm) {
+		super.initialize(new ImmediateRequestMonitor(rm) {
+			@Override
+			protected void handleSuccess() {
+				doInitialize(rm);
+			}
+		});
+	}
+
+	private void doInitialize(RequestMonitor rm) {
+		register(new String[] { IMIBackend.class.getName(), IGDBBackend.class.getName() }, new Hashtable<>());
+		fState = State.STARTED;
+		emit(fTranscript.getInitialOutput().toArray(new String[0]));
+		getSession().dispatchEvent(new BackendStateChangedEvent(getSession().getId(), getId(), State.STARTED),
+				getProperties());
+		rm.done();
+	}
+
+	@Override
+	public void shutdown(RequestMonitor rm) {
+		destroy();
+		unregister();
+		super.shutdown(rm);
+	}
+
+	/**
+	 * Sets the time GDB takes to answer a command.
+	 */
+	public void setLatency(long latency, TimeUnit unit) {
+		fLatency = unit.toNanos(latency);
+	}
+
+	/**
+	 * Prints records as if GDB had sent them on its own.
+	 */
+	public void emit(String... lines) {
+		fScheduler.execute(() -> {
+			for (String line : lines) {
+				print(line);
+			}
+		});
+	}
+
+	/**
+	 * Returns the commands received since the last call to {@link #resetCommands()},
+	 * without their tokens.
+	 */
+	public synchronized List<String> getCommands() {
+		return new ArrayList<>(fCommands);
+	}
+
+	public synchronized void resetCommands() {
+		fCommands.clear();
+	}
+
+	public MITranscript getTranscript() {
+		return fTranscript;
+	}
+
+	private void receive(String line) {
+		String command = MITranscript.stripToken(line);
+		String token = line.substring(0, line.length() - command.length());
+		synchronized (this) {
+			fCommands.add(command);
+		}
+		List<String> answer = fTranscript.answer(command);
+		fScheduler.schedule(() -> {
+			for (String output : answer) {
+				print(output.startsWith("^") ? token + output : output);
+			}
+			print(PROMPT);
+		}, fLatency, TimeUnit.NANOSECONDS);
+	}
+
+	private void print(String line) {
+		fOutput.add((line + '\n').getBytes(StandardCharsets.UTF_8));
+	}
+
+	private class ReplayOutputStream extends OutputStream {
+		private final ByteArrayOutputStream fLine = new ByteArrayOutputStream();
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			if (fState == State.TERMINATED) {
+				throw new IOException("GDB has terminated");
+			}
+			if (b == '\n') {
+				String line = new String(fLine.toByteArray(), StandardCharsets.UTF_8).trim();
+				fLine.reset();
+				if (!line.isEmpty()) {
+					receive(line);
+				}
+			} else {
+				fLine.write(b);
+			}
+		}
+	}
+
+	private class ReplayInputStream extends InputStream {
+		private byte[] fBuffer = new byte[0];
+		private int fPos;
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) throws IOException {
+			if (fPos == fBuffer.length) {
+				if (fBuffer == EOF) {
+					return -1;
+				}
+				try {
+					fBuffer = fOutput.take();
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+				fPos = 0;
+				if (fBuffer == EOF) {
+					return -1;
+				}
+			}
+			int n = Math.min(len, fBuffer.length - fPos);
+			System.arraycopy(fBuffer, fPos, b, off, n);
+			fPos += n;
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return fBuffer.length - fPos;
+		}
+	}
+
+	@Override
+	public String getId() {
+		return "gdb";
+	}
+
+	@Override
+	public void destroy() {
+		if (fState == State.TERMINATED) {
+			return;
+		}
+		fState = State.TERMINATED;
+		fScheduler.shutdownNow();
+		fOutput.add(EOF);
+		getExecutor().execute(() -> getSession().dispatchEvent(
+				new BackendStateChangedEvent(getSession().getId(), getId(), State.TERMINATED), getProperties()));
+	}
+
+	@Override
+	public State getState() {
+		return fState;
+	}
+
+	@Override
+	public int getExitCode() {
+		return 0;
+	}
+
+	@Override
+	public InputStream getMIInputStream() {
+		return fMIInputStream;
+	}
+
+	@Override
+	public OutputStream getMIOutputStream() {
+		return fMIOutputStream;
+	}
+
+	@Override
+	public IPath getProgramPath() {
+		return new Path("replay");
+	}
+
+	@Override
+	public String getGDBInitFile() {
+		return null;
+	}
+
+	@Override
+	public String getProgramArguments() {
+		return null;
+	}
+
+	@Override
+	public IPath getGDBWorkingDirectory() {
+		return null;
+	}
+
+	@Override
+	public List<String> getSharedLibraryPaths() {
+		return new ArrayList<>();
+	}
+
+	@Override
+	public Properties getEnvironmentVariables() {
+		return new Properties();
+	}
+
+	@Override
+	public boolean getClearEnvironment() {
+		return false;
+	}
+
+	@Override
+	public void interrupt() {
+	}
+
+	@Override
+	public void interruptAndWait(int timeout, RequestMonitor rm) {
+		rm.done();
+	}
+
+	@Override
+	public void interruptInferiorAndWait(long pid, int timeout, RequestMonitor rm) {
+		rm.done();
+	}
+
+	@Override
+	public SessionType getSessionType() {
+		return SessionType.LOCAL;
+	}
+
+	@Override
+	public boolean getIsAttachSession() {
+		return false;
+	}
+
+	@Override
+	public boolean getUpdateThreadListOnSuspend() {
+		return false;
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.service.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Sequence;
+import org.eclipse.cdt.dsf.debug.service.IExpressions;
+import org.eclipse.cdt.dsf.debug.service.IMemory;
+import org.eclipse.cdt.dsf.debug.service.IProcesses;
+import org.eclipse.cdt.dsf.debug.service.IRegisters;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IStack;
+import org.eclipse.cdt.dsf.gdb.service.GdbDebugServicesFactory;
+import org.eclipse.cdt.dsf.mi.service.IMIBackend;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.dsf.service.IDsfService;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Creates the services of a GDB version, connected to a {@link ReplayGDBBackend}
+ * instead of a GDB process.
+ */
+public class ReplayServicesFactory extends GdbDebugServicesFactory {
+	private final boolean fNonStop;
+	private final MITranscript fTranscript;
+	private final List<IDsfService> fServices = new ArrayList<>();
+	private ReplayGDBBackend fBackend;
+
+	public ReplayServicesFactory(String version, boolean nonStop, MITranscript transcript) {
+		super(version, null);
+		fNonStop = nonStop;
+		fTranscript = transcript;
+	}
+
+	@Override
+	protected boolean getIsNonStopMode() {
+		return fNonStop;
+	}
+
+	@Override
+	protected IMIBackend createBackendGDBService(DsfSession session, ILaunchConfiguration lc) {
+		fBackend = new ReplayGDBBackend(session, fTranscript);
+		return fBackend;
+	}
+
+	public ReplayGDBBackend getBackend() {
+		return fBackend;
+	}
+
+	/**
+	 * Creates and initializes the services needed to control threads and
+	 * inspect their state, in the order used for a launch. Must be called on
+	 * the executor of the session.
+	 */
+	public void startServices(DsfSession session, RequestMonitor rm) {
+		fServices.add((IDsfService) createBackendGDBService(session, null));
+		fServices.add((IDsfService) createCommandControl(session, null));
+		fServices.add((IDsfService) createService(IProcesses.class, session));
+		fServices.add((IDsfService) createService(IRunControl.class, session));
+		fServices.add((IDsfService) createService(IMemory.class, session));
+		fServices.add((IDsfService) createService(IStack.class, session));
+		fServices.add((IDsfService) createService(IRegisters.class, session));
+		fServices.add((IDsfService) createService(IExpressions.class, session));
+
+		Sequence.Step[] steps = new Sequence.Step[fServices.size()];
+		for (int i = 0; i < steps.length; i++) {
+			IDsfService service = fServices.get(i);
+			steps[i] = new Sequence.Step() {
+				@Override
+				public void execute(RequestMonitor requestMonitor) {
+					service.initialize(requestMonitor);
+				}
+			};
+		}
+		execute(session, steps, rm);
+	}
+
+	/**
+	 * Shuts down the services started by {@link #startServices(DsfSession, RequestMonitor)},
+	 * in reverse order. Must be called on the executor of the session.
+	 */
+	public void stopServices(DsfSession session, RequestMonitor rm) {
+		Sequence.Step[] steps = new Sequence.Step[fServices.size()];
+		for (int i = 0; i < steps.length; i++) {
+			IDsfService service = fServices.get(steps.length - 1 - i);
+			steps[i] = new Sequence.Step() {
+				@Override
+				public void execute(RequestMonitor requestMonitor) {
+					service.shutdown(requestMonitor);
+				}
+			};
+		}
+		fServices.clear();
+		execute(session, steps, rm);
+	}
+
+	private static void execute(DsfSession session, Sequence.Step[] steps, RequestMonitor rm) {
+		session.getExecutor().execute(new Sequence(session.getExecutor(), rm) {
+			@Override
+			public Step[] getSteps() {
+				return steps;
+			}
+		});
+	}
+}
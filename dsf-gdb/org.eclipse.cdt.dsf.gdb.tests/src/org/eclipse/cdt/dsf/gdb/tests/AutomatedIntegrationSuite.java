@@ -13,13 +13,19 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.tests;
 
+import org.eclipse.cdt.dsf.gdb.internal.service.TraceFrameStoreTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_NoContainerTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithAlternativeProcessIdTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithContainerDMContextTest;
+import org.eclipse.cdt.dsf.gdb.service.ServicesReplayPerformanceTest;
+import org.eclipse.cdt.dsf.mi.service.MIVariableManagerReplayTest;
+import org.eclipse.cdt.dsf.mi.service.MIVariableManagerTest;
+import org.eclipse.cdt.dsf.mi.service.command.AbstractMIControlTest;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIBreakInsertCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMICommandConstructCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIGDBSetSysroot;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParserTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStringHandlerTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadTests;
 import org.junit.runner.RunWith;
@@ -32,7 +38,10 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ MIThreadTests.class, TestMIBreakInsertCommand.class, TestMICommandConstructCommand.class,
 		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, ProcStatParserTest.class,
 		FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
-		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class, })
+		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class,
+		MIParserTests.class, AbstractMIControlTest.class, ServicesReplayPerformanceTest.class,
+		TraceFrameStoreTest.class, SourceFilesCacheTest.class, MIVariableManagerTest.class,
+		MIVariableManagerReplayTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.cdt.debug.internal.core.executables.SourceFilesCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * TODO: Move this test closer to the code it is testing, there is no test
+ * suite for org.eclipse.cdt.debug.core.
+ */
+public class SourceFilesCacheTest {
+	private static final String[] SOURCE_FILES = { "/src/main.c", "/src/util.c", "/usr/include/stdio.h" };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+
+	@Before
+	public void setUp() {
+		directory = new File(folder.getRoot(), "cache");
+	}
+
+	private File createExecutable(String name) throws IOException {
+		File executable = folder.newFile(name);
+		Files.write(executable.toPath(), new byte[] { 0x7f, 'E', 'L', 'F' });
+		return executable;
+	}
+
+	/**
+	 * Returns the only entry of the cache.
+	 */
+	private File getEntry() {
+		File[] entries = directory.listFiles();
+		assertEquals(1, entries.length);
+		return entries[0];
+	}
+
+	@Test
+	public void cached() throws IOException {
+		File executable = createExecutable("a.out");
+		SourceFilesCache cache = new SourceFilesCache(directory);
+		assertNull(cache.get(executable));
+		cache.put(executable, SOURCE_FILES);
+		assertArrayEquals(SOURCE_FILES, cache.get(executable));
+		// read in a later session
+		assertArrayEquals(SOURCE_FILES, new SourceFilesCache(directory).get(executable));
+	}
+
+	@Test
+	public void sizeChanged() throws IOException {
+		File executable = createExecutable("a.out");
+		SourceFilesCache cache = new SourceFilesCache(directory);
+		cache.put(executable, SOURCE_FILES);
+		long lastModified = executable.lastModified();
+		Files.write(executable.toPath(), new byte[] { 0x7f, 'E', 'L', 'F', 2 });
+		executable.setLastModified(lastModified);
+		assertNull(cache.get(executable));
+	}
+
+	@Test
+	public void lastModifiedChanged() throws IOException {
+		File executable = createExecutable("a.out");
+		SourceFilesCache cache = new SourceFilesCache(directory);
+		cache.put(executable, SOURCE_FILES);
+		executable.setLastModified(executable.lastModified() - 10000);
+		assertNull(cache.get(executable));
+
+		// the entry is replaced when the symbols are read again
+		cache.put(executable, new String[] { "/src/main.c" });
+		assertArrayEquals(new String[] { "/src/main.c" }, cache.get(executable));
+	}
+
+	@Test
+	public void corruptEntry() throws IOException {
+		File executable = createExecutable("a.out");
+		SourceFilesCache cache = new SourceFilesCache(directory);
+		cache.put(executable, SOURCE_FILES);
+		File entry = getEntry();
+		try (RandomAccessFile file = new RandomAccessFile(entry, "rw")) {
+			file.setLength(file.length() - 4);
+		}
+		assertNull(cache.get(executable));
+		// the corrupt entry is deleted
+		assertFalse(entry.exists());
+	}
+
+	@Test
+	public void versionMismatch() throws IOException {
+		File executable = createExecutable("a.out");
+		SourceFilesCache cache = new SourceFilesCache(directory);
+		cache.put(executable, SOURCE_FILES);
+		try (RandomAccessFile file = new RandomAccessFile(getEntry(), "rw")) {
+			file.writeInt(file.readInt() + 1);
+		}
+		assertNull(cache.get(executable));
+	}
+
+	@Test
+	public void leastRecentlyUsedPruned() throws IOException {
+		SourceFilesCache cache = new SourceFilesCache(directory, 3);
+		File[] executables = new File[4];
+		long time = System.currentTimeMillis() - 100000;
+		for (int i = 0; i < 3; i++) {
+			executables[i] = createExecutable("a" + i + ".out");
+			putEntry(cache, executables[i], time + i * 1000);
+		}
+		// a0.out becomes the most recently used
+		assertArrayEquals(SOURCE_FILES, cache.get(executables[0]));
+
+		executables[3] = createExecutable("a3.out");
+		cache.put(executables[3], SOURCE_FILES);
+		assertEquals(3, directory.listFiles().length);
+		assertNull(cache.get(executables[1]));
+		assertArrayEquals(SOURCE_FILES, cache.get(executables[0]));
+		assertArrayEquals(SOURCE_FILES, cache.get(executables[2]));
+		assertArrayEquals(SOURCE_FILES, cache.get(executables[3]));
+	}
+
+	@Test
+	public void tempFilesNotPruned() throws IOException {
+		SourceFilesCache cache = new SourceFilesCache(directory, 1);
+		File executable = createExecutable("a0.out");
+		putEntry(cache, executable, System.currentTimeMillis() - 100000);
+		// the file of an entry being written, and one left over by an interrupted write
+		File writing = new File(directory, "entry.tmp");
+		assertTrue(writing.createNewFile());
+		File stale = new File(directory, "stale.tmp");
+		assertTrue(stale.createNewFile());
+		assertTrue(stale.setLastModified(System.currentTimeMillis() - 24 * 60 * 60 * 1000));
+
+		File other = createExecutable("a1.out");
+		cache.put(other, SOURCE_FILES);
+		assertNull(cache.get(executable));
+		assertArrayEquals(SOURCE_FILES, cache.get(other));
+		assertTrue(writing.exists());
+		assertFalse(stale.exists());
+	}
+
+	/**
+	 * Caches the source files of the executable, with the given time as the
+	 * last use of the new entry.
+	 */
+	private void putEntry(SourceFilesCache cache, File executable, long lastUsed) {
+		Set<File> entries = directory.exists() ? new HashSet<>(Arrays.asList(directory.listFiles()))
+				: new HashSet<>();
+		cache.put(executable, SOURCE_FILES);
+		for (File entry : directory.listFiles()) {
+			if (!entries.contains(entry)) {
+				assertTrue(entry.setLastModified(lastUsed));
+			}
+		}
+	}
+}
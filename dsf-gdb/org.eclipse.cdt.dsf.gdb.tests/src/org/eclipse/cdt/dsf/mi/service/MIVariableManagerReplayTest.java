@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.DMContexts;
+import org.eclipse.cdt.dsf.debug.service.IExpressions;
+import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StepType;
+import org.eclipse.cdt.dsf.debug.service.IStack;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.service.CommonDsfTest;
+import org.eclipse.cdt.dsf.gdb.service.GdbDebugServicesFactory;
+import org.eclipse.cdt.dsf.gdb.service.replay.MITranscript;
+import org.eclipse.cdt.dsf.gdb.service.replay.ReplayGDBBackend;
+import org.eclipse.cdt.dsf.gdb.service.replay.ReplayServicesFactory;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the variable objects that {@link MIVariableManager} creates in GDB,
+ * against a {@link ReplayGDBBackend} that answers like GDB 7.12 debugging a
+ * C++ program.
+ */
+public class MIVariableManagerReplayTest extends CommonDsfTest {
+	private static final int TIMEOUT = 30;
+	/** The members of each access qualifier of the class of the variable. */
+	private static final int MEMBERS = 10;
+
+	private ReplayServicesFactory fFactory;
+	private MIVariableManager fVariableManager;
+	private DsfServicesTracker fTracker;
+	private IRunControl fRunControl;
+	private IStack fStack;
+	private IExpressions fExpressions;
+	private IMIExecutionDMContext fThread;
+	private final BlockingQueue<ISuspendedDMEvent> fSuspendedEvents = new LinkedBlockingQueue<>();
+
+	@Before
+	public void startServices() throws Exception {
+		MITranscript transcript;
+		try (InputStream in = MITranscript.class.getResourceAsStream("gdb-7.12-non-stop.mi")) {
+			transcript = MITranscript.load(in);
+		}
+		addAnswers(transcript);
+		fFactory = new ReplayServicesFactory(GdbDebugServicesFactory.GDB_7_12_VERSION, true, transcript) {
+			@Override
+			protected IExpressions createExpressionService(DsfSession session) {
+				return new MIExpressions(session) {
+					@Override
+					protected MIVariableManager createMIVariableManager() {
+						fVariableManager = super.createMIVariableManager();
+						return fVariableManager;
+					}
+				};
+			}
+		};
+		query(rm -> fFactory.startServices(fSession, rm));
+
+		query(rm -> {
+			fTracker = new DsfServicesTracker(GdbPlugin.getBundleContext(), fSession.getId());
+			fRunControl = fTracker.getService(IRunControl.class);
+			fStack = fTracker.getService(IStack.class);
+			fExpressions = fTracker.getService(IExpressions.class);
+			fSession.addServiceEventListener(MIVariableManagerReplayTest.this, null);
+			rm.done();
+		});
+
+		fFactory.getBackend().emit("=thread-group-started,id=\"i1\",pid=\"4242\"",
+				"=thread-created,id=\"1\",group-id=\"i1\"",
+				"*stopped,reason=\"breakpoint-hit\",disp=\"keep\",bkptno=\"1\",frame={addr=\"0x0000000000400536\","
+						+ "func=\"main\",args=[],file=\"main.cpp\",fullname=\"/tmp/main.cpp\",line=\"5\"},"
+						+ "thread-id=\"1\",stopped-threads=[\"1\"],core=\"0\"");
+		fThread = waitForSuspended();
+	}
+
+	@After
+	public void stopServices() throws Exception {
+		query(rm -> {
+			fSession.removeServiceEventListener(MIVariableManagerReplayTest.this);
+			fTracker.dispose();
+			fFactory.stopServices(fSession, rm);
+		});
+		tearDown();
+	}
+
+	@DsfServiceEventHandler
+	public void eventDispatched(ISuspendedDMEvent e) {
+		fSuspendedEvents.add(e);
+	}
+
+	/**
+	 * Adds the answers for a variable <code>c</code> of a class with public
+	 * and private members, of which GDB reports that the type changed at each
+	 * update.
+	 */
+	private static void addAnswers(MITranscript transcript) {
+		transcript.add("-stack-info-depth", "^done,depth=\"1\"");
+		transcript.add("-stack-list-frames", "^done,stack=[frame={level=\"0\",addr=\"0x0000000000400536\","
+				+ "func=\"main\",file=\"main.cpp\",fullname=\"/tmp/main.cpp\",line=\"5\"}]");
+		transcript.add("-var-create --thread 1 --frame 0 - * c",
+				"^done,name=\"var1\",numchild=\"2\",value=\"{...}\",type=\"C\",thread-id=\"1\",has_more=\"0\"");
+		transcript.add("-var-list-children", command -> {
+			String name = command.substring(command.lastIndexOf(' ') + 1);
+			StringBuilder children = new StringBuilder();
+			int count;
+			if (name.equals("var1")) {
+				count = 2;
+				children.append("child={name=\"var1.public\",exp=\"public\",numchild=\"").append(MEMBERS)
+						.append("\",thread-id=\"1\"},child={name=\"var1.private\",exp=\"private\",numchild=\"")
+						.append(MEMBERS).append("\",thread-id=\"1\"}");
+			} else {
+				count = MEMBERS;
+				for (int i = 0; i < MEMBERS; i++) {
+					if (i > 0) {
+						children.append(',');
+					}
+					String member = (name.endsWith(".public") ? "a" : "b") + i;
+					children.append("child={name=\"").append(name).append('.').append(member).append("\",exp=\"")
+							.append(member).append("\",numchild=\"0\",type=\"int\",thread-id=\"1\"}");
+				}
+			}
+			return List.of("^done,numchild=\"" + count + "\",children=[" + children + "],has_more=\"0\"");
+		});
+		transcript.add("-var-info-path-expression", command -> {
+			String name = command.substring(command.lastIndexOf(' ') + 1);
+			return List.of("^done,path_expr=\"c." + name.substring(name.lastIndexOf('.') + 1) + "\"");
+		});
+		transcript.add("-var-update", "^done,changelist=[{name=\"var1\",in_scope=\"true\",type_changed=\"true\","
+				+ "new_type=\"C\",new_num_children=\"2\",has_more=\"0\"}]");
+	}
+
+	private <V> V query(Consumer<DataRequestMonitor<V>> action) throws Exception {
+		Query<V> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<V> rm) {
+				action.accept(rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		return query.get(TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	private IMIExecutionDMContext waitForSuspended() throws InterruptedException {
+		ISuspendedDMEvent event = fSuspendedEvents.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertNotNull("No suspended event", event);
+		return DMContexts.getAncestorOfType(event.getDMContext(), IMIExecutionDMContext.class);
+	}
+
+	/**
+	 * Expands the variable <code>c</code> down to the members of its class,
+	 * and returns the number of members.
+	 */
+	private int expand() throws Exception {
+		IFrameDMContext frame = query(rm -> fStack.getTopFrame(fThread, rm));
+		IExpressionDMContext expression = query(rm -> rm.done(fExpressions.createExpression(frame, "c")));
+		IExpressionDMContext[] members = query(rm -> fExpressions.getSubExpressions(expression, rm));
+		return members.length;
+	}
+
+	private int getGdbVariableCount() throws Exception {
+		return query(rm -> rm.done(fVariableManager.getGdbVariableCount()));
+	}
+
+	@Test
+	public void testExpandAfterTypeChanges() throws Exception {
+		assertEquals(2 * MEMBERS, expand());
+		// The variable, its access qualifiers, and their members
+		int created = 1 + 2 + 2 * MEMBERS;
+		assertEquals(created, getGdbVariableCount());
+
+		for (int i = 0; i < 5; i++) {
+			// GDB deletes the children when the type changes, and creates them
+			// again when the variable is expanded
+			query(rm -> fRunControl.step(fThread, StepType.STEP_OVER, rm));
+			waitForSuspended();
+			assertEquals(2 * MEMBERS, expand());
+			assertEquals(created, getGdbVariableCount());
+		}
+	}
+}
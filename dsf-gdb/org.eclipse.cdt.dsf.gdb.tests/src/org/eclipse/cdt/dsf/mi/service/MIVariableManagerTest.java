@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIVarChange;
+import org.junit.Test;
+
+public class MIVariableManagerTest {
+
+	private static MIVarChange[] changes(String... names) {
+		return Arrays.stream(names).map(MIVarChange::new).toArray(MIVarChange[]::new);
+	}
+
+	private static List<String> names(List<MIVarChange> changes) {
+		return changes.stream().map(MIVarChange::getVarName).collect(Collectors.toList());
+	}
+
+	@Test
+	public void groupNestedChildren() {
+		Map<String, List<MIVarChange>> changesByRoot = MIVariableManager.groupChangesByRoot(
+				changes("var1.public.s.x", "var2", "var1.public.s", "var1", "var2.y"),
+				Map.of("var1", "s", "var2", "p"));
+		assertEquals(List.of("s", "p"), List.copyOf(changesByRoot.keySet()));
+		// The change of a root comes first
+		assertEquals(List.of("var1", "var1.public.s.x", "var1.public.s"), names(changesByRoot.get("s")));
+		assertEquals(List.of("var2", "var2.y"), names(changesByRoot.get("p")));
+	}
+
+	@Test
+	public void groupDynamicChildren() {
+		// The children of a pretty-printed map are named after its keys,
+		// which may contain dots
+		Map<String, List<MIVarChange>> changesByRoot = MIVariableManager.groupChangesByRoot(
+				changes("var3.[0]", "var3.[\"a.b\"]", "var3.[\"a.b\"].[1]", "var30.[0]"), Map.of("var3", "m"));
+		assertEquals(1, changesByRoot.size());
+		assertEquals(List.of("var3.[0]", "var3.[\"a.b\"]", "var3.[\"a.b\"].[1]"), names(changesByRoot.get("m")));
+	}
+
+	@Test
+	public void dropChangesOfUnknownRoots() {
+		assertTrue(MIVariableManager.groupChangesByRoot(changes("var4", "var4.x"), Map.of("var1", "s")).isEmpty());
+	}
+}
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.debug.service.IBreakpoints.IBreakpointsTargetDMContext;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIBreakInsert;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakInsertInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIExecAsyncOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the dispatching of the output of GDB to the DSF executor, using a
+ * scripted stand-in for GDB that answers each command with a burst of async
+ * records, as GDB does when resuming many threads in non-stop mode.
+ */
+public class AbstractMIControlTest {
+	private static final int THREADS = 5000;
+	/** More breakpoints than the breakpoints manager installs in a batch. */
+	private static final int BREAKPOINTS = 100;
+	/** Time after which GDB considers that no more commands are sent before it answers. */
+	private static final long BURST_TIMEOUT = 200;
+
+	private CountingExecutor fExecutor;
+	private DsfSession fSession;
+	private TestControl fControl;
+	private PipedOutputStream fGdbOutput;
+	private BufferedReader fGdbInput;
+	private final List<MIOutput> fEvents = new ArrayList<>();
+	/** Number of events received when the step completed. */
+	private volatile int fEventsWhenDone;
+
+	private static class CountingExecutor extends DefaultDsfExecutor {
+		final AtomicInteger fExecuted = new AtomicInteger();
+
+		CountingExecutor() {
+			super(GdbPlugin.PLUGIN_ID);
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			fExecuted.incrementAndGet();
+			super.execute(command);
+		}
+	}
+
+	private static class TargetContext extends MIControlDMContext implements IBreakpointsTargetDMContext {
+		TargetContext(String sessionId, String commandControlId) {
+			super(sessionId, commandControlId);
+		}
+	}
+
+	private static class TestControl extends AbstractMIControl {
+		private final MIControlDMContext fContext;
+
+		TestControl(DsfSession session) {
+			super(session, true, new CommandFactory());
+			fContext = new TargetContext(session.getId(), getId());
+		}
+
+		@Override
+		protected boolean isConcurrentCommandsSupported() {
+			return true;
+		}
+
+		@Override
+		public MIControlDMContext getControlDMContext() {
+			return fContext;
+		}
+
+		@Override
+		public ICommandControlDMContext getContext() {
+			return fContext;
+		}
+
+		@Override
+		public String getId() {
+			return "test"; //$NON-NLS-1$
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return null;
+		}
+
+		void start(PipedInputStream in, PipedOutputStream out) {
+			startCommandProcessing(in, out);
+		}
+
+		void stop() {
+			stopCommandProcessing();
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fExecutor = new CountingExecutor();
+		fSession = DsfSession.startSession(fExecutor, GdbPlugin.PLUGIN_ID);
+		fControl = fExecutor.submit(() -> new TestControl(fSession)).get();
+
+		PipedInputStream controlInput = new PipedInputStream();
+		fGdbOutput = new PipedOutputStream(controlInput);
+		PipedOutputStream controlOutput = new PipedOutputStream();
+		fGdbInput = new BufferedReader(new InputStreamReader(new PipedInputStream(controlOutput)));
+		fExecutor.submit(() -> {
+			fControl.addEventListener(output -> fEvents.add((MIOutput) output));
+			fControl.start(controlInput, controlOutput);
+		}).get();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fExecutor.submit(() -> fControl.stop()).get();
+		fGdbOutput.close();
+		DsfSession.endSession(fSession);
+		fExecutor.shutdown();
+	}
+
+	/**
+	 * Answers the next command sent by the control with a <code>*running</code>
+	 * record for every thread, followed by the result of the command.
+	 */
+	private void answerWithThreadStorm() throws IOException {
+		String command = fGdbInput.readLine();
+		String token = command.substring(0, command.indexOf('-'));
+		Writer writer = new OutputStreamWriter(fGdbOutput);
+		for (int i = 1; i <= THREADS; i++) {
+			writer.write("*running,thread-id=\"" + i + "\"\n");
+		}
+		writer.write(token + "^running\n");
+		writer.flush();
+	}
+
+	private CountDownLatch queueStep() throws Exception {
+		CountDownLatch done = new CountDownLatch(1);
+		fExecutor.submit(() -> {
+			fControl.queueCommand(new MICommand<MIInfo>(fControl.getContext(), "-exec-next"), //$NON-NLS-1$
+					new DataRequestMonitor<MIInfo>(fExecutor, null) {
+						@Override
+						protected void handleCompleted() {
+							fEventsWhenDone = fEvents.size();
+							done.countDown();
+						}
+					});
+		}).get();
+		return done;
+	}
+
+	@Test
+	public void testEventsAreBatched() throws Exception {
+		CountDownLatch done = queueStep();
+		// Keep the executor busy while GDB prints the records, so they pile up
+		CountDownLatch written = new CountDownLatch(1);
+		fExecutor.execute(() -> {
+			try {
+				written.await();
+			} catch (InterruptedException e) {
+			}
+		});
+		int executedBefore = fExecutor.fExecuted.get();
+		answerWithThreadStorm();
+		written.countDown();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		int executed = fExecutor.fExecuted.get() - executedBefore;
+
+		int[] events = fExecutor.submit(() -> new int[] { fEvents.size() }).get();
+		assertEquals(THREADS, events[0]);
+		// The events are received in order
+		fExecutor.submit(() -> {
+			for (int i = 0; i < THREADS; i++) {
+				MIExecAsyncOutput running = (MIExecAsyncOutput) fEvents.get(i).getMIOOBRecords()[0];
+				assertEquals("running", running.getAsyncClass());
+				assertEquals(String.valueOf(i + 1), ((MIConst) running.getMIResults()[0].getMIValue()).getCString());
+			}
+		}).get();
+		// Before the output was dispatched in batches, every record took two
+		// runnables.
+		assertTrue("Executed " + executed + " runnables", executed < THREADS / 10);
+	}
+
+	@Test
+	public void testStepCompletesAfterEvents() throws Exception {
+		CountDownLatch done = queueStep();
+		answerWithThreadStorm();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		// The result of the step is printed after the records of the threads, and
+		// is not dispatched ahead of the batches holding them.
+		assertEquals(THREADS, fEventsWhenDone);
+	}
+
+	/**
+	 * Answers the given number of commands. GDB reads the commands until no
+	 * more are sent, then answers all of them.
+	 *
+	 * @return the number of commands read before each burst of answers
+	 */
+	private List<Integer> answerInBursts(int commands, Function<String, String> answer) throws Exception {
+		List<Integer> bursts = new ArrayList<>();
+		Writer writer = new OutputStreamWriter(fGdbOutput);
+		int answered = 0;
+		while (answered < commands) {
+			List<String> burst = new ArrayList<>();
+			burst.add(fGdbInput.readLine());
+			long deadline = System.currentTimeMillis() + BURST_TIMEOUT;
+			while (System.currentTimeMillis() < deadline) {
+				if (fGdbInput.ready()) {
+					burst.add(fGdbInput.readLine());
+				} else {
+					Thread.sleep(5);
+				}
+			}
+			bursts.add(burst.size());
+			for (String command : burst) {
+				int operation = command.indexOf('-');
+				writer.write(command.substring(0, operation) + answer.apply(command.substring(operation)) + "\n");
+			}
+			writer.flush();
+			answered += burst.size();
+		}
+		return bursts;
+	}
+
+	@Test
+	public void testBreakpointInsertsArePipelined() throws Exception {
+		IBreakpointsTargetDMContext target = (IBreakpointsTargetDMContext) fControl.getContext();
+		int failing = BREAKPOINTS / 2;
+		List<DataRequestMonitor<MIBreakInsertInfo>> rms = new ArrayList<>();
+		CountDownLatch done = new CountDownLatch(BREAKPOINTS);
+		fExecutor.submit(() -> {
+			for (int i = 0; i < BREAKPOINTS; i++) {
+				DataRequestMonitor<MIBreakInsertInfo> rm = new DataRequestMonitor<>(fExecutor, null) {
+					@Override
+					protected void handleCompleted() {
+						done.countDown();
+					}
+				};
+				rms.add(rm);
+				fControl.queueCommand(new MIBreakInsert(target, "f" + i, true), rm);
+			}
+		}).get();
+
+		List<Integer> bursts = answerInBursts(BREAKPOINTS, command -> {
+			String function = command.substring(command.lastIndexOf(' ') + 1);
+			if (function.equals("f" + failing)) {
+				return "^error,msg=\"Function \\\"" + function + "\\\" not defined.\"";
+			}
+			String number = function.substring(1);
+			return "^done,bkpt={number=\"" + number + "\",type=\"breakpoint\",disp=\"keep\",enabled=\"y\","
+					+ "func=\"" + function + "\",times=\"0\",original-location=\"" + function + "\"}";
+		});
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+
+		// The inserts were sent without waiting for the answers of the previous
+		// ones, but not all at once
+		assertEquals(16, (int) bursts.stream().max(Integer::compare).get());
+		fExecutor.submit(() -> {
+			for (int i = 0; i < BREAKPOINTS; i++) {
+				DataRequestMonitor<MIBreakInsertInfo> rm = rms.get(i);
+				if (i == failing) {
+					assertFalse(rm.isSuccess());
+					assertTrue(rm.getStatus().getMessage(), rm.getStatus().getMessage().contains("f" + failing));
+				} else {
+					assertTrue(rm.getStatus().getMessage(), rm.isSuccess());
+					assertEquals("f" + i, rm.getData().getMIBreakpoints()[0].getFunction());
+				}
+			}
+		}).get();
+	}
+
+	@Test
+	public void testOtherCommandsAreNotPipelined() throws Exception {
+		int commands = 10;
+		CountDownLatch done = new CountDownLatch(commands);
+		fExecutor.submit(() -> {
+			for (int i = 0; i < commands; i++) {
+				fControl.queueCommand(new MICommand<MIInfo>(fControl.getContext(), "-gdb-version"), //$NON-NLS-1$
+						new DataRequestMonitor<MIInfo>(fExecutor, null) {
+							@Override
+							protected void handleCompleted() {
+								done.countDown();
+							}
+						});
+			}
+		}).get();
+		List<Integer> bursts = answerInBursts(commands, command -> "^done");
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		assertEquals(3, (int) bursts.stream().max(Integer::compare).get());
+	}
+
+	@Test
+	public void testShutdownCompletesCommandsOnce() throws Exception {
+		IBreakpointsTargetDMContext target = (IBreakpointsTargetDMContext) fControl.getContext();
+		List<DataRequestMonitor<MIBreakInsertInfo>> rms = new ArrayList<>();
+		AtomicInteger completed = new AtomicInteger();
+		// Long enough for the commands on the wire to fill the pipe to GDB
+		String function = String.join("", Collections.nCopies(200, "f"));
+		fExecutor.submit(() -> {
+			for (int i = 0; i < BREAKPOINTS; i++) {
+				DataRequestMonitor<MIBreakInsertInfo> rm = new DataRequestMonitor<>(fExecutor, null) {
+					@Override
+					protected void handleCompleted() {
+						completed.incrementAndGet();
+					}
+				};
+				rms.add(rm);
+				fControl.queueCommand(new MIBreakInsert(target, function + i, true), rm);
+			}
+		}).get();
+		// GDB reads a few commands and does not answer, the other commands
+		// are either waiting to be written or queued
+		fGdbInput.readLine();
+		fGdbInput.readLine();
+
+		// Completing a request monitor twice would fail the shutdown
+		fExecutor.submit(() -> fControl.stop()).get();
+		fExecutor.submit(() -> {
+			assertEquals(BREAKPOINTS, completed.get());
+			for (DataRequestMonitor<MIBreakInsertInfo> rm : rms) {
+				assertFalse(rm.isSuccess());
+			}
+		}).get();
+		fGdbInput.close();
+	}
+}
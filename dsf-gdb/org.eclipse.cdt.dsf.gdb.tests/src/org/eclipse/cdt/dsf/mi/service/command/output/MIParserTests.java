@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MIParserTests {
+	// Records as printed by GDB during a debug session
+	private static final String STOPPED = "*stopped,reason=\"breakpoint-hit\",disp=\"keep\",bkptno=\"1\",frame={addr=\"0x0000555555555131\",func=\"main\",args=[{name=\"argc\",value=\"1\"},{name=\"argv\",value=\"0x7fffffffe0b8\"}],file=\"hello.c\",fullname=\"/home/user/hello/hello.c\",line=\"5\",arch=\"i386:x86-64\"},thread-id=\"1\",stopped-threads=\"all\",core=\"3\"";
+	private static final String THREAD_GROUP_STARTED = "=thread-group-started,id=\"i1\",pid=\"25084\"";
+	private static final String CONSOLE = "~\"Breakpoint 1, main (argc=1, argv=0x7fffffffe0b8) at hello.c:5\\n\"";
+	private static final String EVALUATE = "17^done,value=\"0x555555556004 \\\"a \\\\\\\"quoted\\\\\\\" string\\\"\"";
+	private static final String ERROR = "23^error,msg=\"No symbol \\\"foo\\\" in current context.\"";
+	private static final String FRAME = "frame={level=\"%d\",addr=\"0x0000555555555%03x\",func=\"recurse\",file=\"recurse.c\",fullname=\"/home/user/recurse/recurse.c\",line=\"%d\",arch=\"i386:x86-64\"}";
+
+	private final MIParser parser = new MIParser();
+
+	@Test
+	public void testRecordTypes() {
+		assertEquals(MIParser.RecordType.ResultRecord, parser.getRecordType("12^done"));
+		assertEquals(MIParser.RecordType.PrimaryPrompt, parser.getRecordType("(gdb) "));
+		assertEquals(MIParser.RecordType.OOBRecord, parser.getRecordType(STOPPED));
+	}
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = parser.parseMIResultRecord(EVALUATE);
+		assertEquals(17, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		assertEquals(1, rr.getMIResults().length);
+		assertEquals("value", rr.getMIResults()[0].getVariable());
+		assertEquals("0x555555556004 \"a \\\"quoted\\\" string\"",
+				((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+
+		rr = parser.parseMIResultRecord(ERROR);
+		assertEquals(23, rr.getToken());
+		assertEquals(MIResultRecord.ERROR, rr.getResultClass());
+		assertEquals("No symbol \"foo\" in current context.",
+				((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+
+		rr = parser.parseMIResultRecord("^running");
+		assertEquals(-1, rr.getToken());
+		assertEquals(MIResultRecord.RUNNING, rr.getResultClass());
+		assertEquals(0, rr.getMIResults().length);
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIExecAsyncOutput exec = (MIExecAsyncOutput) parser.parseMIOOBRecord(STOPPED);
+		assertEquals("stopped", exec.getAsyncClass());
+		assertEquals(7, exec.getMIResults().length);
+		MITuple frame = (MITuple) exec.getMIResults()[3].getMIValue();
+		assertEquals("main", ((MIConst) frame.getField("func")).getCString());
+		MIList args = (MIList) frame.getField("args");
+		assertEquals(2, args.getMIValues().length);
+		assertEquals("argv", ((MIConst) ((MITuple) args.getMIValues()[1]).getField("name")).getCString());
+		assertEquals("core", exec.getMIResults()[6].getVariable());
+
+		MINotifyAsyncOutput notify = (MINotifyAsyncOutput) parser.parseMIOOBRecord(THREAD_GROUP_STARTED);
+		assertEquals("thread-group-started", notify.getAsyncClass());
+		assertEquals("25084", ((MIConst) notify.getMIResults()[1].getMIValue()).getCString());
+	}
+
+	@Test
+	public void testStreamRecords() {
+		MIConsoleStreamOutput console = (MIConsoleStreamOutput) parser.parseMIOOBRecord(CONSOLE);
+		assertEquals("Breakpoint 1, main (argc=1, argv=0x7fffffffe0b8) at hello.c:5\\n", console.getCString());
+
+		// Backslashes are not escaped in stream records
+		MILogStreamOutput log = (MILogStreamOutput) parser.parseMIOOBRecord("&\"C:\\\\temp\\\\a.out\\n\"");
+		assertEquals("C:\\\\temp\\\\a.out\\n", log.getCString());
+
+		// Anything else is passed on as target output
+		MITargetStreamOutput target = (MITargetStreamOutput) parser.parseMIOOBRecord("Hello world");
+		assertEquals("Hello world\n", target.getCString());
+	}
+
+	@Test
+	public void testMalformedRecords() {
+		// Unterminated strings and brackets consume the rest of the line
+		MIResultRecord rr = parser.parseMIResultRecord("^done,value=\"abc");
+		assertEquals("abc", ((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+		rr = parser.parseMIResultRecord("^done,stack=[frame={level=\"0\"");
+		MIList stack = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(1, stack.getMIResults().length);
+		// A result without a value
+		rr = parser.parseMIResultRecord("^done,novalue");
+		assertEquals("novalue", rr.getMIResults()[0].getVariable());
+		assertEquals("", ((MIConst) rr.getMIResults()[0].getMIValue()).getCString());
+	}
+
+	/**
+	 * Parses a <code>-stack-list-frames</code> result with many frames, as
+	 * printed for a deep recursion. The parser must not degrade with the length
+	 * of the record.
+	 */
+	@Test
+	public void testLargeRecords() {
+		int frames = 2000;
+		String stack = createStackListFrames(frames);
+		MIResultRecord rr = parser.parseMIResultRecord(stack);
+		MIList list = (MIList) rr.getMIResults()[0].getMIValue();
+		assertEquals(frames, list.getMIResults().length);
+		MITuple last = (MITuple) list.getMIResults()[frames - 1].getMIValue();
+		assertEquals(String.valueOf(frames - 1), ((MIConst) last.getField("level")).getCString());
+
+		String memory = createDataReadMemoryBytes(64 * 1024);
+		rr = parser.parseMIResultRecord(memory);
+		MITuple block = (MITuple) ((MIList) rr.getMIResults()[0].getMIValue()).getMIValues()[0];
+		assertEquals(2 * 64 * 1024, ((MIConst) block.getField("contents")).getCString().length());
+
+		long small = measure(createStackListFrames(1), 20000);
+		long large = measure(stack, 20);
+		// Parsing is linear, a record with 2000 frames takes about 2000 times as long
+		// as a single frame. Allow a generous margin for noise.
+		assertTrue(large < small * frames * 20);
+	}
+
+	private long measure(String line, int iterations) {
+		// Warm up
+		for (int i = 0; i < iterations; i++) {
+			parser.parseMIResultRecord(line);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			parser.parseMIResultRecord(line);
+		}
+		return (System.nanoTime() - start) / iterations;
+	}
+
+	private static String createStackListFrames(int frames) {
+		StringBuilder sb = new StringBuilder("42^done,stack=[");
+		for (int i = 0; i < frames; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(String.format(FRAME, i, i % 0x1000, 10 + i % 7));
+		}
+		return sb.append(']').toString();
+	}
+
+	private static String createDataReadMemoryBytes(int bytes) {
+		StringBuilder sb = new StringBuilder(
+				"43^done,memory=[{begin=\"0x00007ffff7dd1000\",offset=\"0x0000000000000000\",end=\"0x00007ffff7de1000\",contents=\"");
+		for (int i = 0; i < bytes; i++) {
+			sb.append(Character.forDigit((i >> 4) & 0xf, 16)).append(Character.forDigit(i & 0xf, 16));
+		}
+		return sb.append("\"}]").toString();
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.gdb.internal.ui.GdbUIPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceTargetDMContext;
+import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl3;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.dsf.ui.viewmodel.datamodel.IDMVMContext;
@@ -79,7 +80,10 @@ public class GdbSaveTraceDataCommand extends AbstractDebugCommand implements ISa
 				public void execute(final DataRequestMonitor<Object> rm) {
 					IGDBTraceControl traceControl = fTracker.getService(IGDBTraceControl.class);
 
-					if (traceControl != null) {
+					if (traceControl instanceof IGDBTraceControl3) {
+						// Also index the saved records, so that they can be searched
+						((IGDBTraceControl3) traceControl).downloadTraceData(dmc, fileName[0], rm);
+					} else if (traceControl != null) {
 						traceControl.saveTraceData(dmc, fileName[0], false, rm);
 					} else {
 						rm.done();
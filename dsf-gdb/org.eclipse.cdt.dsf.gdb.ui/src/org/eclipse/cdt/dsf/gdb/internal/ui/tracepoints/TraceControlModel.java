@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.internal.ui.tracepoints;
 
+import java.math.BigInteger;
 import java.util.Hashtable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
@@ -43,6 +44,7 @@ import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITracingStartedDMEvent;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITracingStoppedDMEvent;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITracingSupportedChangeDMEvent;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl2;
+import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl3;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
@@ -352,25 +354,8 @@ public class TraceControlModel {
 							new ImmediateDataRequestMonitor<ITraceRecordDMContext>() {
 								@Override
 								protected void handleSuccess() {
-									final ITraceRecordDMContext previousDmc = getData();
-									ITraceRecordDMContext nextRecord = fGDBTraceControl
-											.createTraceRecordContext(fTargetContext, traceRecordId);
-
-									// Must send the event right away to tell the services we are starting visualization
-									// If we don't, the services won't behave accordingly soon enough
-									// Bug 347514
-									getSession().dispatchEvent(new TraceRecordSelectedChangedEvent(nextRecord),
-											new Hashtable<String, String>());
-
-									fGDBTraceControl.selectTraceRecord(nextRecord, new ImmediateRequestMonitor() {
-										@Override
-										protected void handleError() {
-											// If we weren't able to select the next record, we must notify that we are still on the previous one
-											// since we have already sent a TraceRecordSelectedChangedEvent early, but it didn't happen.
-											getSession().dispatchEvent(new TraceRecordSelectedChangedEvent(previousDmc),
-													new Hashtable<String, String>());
-										}
-									});
+									selectTraceRecord(getData(), fGDBTraceControl
+											.createTraceRecordContext(fTargetContext, traceRecordId));
 								}
 							});
 
@@ -379,6 +364,86 @@ public class TraceControlModel {
 		});
 	}
 
+	private void selectTraceRecord(final ITraceRecordDMContext previousDmc, ITraceRecordDMContext nextRecord) {
+		// Must send the event right away to tell the services we are starting visualization
+		// If we don't, the services won't behave accordingly soon enough
+		// Bug 347514
+		getSession().dispatchEvent(new TraceRecordSelectedChangedEvent(nextRecord), new Hashtable<String, String>());
+
+		fGDBTraceControl.selectTraceRecord(nextRecord, new ImmediateRequestMonitor() {
+			@Override
+			protected void handleError() {
+				// If we weren't able to select the next record, we must notify that we are still on the previous one
+				// since we have already sent a TraceRecordSelectedChangedEvent early, but it didn't happen.
+				getSession().dispatchEvent(new TraceRecordSelectedChangedEvent(previousDmc),
+						new Hashtable<String, String>());
+			}
+		});
+	}
+
+	/**
+	 * Selects the first trace record after the current one that was collected by a
+	 * tracepoint and at or from an address, looping back to the front. The records
+	 * are searched in the trace data saved to or loaded from a file.
+	 *
+	 * @param text what the user entered, to report that no record was found
+	 */
+	public void findNextTraceRecord(final Integer tracepoint, final BigInteger address, final String text) {
+		if (getSession() == null) {
+			return;
+		}
+
+		getSession().getExecutor().execute(new DsfRunnable() {
+			@Override
+			public void run() {
+				if (fTargetContext == null || !(fGDBTraceControl instanceof IGDBTraceControl3)) {
+					notifyFindResult(TracepointsMessages.TraceControlView_find_frame_not_saved);
+					return;
+				}
+
+				final IGDBTraceControl3 traceControl = (IGDBTraceControl3) fGDBTraceControl;
+				fGDBTraceControl.getCurrentTraceRecordContext(fTargetContext,
+						new ImmediateDataRequestMonitor<ITraceRecordDMContext>() {
+							@Override
+							protected void handleSuccess() {
+								final ITraceRecordDMContext previousDmc = getData();
+								traceControl.findTraceRecords(fTargetContext, tracepoint, address,
+										new ImmediateDataRequestMonitor<ITraceRecordDMContext[]>() {
+											@Override
+											protected void handleCompleted() {
+												if (!isSuccess()) {
+													notifyFindResult(
+															TracepointsMessages.TraceControlView_find_frame_not_saved);
+												} else if (getData().length == 0) {
+													notifyFindResult(TracepointsMessages.bind(
+															TracepointsMessages.TraceControlView_find_frame_not_found,
+															text));
+												} else {
+													selectTraceRecord(previousDmc,
+															findNextRecord(getData(), previousDmc.getRecordId()));
+												}
+											}
+										});
+							}
+						});
+			}
+		});
+	}
+
+	/**
+	 * Returns the first of the records, sorted by number, that comes after
+	 * the current record, or the first record if none does.
+	 */
+	private static ITraceRecordDMContext findNextRecord(ITraceRecordDMContext[] records, String currentRecordId) {
+		int current = currentRecordId == null ? -1 : Integer.parseInt(currentRecordId);
+		for (ITraceRecordDMContext record : records) {
+			if (Integer.parseInt(record.getRecordId()) > current) {
+				return record;
+			}
+		}
+		return records[0];
+	}
+
 	public void setCircularBuffer(final boolean useCircularBuffer) {
 		if (getSession() == null) {
 			return;
@@ -478,6 +543,13 @@ public class TraceControlModel {
 		}
 	}
 
+	private void notifyFindResult(final String message) {
+		final TraceControlView v = fTraceControlView;
+		if (v != null) {
+			Display.getDefault().asyncExec(() -> v.updateFindFrameResult(message));
+		}
+	}
+
 	/*
 	 * When tracing starts, we know the status has changed
 	 */
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.internal.ui.tracepoints;
 
+import java.math.BigInteger;
 import java.text.DateFormat;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
@@ -199,6 +200,8 @@ public class TraceControlView extends ViewPart {
 	protected Label fFrameLabel;
 	protected Label fFrameNumberLabel;
 	protected Slider fFrameSlider;
+	protected Text fFindFrameText;
+	protected Label fFindFrameResultLabel;
 
 	protected Composite fNotesComposite;
 	protected Label fNotesContentLabel;
@@ -539,6 +542,61 @@ public class TraceControlView extends ViewPart {
 		fFrameNumberLabel.setText(TracepointsMessages.TraceControlView_frame_not_looking);
 		GridData gd = new GridData(SWT.FILL, SWT.CENTER, true, false);
 		fFrameNumberLabel.setLayoutData(gd);
+
+		Label findFrameLabel = new Label(fFrameComposite, SWT.NONE);
+		findFrameLabel.setText(TracepointsMessages.TraceControlView_find_frame_label);
+		findFrameLabel.setLayoutData(new GridData());
+
+		fFindFrameText = new Text(fFrameComposite, SWT.BORDER | SWT.SEARCH);
+		fFindFrameText.setMessage(TracepointsMessages.TraceControlView_find_frame_hint);
+		fFindFrameText.setToolTipText(TracepointsMessages.TraceControlView_find_frame_tooltip);
+		fFindFrameText.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+		fFindFrameText.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetDefaultSelected(SelectionEvent e) {
+				handleFindFrame();
+			}
+		});
+
+		fFindFrameResultLabel = new Label(fFrameComposite, SWT.WRAP);
+		GridData rlGd = new GridData(SWT.FILL, SWT.CENTER, true, false);
+		rlGd.horizontalSpan = 2;
+		fFindFrameResultLabel.setLayoutData(rlGd);
+	}
+
+	/**
+	 * Selects the next trace frame collected by the tracepoint or at the
+	 * address entered by the user.
+	 */
+	protected void handleFindFrame() {
+		String text = fFindFrameText.getText().trim();
+		if (text.isEmpty()) {
+			return;
+		}
+
+		Integer tracepoint = null;
+		BigInteger address = null;
+		try {
+			if (text.startsWith("0x") || text.startsWith("0X")) { //$NON-NLS-1$ //$NON-NLS-2$
+				address = new BigInteger(text.substring(2), 16);
+			} else {
+				tracepoint = Integer.valueOf(text);
+			}
+		} catch (NumberFormatException e) {
+			updateFindFrameResult(
+					TracepointsMessages.bind(TracepointsMessages.TraceControlView_find_frame_invalid, text));
+			return;
+		}
+		updateFindFrameResult(EMPTY_STRING);
+		fTraceControlModel.findNextTraceRecord(tracepoint, address, text);
+	}
+
+	protected void updateFindFrameResult(String message) {
+		try {
+			fFindFrameResultLabel.setText(message);
+			updateLayout();
+		} catch (SWTException ex) {
+		}
 	}
 
 	protected void setFrameLineVisible(boolean visible, ITraceStatusDMData2 traceData) {
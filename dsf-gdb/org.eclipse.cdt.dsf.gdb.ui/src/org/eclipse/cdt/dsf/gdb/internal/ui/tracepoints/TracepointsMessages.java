@@ -66,6 +66,12 @@ public final class TracepointsMessages extends NLS {
 	public static String TraceControlView_frame_looking;
 	public static String TraceControlView_frame_dragging;
 	public static String TraceControlView_frame_not_looking;
+	public static String TraceControlView_find_frame_label;
+	public static String TraceControlView_find_frame_hint;
+	public static String TraceControlView_find_frame_tooltip;
+	public static String TraceControlView_find_frame_invalid;
+	public static String TraceControlView_find_frame_not_found;
+	public static String TraceControlView_find_frame_not_saved;
 	public static String TraceControlView_trace_notes_edit_tooltip;
 	public static String TraceControlView_trace_notes_save_tooltip;
 	public static String TraceControlView_trace_notes_not_set;
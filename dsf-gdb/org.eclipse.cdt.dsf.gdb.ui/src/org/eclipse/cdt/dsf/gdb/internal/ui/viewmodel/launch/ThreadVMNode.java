@@ -59,12 +59,14 @@ import org.eclipse.cdt.dsf.ui.viewmodel.properties.VMDelegatingPropertiesUpdate;
 import org.eclipse.cdt.ui.CDTSharedImages;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenCountUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementCompareRequest;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementLabelProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementMementoProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementMementoRequest;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -252,48 +254,80 @@ public class ThreadVMNode extends AbstractThreadVMNode implements IElementMement
 		return provider;
 	}
 
+	@Override
+	protected void updateElementCountInSessionThread(final IChildrenCountUpdate update) {
+		getThreads(update, new ViewerDataRequestMonitor<IExecutionDMContext[]>(getSession().getExecutor(), update) {
+			@Override
+			public void handleCompleted() {
+				if (!isSuccess()) {
+					handleFailedUpdate(update);
+					return;
+				}
+				update.setChildCount(getData().length);
+				update.done();
+			}
+		});
+	}
+
 	@Override
 	protected void updateElementsInSessionThread(final IChildrenUpdate update) {
+		getThreads(update, new ViewerDataRequestMonitor<IExecutionDMContext[]>(getSession().getExecutor(), update) {
+			@Override
+			public void handleCompleted() {
+				if (!isSuccess()) {
+					handleFailedUpdate(update);
+					return;
+				}
+				// Only the threads in the range of the update are turned into elements,
+				// so that a process with many threads is filled one page at a time.
+				fillUpdateWithVMCs(update, getData());
+				update.done();
+			}
+		});
+	}
+
+	/**
+	 * Gets the threads of the process in the path of the update, without the
+	 * running threads if they are hidden.
+	 */
+	private void getThreads(IViewerUpdate update, final DataRequestMonitor<IExecutionDMContext[]> rm) {
 		IProcesses procService = getServicesTracker().getService(IProcesses.class);
 		final IContainerDMContext contDmc = findDmcInPath(update.getViewerInput(), update.getElementPath(),
 				IContainerDMContext.class);
 		if (procService == null || contDmc == null) {
-			handleFailedUpdate(update);
+			rm.done(new Status(IStatus.ERROR, GdbUIPlugin.PLUGIN_ID, "Service or context not available")); //$NON-NLS-1$
 			return;
 		}
 
-		procService.getProcessesBeingDebugged(contDmc,
-				new ViewerDataRequestMonitor<IDMContext[]>(getSession().getExecutor(), update) {
-					@Override
-					public void handleCompleted() {
-						if (!isSuccess() || !(getData() instanceof IExecutionDMContext[])) {
-							handleFailedUpdate(update);
-							return;
-						}
+		procService.getProcessesBeingDebugged(contDmc, new DataRequestMonitor<IDMContext[]>(getExecutor(), rm) {
+			@Override
+			protected void handleSuccess() {
+				if (!(getData() instanceof IExecutionDMContext[])) {
+					rm.done(new Status(IStatus.ERROR, GdbUIPlugin.PLUGIN_ID, "Invalid thread list")); //$NON-NLS-1$
+					return;
+				}
 
-						IExecutionDMContext[] execDmcs = (IExecutionDMContext[]) getData();
-						if (fHideRunningThreadsProperty) {
-							// Remove running threads from the list
-							IRunControl runControl = getServicesTracker().getService(IRunControl.class);
-							if (runControl == null) {
-								handleFailedUpdate(update);
-								return;
-							}
+				IExecutionDMContext[] execDmcs = (IExecutionDMContext[]) getData();
+				if (fHideRunningThreadsProperty) {
+					// Remove running threads from the list
+					IRunControl runControl = getServicesTracker().getService(IRunControl.class);
+					if (runControl == null) {
+						rm.done(new Status(IStatus.ERROR, GdbUIPlugin.PLUGIN_ID, "Service not available")); //$NON-NLS-1$
+						return;
+					}
 
-							List<IExecutionDMContext> execDmcsNotRunning = new ArrayList<>();
-							for (IExecutionDMContext execDmc : execDmcs) {
-								// Keep suspended or stepping threads
-								if (runControl.isSuspended(execDmc) || runControl.isStepping(execDmc)) {
-									execDmcsNotRunning.add(execDmc);
-								}
-							}
-							execDmcs = execDmcsNotRunning.toArray(new IExecutionDMContext[execDmcsNotRunning.size()]);
+					List<IExecutionDMContext> execDmcsNotRunning = new ArrayList<>();
+					for (IExecutionDMContext execDmc : execDmcs) {
+						// Keep suspended or stepping threads
+						if (runControl.isSuspended(execDmc) || runControl.isStepping(execDmc)) {
+							execDmcsNotRunning.add(execDmc);
 						}
-
-						fillUpdateWithVMCs(update, execDmcs);
-						update.done();
 					}
-				});
+					execDmcs = execDmcsNotRunning.toArray(new IExecutionDMContext[execDmcsNotRunning.size()]);
+				}
+				rm.done(execDmcs);
+			}
+		});
 	}
 
 	@Override
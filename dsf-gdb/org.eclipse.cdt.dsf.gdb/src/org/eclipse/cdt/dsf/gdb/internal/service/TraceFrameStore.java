@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.internal.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The trace frames of a trace file saved by GDB's <code>tsave</code> command,
+ * indexed by frame number so that they can be browsed and searched without
+ * selecting each frame in GDB.
+ * <p>
+ * A trace file starts with a text header describing the tracepoints and trace
+ * state variables, followed by the raw frames: a 2-byte tracepoint number, a
+ * 4-byte size, and blocks of registers (<code>R</code>), memory
+ * (<code>M</code>) and trace state variables (<code>V</code>). The numbers are
+ * in the byte order of the target, which is found from the tracepoint numbers
+ * of the frames. Only the index is built when the file is loaded; the blocks of
+ * a frame are decoded when the frame is read.
+ * <p>
+ * The PC of a frame is the address of its tracepoint, like GDB does for frames
+ * without registers. The register block is kept as collected, since its layout
+ * depends on the architecture.
+ */
+public class TraceFrameStore {
+	private static final byte[] MAGIC = "\u007fTRACE0\n".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final int FRAME_HEADER_SIZE = 6;
+
+	/**
+	 * A block of memory collected in a trace frame.
+	 */
+	public static class MemoryBlock {
+		private final BigInteger fAddress;
+		private final byte[] fContents;
+
+		MemoryBlock(BigInteger address, byte[] contents) {
+			fAddress = address;
+			fContents = contents;
+		}
+
+		public BigInteger getAddress() {
+			return fAddress;
+		}
+
+		public byte[] getContents() {
+			return fContents;
+		}
+
+		public boolean contains(BigInteger address) {
+			BigInteger offset = address.subtract(fAddress);
+			return offset.signum() >= 0 && offset.compareTo(BigInteger.valueOf(fContents.length)) < 0;
+		}
+	}
+
+	/**
+	 * The data collected in one trace frame.
+	 */
+	public static class TraceFrame {
+		private final int fNumber;
+		private final int fTracepoint;
+		private final BigInteger fPC;
+		private byte[] fRegisters;
+		private final List<MemoryBlock> fMemory = new ArrayList<>();
+		private final Map<Integer, Long> fVariables = new LinkedHashMap<>();
+
+		TraceFrame(int number, int tracepoint, BigInteger pc) {
+			fNumber = number;
+			fTracepoint = tracepoint;
+			fPC = pc;
+		}
+
+		public int getNumber() {
+			return fNumber;
+		}
+
+		public int getTracepoint() {
+			return fTracepoint;
+		}
+
+		/**
+		 * Returns the address of the tracepoint that collected this frame, or
+		 * <code>null</code> if the tracepoint is not described by the file.
+		 */
+		public BigInteger getPC() {
+			return fPC;
+		}
+
+		/**
+		 * Returns the registers collected in the format of the remote protocol
+		 * for the architecture, or <code>null</code> if they were not collected.
+		 */
+		public byte[] getRegisters() {
+			return fRegisters;
+		}
+
+		public List<MemoryBlock> getMemory() {
+			return Collections.unmodifiableList(fMemory);
+		}
+
+		/**
+		 * Returns the values of the trace state variables collected, by number.
+		 */
+		public Map<Integer, Long> getTraceVariables() {
+			return Collections.unmodifiableMap(fVariables);
+		}
+
+		/**
+		 * Returns whether the frame was collected at the given address, or
+		 * collected the memory at that address.
+		 */
+		public boolean matches(BigInteger address) {
+			if (address.equals(fPC)) {
+				return true;
+			}
+			for (MemoryBlock block : fMemory) {
+				if (block.contains(address)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final ByteBuffer fData;
+	private final int fRegisterBlockSize;
+	private final Map<Integer, BigInteger> fTracepointAddresses;
+	private final Map<Integer, String> fTraceVariableNames;
+
+	// The index of the frames: where their blocks start, their size and their tracepoint
+	private int fFrameCount;
+	private int[] fOffsets = new int[1024];
+	private int[] fSizes = new int[1024];
+	private int[] fTracepoints = new int[1024];
+
+	private TraceFrameStore(ByteBuffer data, int registerBlockSize, Map<Integer, BigInteger> tracepointAddresses,
+			Map<Integer, String> traceVariableNames) {
+		fData = data;
+		fRegisterBlockSize = registerBlockSize;
+		fTracepointAddresses = tracepointAddresses;
+		fTraceVariableNames = traceVariableNames;
+	}
+
+	/**
+	 * Loads the index of the frames of a trace file.
+	 *
+	 * @throws IOException if the file cannot be read or is not a trace file
+	 */
+	public static TraceFrameStore load(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Trace file is too large: " + file); //$NON-NLS-1$
+			}
+			return load(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/**
+	 * Loads the index of the frames of the contents of a trace file.
+	 *
+	 * @throws IOException if the contents are not those of a trace file
+	 */
+	public static TraceFrameStore load(ByteBuffer contents) throws IOException {
+		ByteBuffer data = contents.duplicate();
+		byte[] magic = new byte[MAGIC.length];
+		if (data.remaining() < magic.length) {
+			throw new IOException("Not a trace file"); //$NON-NLS-1$
+		}
+		data.get(magic);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Not a trace file"); //$NON-NLS-1$
+		}
+
+		// The definitions end with an empty line
+		int registerBlockSize = 0;
+		Map<Integer, BigInteger> tracepointAddresses = new HashMap<>();
+		Map<Integer, String> traceVariableNames = new HashMap<>();
+		String line;
+		while (!(line = readLine(data)).isEmpty()) {
+			try {
+				if (line.startsWith("R ")) { //$NON-NLS-1$
+					registerBlockSize = Integer.parseInt(line.substring(2).trim(), 16);
+				} else if (line.startsWith("tp T")) { //$NON-NLS-1$
+					// tp T<number>:<address>:<enabled>:<step count>:<pass count>...
+					String[] fields = line.substring(4).split(":"); //$NON-NLS-1$
+					tracepointAddresses.putIfAbsent(Integer.parseInt(fields[0], 16), new BigInteger(fields[1], 16));
+				} else if (line.startsWith("tsv ")) { //$NON-NLS-1$
+					// tsv <number>:<initial value>:<builtin>:<hex-encoded name>
+					String[] fields = line.substring(4).split(":"); //$NON-NLS-1$
+					traceVariableNames.put(Integer.parseInt(fields[0], 16), decodeHex(fields[3]));
+				}
+			} catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+				// Definitions we don't understand don't prevent reading the frames
+			}
+		}
+
+		data.order(findByteOrder(data.slice(), tracepointAddresses));
+		TraceFrameStore store = new TraceFrameStore(data, registerBlockSize, tracepointAddresses,
+				traceVariableNames);
+		store.index();
+		return store;
+	}
+
+	private static String readLine(ByteBuffer data) throws IOException {
+		StringBuilder line = new StringBuilder();
+		while (true) {
+			if (!data.hasRemaining()) {
+				throw new IOException("Trace file has no frames"); //$NON-NLS-1$
+			}
+			char c = (char) (data.get() & 0xff);
+			if (c == '\n') {
+				return line.toString();
+			}
+			line.append(c);
+		}
+	}
+
+	private static String decodeHex(String hex) {
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/*
+	 * The frames are saved in the byte order of the target. The first frame has
+	 * the number of a tracepoint defined in the header in that order only.
+	 */
+	private static ByteOrder findByteOrder(ByteBuffer frames, Map<Integer, BigInteger> tracepointAddresses) {
+		if (frames.remaining() >= 2) {
+			int littleEndian = frames.order(ByteOrder.LITTLE_ENDIAN).getShort(0) & 0xffff;
+			int bigEndian = frames.order(ByteOrder.BIG_ENDIAN).getShort(0) & 0xffff;
+			if (!tracepointAddresses.containsKey(littleEndian) && tracepointAddresses.containsKey(bigEndian)) {
+				return ByteOrder.BIG_ENDIAN;
+			}
+		}
+		return ByteOrder.LITTLE_ENDIAN;
+	}
+
+	private void index() {
+		ByteBuffer data = fData.duplicate().order(fData.order());
+		while (data.remaining() >= FRAME_HEADER_SIZE) {
+			int tracepoint = data.getShort() & 0xffff;
+			int size = data.getInt();
+			if (tracepoint == 0 || size < 0 || size > data.remaining()) {
+				// The end of the frames, or a truncated file
+				break;
+			}
+			if (fFrameCount == fOffsets.length) {
+				fOffsets = Arrays.copyOf(fOffsets, 2 * fFrameCount);
+				fSizes = Arrays.copyOf(fSizes, 2 * fFrameCount);
+				fTracepoints = Arrays.copyOf(fTracepoints, 2 * fFrameCount);
+			}
+			fOffsets[fFrameCount] = data.position();
+			fSizes[fFrameCount] = size;
+			fTracepoints[fFrameCount] = tracepoint;
+			fFrameCount++;
+			data.position(data.position() + size);
+		}
+	}
+
+	public int getFrameCount() {
+		return fFrameCount;
+	}
+
+	/**
+	 * Returns the number of the tracepoint that collected a frame.
+	 */
+	public int getTracepoint(int frame) {
+		checkFrame(frame);
+		return fTracepoints[frame];
+	}
+
+	/**
+	 * Returns the name of a trace state variable, or <code>null</code> if it
+	 * is not described by the file.
+	 */
+	public String getTraceVariableName(int number) {
+		return fTraceVariableNames.get(number);
+	}
+
+	/**
+	 * Decodes the data collected in a frame.
+	 */
+	public TraceFrame getFrame(int frame) {
+		checkFrame(frame);
+		int tracepoint = fTracepoints[frame];
+		TraceFrame result = new TraceFrame(frame, tracepoint, fTracepointAddresses.get(tracepoint));
+
+		ByteBuffer data = fData.duplicate().order(fData.order());
+		data.position(fOffsets[frame]);
+		data.limit(fOffsets[frame] + fSizes[frame]);
+		try {
+			while (data.hasRemaining()) {
+				switch (data.get()) {
+				case 'R':
+					result.fRegisters = new byte[fRegisterBlockSize];
+					data.get(result.fRegisters);
+					break;
+				case 'M':
+					BigInteger address = new BigInteger(1, toBigEndian(data.getLong()));
+					byte[] contents = new byte[data.getShort() & 0xffff];
+					data.get(contents);
+					result.fMemory.add(new MemoryBlock(address, contents));
+					break;
+				case 'V':
+					int number = data.getInt();
+					result.fVariables.put(number, data.getLong());
+					break;
+				default:
+					// A block we don't know, the rest of the frame cannot be decoded
+					return result;
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			// A block larger than its frame, keep the blocks decoded so far
+		}
+		return result;
+	}
+
+	private static byte[] toBigEndian(long value) {
+		return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+	}
+
+	/**
+	 * Returns the numbers of the frames collected by a tracepoint and at or
+	 * from an address.
+	 *
+	 * @param tracepoint the number of the tracepoint, or <code>null</code> for all tracepoints
+	 * @param address the PC of the frames or an address of the memory they collected,
+	 *                or <code>null</code> for all addresses
+	 */
+	public int[] findFrames(Integer tracepoint, BigInteger address) {
+		int[] found = new int[16];
+		int count = 0;
+		for (int frame = 0; frame < fFrameCount; frame++) {
+			if (tracepoint != null && fTracepoints[frame] != tracepoint) {
+				continue;
+			}
+			if (address != null && !address.equals(fTracepointAddresses.get(fTracepoints[frame]))
+					&& !getFrame(frame).matches(address)) {
+				continue;
+			}
+			if (count == found.length) {
+				found = Arrays.copyOf(found, 2 * count);
+			}
+			found[count++] = frame;
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	private void checkFrame(int frame) {
+		if (frame < 0 || frame >= fFrameCount) {
+			throw new IndexOutOfBoundsException("No trace frame " + frame); //$NON-NLS-1$
+		}
+	}
+}
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -661,6 +662,17 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	 * A list of groupIds that have exited.
 	 */
 	private List<String> fExitedGroupId = new ArrayList<>();
+	/**
+	 * The ids of the threads of each thread group that was listed, kept up to date
+	 * with the thread events instead of listing the threads again after each of them.
+	 * Only used in non-stop mode, when GDB reports the creation of threads.
+	 */
+	private Map<String, Set<String>> fGroupIdToThreadIds = new HashMap<>();
+	/**
+	 * The number of thread events received for groups whose threads are not tracked
+	 * yet, to know if a thread list received from GDB may miss one of them.
+	 */
+	private int fUntrackedThreadEvents;
 
 	/**
 	* Information about an exited process
@@ -1523,11 +1535,30 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 				return;
 			}
 
-			fThreadCommandCache.execute(fCommandFactory.createMIListThreadGroups(controlDmc, containerDmc.getGroupId()),
+			final String groupId = containerDmc.getGroupId();
+			Set<String> threadIds = fGroupIdToThreadIds.get(groupId);
+			if (threadIds != null) {
+				rm.done(makeExecutionDMCs(containerDmc, threadIds));
+				return;
+			}
+
+			final int untrackedThreadEvents = fUntrackedThreadEvents;
+			fThreadCommandCache.execute(fCommandFactory.createMIListThreadGroups(controlDmc, groupId),
 					new DataRequestMonitor<MIListThreadGroupsInfo>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
-							rm.setData(makeExecutionDMCs(containerDmc, getData().getThreadInfo().getThreadList()));
+							MIThread[] threads = getData().getThreadInfo().getThreadList();
+							// Track the threads from now on, unless a thread started or exited
+							// while the list was being fetched
+							if (untrackedThreadEvents == fUntrackedThreadEvents && canTrackThreads()
+									&& !fGroupIdToThreadIds.containsKey(groupId)) {
+								Set<String> ids = new LinkedHashSet<>();
+								for (MIThread thread : threads) {
+									ids.add(thread.getThreadId());
+								}
+								fGroupIdToThreadIds.put(groupId, ids);
+							}
+							rm.setData(makeExecutionDMCs(containerDmc, threads));
 							rm.done();
 						}
 					});
@@ -1576,9 +1607,17 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	}
 
 	private IExecutionDMContext[] makeExecutionDMCs(IContainerDMContext containerDmc, MIThread[] threadInfos) {
+		List<String> threadIds = new ArrayList<>(threadInfos.length);
+		for (MIThread threadInfo : threadInfos) {
+			threadIds.add(threadInfo.getThreadId());
+		}
+		return makeExecutionDMCs(containerDmc, threadIds);
+	}
+
+	private IExecutionDMContext[] makeExecutionDMCs(IContainerDMContext containerDmc, Collection<String> threadIds) {
 		final IProcessDMContext procDmc = DMContexts.getAncestorOfType(containerDmc, IProcessDMContext.class);
 
-		if (threadInfos.length == 0) {
+		if (threadIds.isEmpty()) {
 			// Main thread always exist even if it is not reported by GDB.
 			// So create thread-id = 0 when no thread is reported.
 			// This hack is necessary to prevent AbstractMIControl from issuing a thread-select
@@ -1586,10 +1625,10 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 			return new IMIExecutionDMContext[] { createExecutionContext(containerDmc,
 					createThreadContext(procDmc, FAKE_THREAD_ID), FAKE_THREAD_ID) };
 		} else {
-			IExecutionDMContext[] executionDmcs = new IMIExecutionDMContext[threadInfos.length];
-			for (int i = 0; i < threadInfos.length; i++) {
-				String threadId = threadInfos[i].getThreadId();
-				executionDmcs[i] = createExecutionContext(containerDmc, createThreadContext(procDmc, threadId),
+			IExecutionDMContext[] executionDmcs = new IMIExecutionDMContext[threadIds.size()];
+			int i = 0;
+			for (String threadId : threadIds) {
+				executionDmcs[i++] = createExecutionContext(containerDmc, createThreadContext(procDmc, threadId),
 						threadId);
 			}
 			return executionDmcs;
@@ -2034,9 +2073,10 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 			}
 
 			fContainerCommandCache.reset();
+			untrackThreads(groupId);
 			fNumConnected++;
 		} else {
-			fThreadCommandCache.reset();
+			threadStartedOrExited(e.getDMContext(), true);
 		}
 	}
 
@@ -2044,9 +2084,11 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 	@DsfServiceEventHandler
 	public void eventDispatched(IExitedDMEvent e) {
 		if (e.getDMContext() instanceof IMIContainerDMContext) {
-			fExitedGroupId.add(((IMIContainerDMContext) e.getDMContext()).getGroupId());
+			String groupId = ((IMIContainerDMContext) e.getDMContext()).getGroupId();
+			fExitedGroupId.add(groupId);
 
 			fContainerCommandCache.reset();
+			untrackThreads(groupId);
 
 			assert fNumConnected > 0;
 			fNumConnected--;
@@ -2069,10 +2111,56 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 				}, 500, TimeUnit.MILLISECONDS);
 			}
 		} else {
+			threadStartedOrExited(e.getDMContext(), false);
+		}
+	}
+
+	/**
+	 * Updates the tracked threads of the group of a thread that started or exited,
+	 * or forgets the cached thread lists if the threads of the group are not tracked.
+	 */
+	private void threadStartedOrExited(IDMContext dmc, boolean started) {
+		IMIContainerDMContext containerDmc = DMContexts.getAncestorOfType(dmc, IMIContainerDMContext.class);
+		Set<String> threadIds = containerDmc != null ? fGroupIdToThreadIds.get(containerDmc.getGroupId()) : null;
+		if (threadIds != null && dmc instanceof IMIExecutionDMContext) {
+			String threadId = ((IMIExecutionDMContext) dmc).getThreadId();
+			if (started) {
+				threadIds.add(threadId);
+			} else {
+				threadIds.remove(threadId);
+			}
+		} else {
+			fUntrackedThreadEvents++;
+			fThreadCommandCache.reset();
+		}
+	}
+
+	/**
+	 * Stops tracking the threads of a group, so that they are listed again.
+	 */
+	private void untrackThreads(String groupId) {
+		if (fGroupIdToThreadIds.remove(groupId) != null) {
+			// The cached list of the group is out of date
 			fThreadCommandCache.reset();
 		}
 	}
 
+	/**
+	 * Returns whether the threads of a group can be tracked with the thread events,
+	 * which is the case in non-stop mode, when GDB reports them.
+	 */
+	private boolean canTrackThreads() {
+		IMIRunControl runControl = getServicesTracker().getService(IMIRunControl.class);
+		if (runControl == null || runControl.getRunMode() != MIRunMode.NON_STOP) {
+			return false;
+		}
+		try {
+			return !fBackend.getUpdateThreadListOnSuspend();
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * @since 5.2
 	 */
@@ -2090,12 +2178,16 @@ public class GDBProcesses_7_0 extends AbstractDsfService implements IGDBProcesse
 		fGroupIdToPTYMap.clear();
 
 		fExitedGroupId.clear();
+		fGroupIdToThreadIds.clear();
 	}
 
 	@Override
 	public void flushCache(IDMContext context) {
 		fContainerCommandCache.reset(context);
 		fThreadCommandCache.reset(context);
+		// Resynchronize the tracked threads with GDB
+		fGroupIdToThreadIds.clear();
+		fUntrackedThreadEvents++;
 		// Not technically needed since we are supposed to have
 		// cleared this cache as soon as the it gets the answer
 		// from GDB; but to be more future-proof, might as well
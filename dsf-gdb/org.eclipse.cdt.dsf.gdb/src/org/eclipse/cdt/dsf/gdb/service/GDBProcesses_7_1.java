@@ -24,6 +24,7 @@ import org.eclipse.cdt.dsf.concurrent.Immutable;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
 import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerResumedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerSuspendedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
@@ -41,6 +42,7 @@ import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIListThreadGroupsInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIListThreadGroupsInfo.IThreadGroupInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThread;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadInfoInfo;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
@@ -180,7 +182,7 @@ public class GDBProcesses_7_1 extends GDBProcesses_7_0 {
 			ICommandControlDMContext controlDmc = DMContexts.getAncestorOfType(dmc, ICommandControlDMContext.class);
 			final String groupId = getGroupFromPid(
 					(DMContexts.getParentOfType(dmc, IMIProcessDMContext.class)).getProcId());
-			String threadId = ((MIThreadDMC) dmc).getId();
+			final String threadId = ((MIThreadDMC) dmc).getId();
 
 			fCommandForCoresCache.execute(fCommandFactory.createMIListThreadGroups(controlDmc, groupId),
 					new ImmediateDataRequestMonitor<MIListThreadGroupsInfo>(rm) {
@@ -188,24 +190,19 @@ public class GDBProcesses_7_1 extends GDBProcesses_7_0 {
 						protected void handleCompleted() {
 							IThreadDMData threadData = null;
 							if (isSuccess()) {
-								MIThread[] threads = getData().getThreadInfo().getThreadList();
-								if (threads != null) {
-									for (MIThread thread : threads) {
-										if (thread.getThreadId().equals(threadId)) {
-											threadData = createThreadDMData(thread);
-											break;
-										}
-									}
-								}
+								threadData = findThreadDMData(getData().getThreadInfo().getThreadList(), threadId);
 							}
 
 							if (threadData != null) {
-								rm.setData(threadData);
+								rm.done(threadData);
+							} else if (isSuccess()) {
+								// The thread was created after the threads of the group were
+								// listed; only ask about this thread instead of listing them again.
+								getNewThreadData(controlDmc, threadId, rm);
 							} else {
-								rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
+								rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
 										"Could not get thread info", getStatus().getException())); //$NON-NLS-1$
 							}
-							rm.done();
 						}
 					});
 		} else {
@@ -214,6 +211,38 @@ public class GDBProcesses_7_1 extends GDBProcesses_7_0 {
 		}
 	}
 
+	private IThreadDMData findThreadDMData(MIThread[] threads, String threadId) {
+		if (threads != null) {
+			for (MIThread thread : threads) {
+				if (thread.getThreadId().equals(threadId)) {
+					return createThreadDMData(thread);
+				}
+			}
+		}
+		return null;
+	}
+
+	private void getNewThreadData(ICommandControlDMContext controlDmc, final String threadId,
+			final DataRequestMonitor<IThreadDMData> rm) {
+		fCommandForCoresCache.execute(fCommandFactory.createMIThreadInfo(controlDmc, threadId),
+				new ImmediateDataRequestMonitor<MIThreadInfoInfo>(rm) {
+					@Override
+					protected void handleCompleted() {
+						IThreadDMData threadData = null;
+						if (isSuccess()) {
+							threadData = findThreadDMData(getData().getThreadList(), threadId);
+						}
+
+						if (threadData != null) {
+							rm.done(threadData);
+						} else {
+							rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
+									"Could not get thread info", getStatus().getException())); //$NON-NLS-1$
+						}
+					}
+				});
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -266,17 +295,23 @@ public class GDBProcesses_7_1 extends GDBProcesses_7_0 {
 	}
 
 	// Event handler when a thread or threadGroup starts, core allocation
-	// could have changed
+	// could have changed.  The threads listed before a thread starts stay
+	// valid, and the new thread is asked about on its own, so that a program
+	// creating many threads does not cause the threads to be listed over and over.
 	@DsfServiceEventHandler
 	public void eventDispatched_7_1(IStartedDMEvent e) {
-		fCommandForCoresCache.reset();
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			fCommandForCoresCache.reset();
+		}
 	}
 
 	// Event handler when a thread or a threadGroup exits, core allocation
 	// could have changed
 	@DsfServiceEventHandler
 	public void eventDispatched_7_1(IExitedDMEvent e) {
-		fCommandForCoresCache.reset();
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			fCommandForCoresCache.reset();
+		}
 	}
 
 	@Override
@@ -14,7 +14,11 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.service;
 
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Hashtable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -34,6 +38,7 @@ import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.gdb.internal.service.TraceFrameStore;
 import org.eclipse.cdt.dsf.gdb.internal.service.command.events.MITracepointSelectedEvent;
 import org.eclipse.cdt.dsf.mi.service.IMICommandControl;
 import org.eclipse.cdt.dsf.mi.service.IMIProcesses;
@@ -49,8 +54,12 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MITraceStatusInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MITraceStopInfo;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.osgi.framework.BundleContext;
 
@@ -60,7 +69,7 @@ import org.osgi.framework.BundleContext;
  *
  * @since 3.0
  */
-public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTraceControl2, ICachingService {
+public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTraceControl3, ICachingService {
 
 	@Immutable
 	protected static final class MITraceRecordDMContext extends AbstractDMContext implements ITraceRecordDMContext {
@@ -429,6 +438,10 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 	private boolean fIsTracingFeatureAvailable = true;
 	private int fTraceRecordsStored;
 
+	// The trace records of the trace data that was downloaded or loaded from a file
+	private TraceFrameStore fTraceFrameStore;
+	private int fTraceFrameStoreLoads;
+
 	public GDBTraceControl_7_2(DsfSession session, ILaunchConfiguration config) {
 		super(session);
 	}
@@ -459,8 +472,8 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 	 */
 	private void doInitialize(RequestMonitor requestMonitor) {
 		// Register this service.
-		register(new String[] { IGDBTraceControl.class.getName(), IGDBTraceControl2.class.getName() },
-				new Hashtable<String, String>());
+		register(new String[] { IGDBTraceControl.class.getName(), IGDBTraceControl2.class.getName(),
+				IGDBTraceControl3.class.getName() }, new Hashtable<String, String>());
 
 		fConnection = getServicesTracker().getService(ICommandControlService.class);
 		fTraceStatusCache = new CommandCache(getSession(), fConnection);
@@ -557,6 +570,8 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 							@Override
 							protected void handleSuccess() {
 								fTraceStatusCache.reset(context);
+								fTraceFrameStore = null;
+								fTraceFrameStoreLoads++;
 
 								fIsTracingActive = true;
 								getSession().dispatchEvent(new TracingStartedEvent(context), getProperties());
@@ -762,6 +777,13 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 							@Override
 							protected void handleSuccess() {
 								fTraceStatusCache.reset(context);
+								// GDB may see the file under another path, don't fail if we can't read it
+								loadTraceFrameStore(file, new ImmediateRequestMonitor() {
+									@Override
+									protected void handleError() {
+										GdbPlugin.log(getStatus());
+									}
+								});
 
 								fIsTracingCurrentlySupported = true;
 								// Workaround for GDB pre-release where we don't get the details
@@ -783,6 +805,81 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 		});
 	}
 
+	/** @since 7.2 */
+	@Override
+	public void downloadTraceData(final ITraceTargetDMContext context, final String file, final RequestMonitor rm) {
+		saveTraceData(context, file, false, new ImmediateRequestMonitor(rm) {
+			@Override
+			protected void handleSuccess() {
+				loadTraceFrameStore(file, rm);
+			}
+		});
+	}
+
+	/**
+	 * Indexes the trace records of a trace file in a job, since the file can
+	 * hold hundreds of thousands of records.
+	 */
+	private void loadTraceFrameStore(final String file, final RequestMonitor rm) {
+		fTraceFrameStore = null;
+		final int load = ++fTraceFrameStoreLoads;
+		final File traceFile = resolveTraceFile(file);
+		if (!traceFile.isFile()) {
+			// GDB saved the file on another host, for instance when it runs remotely.
+			// The records are then navigated through GDB, as without a store.
+			GdbPlugin.log(new Status(IStatus.INFO, GdbPlugin.PLUGIN_ID,
+					"Trace file " + traceFile + " is not readable from this host, " //$NON-NLS-1$ //$NON-NLS-2$
+							+ "trace records are read through GDB")); //$NON-NLS-1$
+			rm.done();
+			return;
+		}
+		new Job("Indexing trace records") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				TraceFrameStore store = null;
+				IStatus status = Status.OK_STATUS;
+				try {
+					store = TraceFrameStore.load(traceFile);
+				} catch (IOException e) {
+					status = new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED,
+							"Cannot read trace file " + file, e); //$NON-NLS-1$
+				}
+				final TraceFrameStore loadedStore = store;
+				final IStatus loadStatus = status;
+				try {
+					getExecutor().execute(() -> {
+						// Ignore a file replaced by another one, or by a new tracing experiment
+						if (load == fTraceFrameStoreLoads) {
+							fTraceFrameStore = loadedStore;
+						}
+						rm.done(loadStatus);
+					});
+				} catch (RejectedExecutionException e) {
+					// Session is shut down
+				}
+				return Status.OK_STATUS;
+			}
+		}.schedule();
+	}
+
+	/**
+	 * Resolves a trace file name as GDB does, relative to the working directory of GDB.
+	 */
+	private File resolveTraceFile(String file) {
+		File traceFile = new File(file);
+		if (!traceFile.isAbsolute()) {
+			try {
+				IPath workingDirectory = fBackend.getGDBWorkingDirectory();
+				if (workingDirectory != null) {
+					traceFile = workingDirectory.append(file).toFile();
+				}
+			} catch (CoreException e) {
+				// Use the path as is
+			}
+		}
+		return traceFile;
+	}
+
 	@Override
 	public void getTraceStatus(final ITraceTargetDMContext context, final DataRequestMonitor<ITraceStatusDMData> rm) {
 		if (context == null) {
@@ -926,7 +1023,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 			String recordId = ((MITraceRecordDMContext) ctx).getRecordId();
 			int recordIndex = Integer.parseInt(recordId);
 			recordIndex++;
-			if (recordIndex == fTraceRecordsStored) {
+			if (recordIndex == getNumberOfTraceRecords()) {
 				// Loop back to the front
 				recordIndex = 0;
 			}
@@ -935,6 +1032,13 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 		return null;
 	}
 
+	private int getNumberOfTraceRecords() {
+		if (fTraceFrameStore != null) {
+			return fTraceFrameStore.getFrameCount();
+		}
+		return fTraceRecordsStored;
+	}
+
 	@Override
 	public ITraceRecordDMContext createPrevRecordContext(ITraceRecordDMContext ctx) {
 		if (ctx instanceof MITraceRecordDMContext) {
@@ -943,7 +1047,7 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 			int recordIndex = Integer.parseInt(recordId);
 			if (recordIndex == 0) {
 				// Loop back to the end
-				recordIndex = fTraceRecordsStored; // The last index of a trace record (zero-based)
+				recordIndex = getNumberOfTraceRecords(); // The last index of a trace record (zero-based)
 			}
 			recordIndex--;
 			return new MITraceRecordDMContext(getSession(), targetDmc, Integer.toString(recordIndex));
@@ -1116,7 +1220,8 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 	public void getTraceRecordData(final ITraceRecordDMContext context,
 			final DataRequestMonitor<ITraceRecordDMData> rm) {
 		if (context instanceof MITraceRecordDMContext) {
-
+			// The record is dumped by GDB even when the trace data was downloaded,
+			// since only GDB can show the collected expressions and locals symbolically.
 			RequestMonitor tdumpRm = new ImmediateRequestMonitor(rm) {
 				@Override
 				protected void handleSuccess() {
@@ -1151,6 +1256,24 @@ public class GDBTraceControl_7_2 extends AbstractDsfService implements IGDBTrace
 		}
 	}
 
+	/** @since 7.2 */
+	@Override
+	public void findTraceRecords(ITraceTargetDMContext context, Integer tracepoint, BigInteger address,
+			DataRequestMonitor<ITraceRecordDMContext[]> rm) {
+		if (fTraceFrameStore == null) {
+			rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_STATE, "Trace data was not downloaded", //$NON-NLS-1$
+					null));
+			return;
+		}
+
+		int[] frames = fTraceFrameStore.findFrames(tracepoint, address);
+		ITraceRecordDMContext[] records = new ITraceRecordDMContext[frames.length];
+		for (int i = 0; i < frames.length; i++) {
+			records[i] = createTraceRecordContext(context, Integer.toString(frames[i]));
+		}
+		rm.done(records);
+	}
+
 	/** @since 4.4 */
 	@Override
 	public void setCircularTraceBuffer(final ITraceTargetDMContext context, boolean useCircularBuffer,
@@ -56,7 +56,8 @@ public class GDBTraceControl_7_4 extends GDBTraceControl_7_2 {
 		// Register this service.
 		register(
 				new String[] { IGDBTraceControl.class.getName(), IGDBTraceControl2.class.getName(),
-						GDBTraceControl_7_2.class.getName(), GDBTraceControl_7_4.class.getName() },
+						IGDBTraceControl3.class.getName(), GDBTraceControl_7_2.class.getName(),
+						GDBTraceControl_7_4.class.getName() },
 				new Hashtable<String, String>());
 
 		fConnection = getServicesTracker().getService(ICommandControlService.class);
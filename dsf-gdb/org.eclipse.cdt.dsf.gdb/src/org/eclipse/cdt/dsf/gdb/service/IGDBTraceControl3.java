@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.gdb.service;
+
+import java.math.BigInteger;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+
+/**
+ * Enhancements to the trace control functionality, which allow to search the
+ * trace records in a local copy of the trace data.
+ * @since 7.2
+ */
+public interface IGDBTraceControl3 extends IGDBTraceControl2 {
+
+	/**
+	 * Saves the trace data of the target in a trace file on the host of GDB,
+	 * and indexes the trace records of that file. The trace records can then
+	 * be searched with {@link #findTraceRecords}, without selecting each of
+	 * them in GDB. The data of a record is still read from GDB, which shows
+	 * the collected expressions symbolically.
+	 * <p>
+	 * Loading a trace file with {@link #loadTraceData} indexes it as well.
+	 */
+	public void downloadTraceData(ITraceTargetDMContext context, String file, RequestMonitor rm);
+
+	/**
+	 * Returns the trace records collected by a tracepoint and at or from an
+	 * address. Only the downloaded or loaded trace data is searched.
+	 *
+	 * @param tracepoint the number of the tracepoint, or <code>null</code> for all tracepoints
+	 * @param address the PC of the records or an address of the memory they collected,
+	 *                or <code>null</code> for all addresses
+	 */
+	public void findTraceRecords(ITraceTargetDMContext context, Integer tracepoint, BigInteger address,
+			DataRequestMonitor<ITraceRecordDMContext[]> rm);
+}
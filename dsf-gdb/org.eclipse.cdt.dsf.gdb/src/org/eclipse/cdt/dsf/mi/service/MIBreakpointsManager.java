@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.cdt.core.model.ICModelMarker;
@@ -58,6 +59,7 @@ import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ThreadSafe;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
@@ -141,6 +143,10 @@ public class MIBreakpointsManager extends AbstractDsfService
 	private static final String ATTR_THREAD_FILTER = GdbPlugin.PLUGIN_ID + ".threadFilter"; //$NON-NLS-1$
 	private static final String ATTR_THREAD_ID = GdbPlugin.PLUGIN_ID + ".threadID"; //$NON-NLS-1$
 
+	// Number of initial breakpoints installed before the next ones are queued.
+	// The commands of a batch are pipelined by the command control.
+	private static final int INSTALL_BATCH_SIZE = 64;
+
 	// Services
 	private ICommandControlService fConnection;
 	private ISourceLookup fSourceLookup;
@@ -450,20 +456,40 @@ public class MIBreakpointsManager extends AbstractDsfService
 		// Install the platform breakpoints (stored in fPlatformBPs) on the target.
 		new Job("DSF BreakpointsManager: Install initial breakpoints on target") { //$NON-NLS-1$
 			@Override
-			protected IStatus run(IProgressMonitor monitor) {
-				// Submit the runnable to plant the breakpoints on dispatch thread.
-				getExecutor().submit(
-						() -> installInitialBreakpoints(dmc, new RequestMonitor(ImmediateExecutor.getInstance(), rm) {
-							@Override
-							protected void handleSuccess() {
-								// Notify breakpoints tracking listeners that the tracking is started.
-								for (Object o : fTrackingListeners.getListeners()) {
-									((IMIBreakpointsTrackingListener) o).breakpointTrackingStarted(dmc);
-								}
-								rm.done();
-							}
-						}));
+			protected IStatus run(final IProgressMonitor monitor) {
+				final RequestMonitor installedRm = new RequestMonitor(ImmediateExecutor.getInstance(), rm) {
+					@Override
+					protected void handleSuccess() {
+						// Notify breakpoints tracking listeners that the tracking is started.
+						for (Object o : fTrackingListeners.getListeners()) {
+							((IMIBreakpointsTrackingListener) o).breakpointTrackingStarted(dmc);
+						}
+						rm.done();
+					}
+				};
 
+				// Plant the breakpoints on dispatch thread, and wait for them to be
+				// installed so that the progress of each batch is shown by this job.
+				Query<Object> query = new Query<Object>() {
+					@Override
+					protected void execute(final DataRequestMonitor<Object> queryRm) {
+						installInitialBreakpoints(dmc, monitor,
+								new RequestMonitor(ImmediateExecutor.getInstance(), installedRm) {
+									@Override
+									protected void handleCompleted() {
+										queryRm.done();
+										super.handleCompleted();
+									}
+								});
+					}
+				};
+				getExecutor().execute(query);
+				try {
+					query.get();
+				} catch (InterruptedException | ExecutionException e) {
+					// The result is reported to the request monitor
+				}
+				monitor.done();
 				return Status.OK_STATUS;
 			}
 		}.schedule();
@@ -474,10 +500,11 @@ public class MIBreakpointsManager extends AbstractDsfService
 	 * execution context.
 	 *
 	 * @param dmc
-	 * @param initialPlatformBPs
+	 * @param monitor progress of the installation, reported for each batch of breakpoints
 	 * @param rm
 	 */
-	private void installInitialBreakpoints(final IBreakpointsTargetDMContext dmc, final RequestMonitor rm) {
+	private void installInitialBreakpoints(final IBreakpointsTargetDMContext dmc, final IProgressMonitor monitor,
+			final RequestMonitor rm) {
 		// Retrieve the set of platform breakpoints for this context
 		final Map<ICBreakpoint, Map<String, Object>> platformBPs = fPlatformToAttributesMaps.get(dmc);
 		if (platformBPs == null) {
@@ -507,22 +534,64 @@ public class MIBreakpointsManager extends AbstractDsfService
 					e);
 			rm.setStatus(status);
 			rm.done();
+			return;
 		}
 
 		// Install the individual breakpoints on the dispatcher thread
 		// Requires a counting monitor to know when we are done
+		final List<ICBreakpoint> breakpoints = new ArrayList<>(platformBPs.keySet());
 		final CountingRequestMonitor countingRm = new CountingRequestMonitor(getExecutor(), rm);
-		countingRm.setDoneCount(platformBPs.size());
+		countingRm.setDoneCount(breakpoints.size());
 
-		for (final ICBreakpoint breakpoint : platformBPs.keySet()) {
-			final Map<String, Object> attributes = platformBPs.get(breakpoint);
+		monitor.beginTask("Installing breakpoints", breakpoints.size()); //$NON-NLS-1$
+		installBreakpointBatch(dmc, breakpoints, 0, monitor, countingRm);
+	}
+
+	/**
+	 * Installs the initial breakpoints starting at the given index, at most
+	 * {@link #INSTALL_BATCH_SIZE} of them, and the next batch once they are
+	 * all installed. The breakpoints of a batch are installed without waiting
+	 * for each other, while batches keep other commands from waiting behind a
+	 * very long list of breakpoints.
+	 */
+	private void installBreakpointBatch(final IBreakpointsTargetDMContext dmc, final List<ICBreakpoint> breakpoints,
+			final int start, final IProgressMonitor monitor, final CountingRequestMonitor countingRm) {
+		if (start >= breakpoints.size()) {
+			return;
+		}
+
+		final Map<ICBreakpoint, Map<String, Object>> platformBPs = fPlatformToAttributesMaps.get(dmc);
+		final int end = Math.min(start + INSTALL_BATCH_SIZE, breakpoints.size());
+		final CountingRequestMonitor batchRm = new CountingRequestMonitor(getExecutor(), null) {
+			@Override
+			protected void handleCompleted() {
+				monitor.worked(end - start);
+				installBreakpointBatch(dmc, breakpoints, end, monitor, countingRm);
+			}
+		};
+		batchRm.setDoneCount(end - start);
+
+		for (final ICBreakpoint breakpoint : breakpoints.subList(start, end)) {
+			final Map<String, Object> attributes = platformBPs != null ? platformBPs.get(breakpoint) : null;
+			final RequestMonitor installRm = new RequestMonitor(ImmediateExecutor.getInstance(), countingRm) {
+				@Override
+				protected void handleCompleted() {
+					batchRm.done();
+					super.handleCompleted();
+				}
+			};
+			if (attributes == null) {
+				// The breakpoint was removed while the previous batches were installed
+				installRm.done();
+				continue;
+			}
 			// Upon determining the debuggerPath, the breakpoint is installed
-			determineDebuggerPath(dmc, attributes, new RequestMonitor(getExecutor(), countingRm) {
+			determineDebuggerPath(dmc, attributes, new RequestMonitor(getExecutor(), installRm) {
 				@Override
 				protected void handleSuccess() {
 					// Must install breakpoints right away, even if disabled, so that
 					// we can find out if they apply to this target (Bug 389070)
-					installBreakpoint(dmc, breakpoint, attributes, countingRm);
+					installBreakpoint(dmc, breakpoint, attributes, installRm);
 				}
 			});
 		}
@@ -260,6 +260,11 @@ public class MIBreakpointsSynchronizer extends AbstractDsfService
 	@Override
 	public void breakpointTrackingStarted(IBreakpointsTargetDMContext bpTargetDMC) {
 		fTrackedTargets.add(bpTargetDMC);
+
+		// The initial breakpoints were installed without looking at what GDB already
+		// had, e.g. breakpoints set by a .gdbinit file, or the locations found for
+		// pending breakpoints. Reconcile them all from a single -break-list.
+		synchronize(bpTargetDMC, false);
 	}
 
 	@Override
@@ -1903,9 +1903,17 @@ public class MIExpressions extends AbstractDsfService implements IMIExpressions,
 	void getRealSubExpressions(final IExpressionDMContext exprCtx, int startIndex, int length,
 			final DataRequestMonitor<IExpressionDMContext[]> rm) {
 
-		ExprMetaGetChildren getChildren = (startIndex < 0 || length < 0) ? new ExprMetaGetChildren(exprCtx)
-				: new ExprMetaGetChildren(exprCtx, startIndex + length);
-		final int startIndex1 = (startIndex < 0) ? 0 : startIndex;
+		if (length == 0) {
+			rm.setData(new IExpressionDMContext[0]);
+			rm.done();
+			return;
+		}
+
+		// A range is fetched on its own, the children before it are not needed
+		final boolean range = startIndex >= 0 && length > 0;
+		ExprMetaGetChildren getChildren = range ? new ExprMetaGetChildren(exprCtx, startIndex, length)
+				: new ExprMetaGetChildren(exprCtx);
+		final int startIndex1 = range ? 0 : Math.max(startIndex, 0);
 		final int length1 = (length < 0) ? Integer.MAX_VALUE : length;
 		fExpressionCache.execute(getChildren, new DataRequestMonitor<ExprMetaGetChildrenInfo>(getExecutor(), rm) {
 			@Override
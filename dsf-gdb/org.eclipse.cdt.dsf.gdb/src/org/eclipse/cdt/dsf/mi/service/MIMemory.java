@@ -21,6 +21,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.mi.service;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -32,6 +34,7 @@ import java.util.Map;
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
@@ -74,6 +77,13 @@ import org.osgi.framework.BundleContext;
 public class MIMemory extends AbstractDsfService implements IMemory, ICachingService {
 
 	private static final String READ_MEMORY_BYTES_FEATURE = "data-read-memory-bytes"; //$NON-NLS-1$
+	/** The default size of the blocks read by the memory cache, in addressable units */
+	private static final int DEFAULT_CACHE_PAGE_SIZE = 512;
+	/** The number of pages read ahead of a request that continues the previous one */
+	private static final int READ_AHEAD_PAGES = 2;
+	/** The largest read made by merging adjacent reads, in pages */
+	private static final int MAX_PAGES_PER_READ = 64;
+
 	//data-read-memory write is deprecated, its description could be ambiguous for e.g. 16 bit addressable systems
 	private static final String DATA_WRITE_MEMORY_16_NOT_SUPPORTED = "data-write-memory with word-size != 1 not supported"; //$NON-NLS-1$
 
@@ -112,6 +122,12 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	// instead of -data-read-memory
 	private boolean fDataReadMemoryBytes;
 
+	// Statistics of the memory caches
+	private long fCacheRequestCount;
+	private long fCacheHitCount;
+	private long fCacheReadCount;
+	private long fCacheBytesRead;
+
 	/**
 	 *  Constructor
 	 */
@@ -531,6 +547,52 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		return 1;
 	}
 
+	/**
+	 * Returns the size of the pages read by the memory cache, in addressable units.
+	 * Memory is read from the back-end in whole pages aligned on this size, so
+	 * that small neighboring requests are served by one read.  Sub-classes can
+	 * override it for targets where reading memory is slow or has side effects.
+	 *
+	 * @return the page size, or 1 to read exactly the memory that is requested
+	 * @since 7.2
+	 */
+	protected int getCachePageSize(IMemoryDMContext context) {
+		return DEFAULT_CACHE_PAGE_SIZE;
+	}
+
+	/**
+	 * Returns the number of memory requests made to the memory caches.
+	 * @since 7.2
+	 */
+	public long getCacheRequestCount() {
+		return fCacheRequestCount;
+	}
+
+	/**
+	 * Returns the number of memory requests served by the memory caches
+	 * without reading memory from the back-end.
+	 * @since 7.2
+	 */
+	public long getCacheHitCount() {
+		return fCacheHitCount;
+	}
+
+	/**
+	 * Returns the number of reads the memory caches sent to the back-end.
+	 * @since 7.2
+	 */
+	public long getCacheReadCount() {
+		return fCacheReadCount;
+	}
+
+	/**
+	 * Returns the number of octets the memory caches read from the back-end.
+	 * @since 7.2
+	 */
+	public long getCacheBytesRead() {
+		return fCacheBytesRead;
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 	// SortedLinkedlist
 	///////////////////////////////////////////////////////////////////////////
@@ -643,6 +705,28 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		}
 	}
 
+	// A read of the memory cache that was not completed yet, and the requests
+	// waiting for it
+	private static class PendingRead {
+		public final IMemoryDMContext fMemoryDMC;
+		public final IAddress fAddress;
+		public final int fWordSize;
+		public long fLengthInAddressableUnits;
+		public final List<RequestMonitor> fWaiters = new ArrayList<>();
+
+		public PendingRead(IMemoryDMContext memoryDMC, IAddress address, long lengthInAddressableUnits,
+				int wordSize) {
+			fMemoryDMC = memoryDMC;
+			fAddress = address;
+			fLengthInAddressableUnits = lengthInAddressableUnits;
+			fWordSize = wordSize;
+		}
+
+		public IAddress getEnd() {
+			return fAddress.add(fLengthInAddressableUnits);
+		}
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 	// MIMemoryCache
 	///////////////////////////////////////////////////////////////////////////
@@ -652,6 +736,17 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		// The memory cache data structure
 		private SortedMemoryBlockList fMemoryBlockList;
 
+		// The reads that were sent or are about to be sent to the back-end
+		private final List<PendingRead> fPendingReads = new ArrayList<>();
+
+		// The reads to send at the next dispatch cycle, so that reads of
+		// adjacent pages asked for at the same time are merged
+		private final List<PendingRead> fQueuedReads = new ArrayList<>();
+
+		// The last requested block, to detect that a rendering is scrolling
+		private IAddress fLastRequestStart;
+		private IAddress fLastRequestEnd;
+
 		public MIMemoryCache() {
 			// Create the memory block cache
 			fMemoryBlockList = new SortedMemoryBlockList();
@@ -660,6 +755,8 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		public void reset() {
 			// Clear the memory cache
 			fMemoryBlockList.clear();
+			// Reads sent before the reset must not be joined by new requests
+			fPendingReads.clear();
 		}
 
 		/**
@@ -890,6 +987,12 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		}
 
 		/**
+		 * Reads memory through the cache.  The missing memory is read in whole
+		 * pages, see {@link MIMemory#getCachePageSize(IMemoryDMContext)}, and a
+		 * few more pages are read in the direction in which a rendering scrolls.
+		 * Pages already being read are not read again, and reads of adjacent
+		 * pages made in the same dispatch cycle are merged into one command.
+		 *
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
 		 * @param wordSize	the size, in bytes, of an addressable item
@@ -898,12 +1001,39 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 */
 		public void getMemory(IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
 				final int wordCount, final DataRequestMonitor<MemoryByte[]> drm) {
-			// Determine the number of read requests to issue
-			List<MemoryBlock> missingBlocks = getListOfMissingBlocks(address, wordCount, wordSize);
-			int numberOfRequests = missingBlocks.size();
+			fCacheRequestCount++;
+			IAddress end = address.add(wordCount);
+			boolean scrollingDown = address.equals(fLastRequestEnd);
+			boolean scrollingUp = end.equals(fLastRequestStart);
+			fLastRequestStart = address;
+			fLastRequestEnd = end;
+
+			if (getListOfMissingBlocks(address, wordCount, wordSize).isEmpty()) {
+				fCacheHitCount++;
+				drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
+				drm.done();
+				return;
+			}
+
+			// Extend the request to whole pages, and to the next pages if the
+			// rendering is scrolling, without going past the ends of the address space
+			long pageSize = Math.max(1, getCachePageSize(memoryDMC));
+			BigInteger page = BigInteger.valueOf(pageSize);
+			long before = address.getValue().mod(page).longValue();
+			long after = (pageSize - end.getValue().mod(page).longValue()) % pageSize;
+			if (scrollingDown) {
+				after += READ_AHEAD_PAGES * pageSize;
+			} else if (scrollingUp) {
+				before = address.getValue().min(BigInteger.valueOf(before + READ_AHEAD_PAGES * pageSize)).longValue();
+			}
+			after = address.getMaxOffset().subtract(end.getValue()).add(BigInteger.ONE).min(BigInteger.valueOf(after))
+					.longValue();
+			long length = Math.min(before + wordCount + after, Integer.MAX_VALUE / wordSize);
+			IAddress start = address.add(-before);
 
-			// A read request will be issued for each block needed
+			// A read request will be issued or joined for each block needed
 			// so we need to keep track of the count
+			final boolean extended = before > 0 || after > 0;
 			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
@@ -911,26 +1041,157 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
 					drm.done();
 				}
+
+				@Override
+				protected void handleError() {
+					// The memory around the request may not be readable, try
+					// again without reading more than what was requested
+					if (extended) {
+						readMissingBlocks(memoryDMC, address, wordSize, wordCount, drm);
+					} else {
+						super.handleError();
+					}
+				}
 			};
-			countingRM.setDoneCount(numberOfRequests);
-
-			// Issue the read requests
-			for (int i = 0; i < numberOfRequests; i++) {
-				MemoryBlock block = missingBlocks.get(i);
-				final IAddress startAddress = block.fAddress;
-				final int length = (int) block.fLengthInAddressableUnits;
-				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, length,
-						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), drm) {
-							@Override
-							protected void handleSuccess() {
-								MemoryByte[] block = getData();
-								int lenghtInaddressableUnits = block.length / wordSize;
-								MemoryBlock memoryBlock = new MemoryBlock(startAddress, block.length,
-										lenghtInaddressableUnits, block);
-								fMemoryBlockList.add(memoryBlock);
-								countingRM.done();
+			int numberOfReads = 0;
+			for (MemoryBlock block : getListOfMissingBlocks(start, (int) length, wordSize)) {
+				numberOfReads += readBlock(memoryDMC, block.fAddress, block.fLengthInAddressableUnits, wordSize,
+						countingRM);
+			}
+			countingRM.setDoneCount(numberOfReads);
+		}
+
+		private void readMissingBlocks(IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
+				final int wordCount, final DataRequestMonitor<MemoryByte[]> drm) {
+			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
+				@Override
+				protected void handleSuccess() {
+					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
+					drm.done();
+				}
+			};
+			int numberOfReads = 0;
+			for (MemoryBlock block : getListOfMissingBlocks(address, wordCount, wordSize)) {
+				numberOfReads += readBlock(memoryDMC, block.fAddress, block.fLengthInAddressableUnits, wordSize,
+						countingRM);
+			}
+			countingRM.setDoneCount(numberOfReads);
+		}
+
+		/**
+		 * Reads a block that is not in the cache, joining the pending reads
+		 * that overlap it and queuing reads for the rest.
+		 *
+		 * @return the number of reads the request monitor waits for
+		 */
+		private int readBlock(IMemoryDMContext memoryDMC, IAddress address, long lengthInAddressableUnits,
+				int wordSize, RequestMonitor rm) {
+			IAddress end = address.add(lengthInAddressableUnits);
+			List<PendingRead> overlapping = new ArrayList<>();
+			for (PendingRead read : fPendingReads) {
+				if (read.fAddress.compareTo(end) < 0 && address.compareTo(read.getEnd()) < 0) {
+					overlapping.add(read);
+				}
+			}
+			overlapping.sort((r1, r2) -> r1.fAddress.compareTo(r2.fAddress));
+
+			int numberOfReads = 0;
+			IAddress position = address;
+			for (PendingRead read : overlapping) {
+				if (position.compareTo(read.fAddress) < 0) {
+					queueRead(memoryDMC, position, position.distanceTo(read.fAddress).longValue(), wordSize, rm);
+					numberOfReads++;
+				}
+				read.fWaiters.add(rm);
+				numberOfReads++;
+				if (position.compareTo(read.getEnd()) < 0) {
+					position = read.getEnd();
+				}
+			}
+			if (position.compareTo(end) < 0) {
+				queueRead(memoryDMC, position, position.distanceTo(end).longValue(), wordSize, rm);
+				numberOfReads++;
+			}
+			return numberOfReads;
+		}
+
+		private void queueRead(IMemoryDMContext memoryDMC, IAddress address, long lengthInAddressableUnits,
+				int wordSize, RequestMonitor rm) {
+			PendingRead read = new PendingRead(memoryDMC, address, lengthInAddressableUnits, wordSize);
+			read.fWaiters.add(rm);
+			fPendingReads.add(read);
+			fQueuedReads.add(read);
+			if (fQueuedReads.size() == 1) {
+				getExecutor().execute(new DsfRunnable() {
+					@Override
+					public void run() {
+						sendQueuedReads();
+					}
+				});
+			}
+		}
+
+		/**
+		 * Sends the queued reads, merging the adjacent ones.
+		 */
+		private void sendQueuedReads() {
+			List<PendingRead> queued = new ArrayList<>(fQueuedReads);
+			fQueuedReads.clear();
+			queued.sort((r1, r2) -> r1.fAddress.compareTo(r2.fAddress));
+
+			PendingRead current = null;
+			for (PendingRead read : queued) {
+				if (current != null && current.fMemoryDMC.equals(read.fMemoryDMC)
+						&& current.fWordSize == read.fWordSize && current.getEnd().equals(read.fAddress)
+						&& current.fLengthInAddressableUnits + read.fLengthInAddressableUnits <= MAX_PAGES_PER_READ
+								* (long) getCachePageSize(read.fMemoryDMC)) {
+					current.fLengthInAddressableUnits += read.fLengthInAddressableUnits;
+					current.fWaiters.addAll(read.fWaiters);
+					fPendingReads.remove(read);
+				} else {
+					if (current != null) {
+						sendRead(current);
+					}
+					current = read;
+				}
+			}
+			if (current != null) {
+				sendRead(current);
+			}
+		}
+
+		private void sendRead(final PendingRead read) {
+			fCacheReadCount++;
+			readMemoryBlock(read.fMemoryDMC, read.fAddress, 0, read.fWordSize, (int) read.fLengthInAddressableUnits,
+					new DataRequestMonitor<MemoryByte[]>(getExecutor(), null) {
+						@Override
+						protected void handleCompleted() {
+							fPendingReads.remove(read);
+							if (isSuccess()) {
+								fCacheBytesRead += getData().length;
+								addToCache(read.fAddress, getData(), read.fWordSize);
 							}
-						});
+							for (RequestMonitor waiter : read.fWaiters) {
+								if (!isSuccess()) {
+									waiter.setStatus(getStatus());
+								}
+								waiter.done();
+							}
+						}
+					});
+		}
+
+		/**
+		 * Adds a block read from the back-end to the cache, leaving out the
+		 * parts that were cached in the meantime.
+		 */
+		private void addToCache(IAddress address, MemoryByte[] block, int wordSize) {
+			for (MemoryBlock missing : getListOfMissingBlocks(address, block.length / wordSize, wordSize)) {
+				int pos = (int) address.distanceTo(missing.fAddress).longValue() * wordSize;
+				int length = (int) missing.fLengthInOctets;
+				MemoryByte[] bytes = length == block.length ? block : Arrays.copyOfRange(block, pos, pos + length);
+				fMemoryBlockList.add(
+						new MemoryBlock(missing.fAddress, length, missing.fLengthInAddressableUnits, bytes));
 			}
 		}
 
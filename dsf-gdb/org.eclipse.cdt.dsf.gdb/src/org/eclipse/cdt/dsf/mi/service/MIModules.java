@@ -309,10 +309,11 @@ public class MIModules extends AbstractDsfService implements IModules2, ICaching
 	}
 
 	private IModuleDMData createSharedLibInfo(ModuleDMContext dmc, CLIInfoSharedLibraryInfo info) {
-		for (CLIInfoSharedLibraryInfo.DsfMISharedInfo shared : info.getMIShared()) {
-			if (shared.getName().equals(dmc.fFile)) {
-				return new ModuleDMData(shared.getName(), shared.getFrom(), shared.getTo(), shared.isRead());
-			}
+		// The view asks for the data of each module, look it up rather than
+		// scanning the list of modules every time
+		CLIInfoSharedLibraryInfo.DsfMISharedInfo shared = info.getMIShared(dmc.fFile);
+		if (shared != null) {
+			return new ModuleDMData(shared.getName(), shared.getFrom(), shared.getTo(), shared.isRead());
 		}
 		return new ModuleDMData("", "", "", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
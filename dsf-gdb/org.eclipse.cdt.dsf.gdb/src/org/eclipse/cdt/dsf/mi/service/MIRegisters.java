@@ -20,10 +20,13 @@ package org.eclipse.cdt.dsf.mi.service;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
@@ -38,6 +41,8 @@ import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRegisters;
 import org.eclipse.cdt.dsf.debug.service.IRunControl;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerSuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.IStack;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
@@ -46,6 +51,8 @@ import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIShowArchitectureInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListChangedRegistersInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
@@ -253,9 +260,64 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	//One Group per container process
 	private final Map<IContainerDMContext, MIRegisterGroupDMC> fContainerToGroupMap = new HashMap<>();
 
+	private ICommandControlService fCommandControl;
 	private CommandCache fRegisterNameCache; // Cache for holding the Register Names in the single Group
 	private CommandCache fRegisterValueCache; // Cache for holding the Register Values
 
+	/**
+	 * Register metadata of an architecture: the names by register number, and
+	 * whether each register is a floating point one.
+	 */
+	private static class ArchitectureRegisters {
+		final String[] fNames;
+		final Map<Integer, Boolean> fIsFloat = new HashMap<>();
+
+		ArchitectureRegisters(String[] names) {
+			fNames = names;
+		}
+	}
+
+	/**
+	 * The register metadata, shared by the containers of the same
+	 * architecture for the whole session, since it does not change when the
+	 * program runs.
+	 */
+	private final Map<String, ArchitectureRegisters> fArchitectureRegisters = new HashMap<>();
+	private final Map<IContainerDMContext, ArchitectureRegisters> fContainerRegisters = new HashMap<>();
+
+	/**
+	 * The formats in which register values were asked for since the last
+	 * suspend.  When the program suspends, the values of all the registers of
+	 * the top frame are prefetched in these formats, one command each, before
+	 * the Registers view asks for them.
+	 */
+	private final Set<Integer> fRequestedFormats = new HashSet<>();
+	private final Set<Integer> fPrefetchedFormats = new HashSet<>();
+	private IFrameDMContext fPrefetchedFrame;
+	private final Set<Integer> fUsedFormats = new HashSet<>();
+
+	private int fPrefetchCount;
+	private int fPrefetchHitCount;
+
+	/**
+	 * The register values of the top frame of the thread that last suspended,
+	 * by format and register number.  They are kept from one stop of the
+	 * thread to the next: -data-list-changed-registers, sent at each stop,
+	 * tells which ones changed, and only those are read again.  GDB compares
+	 * the registers with the last time the command was sent, so the values
+	 * are only kept if the command was sent at each stop of the thread.
+	 */
+	private final Map<Integer, Map<Integer, MIRegisterValue>> fKnownValues = new HashMap<>();
+	private IExecutionDMContext fDeltaThread;
+	/** The top frame of fDeltaThread, as long as it is suspended */
+	private IFrameDMContext fDeltaFrame;
+	/** Counts the stops and resumes, to drop results that arrive too late */
+	private int fStopCount;
+	/** The requests waiting for the changed registers to be read again */
+	private List<Runnable> fDeltaWaiters;
+	private boolean fChangedRegistersSupported = true;
+	private int fChangedRegistersReadCount;
+
 	public MIRegisters(DsfSession session) {
 		super(session);
 	}
@@ -280,6 +342,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 		 * Create the lower level register cache.
 		 */
 		ICommandControlService commandControl = getServicesTracker().getService(ICommandControlService.class);
+		fCommandControl = commandControl;
 		BufferedCommandControl bufferedCommandControl = new BufferedCommandControl(commandControl, getExecutor(), 2);
 
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
@@ -382,14 +445,21 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				return;
 			}
 
-			int[] regnos = { miRegDmc.getRegNo() };
-			fRegisterValueCache.execute(
-					fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, regnos),
-					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+			// Whether the register is floating point depends on the architecture only
+			IContainerDMContext containerDmc = DMContexts.getAncestorOfType(regDmc, IContainerDMContext.class);
+			final ArchitectureRegisters archRegisters = fContainerRegisters.get(containerDmc);
+			Boolean knownIsFloat = archRegisters != null ? archRegisters.fIsFloat.get(miRegDmc.getRegNo()) : null;
+			if (knownIsFloat != null) {
+				rm.done(new RegisterData(frameDmc, miRegDmc.getName(), BLANK_STRING, knownIsFloat));
+				return;
+			}
+
+			getRegisterValues(frameDmc, MIFormat.HEXADECIMAL, miRegDmc.getRegNo(),
+					new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
 							// Retrieve the register value.
-							MIRegisterValue[] regValue = getData().getMIRegisterValues();
+							MIRegisterValue[] regValue = getData();
 
 							// If the list is empty just return empty handed.
 							// The only known case this happens is caused by a bug in GDB's Python
@@ -414,6 +484,9 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 							if (reg.getValue().contains("float")) { //$NON-NLS-1$
 								isFloat = true;
 							}
+							if (archRegisters != null) {
+								archRegisters.fIsFloat.put(miRegDmc.getRegNo(), isFloat);
+							}
 
 							// Return the new register attributes.
 							rm.setData(new RegisterData(frameDmc, miRegDmc.getName(), BLANK_STRING, isFloat));
@@ -455,13 +528,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 			NumberFormat = MIFormat.DECIMAL;
 		}
 
-		int[] regnos = { regDmc.getRegNo() };
-		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, NumberFormat, regnos),
-				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+		getRegisterValues(frameDmc, NumberFormat, regDmc.getRegNo(),
+				new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						// Retrieve the register value.
-						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						MIRegisterValue[] regValue = getData();
 
 						// If the list is empty just return empty handed.
 						// The only known case this happens is caused by a bug in GDB's Python
@@ -485,6 +557,269 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				});
 	}
 
+	/**
+	 * Gets the value of a register in a format.  If the value did not change
+	 * since the previous stop, it is taken from the values kept.  If the
+	 * values of all the registers were prefetched in this format, the value is
+	 * taken from them, otherwise only this register is asked for.  As for the
+	 * command, the result has no value if GDB does not know the register.
+	 */
+	private void getRegisterValues(IFrameDMContext frameDmc, int format, int regno,
+			DataRequestMonitor<MIRegisterValue[]> rm) {
+		fRequestedFormats.add(format);
+		if (frameDmc.equals(fDeltaFrame)) {
+			if (fDeltaWaiters != null) {
+				fDeltaWaiters.add(() -> getRegisterValues(frameDmc, format, regno, rm));
+				return;
+			}
+			Map<Integer, MIRegisterValue> values = fKnownValues.get(format);
+			MIRegisterValue value = values != null ? values.get(regno) : null;
+			if (value != null) {
+				rm.done(new MIRegisterValue[] { value });
+				return;
+			}
+		}
+
+		final int stop = fStopCount;
+		if (!frameDmc.equals(fPrefetchedFrame) || !fPrefetchedFormats.contains(format)) {
+			fRegisterValueCache.execute(
+					fCommandFactory.createMIDataListRegisterValues(frameDmc, format, new int[] { regno }),
+					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+						@Override
+						protected void handleSuccess() {
+							if (frameDmc.equals(fDeltaFrame)) {
+								keepValues(stop, format, getData().getMIRegisterValues());
+							}
+							rm.done(getData().getMIRegisterValues());
+						}
+					});
+			return;
+		}
+
+		if (fUsedFormats.add(format)) {
+			fPrefetchHitCount++;
+		}
+		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, format),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						for (MIRegisterValue value : getData().getMIRegisterValues()) {
+							if (value.getNumber() == regno) {
+								rm.done(new MIRegisterValue[] { value });
+								return;
+							}
+						}
+						rm.done(new MIRegisterValue[0]);
+					}
+
+					@Override
+					protected void handleError() {
+						fPrefetchedFormats.remove(format);
+						getRegisterValues(frameDmc, format, regno, rm);
+					}
+				});
+	}
+
+	/**
+	 * Prefetches the values of the registers of the top frame of the thread
+	 * that suspended, in the formats used since the previous suspend.  If the
+	 * values of the previous stop of the thread are known in a format, only
+	 * the registers that changed are read again, otherwise all of them are.
+	 */
+	private void prefetch(IRunControl.ISuspendedDMEvent e) {
+		fPrefetchedFrame = null;
+		fPrefetchedFormats.clear();
+		fUsedFormats.clear();
+		fDeltaFrame = null;
+		runDeltaWaiters();
+		List<Integer> formats = new ArrayList<>(fRequestedFormats);
+		fRequestedFormats.clear();
+
+		IExecutionDMContext execDmc = null;
+		if (e instanceof IContainerSuspendedDMEvent) {
+			IExecutionDMContext[] triggerContexts = ((IContainerSuspendedDMEvent) e).getTriggeringContexts();
+			if (triggerContexts.length != 0) {
+				execDmc = triggerContexts[0];
+			}
+		} else if (e.getReason() != StateChangeReason.USER_REQUEST) {
+			execDmc = DMContexts.getAncestorOfType(e.getDMContext(), IExecutionDMContext.class);
+		}
+		MIStack stack = getServicesTracker().getService(MIStack.class);
+		if (formats.isEmpty() || execDmc == null || stack == null) {
+			// GDB does not compare the registers at this stop, so the values
+			// kept can no longer be told apart from the changed ones
+			fKnownValues.clear();
+			fDeltaThread = null;
+			return;
+		}
+
+		fPrefetchedFrame = stack.createFrameDMContext(execDmc, 0);
+		if (fChangedRegistersSupported) {
+			if (!execDmc.equals(fDeltaThread)) {
+				fKnownValues.clear();
+			}
+			fKnownValues.keySet().retainAll(formats);
+			fDeltaThread = execDmc;
+			fDeltaFrame = fPrefetchedFrame;
+			readChangedRegisters(execDmc, fPrefetchedFrame);
+		}
+
+		final int stop = fStopCount;
+		for (int format : formats) {
+			if (fKnownValues.containsKey(format)) {
+				// Only the changed registers are read again
+				continue;
+			}
+			fPrefetchedFormats.add(format);
+			fPrefetchCount++;
+			fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(fPrefetchedFrame, format),
+					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), null) {
+						@Override
+						protected void handleSuccess() {
+							keepValues(stop, format, getData().getMIRegisterValues());
+						}
+
+						@Override
+						protected void handleError() {
+							// Some registers cannot be read on some targets; ask for
+							// the registers one by one instead
+							fPrefetchedFormats.remove(format);
+						}
+					});
+		}
+	}
+
+	/**
+	 * Asks GDB which registers changed since the previous stop of the thread,
+	 * and reads those again in the formats whose values are kept.  Until then,
+	 * the requests for the values of the top frame wait.
+	 */
+	private void readChangedRegisters(IExecutionDMContext execDmc, final IFrameDMContext frameDmc) {
+		final int stop = fStopCount;
+		final Set<Integer> formats = new HashSet<>(fKnownValues.keySet());
+		if (!formats.isEmpty()) {
+			fDeltaWaiters = new ArrayList<>();
+		}
+		fCommandControl.queueCommand(fCommandFactory.createMIDataListChangedRegisters(execDmc),
+				new DataRequestMonitor<MIDataListChangedRegistersInfo>(getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						if (stop != fStopCount) {
+							// The thread resumed in the meantime, so GDB compares the
+							// next stop with this one while the values kept are older
+							fKnownValues.clear();
+							return;
+						}
+						if (!isSuccess()) {
+							fChangedRegistersSupported = false;
+							fKnownValues.clear();
+							fDeltaThread = null;
+							fDeltaFrame = null;
+							runDeltaWaiters();
+							return;
+						}
+
+						Set<Integer> changed = new HashSet<>();
+						for (int regno : getData().getRegisterNumbers()) {
+							changed.add(regno);
+						}
+						CountingRequestMonitor crm = new CountingRequestMonitor(getExecutor(), null) {
+							@Override
+							protected void handleCompleted() {
+								if (stop == fStopCount) {
+									runDeltaWaiters();
+								}
+							}
+						};
+						int count = 0;
+						for (int format : formats) {
+							Map<Integer, MIRegisterValue> values = fKnownValues.get(format);
+							if (values == null) {
+								continue;
+							}
+							List<Integer> regnos = new ArrayList<>();
+							for (Integer regno : changed) {
+								if (values.remove(regno) != null) {
+									regnos.add(regno);
+								}
+							}
+							if (regnos.isEmpty()) {
+								continue;
+							}
+							fChangedRegistersReadCount++;
+							count++;
+							fRegisterValueCache.execute(
+									fCommandFactory.createMIDataListRegisterValues(frameDmc, format,
+											regnos.stream().mapToInt(Integer::intValue).toArray()),
+									new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), null) {
+										@Override
+										protected void handleCompleted() {
+											// If this failed, the values missing are read one by one
+											if (isSuccess()) {
+												keepValues(stop, format, getData().getMIRegisterValues());
+											}
+											crm.done();
+										}
+									});
+						}
+						crm.setDoneCount(count);
+					}
+				});
+	}
+
+	/**
+	 * Keeps the values read at the given stop, unless the thread resumed since.
+	 */
+	private void keepValues(int stop, int format, MIRegisterValue[] values) {
+		if (stop != fStopCount || fDeltaFrame == null) {
+			return;
+		}
+		Map<Integer, MIRegisterValue> known = fKnownValues.computeIfAbsent(format, f -> new HashMap<>());
+		for (MIRegisterValue value : values) {
+			known.put(value.getNumber(), value);
+		}
+	}
+
+	private void runDeltaWaiters() {
+		if (fDeltaWaiters != null) {
+			List<Runnable> waiters = fDeltaWaiters;
+			fDeltaWaiters = null;
+			for (Runnable waiter : waiters) {
+				waiter.run();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of commands sent to read again only the registers
+	 * that changed since the previous stop.
+	 *
+	 * @since 7.2
+	 */
+	public int getChangedRegistersReadCount() {
+		return fChangedRegistersReadCount;
+	}
+
+	/**
+	 * Returns the number of commands sent when the program suspended to
+	 * prefetch register values.
+	 *
+	 * @since 7.2
+	 */
+	public int getPrefetchCount() {
+		return fPrefetchCount;
+	}
+
+	/**
+	 * Returns the number of register value prefetches that were used before
+	 * the program resumed.
+	 *
+	 * @since 7.2
+	 */
+	public int getPrefetchHitCount() {
+		return fPrefetchHitCount;
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -589,6 +924,13 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 		if (e.getReason() != StateChangeReason.STEP) {
 			fRegisterValueCache.reset();
 		}
+		fPrefetchedFrame = null;
+		if (fDeltaThread != null && (fDeltaThread.equals(e.getDMContext())
+				|| DMContexts.isAncestorOf(fDeltaThread, e.getDMContext()))) {
+			fStopCount++;
+			fDeltaFrame = null;
+			runDeltaWaiters();
+		}
 	}
 
 	/**
@@ -599,6 +941,8 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void eventDispatched(IRunControl.ISuspendedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), true);
 		fRegisterValueCache.reset();
+		fStopCount++;
+		prefetch(e);
 	}
 
 	/**
@@ -608,6 +952,9 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(final IRegisters.IRegisterChangedDMEvent e) {
 		fRegisterValueCache.reset();
+		// Writing a register can change others; GDB still reports them as
+		// changed at the next stop
+		fKnownValues.clear();
 	}
 
 	/**
@@ -723,34 +1070,65 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	}
 
 	private void getRegisters(final IFrameDMContext frameDmc, final MIRegisterGroupDMC groupDmc,
-			IContainerDMContext containerDmc, final DataRequestMonitor<IRegisterDMContext[]> rm) {
+			final IContainerDMContext containerDmc, final DataRequestMonitor<IRegisterDMContext[]> rm) {
+		ArchitectureRegisters registers = fContainerRegisters.get(containerDmc);
+		if (registers != null) {
+			getRegisters(frameDmc, groupDmc, registers.fNames, rm);
+			return;
+		}
 
-		fRegisterNameCache.execute(fCommandFactory.createMIDataListRegisterNames(containerDmc),
-				new ImmediateDataRequestMonitor<MIDataListRegisterNamesInfo>(rm) {
+		// The names only depend on the architecture, which another container
+		// may share
+		fRegisterNameCache.execute(fCommandFactory.createCLIShowArchitecture(containerDmc),
+				new ImmediateDataRequestMonitor<CLIShowArchitectureInfo>(rm) {
 					@Override
-					protected void handleSuccess() {
-						// Retrieve the register names.
-						String[] regNames = getData().getRegisterNames();
-
-						// If the list is empty just return empty handed.
-						if (regNames.length == 0) {
-							rm.done();
+					protected void handleCompleted() {
+						final String architecture = isSuccess() ? getData().getArchitecture() : null;
+						ArchitectureRegisters archRegisters = architecture != null
+								? fArchitectureRegisters.get(architecture)
+								: null;
+						if (archRegisters != null) {
+							fContainerRegisters.put(containerDmc, archRegisters);
+							getRegisters(frameDmc, groupDmc, archRegisters.fNames, rm);
 							return;
 						}
 
-						if (frameDmc == null)
-							// The selection does not provide a frame or thread context,
-							// This can happen e.g. if a container /process is selected
-							// Lets provide the list of register names applicable to the selected process
-							// i.e. instances with only name information which can not resolve a value
-							rm.setData(makeRegisterDMCs(groupDmc, regNames));
-						else
-							rm.setData(makeRegisterDMCs(groupDmc, frameDmc, regNames));
-						rm.done();
+						fRegisterNameCache.execute(fCommandFactory.createMIDataListRegisterNames(containerDmc),
+								new ImmediateDataRequestMonitor<MIDataListRegisterNamesInfo>(rm) {
+									@Override
+									protected void handleSuccess() {
+										ArchitectureRegisters newRegisters = new ArchitectureRegisters(
+												getData().getRegisterNames());
+										fContainerRegisters.put(containerDmc, newRegisters);
+										if (architecture != null) {
+											fArchitectureRegisters.put(architecture, newRegisters);
+										}
+										getRegisters(frameDmc, groupDmc, newRegisters.fNames, rm);
+									}
+								});
 					}
 				});
 	}
 
+	private void getRegisters(IFrameDMContext frameDmc, MIRegisterGroupDMC groupDmc, String[] regNames,
+			DataRequestMonitor<IRegisterDMContext[]> rm) {
+		// If the list is empty just return empty handed.
+		if (regNames.length == 0) {
+			rm.done();
+			return;
+		}
+
+		if (frameDmc == null)
+			// The selection does not provide a frame or thread context,
+			// This can happen e.g. if a container /process is selected
+			// Lets provide the list of register names applicable to the selected process
+			// i.e. instances with only name information which can not resolve a value
+			rm.setData(makeRegisterDMCs(groupDmc, regNames));
+		else
+			rm.setData(makeRegisterDMCs(groupDmc, frameDmc, regNames));
+		rm.done();
+	}
+
 	@Override
 	public void getBitFields(IDMContext regDmc, DataRequestMonitor<IBitFieldDMContext[]> rm) {
 		rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, NOT_SUPPORTED, "BitField not supported", null)); //$NON-NLS-1$
@@ -870,5 +1248,8 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void flushCache(IDMContext context) {
 		fRegisterNameCache.reset(context);
 		fRegisterValueCache.reset(context);
+		fArchitectureRegisters.clear();
+		fContainerRegisters.clear();
+		fKnownValues.clear();
 	}
 }
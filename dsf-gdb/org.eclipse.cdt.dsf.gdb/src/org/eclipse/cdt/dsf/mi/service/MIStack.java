@@ -69,6 +69,7 @@ import org.osgi.framework.BundleContext;
 
 public class MIStack extends AbstractDsfService implements IStack, ICachingService {
 	private static final int DEFAULT_STACK_DEPTH = 5;
+	private static final int ALL_FRAMES = Integer.MAX_VALUE;
 
 	protected static class MIFrameDMC extends AbstractDMContext implements IFrameDMContext {
 		private final int fLevel;
@@ -350,6 +351,28 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 */
 	private Map<IMIExecutionDMContext, VariableData> fThreadToReturnVariable = new HashMap<>();
 
+	/**
+	 * The number of frames and whether the locals were asked for since the last
+	 * suspend. When the program suspends, they are only prefetched if the views
+	 * asked for them the previous time, so that a session without the Variables
+	 * view open does not pay for the locals, and only as many frames as the
+	 * views asked for are listed.
+	 */
+	private int fFramesRequestedDepth = ALL_FRAMES;
+	private boolean fLocalsRequested = true;
+
+	/**
+	 * The thread whose frames are being prefetched, or were prefetched and not
+	 * used yet, the number of frames prefetched, and the frame whose locals
+	 * were prefetched.
+	 */
+	private IMIExecutionDMContext fPrefetchedFramesThread;
+	private int fPrefetchedFramesDepth;
+	private IFrameDMContext fPrefetchedLocalsFrame;
+
+	private int fPrefetchCount;
+	private int fPrefetchHitCount;
+
 	public MIStack(DsfSession session) {
 		super(session);
 	}
@@ -643,6 +666,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 		String threadId = execDmc.getThreadId();
 		final int frameLevel = miFrameDmc.fLevel;
+		if (frameLevel > 0) {
+			requestFrames(frameLevel + 1);
+		}
+		int prefetchedDepth = fPrefetchedFramesDepth;
+		boolean prefetched = usePrefetchedFrames(execDmc);
 		FrameData fd = fFramesCache.getThreadFramesCache(threadId).getFrameData(frameLevel);
 		if (fd != null) {
 			rm.setData(fd);
@@ -667,12 +695,25 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			}
 		}
 
+		if (prefetched && frameLevel < prefetchedDepth) {
+			// The frame is being prefetched, wait for it rather than listing
+			// all the frames separately.
+			fMICommandCache.execute(createMIStackListFrames(execDmc, prefetchedDepth),
+					new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
+						@Override
+						protected void handleCompleted() {
+							getFrameData(frameDmc, rm);
+						}
+					});
+			return;
+		}
+
 		// If not, retrieve the full list of frame data.
 		fMICommandCache.execute(createMIStackListFrames(execDmc),
 				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
-						FramesCacheInfo info = fFramesCache.update(threadId, getData());
+						FramesCacheInfo info = updateFramesCache(threadId, getData());
 						FrameData frameData = info.getFrameData(frameLevel);
 						if (frameData == null) {
 							rm.done(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, INVALID_HANDLE,
@@ -982,6 +1023,11 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 
 	@Override
 	public void getLocals(final IFrameDMContext frameDmc, final DataRequestMonitor<IVariableDMContext[]> rm) {
+		fLocalsRequested = true;
+		if (frameDmc.equals(fPrefetchedLocalsFrame)) {
+			fPrefetchedLocalsFrame = null;
+			fPrefetchHitCount++;
+		}
 
 		final List<IVariableDMContext> localsList = new ArrayList<>();
 
@@ -1059,16 +1105,45 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 				return;
 			}
 
+			requestFrames(maxDepth);
+			int prefetchedDepth = fPrefetchedFramesDepth;
+			boolean prefetched = usePrefetchedFrames(execDmc);
 			String threadId = execDmc.getThreadId();
 			// Check our internal cache first because different commands can
 			// still be re-used.
 			int depth = fFramesCache.getThreadFramesCache(threadId).getStackDepth(maxDepth);
 			if (depth > 0) {
-				rm.setData(depth);
+				// The cache may know of more frames than asked for
+				rm.setData(maxDepth > 0 ? Math.min(depth, maxDepth) : depth);
 				rm.done();
 				return;
 			}
 
+			if (prefetched) {
+				// The frames of this thread are being prefetched, wait for them
+				// rather than asking for the depth separately.
+				fMICommandCache.execute(createMIStackListFrames(execDmc, prefetchedDepth),
+						new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
+							@Override
+							protected void handleSuccess() {
+								int depth = updateFramesCache(threadId, getData(), prefetchedDepth)
+										.getStackDepth(maxDepth);
+								if (depth > 0) {
+									rm.done(maxDepth > 0 ? Math.min(depth, maxDepth) : depth);
+								} else {
+									// Fewer frames were prefetched than asked for
+									getStackDepth(execDmc, maxDepth, rm);
+								}
+							}
+
+							@Override
+							protected void handleError() {
+								getStackDepth(execDmc, maxDepth, rm);
+							}
+						});
+				return;
+			}
+
 			ICommand<MIStackInfoDepthInfo> depthCommand = null;
 			if (maxDepth > 0) {
 				depthCommand = fCommandFactory.createMIStackInfoDepth(execDmc, maxDepth);
@@ -1142,6 +1217,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			fMICommandCache.reset();
 			fFramesCache.clear();
 		}
+		fPrefetchedFramesThread = null;
+		fPrefetchedLocalsFrame = null;
 
 		handleReturnValues(e);
 	}
@@ -1179,6 +1256,139 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		fFramesCache.clear();
 
 		handleReturnValues(e);
+		prefetch(e);
+	}
+
+	/**
+	 * Sends the commands the views are about to send for the thread that
+	 * suspended, so that they are in flight by the time the views ask.
+	 * The results go to the caches and are used by {@link #getStackDepth},
+	 * {@link #getFrameData} and {@link #getLocals}.
+	 */
+	private void prefetch(ISuspendedDMEvent e) {
+		int prefetchedDepth = fFramesRequestedDepth;
+		boolean prefetchLocals = fLocalsRequested;
+		fFramesRequestedDepth = 0;
+		fLocalsRequested = false;
+		fPrefetchedFramesThread = null;
+		fPrefetchedLocalsFrame = null;
+		if (fTraceVisualization) {
+			return;
+		}
+
+		IMIExecutionDMContext execDmc = null;
+		if (e instanceof IContainerSuspendedDMEvent) {
+			// All-stop mode
+			IExecutionDMContext[] triggerContexts = ((IContainerSuspendedDMEvent) e).getTriggeringContexts();
+			if (triggerContexts.length != 0 && triggerContexts[0] instanceof IMIExecutionDMContext) {
+				execDmc = (IMIExecutionDMContext) triggerContexts[0];
+			}
+		} else if (e.getReason() != StateChangeReason.USER_REQUEST) {
+			// Non-stop mode.  Interrupting the process suspends each of its
+			// threads, which are not all going to be looked at.
+			IDMContext ctx = e.getDMContext();
+			if (ctx instanceof IMIExecutionDMContext) {
+				execDmc = (IMIExecutionDMContext) ctx;
+			}
+		}
+		if (execDmc == null) {
+			return;
+		}
+
+		if (prefetchedDepth > 0) {
+			IMIExecutionDMContext threadDmc = execDmc;
+			fPrefetchedFramesThread = threadDmc;
+			fPrefetchedFramesDepth = prefetchedDepth;
+			fPrefetchCount++;
+			fMICommandCache.execute(createMIStackListFrames(threadDmc, prefetchedDepth),
+					new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), null) {
+						@Override
+						protected void handleSuccess() {
+							updateFramesCache(threadDmc.getThreadId(), getData(), prefetchedDepth);
+						}
+
+						@Override
+						protected void handleError() {
+							// The views will ask again and deal with the error
+						}
+					});
+		}
+		if (prefetchLocals) {
+			fPrefetchedLocalsFrame = createFrameDMContext(execDmc, 0);
+			fPrefetchCount++;
+			fMICommandCache.execute(fCommandFactory.createMIStackListLocals(fPrefetchedLocalsFrame, true),
+					new DataRequestMonitor<MIStackListLocalsInfo>(getExecutor(), null) {
+						@Override
+						protected void handleError() {
+							// getLocals() will retry without the values
+						}
+					});
+		}
+	}
+
+	/**
+	 * Counts the use of the prefetched frames of a thread, and returns whether
+	 * they were prefetched. The prefetch command is then answered by the
+	 * command cache, whether it is still pending or not.
+	 */
+	private boolean usePrefetchedFrames(IMIExecutionDMContext execDmc) {
+		if (!execDmc.equals(fPrefetchedFramesThread)) {
+			return false;
+		}
+		fPrefetchedFramesThread = null;
+		fPrefetchHitCount++;
+		return true;
+	}
+
+	/**
+	 * Remembers the number of frames asked for, so that as many are prefetched
+	 * the next time the program suspends.
+	 */
+	private void requestFrames(int maxDepth) {
+		fFramesRequestedDepth = Math.max(fFramesRequestedDepth, maxDepth > 0 ? maxDepth : ALL_FRAMES);
+	}
+
+	/**
+	 * Lists the given number of frames from the top of the stack, or all of them.
+	 */
+	private ICommand<MIStackListFramesInfo> createMIStackListFrames(IMIExecutionDMContext execDmc, int depth) {
+		return depth == ALL_FRAMES ? createMIStackListFrames(execDmc) : createMIStackListFrames(execDmc, 0, depth - 1);
+	}
+
+	/**
+	 * Stores the complete list of frames of a thread, which also gives its depth.
+	 */
+	private FramesCacheInfo updateFramesCache(String threadId, MIStackListFramesInfo framesInfo) {
+		return updateFramesCache(threadId, framesInfo, ALL_FRAMES);
+	}
+
+	/**
+	 * Stores the frames listed from the top of the stack of a thread, which
+	 * give its depth if fewer than the given number of frames were listed.
+	 */
+	private FramesCacheInfo updateFramesCache(String threadId, MIStackListFramesInfo framesInfo, int depth) {
+		fFramesCache.update(threadId, framesInfo);
+		return fFramesCache.update(threadId, framesInfo.getMIFrames().length, depth == ALL_FRAMES ? -1 : depth);
+	}
+
+	/**
+	 * Returns the number of commands sent when the program suspended to
+	 * prefetch frames and locals.
+	 *
+	 * @since 7.2
+	 */
+	public int getPrefetchCount() {
+		return fPrefetchCount;
+	}
+
+	/**
+	 * Returns the number of prefetches whose result was asked for before the
+	 * program resumed.
+	 *
+	 * @since 7.2
+	 */
+	public int getPrefetchHitCount() {
+		return fPrefetchHitCount;
 	}
 
 	private void handleReturnValues(ISuspendedDMEvent e) {
@@ -26,6 +26,7 @@ package org.eclipse.cdt.dsf.mi.service;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -35,6 +36,7 @@ import java.util.Map;
 
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.DMContexts;
@@ -169,8 +171,11 @@ import org.eclipse.core.runtime.Status;
  * the array address in multiple formats.
  *
  * - we keep an LRU (Least Recently Used) structure of all variable objects.  This LRU
- * will be bounded to a maximum allowed number of variable objects.  Whenever we get an
- * object from the LRU cleanup will be done if the maximum size has been reached.
+ * will be bounded to a maximum allowed number of variable objects, and to a maximum number
+ * of variable objects existing in GDB.  The latter counts the children GDB created for
+ * -var-list-children, which only go away when their root is deleted, and which GDB must
+ * go through at each -var-update.  Whenever we get an object from the LRU cleanup will be
+ * done if one of the maximums has been reached.
  * The LRU will not delete a parent varObject until all its children are deleted; this is
  * achieved by touching each of the parents of an object whenever that object is put or get
  *
@@ -386,6 +391,10 @@ public class MIVariableManager implements ICommandControl {
 		// we need to keep track of fake children because they are in the LRU and need to be removed in some cases.
 		private List<ExpressionInfo> fFakeChildren = new ArrayList<>(3);
 		private boolean fHasMore = false;
+		// The number of children GDB created for this variable object, as counted
+		// in the variable objects of its root.  The fake children are counted here,
+		// while their own children are counted in their variable object.
+		private int fGdbChildCount = 0;
 		private MIDisplayHint fDisplayHint = MIDisplayHint.NONE;
 
 		// The parent of this variable object within GDB.  Null if this object has no parent
@@ -743,6 +752,7 @@ public class MIVariableManager implements ICommandControl {
 		public void shrinkChildrenTo(int newNumChildren) {
 			if (fChildren != null) {
 				ExpressionInfo[] oldChildren = fChildren;
+				setGdbChildCount(Math.min(fGdbChildCount, newNumChildren));
 				for (int i = oldChildren.length - 1; i >= newNumChildren; --i) {
 					String childFullExpression = fChildren[i].getFullExpr();
 
@@ -786,6 +796,7 @@ public class MIVariableManager implements ICommandControl {
 		 */
 		public void cleanupChildren() {
 			fHasMore = false;
+			setGdbChildCount(0);
 			if (fChildren != null) {
 				for (ExpressionInfo child : fChildren) {
 					cleanupChild(child);
@@ -799,6 +810,15 @@ public class MIVariableManager implements ICommandControl {
 			fFakeChildren.clear();
 		}
 
+		/**
+		 * Sets the number of children GDB created for this variable object,
+		 * accounting for the difference in the variable objects of its root.
+		 */
+		private void setGdbChildCount(int count) {
+			gdbVariablesChanged(getRootToUpdate(), count - fGdbChildCount);
+			fGdbChildCount = count;
+		}
+
 		public void setParent(MIVariableObject p) {
 			fParent = p;
 			if (p == null) {
@@ -964,6 +984,10 @@ public class MIVariableManager implements ICommandControl {
 							if ((addedChildren != null) && (addedChildren.length != 0)) {
 								addChildren(addedChildren);
 							}
+
+							// GDB deleted the children past the new number, and created the new ones
+							setGdbChildCount(Math.min(fGdbChildCount, update.getNewNumChildren())
+									+ (newChildren == null ? 0 : newChildren.length));
 						}
 
 						assert ((fChildren == null) || (fChildren.length == fNumChildrenHint));
@@ -1347,6 +1371,78 @@ public class MIVariableManager implements ICommandControl {
 			}
 		}
 
+		/**
+		 * Returns the children of this variable object from the given index up
+		 * to the given limit.  The children of an array are created for the
+		 * range only, so that scrolling through a large array does not create
+		 * an expression for each of its elements.
+		 *
+		 * @param startIndex
+		 *            The index of the first child, or -1 to get all the
+		 *            children as {@link #getChildren(IExpressionDMContext, int, DataRequestMonitor)}
+		 */
+		private void getChildren(final IExpressionDMContext exprDmc, final int startIndex,
+				final int clientNumChildrenLimit, final DataRequestMonitor<ChildrenInfo> rm) {
+			if (startIndex < 0) {
+				getChildren(exprDmc, clientNumChildrenLimit, rm);
+				return;
+			}
+
+			if (isArray() && getChildren() == null) {
+				int end = Math.min(clientNumChildrenLimit, getNumChildrenHint());
+				rm.setData(new ChildrenInfo(createArrayChildren(exprDmc, startIndex, end), false));
+				rm.done();
+				return;
+			}
+
+			getChildren(exprDmc, clientNumChildrenLimit,
+					new DataRequestMonitor<ChildrenInfo>(fSession.getExecutor(), rm) {
+						@Override
+						protected void handleSuccess() {
+							ExpressionInfo[] children = getData().getChildren();
+							int end = Math.min(children.length, clientNumChildrenLimit);
+							ExpressionInfo[] range = startIndex < end ? Arrays.copyOfRange(children, startIndex, end)
+									: new ExpressionInfo[0];
+							rm.setData(new ChildrenInfo(range, getData().hasMore() || children.length > end));
+							rm.done();
+						}
+					});
+		}
+
+		/**
+		 * Creates the children of an array, from index <code>from</code>
+		 * (inclusive) to <code>to</code> (exclusive).
+		 */
+		private ExpressionInfo[] createArrayChildren(IExpressionDMContext exprDmc, int from, int to) {
+			ExpressionInfo[] childrenOfArray = new ExpressionInfo[Math.max(to - from, 0)];
+			String exprName = exprDmc.getExpression();
+
+			int castingIndex = 0;
+			// in case of casts, need to resolve that before dereferencing, to be safe
+			if (exprDmc instanceof ICastedExpressionDMContext) {
+				castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
+			}
+			if (exprDmc instanceof IIndexedPartitionDMContext) {
+				castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
+			}
+
+			String parentRelExpr;
+			if (exprDmc instanceof MIExpressionDMC) {
+				parentRelExpr = ((MIExpressionDMC) exprDmc).getRelativeExpression();
+			} else {
+				// Unexpected, but avoid exception
+				parentRelExpr = exprDmc.getExpression();
+			}
+
+			for (int i = 0; i < childrenOfArray.length; i++) {
+				int index = from + i;
+				String fullExpr = exprName + "[" + index + "]";//$NON-NLS-1$//$NON-NLS-2$
+				String relExpr = parentRelExpr + "[" + (castingIndex + index) + "]";//$NON-NLS-1$//$NON-NLS-2$
+				childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, index);
+			}
+			return childrenOfArray;
+		}
+
 		/**
 		 * Fetch the out-standing children.
 		 *
@@ -1391,31 +1487,7 @@ public class MIVariableManager implements ICommandControl {
 			// never need.  Using -var-list-children will create a variable object for every child
 			// immediately, that is why we don't want to use it for arrays.
 			if (isArray()) {
-				ExpressionInfo[] childrenOfArray = new ExpressionInfo[getNumChildrenHint()];
-				String exprName = exprDmc.getExpression();
-
-				int castingIndex = 0;
-				// in case of casts, need to resolve that before dereferencing, to be safe
-				if (exprDmc instanceof ICastedExpressionDMContext) {
-					castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
-				}
-				if (exprDmc instanceof IIndexedPartitionDMContext) {
-					castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
-				}
-				for (int i = 0; i < childrenOfArray.length; i++) {
-					String fullExpr = exprName + "[" + i + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					String relExpr;
-					if (exprDmc instanceof MIExpressionDMC) {
-						relExpr = ((MIExpressionDMC) exprDmc).getRelativeExpression();
-					} else {
-						// Unexpected, but avoid exception
-						relExpr = exprDmc.getExpression();
-					}
-					relExpr = relExpr + "[" + (castingIndex + i) + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, i);
-				}
+				ExpressionInfo[] childrenOfArray = createArrayChildren(exprDmc, 0, getNumChildrenHint());
 
 				// First store these children, for the next time
 				setChildren(childrenOfArray);
@@ -1456,6 +1528,10 @@ public class MIVariableManager implements ICommandControl {
 									rm) {
 								@Override
 								protected void handleSuccess() {
+									// GDB keeps the children it created before
+									setGdbChildCount(Math.max(fGdbChildCount,
+											isSafeToAskForAllChildren() ? children.length : from + children.length));
+
 									// Store the children in our variable object cache
 									addChildren(realChildren);
 									fHasMore = localHasMore;
@@ -2169,6 +2245,10 @@ public class MIVariableManager implements ICommandControl {
 
 		private boolean fOutOfDate = false;
 
+		// The number of variable objects this root stands for in GDB: itself
+		// and the children created by -var-list-children below it
+		private int fGdbVariableCount = 0;
+
 		/**
 		 * A modifiable descendant is any variable object that is a descendant and
 		 * for which the value (leaf variable objects and dynamic variable objects)
@@ -2251,6 +2331,7 @@ public class MIVariableManager implements ICommandControl {
 								if (isSuccess()) {
 									setGdbName(getData().getName());
 									setDisplayHint(getData().getDisplayHint());
+									gdbVariablesChanged(MIRootVariableObject.this, 1);
 
 									MIExpressionDMC miExprCtx = (MIExpressionDMC) exprCtx;
 									ExpressionInfo localExprInfo = miExprCtx.getExpressionInfo();
@@ -2332,84 +2413,126 @@ public class MIVariableManager implements ICommandControl {
 				// The simplest way to do this is that whenever we change the format
 				// of a variable object, we immediately set it back to natural with a second
 				// var-set-format command.  This is done in the getValue() method
-				fCommandControl.queueCommand(
-						fCommandFactory.createMIVarUpdate(getRootToUpdate().getControlDMContext(), getGdbName()),
-						new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), rm) {
-							@Override
-							protected void handleCompleted() {
-								if (isSuccess()) {
-									setOutOfDate(false);
+				// The roots of a suspended thread which need to be updated at the same time
+				// are updated together, with a single -var-update of all variable objects.
+				updateRoot(this, rm);
+			}
+		}
 
-									MIVarChange[] changes = getData().getMIVarChanges();
-									if (changes.length > 0 && !changes[0].isInScope()) {
-										// Object is out-of-scope
-										currentState = STATE_READY;
+		/**
+		 * Updates this root alone in the back-end.
+		 */
+		private void updateInGdb(final DataRequestMonitor<Boolean> rm) {
+			fCommandControl.queueCommand(
+					fCommandFactory.createMIVarUpdate(getRootToUpdate().getControlDMContext(), getGdbName()),
+					new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), rm) {
+						@Override
+						protected void handleCompleted() {
+							if (isSuccess()) {
+								updateDone(getData().getMIVarChanges(), rm);
+							} else {
+								updateFailed(getStatus(), rm);
+							}
+						}
+					});
+		}
 
-										outOfScope = true;
+		/**
+		 * Completes the update of this root with the changes reported by GDB for
+		 * it and its descendants.  If this root went out-of-scope, the change
+		 * for the root itself must come first.
+		 */
+		private void updateDone(MIVarChange[] changes, final DataRequestMonitor<Boolean> rm) {
+			setOutOfDate(false);
 
-										// We can delete this root in GDB right away.  This is safe, even
-										// if the root has children, because they are also out-of-scope.
-										// We -must- also remove this entry from our LRU.  If we don't
-										// we can end-up with a race condition that create this object
-										// twice, or have an infinite loop while never re-creating the object.
-										// The can happen if we update a child first then we request
-										// the root later,
-										lruVariableList.remove(getInternalId());
+			if (changes.length > 0 && !changes[0].isInScope()) {
+				// Object is out-of-scope
+				currentState = STATE_READY;
 
-										rm.setData(true);
-										rm.done();
+				outOfScope = true;
 
-										while (!updatesPending.isEmpty()) {
-											DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-											pendingRm.setData(false);
-											pendingRm.done();
-										}
-									} else {
-										// The root object is now up-to-date, we must parse the changes, if any.
-										processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
-											@Override
-											protected void handleCompleted() {
-												currentState = STATE_READY;
-
-												// We only mark this root as updated in our list if it is in-scope.
-												// For out-of-scope object, we don't ever need to re-update them so
-												// we don't need to add them to this list.
-												rootVariableUpdated(MIRootVariableObject.this);
-
-												if (isSuccess()) {
-													rm.setData(false);
-												} else {
-													rm.setStatus(getStatus());
-												}
-												rm.done();
+				// We can delete this root in GDB right away.  This is safe, even
+				// if the root has children, because they are also out-of-scope.
+				// We -must- also remove this entry from our LRU.  If we don't
+				// we can end-up with a race condition that create this object
+				// twice, or have an infinite loop while never re-creating the object.
+				// The can happen if we update a child first then we request
+				// the root later,
+				lruVariableList.remove(getInternalId());
 
-												while (!updatesPending.isEmpty()) {
-													DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-													if (isSuccess()) {
-														pendingRm.setData(false);
-													} else {
-														pendingRm.setStatus(getStatus());
-													}
-													pendingRm.done();
-												}
-											}
-										});
-									}
-								} else {
-									// We were not able to update for some reason
-									currentState = STATE_READY;
+				rm.setData(true);
+				rm.done();
 
-									rm.setData(false);
-									rm.done();
+				while (!updatesPending.isEmpty()) {
+					DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+					pendingRm.setData(false);
+					pendingRm.done();
+				}
+			} else {
+				// The root object is now up-to-date, we must parse the changes, if any.
+				processChanges(changes, new RequestMonitor(fSession.getExecutor(), rm) {
+					@Override
+					protected void handleCompleted() {
+						currentState = STATE_READY;
 
-									while (!updatesPending.isEmpty()) {
-										DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
-										pendingRm.setStatus(getStatus());
-										pendingRm.done();
-									}
-								}
+						// We only mark this root as updated in our list if it is in-scope.
+						// For out-of-scope object, we don't ever need to re-update them so
+						// we don't need to add them to this list.
+						rootVariableUpdated(MIRootVariableObject.this);
+
+						if (isSuccess()) {
+							rm.setData(false);
+						} else {
+							rm.setStatus(getStatus());
+						}
+						rm.done();
+
+						while (!updatesPending.isEmpty()) {
+							DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+							if (isSuccess()) {
+								pendingRm.setData(false);
+							} else {
+								pendingRm.setStatus(getStatus());
 							}
-						});
+							pendingRm.done();
+						}
+					}
+				});
+			}
+		}
+
+		private void updateFailed(IStatus status, DataRequestMonitor<Boolean> rm) {
+			// We were not able to update for some reason
+			currentState = STATE_READY;
+
+			rm.setData(false);
+			rm.done();
+
+			while (!updatesPending.isEmpty()) {
+				DataRequestMonitor<Boolean> pendingRm = updatesPending.poll();
+				pendingRm.setStatus(status);
+				pendingRm.done();
+			}
+		}
+
+		/**
+		 * Applies the changes reported for this root and its descendants by an
+		 * update of all variable objects that this root was not waiting for.
+		 * GDB will not report these changes again, so they must not be lost, but
+		 * this root stays out-of-date in case its thread was not updated.
+		 */
+		private void changesReported(MIVarChange[] changes) {
+			if (changes.length > 0 && !changes[0].isInScope()) {
+				outOfScope = true;
+				lruVariableList.remove(getInternalId());
+			} else {
+				processChanges(changes, new RequestMonitor(fSession.getExecutor(), null) {
+					@Override
+					protected void handleError() {
+						// No request is waiting for these changes
+						GdbPlugin.log(getStatus());
+					}
+				});
 			}
 		}
 
@@ -2433,6 +2556,9 @@ public class MIVariableManager implements ICommandControl {
 				// this variable a second time.  This can happen if the LRU triggers
 				// an automatic delete.
 				setGdbName(null);
+
+				// GDB deletes the children along with the root
+				gdbVariablesChanged(this, -fGdbVariableCount);
 			} else {
 				// Variable was never created or was already deleted, no need to do anything.
 			}
@@ -2558,6 +2684,12 @@ public class MIVariableManager implements ICommandControl {
 		// Maximum allowed concurrent variables
 		private static final int MAX_VARIABLE_LIST = 1000;
 
+		// Maximum number of variable objects in GDB, including the children
+		// which are no longer in this cache but remain in GDB under their root
+		private static final int MAX_GDB_VARIABLES = 5000;
+
+		private int fGdbVariableCount;
+
 		public LRUVariableCache() {
 			super(0, // Initial load capacity
 					0.75f, // Load factor as defined in JAVA 1.5
@@ -2578,16 +2710,28 @@ public class MIVariableManager implements ICommandControl {
 
 			// If we're over our max size, attempt to remove eldest entry.
 			if (size() > MAX_VARIABLE_LIST) {
-				Map.Entry<VariableObjectId, MIVariableObject> eldest = entrySet().iterator().next();
-				// First make sure we are not deleting ourselves!
-				if (!eldest.getValue().equals(varObj)
-						&& eldest.getValue().currentState == MIVariableObject.STATE_READY) {
-					remove(eldest.getKey());
-				}
+				removeEldest(varObj);
+			}
+			// Removing children does not free them in GDB, so keep on removing
+			// until their roots are removed
+			while (fGdbVariableCount > MAX_GDB_VARIABLES && removeEldest(varObj)) {
 			}
 			return varObj;
 		}
 
+		private boolean removeEldest(MIVariableObject varObj) {
+			if (isEmpty()) {
+				return false;
+			}
+			Map.Entry<VariableObjectId, MIVariableObject> eldest = entrySet().iterator().next();
+			// First make sure we are not deleting ourselves!
+			if (!eldest.getValue().equals(varObj) && eldest.getValue().currentState == MIVariableObject.STATE_READY) {
+				remove(eldest.getKey());
+				return true;
+			}
+			return false;
+		}
+
 		private void touchAncestors(MIVariableObject varObj) {
 			while (varObj != null) {
 				varObj = varObj.getParent();
@@ -2619,6 +2763,16 @@ public class MIVariableManager implements ICommandControl {
 		}
 	}
 
+	/**
+	 * Accounts for variable objects created or deleted in GDB below the given root.
+	 */
+	private void gdbVariablesChanged(MIRootVariableObject root, int count) {
+		if (root != null && count != 0) {
+			root.fGdbVariableCount += count;
+			lruVariableList.fGdbVariableCount += count;
+		}
+	}
+
 	private GDBTypeParser fGDBTypeParser = null;
 
 	private final DsfSession fSession;
@@ -2642,6 +2796,15 @@ public class MIVariableManager implements ICommandControl {
 	/** The list of root variable objects that have been updated */
 	private final LinkedList<MIRootVariableObject> updatedRootList = new LinkedList<>();
 
+	/**
+	 * The root variable objects waiting to be updated together, with the
+	 * request monitor of their update, by suspended thread
+	 */
+	private final Map<IExecutionDMContext, Map<MIRootVariableObject, DataRequestMonitor<Boolean>>> fPendingRootUpdates =
+			new HashMap<>();
+
+	private final IRunControl fRunControl;
+
 	/**
 	 * MIVariableManager constructor
 	 *
@@ -2655,6 +2818,7 @@ public class MIVariableManager implements ICommandControl {
 		lruVariableList = new LRUVariableCache();
 		fCommandControl = tracker.getService(ICommandControl.class);
 		fStackService = tracker.getService(IStack.class);
+		fRunControl = tracker.getService(IRunControl.class);
 		fExpressionService = tracker.getService(IExpressions.class);
 		fCommandFactory = tracker.getService(IMICommandControl.class).getCommandFactory();
 
@@ -2680,6 +2844,14 @@ public class MIVariableManager implements ICommandControl {
 		return fCommandControl;
 	}
 
+	/**
+	 * Returns the number of variable objects existing in GDB, as bounded by
+	 * the cache.
+	 */
+	int getGdbVariableCount() {
+		return lruVariableList.fGdbVariableCount;
+	}
+
 	/**
 	 * @since 3.0
 	 */
@@ -2687,6 +2859,123 @@ public class MIVariableManager implements ICommandControl {
 		updatedRootList.add(rootObj);
 	}
 
+	/**
+	 * Updates the given root in the back-end.  The roots of a suspended thread
+	 * are not updated right away, but once the requests already dispatched have
+	 * been processed, so that the roots of all the expressions that the views
+	 * evaluate after a step are updated with a single command.
+	 */
+	private void updateRoot(MIRootVariableObject root, DataRequestMonitor<Boolean> rm) {
+		final IExecutionDMContext execCtx = root.getInternalId().fExecContext;
+		if (!(execCtx instanceof IMIExecutionDMContext) || fRunControl == null || !fRunControl.isSuspended(execCtx)) {
+			// -var-update * would skip the variable objects of a running thread
+			root.updateInGdb(rm);
+			return;
+		}
+
+		Map<MIRootVariableObject, DataRequestMonitor<Boolean>> roots = fPendingRootUpdates.get(execCtx);
+		if (roots == null) {
+			roots = new LinkedHashMap<>();
+			fPendingRootUpdates.put(execCtx, roots);
+			fSession.getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					updateRoots(execCtx, fPendingRootUpdates.remove(execCtx));
+				}
+			});
+		}
+		roots.put(root, rm);
+	}
+
+	/**
+	 * Updates the given roots of a suspended thread, along with all the other
+	 * variable objects in GDB, and hands each root the changes reported for it.
+	 */
+	private void updateRoots(IExecutionDMContext execCtx,
+			final Map<MIRootVariableObject, DataRequestMonitor<Boolean>> roots) {
+		if (roots.size() == 1) {
+			Map.Entry<MIRootVariableObject, DataRequestMonitor<Boolean>> entry = roots.entrySet().iterator().next();
+			entry.getKey().updateInGdb(entry.getValue());
+			return;
+		}
+
+		fCommandControl.queueCommand(fCommandFactory.createMIVarUpdate(execCtx, "*"), //$NON-NLS-1$
+				new DataRequestMonitor<MIVarUpdateInfo>(fSession.getExecutor(), null) {
+					@Override
+					protected void handleCompleted() {
+						if (!isSuccess()) {
+							// Fall back to updating each root on its own
+							for (Map.Entry<MIRootVariableObject, DataRequestMonitor<Boolean>> entry : roots
+									.entrySet()) {
+								entry.getKey().updateInGdb(entry.getValue());
+							}
+							return;
+						}
+
+						Map<MIRootVariableObject, List<MIVarChange>> changesByRoot = groupChangesByRoot(
+								getData().getMIVarChanges());
+						for (Map.Entry<MIRootVariableObject, DataRequestMonitor<Boolean>> entry : roots.entrySet()) {
+							List<MIVarChange> changes = changesByRoot.remove(entry.getKey());
+							entry.getKey().updateDone(
+									changes == null ? new MIVarChange[0] : changes.toArray(new MIVarChange[0]),
+									entry.getValue());
+						}
+
+						// GDB has also updated roots that were not waiting for it,
+						// and will not report their changes again.
+						for (Map.Entry<MIRootVariableObject, List<MIVarChange>> entry : changesByRoot.entrySet()) {
+							entry.getKey().changesReported(entry.getValue().toArray(new MIVarChange[0]));
+						}
+					}
+				});
+	}
+
+	/**
+	 * Groups the changes of an update of all variable objects by the root they
+	 * belong to, with the change of a root itself first.  Changes of variable
+	 * objects which are not in our cache anymore are dropped.
+	 */
+	private Map<MIRootVariableObject, List<MIVarChange>> groupChangesByRoot(MIVarChange[] changes) {
+		if (changes.length == 0) {
+			return new LinkedHashMap<>();
+		}
+
+		Map<String, MIRootVariableObject> rootsByName = new HashMap<>();
+		for (MIVariableObject varObj : lruVariableList.values()) {
+			if (varObj instanceof MIRootVariableObject && varObj.getGdbName() != null) {
+				rootsByName.put(varObj.getGdbName(), (MIRootVariableObject) varObj);
+			}
+		}
+		return groupChangesByRoot(changes, rootsByName);
+	}
+
+	/**
+	 * Groups the changes by the root, among the given roots by GDB name, of
+	 * the variable object they are for.
+	 */
+	static <R> Map<R, List<MIVarChange>> groupChangesByRoot(MIVarChange[] changes, Map<String, R> rootsByName) {
+		Map<R, List<MIVarChange>> changesByRoot = new LinkedHashMap<>();
+		for (MIVarChange change : changes) {
+			// GDB names a child after its parent, adding a dot and the name of
+			// the child: var1.public.x, or var2.[0] for a child of a dynamic
+			// variable object.  The name of a child, given by a pretty-printer,
+			// may itself contain dots, but the name of a root, generated by GDB
+			// as varN, never does.  So the root is the part before the first dot.
+			String name = change.getVarName();
+			int dot = name.indexOf('.');
+			R root = rootsByName.get(dot < 0 ? name : name.substring(0, dot));
+			if (root != null) {
+				List<MIVarChange> rootChanges = changesByRoot.computeIfAbsent(root, r -> new ArrayList<>());
+				if (dot < 0) {
+					rootChanges.add(0, change);
+				} else {
+					rootChanges.add(change);
+				}
+			}
+		}
+		return changesByRoot;
+	}
+
 	/**
 	 * @since 3.0
 	 */
@@ -3043,7 +3332,8 @@ public class MIVariableManager implements ICommandControl {
 			getVariable(exprCtx, new DataRequestMonitor<MIVariableObject>(fSession.getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
-					getData().getChildren(exprCtx, ((ExprMetaGetChildren) command).getNumChildLimit(),
+					getData().getChildren(exprCtx, ((ExprMetaGetChildren) command).getStartIndex(),
+							((ExprMetaGetChildren) command).getNumChildLimit(),
 							new DataRequestMonitor<ChildrenInfo>(fSession.getExecutor(), drm) {
 								@Override
 								protected void handleSuccess() {
@@ -35,10 +35,14 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -98,7 +102,9 @@ import org.eclipse.osgi.util.NLS;
 public abstract class AbstractMIControl extends AbstractDsfService implements IMICommandControl {
 	private static final String MI_TRACE_IDENTIFIER = "[MI]"; //$NON-NLS-1$
 	private static final int NUMBER_CONCURRENT_COMMANDS = 3;
+	private static final int NUMBER_PIPELINED_COMMANDS = 16;
 	private static final int DEVELOPMENT_TRACE_LIMIT_CHARS = 5000;
+	private static final int MAX_DISPATCH_BATCH_SIZE = 1000;
 
 	/*
 	 *  Thread control variables for the transmit and receive threads.
@@ -108,6 +114,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private RxThread fRxThread;
 	private ErrorThread fErrorThread;
 	private final int fNumberOfConcurrentCommands;
+	private final int fNumberOfPipelinedCommands;
 
 	// MI did not always support the --thread/--frame options
 	// This boolean is used to know if we should use -thread-select and -stack-select-frame instead
@@ -125,12 +132,47 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	private final Map<Integer, CommandHandle> fRxCommands = Collections
 			.synchronizedMap(new HashMap<Integer, CommandHandle>());
 
+	/**
+	 * The number of commands expecting an answer that were handed to the TX
+	 * thread but not yet put in the RX commands map.
+	 */
+	private final AtomicInteger fTxPendingCount = new AtomicInteger();
+
 	/**
 	 * Handle that's inserted into the TX commands queue to signal
 	 * that the TX thread should shut down.
 	 */
 	private final CommandHandle fTerminatorHandle = new CommandHandle(null, null);
 
+	/**
+	 * Work resulting from the output received by the RX thread, to be done on
+	 * the DSF thread in the order the output was received. The RX thread parses
+	 * the output as it arrives, and all the work queued by the time the executor
+	 * gets to it is done in a single dispatch cycle. This keeps the bursts of
+	 * async records GDB prints when many threads are resumed or created from
+	 * flooding the executor with one runnable per record.
+	 */
+	private final Queue<Runnable> fRxDispatchQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean fRxDispatchScheduled = new AtomicBoolean();
+	private final DsfRunnable fRxDispatchRunnable = new DsfRunnable() {
+		@Override
+		public void run() {
+			processRxDispatchQueue();
+		}
+
+		@Override
+		public String toString() {
+			return "MI output received"; //$NON-NLS-1$
+		}
+	};
+
+	private final Runnable fProcessNextQueuedCommandRunnable = new Runnable() {
+		@Override
+		public void run() {
+			processNextQueuedCommand();
+		}
+	};
+
 	/*
 	 *   Various listener control variables used to keep track of listeners who want to monitor
 	 *   what the control object is doing.
@@ -200,8 +242,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		if (isConcurrentCommandsSupported()) {
 			fNumberOfConcurrentCommands = NUMBER_CONCURRENT_COMMANDS;
+			fNumberOfPipelinedCommands = NUMBER_PIPELINED_COMMANDS;
 		} else {
 			fNumberOfConcurrentCommands = 1;
+			fNumberOfPipelinedCommands = 1;
 		}
 	}
 
@@ -408,7 +452,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	}
 
 	private void processNextQueuedCommand() {
-		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
+		if (!fCommandQueue.isEmpty()
+				&& fRxCommands.size() + fTxPendingCount.get() < getMaxCommandsOnTheWire(fCommandQueue.get(0))) {
 			final CommandHandle handle = fCommandQueue.remove(0);
 			if (handle != null) {
 				processCommandSent(handle);
@@ -438,7 +483,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIThreadSelect(targetContext, targetThread), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							send(cmdHandle);
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
@@ -448,7 +493,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
 									.createMIStackSelectFrame(targetContext, targetFrame), null);
 							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+							send(cmdHandle);
 						}
 					}
 				}
@@ -459,11 +504,35 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					// need a token id.  In fact, GDB will fail if we send one in this case.
 					handle.generateTokenId();
 				}
-				fTxCommands.add(handle);
+				send(handle);
 			}
 		}
 	}
 
+	/*
+	 * Hands the command to the TX thread. Until the TX thread notes it as
+	 * outstanding, the command is counted as waiting to be written, so that the
+	 * commands handed in a row count against the number of commands on the wire.
+	 */
+	private void send(CommandHandle handle) {
+		if (!(handle.getCommand() instanceof RawCommand)) {
+			fTxPendingCount.incrementAndGet();
+		}
+		fTxCommands.add(handle);
+	}
+
+	/*
+	 * Pipelined commands, such as the -break-insert commands installing many
+	 * breakpoints, are sent without waiting for the answers of the commands
+	 * before them, up to a larger limit.
+	 */
+	private int getMaxCommandsOnTheWire(CommandHandle handle) {
+		if (handle != null && handle.getCommand().isPipelined()) {
+			return fNumberOfPipelinedCommands;
+		}
+		return fNumberOfConcurrentCommands;
+	}
+
 	/*
 	 *   This is the command which allows the user to retract a previously issued command. The
 	 *   state of the command  is that it is in the waiting queue  and has not yet been handed
@@ -550,6 +619,45 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return !fStoppedCommandProcessing;
 	}
 
+	/**
+	 * Queues work resulting from the output of the back end to be done on the
+	 * DSF thread, after the work queued before it.
+	 */
+	private void dispatchRxWork(Runnable runnable) {
+		fRxDispatchQueue.add(runnable);
+		scheduleRxDispatch();
+	}
+
+	private void scheduleRxDispatch() {
+		if (!fRxDispatchQueue.isEmpty() && fRxDispatchScheduled.compareAndSet(false, true)) {
+			getExecutor().execute(fRxDispatchRunnable);
+		}
+	}
+
+	private void processRxDispatchQueue() {
+		// Cleared before polling, so work queued from now on is either done by
+		// this batch or schedules another one.
+		fRxDispatchScheduled.set(false);
+		for (int i = 0; i < MAX_DISPATCH_BATCH_SIZE; i++) {
+			Runnable runnable = fRxDispatchQueue.poll();
+			if (runnable == null) {
+				return;
+			}
+			try {
+				runnable.run();
+			} catch (RuntimeException e) {
+				// Don't let a failing listener drop the rest of the batch.
+				GdbPlugin.log(e);
+			}
+		}
+		// Give other runnables a chance before processing the rest.
+		try {
+			scheduleRxDispatch();
+		} catch (RejectedExecutionException e) {
+			// Dispatch thread is down.
+		}
+	}
+
 	/*
 	 *  These are the service routines which perform the various callouts back to the listeners.
 	 */
@@ -756,6 +864,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				if (!(commandHandle.getCommand() instanceof RawCommand)) {
 					// RawCommands will not get an answer, so we cannot put them in the receive queue.
 					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+					fTxPendingCount.decrementAndGet();
 				}
 
 				/*
@@ -1030,7 +1139,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						 *  We need to complete the command on the DSF thread for data security.
 						 */
 						final ICommandResult finalResult = result;
-						getExecutor().execute(new DsfRunnable() {
+						dispatchRxWork(new DsfRunnable() {
 							@Override
 							public void run() {
 								/*
@@ -1059,7 +1168,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						 *  of the work.
 						 */
 						final ICommandResult finalResult = result;
-						getExecutor().execute(new DsfRunnable() {
+						dispatchRxWork(new DsfRunnable() {
 							@Override
 							public void run() {
 								processCommandDone(commandHandle, finalResult);
@@ -1080,7 +1189,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					 */
 					final MIOutput response = new MIOutput(rr, new MIOOBRecord[0]);
 
-					getExecutor().execute(new DsfRunnable() {
+					dispatchRxWork(new DsfRunnable() {
 						@Override
 						public void run() {
 							processEvent(response);
@@ -1126,7 +1235,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				 *   OOBS are events. So we pass them to any event listeners who want to see them. Again this must
 				 *   be done on the DSF thread for integrity.
 				 */
-				getExecutor().execute(new DsfRunnable() {
+				dispatchRxWork(new DsfRunnable() {
 					@Override
 					public void run() {
 						processEvent(response);
@@ -1139,12 +1248,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				});
 			}
 
-			getExecutor().execute(new DsfRunnable() {
-				@Override
-				public void run() {
-					processNextQueuedCommand();
-				}
-			});
+			dispatchRxWork(fProcessNextQueuedCommandRunnable);
 		}
 	}
 
@@ -70,6 +70,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.CLIPasscount;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIRecord;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIRemoteGet;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLISharedLibrary;
+import org.eclipse.cdt.dsf.mi.service.command.commands.CLIShowArchitecture;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIShowEndian;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLISource;
 import org.eclipse.cdt.dsf.mi.service.command.commands.CLIThread;
@@ -91,6 +92,7 @@ import org.eclipse.cdt.dsf.mi.service.command.commands.MIBreakWatch;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDPrintfInsert;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataEvaluateExpression;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListChangedRegisters;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterNames;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataListRegisterValues;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataReadMemory;
@@ -211,6 +213,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoProgramInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoRecordInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoSharedLibraryInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIInfoThreadsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIShowArchitectureInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIShowEndianInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLIThreadInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.CLITraceDumpInfo;
@@ -220,6 +223,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakInsertInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIBreakListInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataEvaluateExpressionInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListChangedRegistersInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataReadMemoryBytesInfo;
@@ -367,6 +371,13 @@ public class CommandFactory {
 		return new CLISharedLibrary(ctx, name);
 	}
 
+	/**
+	 * @since 7.2
+	 */
+	public ICommand<CLIShowArchitectureInfo> createCLIShowArchitecture(IContainerDMContext ctx) {
+		return new CLIShowArchitecture(ctx);
+	}
+
 	/**
 	 * @since 4.2
 	 */
@@ -521,6 +532,13 @@ public class CommandFactory {
 		return new MIDataEvaluateExpression<>(exprDmc);
 	}
 
+	/**
+	 * @since 7.2
+	 */
+	public ICommand<MIDataListChangedRegistersInfo> createMIDataListChangedRegisters(IExecutionDMContext ctx) {
+		return new MIDataListChangedRegisters(ctx);
+	}
+
 	public ICommand<MIDataListRegisterNamesInfo> createMIDataListRegisterNames(IContainerDMContext ctx) {
 		return new MIDataListRegisterNames(ctx);
 	}
@@ -1230,4 +1248,11 @@ public class CommandFactory {
 	public ICommand<MIVarUpdateInfo> createMIVarUpdate(ICommandControlDMContext dmc, String name) {
 		return new MIVarUpdate(dmc, name);
 	}
+
+	/**
+	 * @since 7.2
+	 */
+	public ICommand<MIVarUpdateInfo> createMIVarUpdate(IExecutionDMContext dmc, String name) {
+		return new MIVarUpdate(dmc, name);
+	}
 }
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+
+package org.eclipse.cdt.dsf.mi.service.command.commands;
+
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.mi.service.command.output.CLIShowArchitectureInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
+
+/**
+ * Returns the architecture of the current GDB target.  '-gdb-show' only
+ * gives the setting, which is usually "auto".
+ *
+ * @since 7.2
+ */
+public class CLIShowArchitecture extends MIInterpreterExecConsole<CLIShowArchitectureInfo> {
+
+	private static final String SHOW_ARCHITECTURE = "show architecture"; //$NON-NLS-1$
+
+	public CLIShowArchitecture(IContainerDMContext ctx) {
+		super(ctx, SHOW_ARCHITECTURE);
+	}
+
+	@Override
+	public CLIShowArchitectureInfo getResult(MIOutput miResult) {
+		return new CLIShowArchitectureInfo(miResult);
+	}
+}
@@ -21,6 +21,7 @@ import org.eclipse.cdt.dsf.mi.service.command.output.ExprMetaGetChildrenInfo;
 public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo> {
 
 	private int numChildLimit = IMIExpressions.CHILD_COUNT_LIMIT_UNSPECIFIED;
+	private int startIndex = -1;
 
 	public ExprMetaGetChildren(IExpressionDMContext ctx) {
 		super(ctx);
@@ -37,6 +38,22 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		this.numChildLimit = numChildLimit;
 	}
 
+	/**
+	 * Creates a command returning only the children in a range, so that the
+	 * children of large arrays can be fetched a window at a time.
+	 *
+	 * @param ctx
+	 * @param startIndex the index of the first child to return
+	 * @param length the number of children to return
+	 *
+	 * @since 7.2
+	 */
+	public ExprMetaGetChildren(IExpressionDMContext ctx, int startIndex, int length) {
+		super(ctx);
+		this.startIndex = startIndex;
+		this.numChildLimit = startIndex + length;
+	}
+
 	/**
 	 * @since 4.0
 	 */
@@ -44,11 +61,21 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		return numChildLimit;
 	}
 
+	/**
+	 * @return the index of the first child to return, or -1 if all the
+	 *         children known, and at least up to the limit, are returned
+	 * @since 7.2
+	 */
+	public int getStartIndex() {
+		return startIndex;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + numChildLimit;
+		result = prime * result + startIndex;
 		return result;
 	}
 
@@ -61,6 +88,8 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		ExprMetaGetChildren other = (ExprMetaGetChildren) obj;
 		if (numChildLimit != other.numChildLimit)
 			return false;
+		if (startIndex != other.startIndex)
+			return false;
 		return true;
 	}
 }
\ No newline at end of file
@@ -31,4 +31,9 @@ public class MIBreakAfter extends MICommand<MIInfo> {
 	public MIBreakAfter(IBreakpointsTargetDMContext ctx, String breakpoint, int ignoreCount) {
 		super(ctx, "-break-after", new String[] { breakpoint, Integer.toString(ignoreCount) }); //$NON-NLS-1$
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
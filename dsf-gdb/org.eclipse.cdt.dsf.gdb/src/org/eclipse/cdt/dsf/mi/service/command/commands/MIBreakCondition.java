@@ -45,4 +45,9 @@ public class MIBreakCondition extends MICommand<MIInfo> {
 		setParameters(new Adjustable[] { new MIStandardParameterAdjustable(breakpoint),
 				new MINoChangeAdjustable(condition) });
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
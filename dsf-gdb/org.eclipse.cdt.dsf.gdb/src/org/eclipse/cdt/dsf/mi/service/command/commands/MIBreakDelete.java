@@ -42,4 +42,9 @@ public class MIBreakDelete extends MICommand<MIInfo> {
 			setParameters(brkids);
 		}
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
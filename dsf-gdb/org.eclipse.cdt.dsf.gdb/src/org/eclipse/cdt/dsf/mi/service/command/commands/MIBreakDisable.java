@@ -41,4 +41,9 @@ public class MIBreakDisable extends MICommand<MIInfo> {
 			setParameters(brkids);
 		}
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
@@ -40,4 +40,9 @@ public class MIBreakEnable extends MICommand<MIInfo> {
 			setParameters(brkids);
 		}
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
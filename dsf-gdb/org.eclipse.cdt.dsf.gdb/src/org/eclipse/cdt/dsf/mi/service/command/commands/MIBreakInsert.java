@@ -183,4 +183,9 @@ public class MIBreakInsert extends MICommand<MIBreakInsertInfo> {
 	public MIBreakInsertInfo getResult(MIOutput output) {
 		return new MIBreakInsertInfo(output);
 	}
+
+	@Override
+	public boolean isPipelined() {
+		return true;
+	}
 }
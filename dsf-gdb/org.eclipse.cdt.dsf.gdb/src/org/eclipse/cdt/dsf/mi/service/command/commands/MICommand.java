@@ -268,6 +268,18 @@ public class MICommand<V extends MIInfo> implements ICommand<V> {
 		return true;
 	}
 
+	/**
+	 * Returns whether this command can be sent to GDB while many other commands
+	 * are still waiting for their answer. This is the case of commands that don't
+	 * depend on the selected thread or frame and are often sent in large numbers,
+	 * such as the commands installing breakpoints.
+	 *
+	 * @since 7.2
+	 */
+	public boolean isPipelined() {
+		return false;
+	}
+
 	/**
 	 * Compares commands based on the MI command string that they generate,
 	 * without the token.
@@ -16,6 +16,7 @@
 
 package org.eclipse.cdt.dsf.mi.service.command.commands;
 
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIVarUpdateInfo;
@@ -41,6 +42,17 @@ public class MIVarUpdate extends MICommand<MIVarUpdateInfo> {
 		super(dmc, "-var-update", new String[] { "1", name }); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
+	/**
+	 * Updates the variable objects in the context of the given thread, which
+	 * is typically used with "*" for the global variable objects to be updated
+	 * in a suspended thread.
+	 *
+	 * @since 7.2
+	 */
+	public MIVarUpdate(IExecutionDMContext dmc, String name) {
+		super(dmc, "-var-update", new String[] { "1", name }); //$NON-NLS-1$//$NON-NLS-2$
+	}
+
 	@Override
 	public MIVarUpdateInfo getResult(MIOutput out) {
 		return new MIVarUpdateInfo(out);
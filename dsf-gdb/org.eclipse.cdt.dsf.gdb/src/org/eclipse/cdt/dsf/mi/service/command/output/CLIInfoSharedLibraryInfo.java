@@ -15,7 +15,9 @@
 package org.eclipse.cdt.dsf.mi.service.command.output;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,8 +26,15 @@ import java.util.regex.Pattern;
  */
 public class CLIInfoSharedLibraryInfo extends MIInfo {
 
+	// Parsing pattern of type ~"0x40000970  0x4001331f  Yes         /lib/ld-linux.so.2\n"
+	private static final Pattern SHARED_PATTERN = Pattern.compile("(0x.*)(0x.*)(Yes|No)(\\s*)(.*)", //$NON-NLS-1$
+			Pattern.MULTILINE);
+
 	DsfMISharedInfo[] shared;
 
+	/** The shared libraries by name, indexed on first use */
+	private Map<String, DsfMISharedInfo> sharedByName;
+
 	public class DsfMISharedInfo {
 
 		String from;
@@ -70,6 +79,22 @@ public class CLIInfoSharedLibraryInfo extends MIInfo {
 		return shared;
 	}
 
+	/**
+	 * Returns the shared library of the given name, or null if there is none.
+	 * This is meant for looking up each of many libraries in the same output.
+	 *
+	 * @since 7.2
+	 */
+	public synchronized DsfMISharedInfo getMIShared(String name) {
+		if (sharedByName == null) {
+			sharedByName = new HashMap<>(shared.length * 2);
+			for (DsfMISharedInfo info : shared) {
+				sharedByName.putIfAbsent(info.getName(), info);
+			}
+		}
+		return sharedByName.get(name);
+	}
+
 	void parse() {
 		List<DsfMISharedInfo> aList = new ArrayList<>();
 		if (isDone()) {
@@ -92,9 +117,7 @@ public class CLIInfoSharedLibraryInfo extends MIInfo {
 
 	void parseShared(String str, List<DsfMISharedInfo> aList) {
 		if (!str.isEmpty()) {
-			// Parsing pattern of type ~"0x40000970  0x4001331f  Yes         /lib/ld-linux.so.2\n"
-			Pattern pattern = Pattern.compile("(0x.*)(0x.*)(Yes|No)(\\s*)(.*)", Pattern.MULTILINE); //$NON-NLS-1$
-			Matcher matcher = pattern.matcher(str);
+			Matcher matcher = SHARED_PATTERN.matcher(str);
 			if (matcher.find()) {
 				DsfMISharedInfo s = new DsfMISharedInfo(matcher.group(1), matcher.group(2),
 						(matcher.group(3).equals("Yes")) ? true : false, //$NON-NLS-1$
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+/**
+ * 'show architecture' returns the architecture of the current target.
+ *
+ * sample output:
+ *
+ * (gdb) show architecture
+ * The target architecture is set to "auto" (currently "i386:x86-64").
+ *
+ * (gdb) show architecture
+ * The target architecture is set to "arm".
+ *
+ * Older versions of GDB:
+ *
+ * (gdb) show architecture
+ * The target architecture is set automatically (currently i386:x86-64)
+ *
+ * @since 7.2
+ */
+public class CLIShowArchitectureInfo extends MIInfo {
+
+	final private static String CURRENTLY = "(currently "; //$NON-NLS-1$
+	final private static String SET_TO = "set to "; //$NON-NLS-1$
+
+	private String fArchitecture = null;
+
+	public CLIShowArchitectureInfo(MIOutput record) {
+		super(record);
+		parse();
+	}
+
+	protected void parse() {
+		if (isDone()) {
+			MIOutput out = getMIOutput();
+			for (MIOOBRecord oob : out.getMIOOBRecords()) {
+				if (oob instanceof MIConsoleStreamOutput) {
+					String line = ((MIConsoleStreamOutput) oob).getString().trim();
+					int index = line.indexOf(CURRENTLY);
+					if (index >= 0) {
+						int end = line.indexOf(')', index);
+						fArchitecture = unquote(
+								line.substring(index + CURRENTLY.length(), end >= 0 ? end : line.length()));
+						break;
+					}
+					index = line.indexOf(SET_TO);
+					if (index >= 0) {
+						fArchitecture = unquote(line.substring(index + SET_TO.length()));
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static String unquote(String value) {
+		value = value.trim();
+		if (value.endsWith(".")) { //$NON-NLS-1$
+			value = value.substring(0, value.length() - 1);
+		}
+		if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) { //$NON-NLS-1$ //$NON-NLS-2$
+			value = value.substring(1, value.length() - 1);
+		}
+		return value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * Returns the name of the architecture, or <code>null</code> if it could
+	 * not be found in the output.
+	 */
+	public String getArchitecture() {
+		return fArchitecture;
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GDB/MI data list changed registers response extraction.
+ *
+ * sample output:
+ *
+ * -data-list-changed-registers
+ * ^done,changed-registers=["0","1","2","4","5","6","7","8","9","10","11","13","14","15","16","17"]
+ *
+ * @since 7.2
+ */
+public class MIDataListChangedRegistersInfo extends MIInfo {
+
+	private int[] fRegisterNumbers = new int[0];
+
+	public MIDataListChangedRegistersInfo(MIOutput rr) {
+		super(rr);
+		parse();
+	}
+
+	protected void parse() {
+		if (isDone()) {
+			MIOutput out = getMIOutput();
+			MIResultRecord outr = out.getMIResultRecord();
+			if (outr != null) {
+				MIResult[] results = outr.getMIResults();
+				for (int i = 0; i < results.length; i++) {
+					String var = results[i].getVariable();
+					if (var.equals("changed-registers")) { //$NON-NLS-1$
+						MIValue value = results[i].getMIValue();
+						if (value instanceof MIList) {
+							parseRegisters((MIList) value);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the numbers of the registers that have changed.
+	 */
+	public int[] getRegisterNumbers() {
+		return fRegisterNumbers;
+	}
+
+	private void parseRegisters(MIList list) {
+		List<Integer> numbers = new ArrayList<>();
+		for (MIValue value : list.getMIValues()) {
+			if (value instanceof MIConst) {
+				try {
+					numbers.add(Integer.parseInt(((MIConst) value).getCString().trim()));
+				} catch (NumberFormatException e) {
+					// Not a register number, skip it
+				}
+			}
+		}
+		fRegisterNumbers = new int[numbers.size()];
+		for (int i = 0; i < fRegisterNumbers.length; i++) {
+			fRegisterNumbers[i] = numbers.get(i);
+		}
+	}
+}
@@ -103,6 +103,11 @@ public class MIParser {
 	public String cliPrompt = primaryPrompt;
 	public String secondaryPrompt = ">"; //$NON-NLS-1$
 
+	private static final String[] RESULT_CLASSES = { MIResultRecord.DONE, MIResultRecord.ERROR, MIResultRecord.EXIT,
+			MIResultRecord.RUNNING, MIResultRecord.CONNECTED };
+	private static final MIResult[] NO_RESULTS = new MIResult[0];
+	private static final MIValue[] NO_VALUES = new MIValue[0];
+
 	public RecordType getRecordType(String line) {
 		int i = 0;
 		if (Character.isDigit(line.charAt(0))) {
@@ -126,37 +131,25 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Input input = new Input(line);
 		// Fetch the Token/Id
-		int id = parseToken(buffer);
+		int id = parseToken(input);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		input.skip();
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
-			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
-			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
-			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
-			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
-			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
-		} else {
-			// Error throw an exception?
+		for (String resultClass : RESULT_CLASSES) {
+			if (line.startsWith(resultClass, input.pos)) {
+				rr.setResultClass(resultClass);
+				input.pos += resultClass.length();
+				break;
+			}
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (input.skip(',')) {
+			MIResult[] res = processMIResults(input);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +159,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
-		int id = parseToken(buffer);
+		Input input = new Input(line);
+		int id = parseToken(input);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = input.hasNext() ? input.peek() : 0;
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			input.skip();
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +185,21 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = line.indexOf(',', input.pos);
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
-				async.setAsyncClass(asyncClass);
+				async.setAsyncClass(line.substring(input.pos, i));
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				input.pos = i + 1;
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(line.substring(input.pos).trim());
+				input.pos = line.length();
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(input);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			input.skip();
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +217,11 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-			}
+			// translateCString() assumes that the leading " is consumed
+			input.skip('"');
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			stream.setCString(translateCString(input, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,21 +232,21 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Input input) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
-			int i = 1;
-			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
+		if (input.hasNext() && Character.isDigit(input.peek())) {
+			int start = input.pos;
+			int i = start + 1;
+			while (i < input.line.length() && Character.isDigit(input.line.charAt(i))) {
 				i++;
 			}
-			String numbers = buffer.substring(0, i);
 			try {
-				id = Integer.parseInt(numbers);
+				id = Integer.parseInt(input.line, start, i, 10);
 			} catch (NumberFormatException e) {
 			}
 			// Consume the token.
-			buffer.delete(0, i);
+			input.pos = i;
 		}
 		return id;
 	}
@@ -265,15 +255,14 @@ public class MIParser {
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private MIResult[] processMIResults(Input input) {
 		List<MIResult> aList = new ArrayList<>();
-		MIResult result = processMIResult(buffer);
+		MIResult result = processMIResult(input);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			result = processMIResult(buffer);
+		while (input.skip(',')) {
+			result = processMIResult(input);
 			if (result != null) {
 				aList.add(result);
 			}
@@ -282,28 +271,27 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
-	 * moving forward constructing the AST.
+	 * Construct the DsfMIResult. The input moves forward over the consumed
+	 * characters while constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
+	private MIResult processMIResult(Input input) {
 		MIResult result = new MIResult();
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (input.hasNext() && Character.isLetter(input.peek()) && (equal = input.line.indexOf('=', input.pos)) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
-			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
-			MIValue value = processMIValue(buffer);
+			result.setVariable(input.line.substring(input.pos, equal));
+			input.pos = equal + 1;
+			MIValue value = processMIValue(input);
 			result.setMIValue(value);
 		} else {
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(input);
 			if (value != null) {
 				// Result is a value only (bug 527419)
 				result.setMIValue(value);
 			} else {
-				result.setVariable(buffer.toString());
+				result.setVariable(input.line.substring(input.pos));
 				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
+				input.pos = input.line.length();
 			}
 		}
 		return result;
@@ -312,21 +300,26 @@ public class MIParser {
 	/**
 	 * Find a DsfMIValue implementation or return null.
 	 */
-	private MIValue processMIValue(FSB buffer) {
+	private MIValue processMIValue(Input input) {
 		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
+		if (input.hasNext()) {
+			char c = input.peek();
+			if (c == '{') {
+				input.skip();
+				MITuple tuple = new MITuple();
+				processMIValuesAndResults(input, '}', tuple);
+				value = tuple;
+			} else if (c == '[') {
+				input.skip();
+				MIList list = new MIList();
+				processMIValuesAndResults(input, ']', list);
+				value = list;
+			} else if (c == '"') {
+				input.skip();
 				MIConst cnst = new MIConst();
 				// Parse backslashes - backslashes within result
 				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
+				cnst.setCString(translateCString(input, true));
 				value = cnst;
 			}
 		}
@@ -334,96 +327,88 @@ public class MIParser {
 	}
 
 	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
-	 * This is usually call by processMIvalue();
+	 * Assuming the opening '{' or '[' was consumed, go to the closing
+	 * bracket consuming all the characters and collect the values and
+	 * results in between. This is usually called by processMIValue().
 	 */
-	private MIValue processMITuple(FSB buffer) {
-		MITuple tuple = new MITuple();
-		List<MIValue> valueList = new ArrayList<>();
-		List<MIResult> resultList = new ArrayList<>();
-		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
+	private void processMIValuesAndResults(Input input, char closing, MIValue tupleOrList) {
+		List<MIValue> valueList = null;
+		List<MIResult> resultList = null;
+		while (input.hasNext() && input.peek() != closing) {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(input);
 			if (value != null) {
-				valueList.add(value);
-			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
+				if (valueList == null) {
+					valueList = new ArrayList<>();
 				}
-			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
-		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
-		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		tuple.setMIValues(values);
-		tuple.setMIResults(res);
-		return tuple;
-	}
-
-	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
-	 */
-	private MIValue processMIList(FSB buffer) {
-		MIList list = new MIList();
-		List<MIValue> valueList = new ArrayList<>();
-		List<MIResult> resultList = new ArrayList<>();
-		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
-			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
 				valueList.add(value);
 			} else {
-				MIResult result = processMIResult(buffer);
+				MIResult result = processMIResult(input);
 				if (result != null) {
+					if (resultList == null) {
+						resultList = new ArrayList<>();
+					}
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
+			input.skip(',');
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+		input.skip(closing);
+		MIValue[] values = valueList == null ? NO_VALUES : valueList.toArray(new MIValue[valueList.size()]);
+		MIResult[] res = resultList == null ? NO_RESULTS : resultList.toArray(new MIResult[resultList.size()]);
+		if (tupleOrList instanceof MITuple) {
+			((MITuple) tupleOrList).setMIValues(values);
+			((MITuple) tupleOrList).setMIResults(res);
+		} else {
+			((MIList) tupleOrList).setMIValues(values);
+			((MIList) tupleOrList).setMIResults(res);
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
-		return list;
 	}
 
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
+	 * Assuming the starting double quote was consumed. This method will
 	 * stop at the closing double quote, remove the extra backslash escaping
 	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * input moves forward past the closing double quote.
+	 * @param input The input to read from.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
 	 * @return The translated C string.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
+	private String translateCString(Input input, boolean parseBackslashes) {
+		String line = input.line;
+		int length = line.length();
+		int start = input.pos;
+		int index = start;
+
+		// Most strings contain no escapes and are returned as a plain substring.
+		while (index < length) {
+			char c = line.charAt(index);
+			if (c == '"') {
+				input.pos = index + 1;
+				return line.substring(start, index);
+			}
+			if (c == '\\') {
+				break;
+			}
+			index++;
+		}
+		if (index == length) {
+			input.pos = length;
+			return line.substring(start);
+		}
+
 		boolean escape = false;
 		boolean closingQuotes = false;
 
-		StringBuffer sb = new StringBuffer();
+		StringBuilder sb = new StringBuilder(length - start);
+		sb.append(line, start, index);
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		for (; index < length && !closingQuotes; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
 				if (escape) {
 					sb.append(c);
@@ -450,7 +435,7 @@ public class MIParser {
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
+		input.pos = index;
 		return sb.toString();
 	}
 
@@ -477,6 +462,42 @@ public class MIParser {
 		return true;
 	}
 
+	/**
+	 * A position in the line being parsed. The parser reads the line in a
+	 * single pass and only copies the characters of variables and C-strings,
+	 * no characters are ever deleted from the line.
+	 */
+	private static final class Input {
+		final String line;
+		int pos;
+
+		Input(String line) {
+			this.line = line;
+		}
+
+		boolean hasNext() {
+			return pos < line.length();
+		}
+
+		char peek() {
+			return line.charAt(pos);
+		}
+
+		void skip() {
+			if (pos < line.length()) {
+				pos++;
+			}
+		}
+
+		boolean skip(char c) {
+			if (pos < line.length() && line.charAt(pos) == c) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Fast String Buffer class. MIParser does a lot
 	 * of deleting off the front of a string, that's clearly
@@ -485,7 +506,11 @@ public class MIParser {
 	 * with this for large arrays. Use of FSB rather than String
 	 * Buffer makes MIParser N rather than N^2 because FSB can
 	 * delete from the front in constant time.
+	 *
+	 * @deprecated The parser no longer copies or deletes characters of
+	 * the line, it keeps an index into it instead.
 	 */
+	@Deprecated
 	public class FSB {
 		StringBuffer buf;
 		int pos;
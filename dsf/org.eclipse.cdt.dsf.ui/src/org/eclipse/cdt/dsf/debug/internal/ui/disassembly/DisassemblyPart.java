@@ -1590,7 +1590,21 @@ public abstract class DisassemblyPart extends WorkbenchPart
 		if (DEBUG)
 			System.out.println("DisassemblyPart.updateVisibleArea() called. There are " //$NON-NLS-1$
 					+ fDocument.getInvalidAddressRanges().length + " invalid ranges to consider updating"); //$NON-NLS-1$
+		// the offsets of the visible lines, to skip the invalid ranges far away without looking up their line
+		int topOffset = 0;
+		int bottomOffset = fDocument.getLength();
+		try {
+			topOffset = fDocument.getLineOffset(Math.min(topIndex, fDocument.getNumberOfLines() - 1));
+			if (bottomIndex + 1 < fDocument.getNumberOfLines()) {
+				bottomOffset = fDocument.getLineOffset(bottomIndex + 1) - 1;
+			}
+		} catch (BadLocationException e) {
+			// look up the line of all invalid ranges
+		}
 		for (AddressRangePosition p : fDocument.getInvalidAddressRanges()) {
+			if (p.offset < topOffset || p.offset > bottomOffset) {
+				continue;
+			}
 			try {
 				int line = fDocument.getLineOfOffset(p.offset);
 				if (line >= topIndex && line <= bottomIndex) {
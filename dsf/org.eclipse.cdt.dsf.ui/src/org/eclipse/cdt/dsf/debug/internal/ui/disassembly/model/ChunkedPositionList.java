@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.debug.internal.ui.disassembly.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.eclipse.jface.text.Position;
+
+/**
+ * List of the positions of a category of the {@link DisassemblyDocument}.
+ * <p>
+ * The positions are kept in chunks of a bounded size, so that a position is
+ * inserted or removed in the middle of a document of many thousand lines
+ * without moving all the positions after it. A position is found by its index
+ * with a binary search over the chunks, and the last chunk accessed is
+ * remembered so that iterating the list costs no more than with an
+ * <code>ArrayList</code>.
+ * <p>
+ * The offsets of the positions are shifted with {@link #shift(int, int)}. Only
+ * the positions of the chunk the shift starts in are updated right away; the
+ * other chunks keep the shift pending until one of their positions is read
+ * from the list. As a position may be in the lists of several categories, the
+ * lists that do not shift the offsets themselves ask the list that does to
+ * apply the pending shift of a position before returning it.
+ */
+public final class ChunkedPositionList extends AbstractList<Position> implements RandomAccess {
+
+	/**
+	 * A chunk is split in two when it reaches twice this size.
+	 */
+	private static final int CHUNK_SIZE = 256;
+
+	/** Chunk of positions, with the shift still to be added to their offsets */
+	@SuppressWarnings("serial")
+	private static final class Chunk extends ArrayList<Position> {
+		int fDelta;
+
+		Chunk(int initialCapacity) {
+			super(initialCapacity);
+		}
+
+		Chunk(Collection<Position> positions) {
+			super(positions);
+		}
+	}
+
+	private final ArrayList<Chunk> fChunks = new ArrayList<>();
+	/** The index in the list of the first position of each chunk */
+	private int[] fStarts = new int[16];
+	private int fSize;
+	private int fLastChunk;
+	/** The list shifting the offsets of the positions, or null if it is this one */
+	private final ChunkedPositionList fOffsets;
+	/** The chunk of each position, for the list shifting the offsets */
+	private final Map<Position, Chunk> fChunkOfPosition;
+
+	/**
+	 * Creates a list that shifts the offsets of its positions.
+	 */
+	public ChunkedPositionList() {
+		fOffsets = null;
+		fChunkOfPosition = new IdentityHashMap<>();
+	}
+
+	/**
+	 * Creates a list of positions that are also in the given list, which shifts
+	 * their offsets.
+	 */
+	public ChunkedPositionList(ChunkedPositionList offsets) {
+		fOffsets = offsets;
+		fChunkOfPosition = null;
+	}
+
+	@Override
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public Position get(int index) {
+		if (index < 0 || index >= fSize) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		int chunk = chunkOf(index);
+		return settled(fChunks.get(chunk), fChunks.get(chunk).get(index - fStarts[chunk]));
+	}
+
+	@Override
+	public Position set(int index, Position element) {
+		if (index < 0 || index >= fSize) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		int chunk = chunkOf(index);
+		Chunk positions = fChunks.get(chunk);
+		// the offset of the new position is up to date, those of the chunk must be too
+		Position replaced = settled(positions, positions.get(index - fStarts[chunk]));
+		positions.set(index - fStarts[chunk], element);
+		if (fChunkOfPosition != null) {
+			fChunkOfPosition.remove(replaced);
+			fChunkOfPosition.put(element, positions);
+		}
+		return replaced;
+	}
+
+	@Override
+	public void add(int index, Position element) {
+		if (index < 0 || index > fSize) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		if (fChunks.isEmpty()) {
+			fChunks.add(new Chunk(CHUNK_SIZE));
+		}
+		int chunk = chunkOf(index);
+		Chunk positions = fChunks.get(chunk);
+		// the offset of the new position is up to date, those of the chunk must be too
+		flush(positions);
+		positions.add(index - fStarts[chunk], element);
+		if (fChunkOfPosition != null) {
+			fChunkOfPosition.put(element, positions);
+		}
+		++fSize;
+		++modCount;
+		if (positions.size() >= 2 * CHUNK_SIZE) {
+			Chunk tail = new Chunk(positions.subList(CHUNK_SIZE, positions.size()));
+			positions.subList(CHUNK_SIZE, positions.size()).clear();
+			if (fChunkOfPosition != null) {
+				for (Position position : tail) {
+					fChunkOfPosition.put(position, tail);
+				}
+			}
+			fChunks.add(chunk + 1, tail);
+			updateStarts(chunk + 1);
+		} else {
+			for (int i = chunk + 1; i < fChunks.size(); i++) {
+				++fStarts[i];
+			}
+		}
+	}
+
+	@Override
+	public Position remove(int index) {
+		if (index < 0 || index >= fSize) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		int chunk = chunkOf(index);
+		Chunk positions = fChunks.get(chunk);
+		Position removed = settled(positions, positions.get(index - fStarts[chunk]));
+		positions.remove(index - fStarts[chunk]);
+		if (fChunkOfPosition != null) {
+			fChunkOfPosition.remove(removed);
+		}
+		--fSize;
+		++modCount;
+		if (positions.isEmpty()) {
+			fChunks.remove(chunk);
+			updateStarts(chunk);
+		} else {
+			for (int i = chunk + 1; i < fChunks.size(); i++) {
+				--fStarts[i];
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes the positions contained in the given collection, in a single
+	 * pass over the list.
+	 */
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		int size = fSize;
+		fChunks.removeIf(positions -> {
+			flush(positions);
+			positions.removeIf(position -> {
+				if (!c.contains(position)) {
+					return false;
+				}
+				if (fChunkOfPosition != null) {
+					fChunkOfPosition.remove(position);
+				}
+				return true;
+			});
+			return positions.isEmpty();
+		});
+		updateStarts(0);
+		if (fSize != size) {
+			++modCount;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (Chunk positions : fChunks) {
+			flush(positions);
+		}
+		fChunks.clear();
+		if (fChunkOfPosition != null) {
+			fChunkOfPosition.clear();
+		}
+		fSize = 0;
+		fLastChunk = 0;
+		++modCount;
+	}
+
+	/**
+	 * Adds the given delta to the offsets of the positions from the given index
+	 * to the end of the list. The positions after the chunk of the given index
+	 * are updated when they are read from a list, or by {@link #settle(Position)}.
+	 */
+	public void shift(int fromIndex, int delta) {
+		if (fOffsets != null) {
+			throw new UnsupportedOperationException();
+		}
+		if (fromIndex < 0 || fromIndex >= fSize || delta == 0) {
+			return;
+		}
+		int chunk = chunkOf(fromIndex);
+		Chunk positions = fChunks.get(chunk);
+		flush(positions);
+		for (int i = fromIndex - fStarts[chunk]; i < positions.size(); i++) {
+			positions.get(i).offset += delta;
+		}
+		for (int i = chunk + 1; i < fChunks.size(); i++) {
+			fChunks.get(i).fDelta += delta;
+		}
+	}
+
+	/**
+	 * Updates the offset of the given position, if a shift of it is pending.
+	 */
+	public void settle(Position position) {
+		if (fOffsets != null) {
+			fOffsets.settle(position);
+		} else {
+			Chunk positions = fChunkOfPosition.get(position);
+			if (positions != null) {
+				flush(positions);
+			}
+		}
+	}
+
+	private Position settled(Chunk positions, Position position) {
+		if (fOffsets != null) {
+			fOffsets.settle(position);
+		} else {
+			flush(positions);
+		}
+		return position;
+	}
+
+	private static void flush(Chunk positions) {
+		int delta = positions.fDelta;
+		if (delta != 0) {
+			positions.fDelta = 0;
+			for (Position position : positions) {
+				position.offset += delta;
+			}
+		}
+	}
+
+	/**
+	 * Returns the chunk containing the position with the given index, or the
+	 * last chunk for the index past the end of the list.
+	 */
+	private int chunkOf(int index) {
+		int chunks = fChunks.size();
+		int last = fLastChunk;
+		if (last < chunks && fStarts[last] <= index
+				&& (last == chunks - 1 || index < fStarts[last + 1])) {
+			return last;
+		}
+		int low = 0;
+		int high = chunks - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (fStarts[mid] <= index) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		fLastChunk = low;
+		return low;
+	}
+
+	private void updateStarts(int fromChunk) {
+		int chunks = fChunks.size();
+		if (fStarts.length < chunks) {
+			fStarts = Arrays.copyOf(fStarts, Math.max(chunks, 2 * fStarts.length));
+		}
+		int start = fromChunk == 0 ? 0 : fStarts[fromChunk - 1] + fChunks.get(fromChunk - 1).size();
+		for (int i = fromChunk; i < chunks; i++) {
+			fStarts[i] = start;
+			start += fChunks.get(i).size();
+		}
+		fSize = start;
+		fLastChunk = 0;
+	}
+}
@@ -20,10 +20,13 @@ import java.io.File;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import org.eclipse.cdt.debug.internal.ui.disassembly.dsf.AddressRangePosition;
@@ -103,6 +106,14 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 		addPositionCategory(CATEGORY_DISASSEMBLY);
 		addPositionCategory(CATEGORY_SOURCE);
 		addPositionCategory(CATEGORY_LABELS);
+		// positions are inserted and removed in the middle of the lists all the time,
+		// and their offsets are shifted through the model positions
+		Map<String, List<Position>> positions = getDocumentManagedPositions();
+		ChunkedPositionList modelPositions = new ChunkedPositionList();
+		positions.put(CATEGORY_MODEL, modelPositions);
+		positions.put(CATEGORY_DISASSEMBLY, new ChunkedPositionList(modelPositions));
+		positions.put(CATEGORY_SOURCE, new ChunkedPositionList(modelPositions));
+		positions.put(CATEGORY_LABELS, new ChunkedPositionList(modelPositions));
 		setRadix(16);
 		setShowRadixPrefix(false);
 		fNumberOfInstructions = 0;
@@ -141,9 +152,24 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 
 	public AddressRangePosition[] getInvalidAddressRanges() {
 		assert isGuiThread();
+		for (AddressRangePosition pos : fInvalidAddressRanges) {
+			settle(pos);
+		}
 		return fInvalidAddressRanges.toArray(new AddressRangePosition[fInvalidAddressRanges.size()]);
 	}
 
+	/**
+	 * Updates the offset of the given position, which is shifted lazily by
+	 * {@link #replace(AddressRangePosition, int, String)} if it is not read
+	 * from the lists of positions.
+	 */
+	private void settle(Position pos) {
+		List<Position> positions = getDocumentManagedPositions().get(CATEGORY_MODEL);
+		if (pos != null && positions instanceof ChunkedPositionList) {
+			((ChunkedPositionList) positions).settle(pos);
+		}
+	}
+
 	public void setMaxFunctionLength(int functionLength) {
 		fMaxFunctionLength = functionLength;
 	}
@@ -818,14 +844,17 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 			}
 		}
 
+		// positions are removed by identity, like IDocument.removePosition() does
+		Set<AddressRangePosition> removed = Collections.newSetFromMap(new IdentityHashMap<>(toRemove.size()));
+		removed.addAll(toRemove);
 		List<Position> positions = getDocumentManagedPositions().get(category);
 		if (positions != null) {
-			positions.removeAll(toRemove);
+			positions.removeAll(removed);
 		}
 		if (!category.equals(CATEGORY_MODEL)) {
 			positions = getDocumentManagedPositions().get(CATEGORY_MODEL);
 			if (positions != null) {
-				positions.removeAll(toRemove);
+				positions.removeAll(removed);
 			}
 		}
 	}
@@ -876,12 +905,14 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 	 * @throws BadLocationException
 	 */
 	public void replace(AddressRangePosition insertPos, int replaceLength, String text) throws BadLocationException {
+		settle(insertPos);
 		int delta = (text != null ? text.length() : 0) - replaceLength;
 		if (delta != 0) {
 			BigInteger address = insertPos.fAddressOffset;
-			Iterator<Position> it = getModelPositionIterator(address);
-			while (it.hasNext()) {
-				AddressRangePosition pos = (AddressRangePosition) it.next();
+			List<Position> positions = getDocumentManagedPositions().get(CATEGORY_MODEL);
+			int index = computeIndexInPositionListFirst(positions, address);
+			while (index < positions.size()) {
+				AddressRangePosition pos = (AddressRangePosition) positions.get(index++);
 				assert pos.fAddressOffset.compareTo(address) >= 0;
 				if (pos.fAddressOffset.compareTo(address) > 0) {
 					break;
@@ -893,10 +924,8 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 					break;
 				}
 			}
-			while (it.hasNext()) {
-				AddressRangePosition pos = (AddressRangePosition) it.next();
-				pos.offset += delta;
-			}
+			// the positions after the first chunk are only shifted when they are read
+			((ChunkedPositionList) positions).shift(index, delta);
 		}
 
 		if (DEBUG) {
@@ -926,6 +955,8 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 		BigInteger length = insertPos.fAddressLength;
 		if (pos == null) {
 			pos = getPositionOfAddress(address);
+		} else {
+			settle(pos);
 		}
 		assert !pos.isDeleted && !pos.fValid
 				&& (length.compareTo(BigInteger.ZERO) == 0 || pos.containsAddress(address));
@@ -992,6 +1023,8 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 			addModelPosition(insertPos);
 		}
 		replace(insertPos, replaceLength, line);
+		// the caller goes on inserting at the remaining range
+		settle(pos);
 		if (DEBUG)
 			checkConsistency();
 		return pos;
@@ -1237,6 +1270,7 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 			}
 			try {
 				assert !pos.fValid;
+				settle(pos);
 				int oldLength = pos.length;
 				pos.length = sourceLines.length();
 				pos.fLine = line;
@@ -1419,6 +1453,9 @@ public class DisassemblyDocument extends REDDocument implements IDisassemblyDocu
 
 	public SourcePosition[] getInvalidSourcePositions() {
 		assert isGuiThread();
+		for (SourcePosition pos : fInvalidSource) {
+			settle(pos);
+		}
 		return fInvalidSource.toArray(new SourcePosition[fInvalidSource.size()]);
 	}
 
@@ -34,6 +34,7 @@ import org.eclipse.cdt.dsf.debug.ui.viewmodel.register.RegisterBitFieldVMNode;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.register.RegisterGroupVMNode;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.register.RegisterVMNode;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.register.SyncRegisterDataAccess;
+import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.AdaptiveUpdatePolicy;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.variable.SyncVariableDataAccess;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.variable.VariableVMNode;
 import org.eclipse.cdt.dsf.internal.ui.DsfUIPlugin;
@@ -356,7 +357,7 @@ public class ExpressionVMProvider extends AbstractElementVMProvider implements I
 	@Override
 	protected IVMUpdatePolicy[] createUpdateModes() {
 		return new IVMUpdatePolicy[] { new AutomaticUpdatePolicy(), new ExpressionsManualUpdatePolicy(),
-				new ExpressionsBreakpointHitUpdatePolicy() };
+				new ExpressionsBreakpointHitUpdatePolicy(), new AdaptiveUpdatePolicy(this) };
 	}
 
 	@Override
@@ -57,6 +57,7 @@ import org.eclipse.cdt.dsf.ui.viewmodel.properties.LabelText;
 import org.eclipse.cdt.dsf.ui.viewmodel.properties.PropertiesBasedLabelProvider;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenCountUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IChildrenUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IElementLabelProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ILabelUpdate;
@@ -122,6 +123,34 @@ public abstract class AbstractThreadVMNode extends AbstractExecutionContextVMNod
 		return provider;
 	}
 
+	/**
+	 * Reports the number of threads, so that the viewer only asks for the
+	 * threads it shows when a process has many of them.
+	 */
+	@Override
+	protected void updateElementCountInSessionThread(final IChildrenCountUpdate update) {
+		IRunControl runControl = getServicesTracker().getService(IRunControl.class);
+		final IContainerDMContext contDmc = findDmcInPath(update.getViewerInput(), update.getElementPath(),
+				IContainerDMContext.class);
+		if (runControl == null || contDmc == null) {
+			handleFailedUpdate(update);
+			return;
+		}
+
+		runControl.getExecutionContexts(contDmc,
+				new ViewerDataRequestMonitor<IExecutionDMContext[]>(getSession().getExecutor(), update) {
+					@Override
+					public void handleCompleted() {
+						if (!isSuccess()) {
+							handleFailedUpdate(update);
+							return;
+						}
+						update.setChildCount(getData().length);
+						update.done();
+					}
+				});
+	}
+
 	@Override
 	protected void updateElementsInSessionThread(final IChildrenUpdate update) {
 		IRunControl runControl = getServicesTracker().getService(IRunControl.class);
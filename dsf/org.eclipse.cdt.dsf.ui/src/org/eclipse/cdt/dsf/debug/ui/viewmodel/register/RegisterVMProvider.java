@@ -30,6 +30,7 @@ import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.ui.DsfDebugUITools;
 import org.eclipse.cdt.dsf.debug.ui.IDsfDebugUIConstants;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.numberformat.AbstractElementVMProvider;
+import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.AdaptiveUpdatePolicy;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.BreakpointHitUpdatePolicy;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.DebugManualUpdatePolicy;
 import org.eclipse.cdt.dsf.internal.ui.DsfUIPlugin;
@@ -130,7 +131,7 @@ public class RegisterVMProvider extends AbstractElementVMProvider {
 	@Override
 	protected IVMUpdatePolicy[] createUpdateModes() {
 		return new IVMUpdatePolicy[] { new AutomaticUpdatePolicy(), new DebugManualUpdatePolicy(),
-				new BreakpointHitUpdatePolicy() };
+				new BreakpointHitUpdatePolicy(), new AdaptiveUpdatePolicy(this) };
 	}
 
 	@Override
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.debug.ui.viewmodel.update;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IResumedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.internal.ui.DsfUIPlugin;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.dsf.ui.viewmodel.datamodel.AbstractDMVMProvider;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.AutomaticUpdatePolicy;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.ICacheEntry;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.IElementUpdateTester;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.IVMUpdatePolicyExtension2;
+import org.eclipse.jface.viewers.TreePath;
+
+/**
+ * An update policy which adapts the updates of a debug view to how often the
+ * target suspends and how long the view data takes to retrieve.
+ * <p>
+ * As long as the target suspends slowly enough for the view to be updated in
+ * between, this policy behaves like the {@link AutomaticUpdatePolicy}.  When
+ * the suspended events come faster than the view can be updated, or when most
+ * of the requests of the view end up canceled, as with fast repeated stepping
+ * or with a breakpoint condition that is often true, the policy switches to a
+ * lazy mode: a suspended event only refreshes the elements that changed since
+ * the last full refresh, and marks the other elements as stale.  Once the
+ * target has stayed suspended long enough, the last suspended event is
+ * processed again with a full refresh.
+ * </p>
+ * @since 2.8
+ */
+public class AdaptiveUpdatePolicy extends AutomaticUpdatePolicy implements IVMUpdatePolicyExtension2 {
+
+	public static String ADAPTIVE_UPDATE_POLICY_ID =
+			"org.eclipse.cdt.dsf.debug.ui.viewmodel.update.adaptiveUpdatePolicy"; //$NON-NLS-1$
+
+	/**
+	 * Shortest and longest time (in milliseconds) the target needs to stay
+	 * suspended in lazy mode before the view is fully refreshed.
+	 */
+	private static final int MIN_SETTLE_DELAY = 100;
+	private static final int MAX_SETTLE_DELAY = 1000;
+
+	/**
+	 * Maximum number of elements remembered as changed, beyond which further
+	 * changes are only picked up by the next full refresh.
+	 */
+	private static final int MAX_CHANGED_ELEMENTS = 512;
+
+	/**
+	 * Weight of a new sample in the moving averages of the event interval, the
+	 * request cost and the canceled requests.
+	 */
+	private static final double SAMPLE_WEIGHT = 0.25;
+
+	/**
+	 * Tester used in lazy mode: it refreshes the elements that changed since
+	 * the last full refresh, and marks all others as stale.
+	 */
+	private static final class LazyUpdateTester implements IElementUpdateTester {
+
+		private final Set<Object> fChangedElements;
+
+		LazyUpdateTester(Set<Object> changedElements) {
+			fChangedElements = changedElements;
+		}
+
+		@Override
+		public int getUpdateFlags(Object viewerInput, TreePath path) {
+			if (path.getSegmentCount() != 0 && fChangedElements.contains(path.getLastSegment())) {
+				return ARCHIVE;
+			}
+			return DIRTY;
+		}
+
+		@Override
+		public boolean includes(IElementUpdateTester tester) {
+			// A lazy update leaves the elements it did not refresh stale, so it
+			// includes another lazy update only if it refreshed all the
+			// elements that the other one refreshes.
+			return tester instanceof LazyUpdateTester
+					&& fChangedElements.containsAll(((LazyUpdateTester) tester).fChangedElements);
+		}
+
+		@Override
+		public String toString() {
+			return "Adaptive (lazy, changed = " + fChangedElements.size() //$NON-NLS-1$
+					+ ") update tester"; //$NON-NLS-1$
+		}
+	}
+
+	private static IElementUpdateTester fgStaleUpdateTester = new IElementUpdateTester() {
+		@Override
+		public int getUpdateFlags(Object viewerInput, TreePath path) {
+			return DIRTY;
+		}
+
+		@Override
+		public boolean includes(IElementUpdateTester tester) {
+			return tester.equals(this);
+		}
+
+		@Override
+		public String toString() {
+			return "Adaptive (stale) update tester"; //$NON-NLS-1$
+		}
+	};
+
+	private final AbstractDMVMProvider fProvider;
+
+	/** Moving average of the time between suspended events in nanoseconds, or -1 if not known. */
+	private double fSuspendInterval = -1;
+	private long fLastSuspendTime;
+
+	/** Moving average of the time to complete a request of the view in nanoseconds. */
+	private double fRequestCost;
+
+	/** Moving average of the share of requests of the view that were canceled. */
+	private double fCanceledRatio;
+
+	private boolean fLazy;
+
+	/** Elements whose properties changed since the last full refresh. */
+	private final Set<Object> fChangedElements = new HashSet<>();
+
+	/** Last event this policy has created a tester for, to count each event once. */
+	private Object fLastEvent;
+
+	/** Suspended event being processed again with a full refresh, once the target settled. */
+	private Object fSettledEvent;
+	private ScheduledFuture<?> fSettleFuture;
+
+	/**
+	 * Creates an adaptive update policy for the given view model provider, which
+	 * is used to process a suspended event again once the target has settled.
+	 */
+	public AdaptiveUpdatePolicy(AbstractDMVMProvider provider) {
+		fProvider = provider;
+	}
+
+	@Override
+	public String getID() {
+		return ADAPTIVE_UPDATE_POLICY_ID;
+	}
+
+	@Override
+	public String getName() {
+		return MessagesForVMUpdate.AdaptiveUpdatePolicy_name;
+	}
+
+	/**
+	 * Returns whether the policy currently refreshes the view lazily.
+	 */
+	public boolean isLazy() {
+		return fLazy;
+	}
+
+	@Override
+	public IElementUpdateTester getElementUpdateTester(Object event) {
+		if (event == fSettledEvent) {
+			return super.getElementUpdateTester(event);
+		}
+		if (event instanceof ISuspendedDMEvent) {
+			if (event != fLastEvent) {
+				fLastEvent = event;
+				suspended((ISuspendedDMEvent) event);
+			}
+			if (fLazy) {
+				return new LazyUpdateTester(new HashSet<>(fChangedElements));
+			}
+			fChangedElements.clear();
+		} else if (event instanceof IResumedDMEvent) {
+			if (event != fLastEvent) {
+				fLastEvent = event;
+				cancelSettle();
+			}
+			if (fLazy) {
+				return fgStaleUpdateTester;
+			}
+		}
+		return super.getElementUpdateTester(event);
+	}
+
+	/**
+	 * Accounts for a new suspended event, decides whether to refresh the view
+	 * lazily and if so, schedules the full refresh for when the target has
+	 * settled.
+	 */
+	private void suspended(ISuspendedDMEvent event) {
+		long now = System.nanoTime();
+		if (fLastSuspendTime != 0) {
+			long interval = now - fLastSuspendTime;
+			if (interval > TimeUnit.MILLISECONDS.toNanos(MAX_SETTLE_DELAY)) {
+				// The target settled since the last event, start over.
+				fSuspendInterval = -1;
+			} else if (fSuspendInterval < 0) {
+				fSuspendInterval = interval;
+			} else {
+				fSuspendInterval += SAMPLE_WEIGHT * (interval - fSuspendInterval);
+			}
+		}
+		fLastSuspendTime = now;
+		fSettledEvent = null;
+
+		// Refresh lazily if events come faster than the view can be updated,
+		// or if most of its requests are canceled anyway.
+		fLazy = fSuspendInterval >= 0 && (fSuspendInterval < 2 * fRequestCost || fCanceledRatio > 0.5);
+
+		cancelSettle();
+		if (fLazy) {
+			long delay = TimeUnit.NANOSECONDS.toMillis((long) (2 * Math.max(fSuspendInterval, fRequestCost)));
+			scheduleSettle(event, Math.min(Math.max(delay, MIN_SETTLE_DELAY), MAX_SETTLE_DELAY));
+		}
+	}
+
+	private void scheduleSettle(final ISuspendedDMEvent event, long delay) {
+		final DsfSession session = fProvider.getSession();
+		try {
+			fSettleFuture = session.getExecutor().schedule(new DsfRunnable() {
+				@Override
+				public void run() {
+					if (!session.isActive()) {
+						return;
+					}
+					// Only refresh if the target is still suspended.
+					DsfServicesTracker tracker = new DsfServicesTracker(DsfUIPlugin.getBundleContext(),
+							session.getId());
+					IRunControl runControl = tracker.getService(IRunControl.class);
+					tracker.dispose();
+					if (runControl == null || !runControl.isSuspended(event.getDMContext())) {
+						return;
+					}
+					try {
+						fProvider.getExecutor().execute(() -> settled(event));
+					} catch (RejectedExecutionException e) {
+						// Provider disposed, ignore.
+					}
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// Session shut down, ignore.
+		}
+	}
+
+	private void cancelSettle() {
+		if (fSettleFuture != null) {
+			fSettleFuture.cancel(false);
+			fSettleFuture = null;
+		}
+	}
+
+	/**
+	 * Processes the given suspended event again with a full refresh, unless
+	 * another event came in the meantime.
+	 */
+	private void settled(ISuspendedDMEvent event) {
+		if (event != fLastEvent || fProvider.getActiveUpdatePolicy() != this) {
+			return;
+		}
+		fSettleFuture = null;
+		fSettledEvent = event;
+		fChangedElements.clear();
+		fProvider.handleEvent(event);
+	}
+
+	@Override
+	public void propertiesUpdated(Object viewerInput, TreePath path, long duration, boolean canceled,
+			boolean changed) {
+		fCanceledRatio += SAMPLE_WEIGHT * ((canceled ? 1 : 0) - fCanceledRatio);
+		if (!canceled) {
+			fRequestCost += SAMPLE_WEIGHT * (duration - fRequestCost);
+		}
+		if (changed && path.getSegmentCount() != 0 && fChangedElements.size() < MAX_CHANGED_ELEMENTS) {
+			fChangedElements.add(path.getLastSegment());
+		}
+	}
+
+	@Override
+	public boolean canUpdateDirtyProperty(ICacheEntry entry, String property) {
+		// Elements that become visible while the view is stale are still
+		// retrieved, rather than shown as missing until the next full refresh.
+		return true;
+	}
+}
@@ -22,6 +22,7 @@ public class MessagesForVMUpdate extends NLS {
 	private static final String BUNDLE_NAME = "org.eclipse.cdt.dsf.debug.ui.viewmodel.update.messages"; //$NON-NLS-1$
 
 	public static String BreakpointHitUpdatePolicy_name;
+	public static String AdaptiveUpdatePolicy_name;
 
 	static {
 		// initialize resource bundle
@@ -24,6 +24,7 @@ import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
 import org.eclipse.cdt.dsf.debug.ui.DsfDebugUITools;
 import org.eclipse.cdt.dsf.debug.ui.IDsfDebugUIConstants;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.numberformat.AbstractElementVMProvider;
+import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.AdaptiveUpdatePolicy;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.BreakpointHitUpdatePolicy;
 import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.DebugManualUpdatePolicy;
 import org.eclipse.cdt.dsf.internal.ui.DsfUIPlugin;
@@ -146,7 +147,7 @@ public class VariableVMProvider extends AbstractElementVMProvider {
 	@Override
 	protected IVMUpdatePolicy[] createUpdateModes() {
 		return new IVMUpdatePolicy[] { new AutomaticUpdatePolicy(), new DebugManualUpdatePolicy(),
-				new BreakpointHitUpdatePolicy() };
+				new BreakpointHitUpdatePolicy(), new AdaptiveUpdatePolicy(this) };
 	}
 
 	@Override
@@ -15,7 +15,6 @@ package org.eclipse.cdt.dsf.ui.viewmodel.update;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -23,9 +22,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.IDsfStatusConstants;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.internal.DsfPlugin;
@@ -59,6 +62,7 @@ import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdateListener;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ModelDelta;
 import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.swt.widgets.Display;
 
 /**
  * Base implementation of a caching view model provider.
@@ -86,7 +90,18 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				&& Boolean.parseBoolean(Platform.getDebugOption("org.eclipse.cdt.dsf.ui/debug/vm/cache")); //$NON-NLS-1$
 	}
 
-	private static final int MAX_CACHE_SIZE = 1000;
+	/**
+	 * Default limit of the estimated size of the cache, in bytes.
+	 *
+	 * @see #getCacheSizeLimit()
+	 * @since 2.8
+	 */
+	public static final long DEFAULT_CACHE_SIZE_LIMIT = 4 * 1024 * 1024;
+
+	// Estimated sizes of the cache data, in bytes.
+	private static final int ENTRY_SIZE = 128;
+	private static final int MAP_ENTRY_SIZE = 48;
+	private static final int OBJECT_SIZE = 24;
 
 	/**
 	 * Class representing a key to an element's data in the cache.  The main
@@ -146,6 +161,12 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 		Entry fNext;
 		Entry fPrevious;
 
+		/**
+		 * Estimated size of this entry, as it is counted in the size of the
+		 * cache.
+		 */
+		int fSize = ENTRY_SIZE;
+
 		Entry(Object key) {
 			fKey = key;
 		}
@@ -405,8 +426,20 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 	 * recently used entries in the cache and keep the cache from growing indefinitely.
 	 * Also, the ordering is used to optimize the flushing of the cache data (see
 	 * {@link FlushMarkerKey} for more details).
+	 * <p>
+	 * The map is only modified in the executor thread, along with the linked list.
+	 * Other threads can read it without locking, see {@link #getCacheEntry}.
 	 */
-	private final Map<Object, Entry> fCacheData = Collections.synchronizedMap(new HashMap<Object, Entry>(200, 0.75f));
+	private final Map<Object, Entry> fCacheData = new ConcurrentHashMap<>(200, 0.75f);
+
+	/**
+	 * Sum of the estimated sizes of the entries in the cache.
+	 */
+	private volatile long fCacheSize = 0;
+
+	private final AtomicLong fCacheHits = new AtomicLong();
+	private final AtomicLong fCacheMisses = new AtomicLong();
+	private final AtomicLong fCacheEvictions = new AtomicLong();
 
 	/**
 	 * Pointer to the first cache entry in the double-linked list of cache entries.
@@ -428,6 +461,16 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 		fAvailableUpdatePolicies = createUpdateModes();
 	}
 
+	@Override
+	public void dispose() {
+		if (DEBUG_CACHE
+				&& (DEBUG_PRESENTATION_ID == null || getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
+			DsfUIPlugin.debug("cacheStatistics(hits = " + getCacheHitCount() + ", misses = " + getCacheMissCount() //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", evictions = " + getCacheEvictionCount() + ", size = " + getCacheSize() + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		super.dispose();
+	}
+
 	protected IVMUpdatePolicy[] createUpdateModes() {
 		return new IVMUpdatePolicy[] { new AutomaticUpdatePolicy() };
 	}
@@ -484,7 +527,20 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 	@Override
 	public ICacheEntry getCacheEntry(IVMNode node, Object viewerInput, TreePath path) {
 		ElementDataKey key = makeEntryKey(node, viewerInput, path);
-		return getElementDataEntry(key, false);
+		if (isExecutorThread()) {
+			return getElementDataEntry(key, false);
+		}
+		// Outside of the executor thread only read the map, the LRU order is
+		// maintained by the executor thread.
+		return (ElementDataEntry) fCacheData.get(key);
+	}
+
+	private boolean isExecutorThread() {
+		Executor executor = getExecutor();
+		if (executor instanceof DsfExecutor) {
+			return ((DsfExecutor) executor).isInExecutorThread();
+		}
+		return Display.getCurrent() != null;
 	}
 
 	@Override
@@ -504,10 +560,12 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 					DsfUIPlugin.debug("cacheHitHasChildren(node = " + node + ", update = " + update + ", " //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 							+ entry.fHasChildren + ")"); //$NON-NLS-1$
 				}
+				fCacheHits.incrementAndGet();
 				update.setHasChilren(entry.fHasChildren.booleanValue());
 				update.done();
 			} else {
 				// Cache miss!  Save the flush counter of the entry and create a proxy update.
+				fCacheMisses.incrementAndGet();
 				final int flushCounter = entry.fFlushCounter;
 				missUpdates.add(
 						new VMHasChildrenUpdate(update, new ViewerDataRequestMonitor<Boolean>(getExecutor(), update) {
@@ -555,10 +613,12 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				DsfUIPlugin.debug("cacheHitChildrenCount(node = " + node + ", update = " + update + ", " //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 						+ entry.fChildrenCount + ")"); //$NON-NLS-1$
 			}
+			fCacheHits.incrementAndGet();
 			update.setChildCount(entry.fChildrenCount.intValue());
 			update.done();
 		} else {
 			// Cache miss!  Save the flush counter of the entry and create a proxy update.
+			fCacheMisses.incrementAndGet();
 			final int flushCounter = entry.fFlushCounter;
 			IChildrenCountUpdate updateProxy = new VMChildrenCountUpdate(update,
 					new ViewerDataRequestMonitor<Integer>(getExecutor(), update) {
@@ -598,6 +658,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 			// Need to retrieve all the children if there is no children information yet.
 			// Or if the client requested all children (offset = -1, length -1) and all
 			// the children are not yet known.
+			fCacheMisses.incrementAndGet();
 			IChildrenUpdate updateProxy = new VMChildrenUpdate(update, update.getOffset(), update.getLength(),
 					new ViewerDataRequestMonitor<List<Object>>(getExecutor(), update) {
 						@Override
@@ -633,6 +694,9 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 									update.setChild(child, offset);
 								}
 							}
+							if (flushCounter == entry.fFlushCounter) {
+								updateEntrySize(entry);
+							}
 							update.done();
 						}
 
@@ -661,6 +725,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 			assert entry.fAllChildrenKnown;
 
 			// we have all of the children in cache; return from cache
+			fCacheHits.incrementAndGet();
 			for (int position = 0; position < entry.fChildren.size(); position++) {
 				update.setChild(entry.fChildren.get(position), position);
 			}
@@ -691,6 +756,8 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 			}
 
 			if (!childrenMissingFromCache.isEmpty()) {
+				fCacheMisses.incrementAndGet();
+
 				// Note: it is possible that entry.fAllChildrenKnown == true at this point.
 				// This can happen if the node's has children implementation returns true
 				// while the actual children update returns with no elements.  A node
@@ -735,6 +802,9 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 											}
 										}
 									}
+									if (flushCounter == entry.fFlushCounter) {
+										updateEntrySize(entry);
+									}
 									multiRm.done();
 								}
 							}));
@@ -746,6 +816,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				multiRm.setDoneCount(partialUpdates.size());
 			} else {
 				// All children were found in cache.  Complete the update.
+				fCacheHits.incrementAndGet();
 				update.done();
 			}
 		}
@@ -777,8 +848,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				// Use special handling for null contexts, which we treat like it's an
 				// ancestor of all other contexts.
 				if (flushKey.includes(entryFlushKey)) {
-					fCacheData.remove(entryFlushKey);
-					entry.remove();
+					removeEntry(entry);
 				}
 
 				// If the flush context in current entry includes the current context
@@ -805,8 +875,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 						// There is no archived data, which means that this entry is empty, so remove it from cache
 						// completely.
 						if (elementDataEntry.fArchiveProperties == null) {
-							fCacheData.remove(entry.fKey);
-							entry.remove();
+							removeEntry(entry);
 						}
 					} else {
 						// We are not changing the archived data.  If archive data exists in the entry, leave it.
@@ -814,8 +883,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 						if (elementDataEntry.fArchiveProperties != null) {
 							elementDataEntry.fProperties = null;
 						} else {
-							fCacheData.remove(entry.fKey);
-							entry.remove();
+							removeEntry(entry);
 						}
 					}
 					elementDataEntry.fFlushCounter++;
@@ -824,13 +892,16 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 					elementDataEntry.fChildren = null;
 					elementDataEntry.fAllChildrenKnown = false;
 					elementDataEntry.fDirty = false;
+					updateEntrySize(elementDataEntry);
 				} else if ((updateFlags & IVMUpdatePolicy.FLUSH_ALL_PROPERTIES) != 0) {
 					elementDataEntry.fProperties = null;
+					updateEntrySize(elementDataEntry);
 				} else if ((updateFlags & IVMUpdatePolicy.FLUSH_PARTIAL_PROPERTIES) != 0) {
 					Collection<String> propertiesToFlush = flushKey.getPropertiesToFlush(elementDataKey,
 							elementDataEntry.fDirty);
 					if (propertiesToFlush != null && elementDataEntry.fProperties != null) {
 						elementDataEntry.fProperties.keySet().removeAll(propertiesToFlush);
+						updateEntrySize(elementDataEntry);
 					}
 				} else if ((updateFlags & IVMUpdatePolicy.DIRTY) != 0) {
 					elementDataEntry.fDirty = true;
@@ -843,9 +914,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 		}
 
 		// Insert a marker for this flush operation.
-		Entry flushMarkerEntry = new Entry(flushKey);
-		fCacheData.put(flushKey, flushMarkerEntry);
-		flushMarkerEntry.insert(fCacheListHead);
+		addEntry(flushKey, new Entry(flushKey));
 	}
 
 	/**
@@ -1116,6 +1185,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				entry.fProperties.put(PROP_CACHE_ENTRY_DIRTY, true);
 				entry.fDirty = true;
 			}
+			updateEntrySize(entry);
 		}
 	}
 
@@ -1125,13 +1195,137 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 	private void addEntry(Object key, Entry entry) {
 		fCacheData.put(key, entry);
 		entry.insert(fCacheListHead);
-		// If we are at capacity in the cache, remove the entry from head.
-		if (fCacheData.size() > MAX_CACHE_SIZE) {
-			fCacheData.remove(fCacheListHead.fNext.fKey);
-			fCacheListHead.fNext.remove();
+		fCacheSize += entry.fSize;
+		trimCache();
+	}
+
+	private void removeEntry(Entry entry) {
+		fCacheData.remove(entry.fKey);
+		entry.remove();
+		fCacheSize -= entry.fSize;
+	}
+
+	/**
+	 * Estimates again the size of an element entry after its data changed.
+	 */
+	private void updateEntrySize(ElementDataEntry entry) {
+		// The entry may have been removed while its update was pending.
+		if (fCacheData.get(entry.fKey) != entry) {
+			return;
+		}
+		int size = estimateCacheEntrySize(entry);
+		fCacheSize += size - entry.fSize;
+		entry.fSize = size;
+		trimCache();
+	}
+
+	/**
+	 * Removes the least recently used entries until the cache fits in its
+	 * limit.  The most recently used entry is always kept.
+	 */
+	private void trimCache() {
+		long limit = getCacheSizeLimit();
+		while (fCacheSize > limit && fCacheListHead.fNext != fCacheListHead.fPrevious) {
+			Entry entry = fCacheListHead.fNext;
+			if (DEBUG_CACHE && (DEBUG_PRESENTATION_ID == null
+					|| getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
+				DsfUIPlugin.debug("cacheEvicted(" + entry.fKey + ", size = " + entry.fSize + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			removeEntry(entry);
+			fCacheEvictions.incrementAndGet();
 		}
 	}
 
+	/**
+	 * Returns the limit of the estimated size of the cache, in bytes.  When
+	 * the cache grows beyond the limit, the least recently used entries are
+	 * removed.
+	 *
+	 * @since 2.8
+	 */
+	protected long getCacheSizeLimit() {
+		return DEFAULT_CACHE_SIZE_LIMIT;
+	}
+
+	/**
+	 * Estimates the memory used by a cache entry, in bytes, which is counted
+	 * against the {@link #getCacheSizeLimit() limit} of the cache.  The
+	 * default implementation adds the sizes of the cached children and
+	 * properties.
+	 * <p>
+	 * Sub-classes can weight the entries of some nodes: an entry which is
+	 * estimated smaller stays longer in the cache.  For example, the entries
+	 * of a node whose data is expensive to retrieve can be given a smaller
+	 * size.
+	 *
+	 * @since 2.8
+	 */
+	protected int estimateCacheEntrySize(ICacheEntry entry) {
+		int size = ENTRY_SIZE;
+		Map<Integer, Object> children = entry.getChildren();
+		if (children != null) {
+			size += children.size() * (MAP_ENTRY_SIZE + OBJECT_SIZE);
+		}
+		size += estimatePropertiesSize(entry.getProperties());
+		size += estimatePropertiesSize(entry.getArchiveProperties());
+		return size;
+	}
+
+	private static int estimatePropertiesSize(Map<String, Object> properties) {
+		if (properties == null) {
+			return 0;
+		}
+		int size = OBJECT_SIZE;
+		for (Object value : properties.values()) {
+			size += MAP_ENTRY_SIZE;
+			if (value instanceof String) {
+				size += OBJECT_SIZE + ((String) value).length();
+			} else if (value != null) {
+				size += OBJECT_SIZE;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of updates which were completed with the data in
+	 * the cache.
+	 *
+	 * @since 2.8
+	 */
+	public long getCacheHitCount() {
+		return fCacheHits.get();
+	}
+
+	/**
+	 * Returns the number of updates which needed data that was not in the
+	 * cache.
+	 *
+	 * @since 2.8
+	 */
+	public long getCacheMissCount() {
+		return fCacheMisses.get();
+	}
+
+	/**
+	 * Returns the number of entries which were removed from the cache
+	 * because it exceeded its size limit.
+	 *
+	 * @since 2.8
+	 */
+	public long getCacheEvictionCount() {
+		return fCacheEvictions.get();
+	}
+
+	/**
+	 * Returns the estimated size of the cache, in bytes.
+	 *
+	 * @since 2.8
+	 */
+	public long getCacheSize() {
+		return fCacheSize;
+	}
+
 	/**
 	 * @since 2.0
 	 */
@@ -1206,6 +1400,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 
 	protected void updateNode(final IVMNode node, IPropertiesUpdate[] updates) {
 		LinkedList<IPropertiesUpdate> missUpdates = new LinkedList<>();
+		final long requestTime = System.nanoTime();
 		for (final IPropertiesUpdate update : updates) {
 			// Find or create the cache entry for the element of this update.
 			ElementDataKey key = makeEntryKey(node, update);
@@ -1221,6 +1416,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 					DsfUIPlugin.debug("cacheHitProperties(node = " + node + ", update = " + update + ", " //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 							+ entry.fProperties + ")"); //$NON-NLS-1$
 				}
+				fCacheHits.incrementAndGet();
 				if (entry.fProperties.containsKey(PROP_UPDATE_POLICY_ID)) {
 					entry.fProperties.put(PROP_UPDATE_POLICY_ID, getActiveUpdatePolicy().getID());
 				}
@@ -1229,6 +1425,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 				update.done();
 			} else {
 				// Cache miss!  Check if already cached properties can be re-used.
+				fCacheMisses.incrementAndGet();
 				Set<String> missingProperties = null;
 				if (entry.fProperties != null) {
 					missingProperties = new HashSet<>(update.getProperties().size() * 4 / 3);
@@ -1310,6 +1507,7 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 									cachedStatus = PropertiesUpdateStatus.mergePropertiesStatus(cachedStatus,
 											missUpdateStatus, _missingProperties);
 									cachedProperties.put(PROP_UPDATE_STATUS, cachedStatus);
+									updateEntrySize(entry);
 								} else {
 									// We are not caching the result of this update, but we should still return valid data
 									// to the client.  In case the update was canceled we can also return valid data to the
@@ -1356,6 +1554,24 @@ public class AbstractCachingVMProvider extends AbstractVMProvider implements ICa
 									}
 								}
 
+								// Let the update policy know what the request cost and whether the data has changed.
+								if (getActiveUpdatePolicy() instanceof IVMUpdatePolicyExtension2) {
+									boolean changed = false;
+									if (entry.fArchiveProperties != null && flushCounter == entry.fFlushCounter
+											&& getData() != null) {
+										for (Map.Entry<String, Object> property : getData().entrySet()) {
+											Object oldValue = entry.fArchiveProperties.get(property.getKey());
+											if (oldValue != null && !oldValue.equals(property.getValue())) {
+												changed = true;
+												break;
+											}
+										}
+									}
+									((IVMUpdatePolicyExtension2) getActiveUpdatePolicy()).propertiesUpdated(
+											update.getViewerInput(), update.getElementPath(),
+											System.nanoTime() - requestTime, isCanceled(), changed);
+								}
+
 								if (DEBUG_CACHE && (DEBUG_PRESENTATION_ID == null
 										|| getPresentationContext().getId().equals(DEBUG_PRESENTATION_ID))) {
 									DsfUIPlugin.debug("cacheSavedProperties(node = " + node + ", update = " + update //$NON-NLS-1$//$NON-NLS-2$
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.ui.viewmodel.update;
+
+import org.eclipse.jface.viewers.TreePath;
+
+/**
+ * Extension to the VM Update policy which allows the policy to observe the
+ * requests that the cache makes to the VM nodes for missing properties, so
+ * that it can adapt the updates to how costly the data is to retrieve.
+ * @since 2.8
+ */
+public interface IVMUpdatePolicyExtension2 extends IVMUpdatePolicyExtension {
+
+	/**
+	 * Notifies the policy that a request for the missing properties of an
+	 * element has completed.  Called on the executor of the VM provider.
+	 *
+	 * @param viewerInput The input to the viewer for the element.
+	 * @param path The viewer tree path of the element.
+	 * @param duration Time in nanoseconds between the request to the VM node
+	 * and its completion.
+	 * @param canceled Whether the request was canceled, typically because the
+	 * viewer no longer needed the data.
+	 * @param changed Whether any of the retrieved properties differs from the
+	 * one archived for the element by the last flush.
+	 */
+	public void propertiesUpdated(Object viewerInput, TreePath path, long duration, boolean canceled,
+			boolean changed);
+}
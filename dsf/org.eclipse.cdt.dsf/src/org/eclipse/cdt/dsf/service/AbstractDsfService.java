@@ -64,9 +64,31 @@ abstract public class AbstractDsfService implements IDsfService, IDsfStatusConst
 		fSession = session;
 	}
 
+	/**
+	 * Returns the executor of the confinement domain of this service.
+	 * @see #getConfinementDomain()
+	 */
 	@Override
 	public DsfExecutor getExecutor() {
-		return fSession.getExecutor();
+		return fSession.getExecutor(getConfinementDomain());
+	}
+
+	/**
+	 * Returns the name of the domain this service is confined to.  By default
+	 * services are confined to the session's executor, which lets them call
+	 * each other directly.  A service that only needs to be reached through
+	 * requests and events, such as a service driving a separate connection,
+	 * can return a domain name so that it runs on its own executor in sessions
+	 * started with domain executors.  Callers on other executors must then
+	 * submit their calls to {@link #getExecutor()}, including the calls to
+	 * {@link #initialize(RequestMonitor)} and {@link #shutdown(RequestMonitor)}.
+	 *
+	 * @return the name of the domain, or <code>null</code> for the session's executor
+	 * @see DsfSession#getExecutor(String)
+	 * @since 2.12
+	 */
+	protected String getConfinementDomain() {
+		return null;
 	}
 
 	/**
@@ -97,7 +119,7 @@ abstract public class AbstractDsfService implements IDsfService, IDsfStatusConst
 
 	@Override
 	public void initialize(RequestMonitor rm) {
-		fTracker = new DsfServicesTracker(getBundleContext(), fSession.getId());
+		fTracker = new DsfServicesTracker(getBundleContext(), fSession.getId(), getExecutor());
 		fStartupNumber = fSession.getAndIncrementServiceStartupCounter();
 		rm.done();
 	}
@@ -23,6 +23,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.ThreadSafe;
 import org.osgi.framework.BundleContext;
@@ -93,6 +94,7 @@ public class DsfServicesTracker {
 	}
 
 	private final String fSessionId;
+	private final DsfExecutor fExecutor;
 	private volatile boolean fDisposed = false;
 	private final BundleContext fBundleContext;
 	private final Map<ServiceKey, ServiceReference<?>> fServiceReferences = new HashMap<>();
@@ -114,11 +116,12 @@ public class DsfServicesTracker {
 				return;
 			}
 
-			if (session.getExecutor().isInExecutorThread()) {
+			DsfExecutor executor = getExecutor(session);
+			if (executor.isInExecutorThread()) {
 				handleUnregisterEvent(event);
 			} else {
 				try {
-					session.getExecutor().execute(new DsfRunnable() {
+					executor.execute(new DsfRunnable() {
 						@Override
 						public void run() {
 							handleUnregisterEvent(event);
@@ -131,6 +134,10 @@ public class DsfServicesTracker {
 		}
 	};
 
+	private DsfExecutor getExecutor(DsfSession session) {
+		return fExecutor != null ? fExecutor : session.getExecutor();
+	}
+
 	private void handleUnregisterEvent(ServiceEvent event) {
 		for (Iterator<Map.Entry<ServiceKey, ServiceReference<?>>> itr = fServiceReferences.entrySet().iterator(); itr
 				.hasNext();) {
@@ -151,7 +158,22 @@ public class DsfServicesTracker {
 	 */
 	@ThreadSafe
 	public DsfServicesTracker(BundleContext bundleContext, String sessionId) {
+		this(bundleContext, sessionId, null);
+	}
+
+	/**
+	 * Creates a tracker used on the executor of a confinement domain of the session.
+	 * @param bundleContext Context of the plugin that the client lives in.
+	 * @param sessionId The DSF session that this tracker will be used for.
+	 * @param executor The executor the tracker is used on, <code>null</code>
+	 * for the session's executor.
+	 * @see DsfSession#getExecutor(String)
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public DsfServicesTracker(BundleContext bundleContext, String sessionId, DsfExecutor executor) {
 		fSessionId = sessionId;
+		fExecutor = executor;
 		fBundleContext = bundleContext;
 		fServiceFilter = getServiceFilter(sessionId);
 		try {
@@ -181,7 +203,7 @@ public class DsfServicesTracker {
 		if (session == null) {
 			return null;
 		}
-		assert session.getExecutor().isInExecutorThread();
+		assert getExecutor(session).isInExecutorThread();
 
 		ServiceKey key = new ServiceKey(serviceClass, filter != null ? filter : fServiceFilter);
 		if (fServiceReferences.containsKey(key)) {
@@ -228,7 +250,7 @@ public class DsfServicesTracker {
 		if (session == null) {
 			return Collections.emptyList();
 		}
-		assert session.getExecutor().isInExecutorThread();
+		assert getExecutor(session).isInExecutorThread();
 
 		try {
 			return fBundleContext.getServiceReferences(serviceClass, filter != null ? filter : fServiceFilter);
@@ -321,8 +343,8 @@ public class DsfServicesTracker {
 		DsfSession session = DsfSession.getSession(fSessionId);
 		if (session != null) {
 			try {
-				if (!session.getExecutor().isInExecutorThread()) {
-					session.getExecutor().execute(this::doDispose);
+				if (!getExecutor(session).isInExecutorThread()) {
+					getExecutor(session).execute(this::doDispose);
 					return;
 				}
 			} catch (RejectedExecutionException e) {
@@ -27,8 +27,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.ThreadSafe;
@@ -52,6 +54,9 @@ import org.osgi.framework.Filter;
  * <br>3. Each session has its set of service event listeners.
  * <br>4. Start and end of each session is announced by events, which are always
  * sent on that session's executor dispatch thread.
+ * <br>5. Optionally, services that do not interact with the other services of
+ * the session can be confined to a domain, which has its own serial executor,
+ * see {@link #getExecutor(String)}.
  *
  * @see org.eclipse.cdt.dsf.concurrent.DsfExecutor
  *
@@ -211,8 +216,24 @@ public class DsfSession {
 	 */
 	@ThreadSafe
 	public static DsfSession startSession(DsfExecutor executor, String ownerId) {
+		return startSession(executor, ownerId, false);
+	}
+
+	/**
+	 * Starts and returns a new session instance, which may run the services of
+	 * each confinement domain on a separate executor.
+	 * @param executor The DSF executor to use for this session.
+	 * @param ownerId ID (plugin ID preferably) of the owner of this session
+	 * @param domainExecutors whether the domains returned by {@link #getExecutor(String)}
+	 * have their own executors; if false, all services use the session's executor
+	 * @return instance object of the new session
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public static DsfSession startSession(DsfExecutor executor, String ownerId, boolean domainExecutors) {
 		synchronized (fgActiveSessions) {
-			final DsfSession newSession = new DsfSession(executor, ownerId, Integer.toString(fgSessionIdCounter++));
+			final DsfSession newSession = new DsfSession(executor, ownerId, Integer.toString(fgSessionIdCounter++),
+					domainExecutors);
 			fgActiveSessions.add(newSession);
 			executor.submit(new DsfRunnable() {
 				@Override
@@ -249,6 +270,9 @@ public class DsfSession {
 					for (int i = 0; i < listeners.length; i++) {
 						listeners[i].sessionEnded(session);
 					}
+					for (DsfExecutor domainExecutor : session.fDomainExecutors.values()) {
+						domainExecutor.shutdown();
+					}
 				}
 			});
 		}
@@ -283,6 +307,12 @@ public class DsfSession {
 	/** Dispatch-thread executor for this session */
 	private final DsfExecutor fExecutor;
 
+	/** Whether the confinement domains of the services have their own executors */
+	private final boolean fUseDomainExecutors;
+
+	/** Executors of the confinement domains, created when first used */
+	private final Map<String, DsfExecutor> fDomainExecutors = new ConcurrentHashMap<>();
+
 	/** Service start-up counter for this session */
 	private int fServiceInstanceCounter;
 
@@ -318,6 +348,52 @@ public class DsfSession {
 		return fExecutor;
 	}
 
+	/**
+	 * Returns the executor of a confinement domain of this session.
+	 * <p>
+	 * Services declare the domain they are confined to with
+	 * {@link AbstractDsfService#getConfinementDomain()}.  Services of
+	 * different domains run concurrently when the session was started
+	 * with domain executors, so a service must only call into a service
+	 * of another domain by submitting a runnable to that service's
+	 * executor, and request monitors must be created with the executor of
+	 * the domain that handles their completion.  Service events are
+	 * delivered to each service on its own executor.
+	 *
+	 * @param domain name of the domain, or <code>null</code> for the session's executor
+	 * @return the executor of the domain, which is the session's executor if the
+	 * session does not use domain executors
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public DsfExecutor getExecutor(String domain) {
+		if (domain == null || !fUseDomainExecutors) {
+			return fExecutor;
+		}
+		return fDomainExecutors.computeIfAbsent(domain, d -> {
+			String name = "DSF Executor " + d + " (session " + fId + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return new DefaultDsfExecutor(name);
+		});
+	}
+
+	/**
+	 * Checks if the calling thread is the thread of the session's executor or
+	 * of the executor of one of its domains.
+	 * @since 2.12
+	 */
+	@ThreadSafe
+	public boolean isInSessionThread() {
+		if (fExecutor.isInExecutorThread()) {
+			return true;
+		}
+		for (DsfExecutor domainExecutor : fDomainExecutors.values()) {
+			if (domainExecutor.isInExecutorThread()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Adds a new listener for service events in this session.  If the given
 	 * object is already registered as a listener, then this call does nothing.
@@ -335,8 +411,18 @@ public class DsfSession {
 	 *            optional filter to restrict the services that the listener
 	 *            will receive events from
 	 */
-	public void addServiceEventListener(Object listener, Filter filter) {
-		assert getExecutor().isInExecutorThread();
+	public void addServiceEventListener(final Object listener, final Filter filter) {
+		assert isInSessionThread();
+		if (!getExecutor().isInExecutorThread()) {
+			// Listener confined to a domain, the listeners are only used in the session's executor
+			getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					addServiceEventListener(listener, filter);
+				}
+			});
+			return;
+		}
 
 		ListenerEntry entry = new ListenerEntry(listener, filter);
 		if (DEBUG_SESSION_LISTENERS) {
@@ -357,8 +443,17 @@ public class DsfSession {
 	 *
 	 * @param listener listener to remove
 	 */
-	public void removeServiceEventListener(Object listener) {
-		assert getExecutor().isInExecutorThread();
+	public void removeServiceEventListener(final Object listener) {
+		assert isInSessionThread();
+		if (!getExecutor().isInExecutorThread()) {
+			getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					removeServiceEventListener(listener);
+				}
+			});
+			return;
+		}
 
 		ListenerEntry entry = new ListenerEntry(listener, null);
 		if (DEBUG_SESSION_LISTENERS) {
@@ -529,26 +624,43 @@ public class DsfSession {
 			}
 		}
 
-		// Call the listeners
+		// Call the listeners, on their own executor for services confined to a domain
 		for (Map.Entry<ListenerEntry, List<Method>> entry : listeners.entrySet()) {
-			for (Method method : entry.getValue()) {
-				try {
-					if (DEBUG_SESSION_DISPATCHES) {
-						DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
-								+ LoggingUtils.toString(entry.getKey().fListener) + " invoked with event " //$NON-NLS-1$
-								+ LoggingUtils.toString(event));
+			final Object listener = entry.getKey().fListener;
+			final List<Method> methods = entry.getValue();
+			DsfExecutor listenerExecutor = listener instanceof IDsfService ? ((IDsfService) listener).getExecutor()
+					: fExecutor;
+			if (listenerExecutor != fExecutor) {
+				listenerExecutor.execute(new DsfRunnable() {
+					@Override
+					public void run() {
+						invokeEventHandlers(listener, methods, event);
 					}
-					method.invoke(entry.getKey().fListener, new Object[] { event });
-				} catch (IllegalAccessException e) {
-					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
-							"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
-					assert false
-							: "IServiceEventListener.ServiceHandlerMethod method not accessible, is listener declared public?"; //$NON-NLS-1$
-				} catch (InvocationTargetException e) {
-					DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
-							"Invocation exception when calling a service event handler method", e)); //$NON-NLS-1$
-					assert false : "Exception thrown by a IServiceEventListener.ServiceHandlerMethod method"; //$NON-NLS-1$
+				});
+			} else {
+				invokeEventHandlers(listener, methods, event);
+			}
+		}
+	}
+
+	private void invokeEventHandlers(Object listener, List<Method> methods, Object event) {
+		for (Method method : methods) {
+			try {
+				if (DEBUG_SESSION_DISPATCHES) {
+					DsfPlugin.debug(DsfPlugin.getDebugTime() + " Listener " //$NON-NLS-1$
+							+ LoggingUtils.toString(listener) + " invoked with event " //$NON-NLS-1$
+							+ LoggingUtils.toString(event));
 				}
+				method.invoke(listener, new Object[] { event });
+			} catch (IllegalAccessException e) {
+				DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
+						"Security exception when calling a service event handler method", e)); //$NON-NLS-1$
+				assert false
+						: "IServiceEventListener.ServiceHandlerMethod method not accessible, is listener declared public?"; //$NON-NLS-1$
+			} catch (InvocationTargetException e) {
+				DsfPlugin.getDefault().getLog().log(new Status(IStatus.ERROR, DsfPlugin.PLUGIN_ID, -1,
+						"Invocation exception when calling a service event handler method", e)); //$NON-NLS-1$
+				assert false : "Exception thrown by a IServiceEventListener.ServiceHandlerMethod method"; //$NON-NLS-1$
 			}
 		}
 	}
@@ -598,9 +710,10 @@ public class DsfSession {
 	 * Class to be instantiated only using startSession()
 	 */
 	@ThreadSafe
-	private DsfSession(DsfExecutor executor, String ownerId, String id) {
+	private DsfSession(DsfExecutor executor, String ownerId, String id, boolean domainExecutors) {
 		fId = id;
 		fOwnerId = ownerId;
 		fExecutor = executor;
+		fUseDomainExecutors = domainExecutors;
 	}
 }
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.debug.vm.launch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StepType;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.ui.viewmodel.update.AdaptiveUpdatePolicy;
+import org.eclipse.cdt.dsf.debug.ui.viewmodel.variable.VariableVMProvider;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.dsf.ui.viewmodel.AbstractVMContext;
+import org.eclipse.cdt.dsf.ui.viewmodel.IVMNode;
+import org.eclipse.cdt.dsf.ui.viewmodel.IVMProvider;
+import org.eclipse.cdt.dsf.ui.viewmodel.datamodel.AbstractDMVMAdapter;
+import org.eclipse.cdt.dsf.ui.viewmodel.datamodel.IDMVMContext;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.AutomaticUpdatePolicy;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.IVMUpdatePolicy;
+import org.eclipse.cdt.examples.dsf.pda.PDAPlugin;
+import org.eclipse.cdt.examples.dsf.pda.service.PDACommandControl;
+import org.eclipse.cdt.examples.dsf.pda.service.PDARunControl;
+import org.eclipse.cdt.examples.dsf.pda.service.PDAStack;
+import org.eclipse.cdt.tests.dsf.IViewerUpdatesListenerConstants;
+import org.eclipse.cdt.tests.dsf.ServiceEventWaitor;
+import org.eclipse.cdt.tests.dsf.vm.TestModelUpdatesListener;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.VirtualTreeModelViewer;
+import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures how long the variables view takes to catch up with a PDA program
+ * which is stepped as fast as the debugger allows, with the automatic and the
+ * adaptive update policies.
+ */
+public class UpdatePolicyPerformanceTests extends VMTestBase implements IViewerUpdatesListenerConstants {
+
+	private static final int VARIABLE_COUNT = 64;
+	private static final int STEP_COUNT = 100;
+
+	/** Time to let the adaptive policy settle after the last step, in milliseconds. */
+	private static final int SETTLE_TIME = 1500;
+
+	private File fProgramFile;
+
+	private Display fDisplay;
+	private VirtualTreeModelViewer fViewer;
+	private TestModelUpdatesListener fListener;
+	private AbstractDMVMAdapter fVMAdapter;
+	private VariableVMProvider fVMProvider;
+
+	/**
+	 * Viewer input for the variables of a stack frame.
+	 */
+	private static class FrameVMContext extends AbstractVMContext implements IDMVMContext {
+		private final IFrameDMContext fFrame;
+
+		FrameVMContext(IVMNode node, IFrameDMContext frame) {
+			super(node);
+			fFrame = frame;
+		}
+
+		@Override
+		public IDMContext getDMContext() {
+			return fFrame;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof FrameVMContext && ((FrameVMContext) obj).fFrame.equals(fFrame);
+		}
+
+		@Override
+		public int hashCode() {
+			return fFrame.hashCode();
+		}
+	}
+
+	/**
+	 * Writes a program with many local variables, of which the loop only
+	 * changes the first one.
+	 */
+	@Override
+	protected String getProgramPath() {
+		StringBuilder program = new StringBuilder();
+		for (int i = 0; i < VARIABLE_COUNT; i++) {
+			program.append("var v").append(i).append('\n');
+			program.append("push ").append(i).append('\n');
+			program.append("pop $v").append(i).append('\n');
+		}
+		program.append(":loop\n");
+		program.append("push $v0\n");
+		program.append("push 1\n");
+		program.append("add\n");
+		program.append("pop $v0\n");
+		program.append("push 1\n");
+		program.append("branch_not_zero loop\n");
+		try {
+			fProgramFile = File.createTempFile("updatePolicy", ".pda");
+			fProgramFile.deleteOnExit();
+			Files.write(fProgramFile.toPath(), program.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			Assert.fail(e.getMessage());
+		}
+		return fProgramFile.getPath();
+	}
+
+	@Test
+	public void testAutomaticUpdatePolicy() throws Throwable {
+		stepRapidly(AutomaticUpdatePolicy.class);
+	}
+
+	@Test
+	public void testAdaptiveUpdatePolicy() throws Throwable {
+		stepRapidly(AdaptiveUpdatePolicy.class);
+	}
+
+	private void stepRapidly(Class<? extends IVMUpdatePolicy> policyClass) throws Throwable {
+		final DsfSession session = getPDALaunch().getSession();
+		final DsfServicesTracker tracker = new DsfServicesTracker(PDAPlugin.getBundleContext(), session.getId());
+		try {
+			final IExecutionDMContext thread = getThread(session, tracker);
+			IFrameDMContext frame = getTopFrame(session, tracker, thread);
+
+			// Step past the initialization of the variables, so that the loop
+			// is all that is left to step through.
+			for (int i = 0; i < 3 * VARIABLE_COUNT; i++) {
+				step(session, tracker, thread);
+			}
+
+			createViewer(session);
+			for (IVMUpdatePolicy policy : fVMProvider.getAvailableUpdatePolicies()) {
+				if (policyClass.equals(policy.getClass())) {
+					fVMProvider.setActiveUpdatePolicy(policy);
+				}
+			}
+			Assert.assertEquals(policyClass, fVMProvider.getActiveUpdatePolicy().getClass());
+
+			fListener.reset();
+			fViewer.setInput(new FrameVMContext(fVMProvider.getRootVMNode(), frame));
+			waitForViewer(ALL_UPDATES_COMPLETE);
+
+			Performance perf = Performance.getDefault();
+			PerformanceMeter meter = perf.createPerformanceMeter(
+					perf.getDefaultScenarioId(getClass(), policyClass.getSimpleName()));
+			try {
+				long misses = fVMProvider.getCacheMissCount();
+
+				System.gc();
+				meter.start();
+				for (int i = 0; i < STEP_COUNT; i++) {
+					step(session, tracker, thread);
+				}
+				long settleTime = System.currentTimeMillis() + SETTLE_TIME;
+				while (System.currentTimeMillis() < settleTime) {
+					if (!fDisplay.readAndDispatch()) {
+						Thread.sleep(10);
+					}
+				}
+				fListener.reset();
+				waitForViewer(VIEWER_UPDATES_RUNNING | LABEL_UPDATES_RUNNING);
+				meter.stop();
+
+				meter.commit();
+				perf.assertPerformance(meter);
+				// The view was refreshed with the values of the last step
+				Assert.assertTrue(fVMProvider.getCacheMissCount() > misses);
+			} finally {
+				meter.dispose();
+			}
+		} finally {
+			disposeViewer();
+			tracker.dispose();
+		}
+	}
+
+	private void createViewer(DsfSession session) {
+		fDisplay = Display.getDefault();
+		fViewer = new VirtualTreeModelViewer(fDisplay, 0, new PresentationContext(IDebugUIConstants.ID_VARIABLE_VIEW));
+		fViewer.setAutoExpandLevel(-1);
+		fListener = new TestModelUpdatesListener(fViewer, false, false);
+		fVMAdapter = new AbstractDMVMAdapter(session) {
+			@Override
+			protected IVMProvider createViewModelProvider(IPresentationContext context) {
+				return fVMProvider;
+			}
+		};
+		fVMProvider = new VariableVMProvider(fVMAdapter, fViewer.getPresentationContext(), session);
+	}
+
+	private void disposeViewer() {
+		if (fViewer != null) {
+			fListener.dispose();
+			fViewer.dispose();
+			fVMAdapter.dispose();
+			fViewer = null;
+		}
+	}
+
+	private void waitForViewer(int flags) {
+		while (!fListener.isFinished(flags)) {
+			if (!fDisplay.readAndDispatch()) {
+				fDisplay.sleep();
+			}
+		}
+	}
+
+	private IExecutionDMContext getThread(DsfSession session, final DsfServicesTracker tracker) throws Exception {
+		Query<IExecutionDMContext[]> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<IExecutionDMContext[]> rm) {
+				PDACommandControl commandControl = tracker.getService(PDACommandControl.class);
+				tracker.getService(PDARunControl.class).getExecutionContexts(commandControl.getContext(), rm);
+			}
+		};
+		session.getExecutor().execute(query);
+		IExecutionDMContext[] threads = query.get();
+		Assert.assertTrue(threads.length > 0);
+		return threads[0];
+	}
+
+	private IFrameDMContext getTopFrame(DsfSession session, final DsfServicesTracker tracker,
+			final IExecutionDMContext thread) throws Exception {
+		Query<IFrameDMContext> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<IFrameDMContext> rm) {
+				tracker.getService(PDAStack.class).getTopFrame(thread, rm);
+			}
+		};
+		session.getExecutor().execute(query);
+		return query.get();
+	}
+
+	/**
+	 * Steps over one instruction and waits for the program to suspend, while
+	 * letting the viewer process its updates.
+	 */
+	private void step(DsfSession session, final DsfServicesTracker tracker, final IExecutionDMContext thread)
+			throws Exception {
+		ServiceEventWaitor<ISuspendedDMEvent> waitor = new ServiceEventWaitor<>(session, ISuspendedDMEvent.class);
+		try {
+			Query<Object> query = new Query<>() {
+				@Override
+				protected void execute(final DataRequestMonitor<Object> rm) {
+					tracker.getService(PDARunControl.class).step(thread, StepType.STEP_OVER, rm);
+				}
+			};
+			session.getExecutor().execute(query);
+			query.get();
+			waitor.waitForEvent(10000);
+		} finally {
+			waitor.dispose();
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.disassembly;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.cdt.dsf.debug.internal.ui.disassembly.model.ChunkedPositionList;
+import org.eclipse.jface.text.Position;
+import org.junit.Test;
+
+/**
+ * Tests the list of positions of the disassembly document against an
+ * <code>ArrayList</code>.
+ */
+public class ChunkedPositionListTests {
+
+	private static void assertSameList(List<Position> expected, List<Position> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), actual.get(i));
+		}
+		Iterator<Position> it = actual.iterator();
+		for (Position pos : expected) {
+			assertSame(pos, it.next());
+		}
+	}
+
+	@Test
+	public void randomEdits() {
+		Random random = new Random(42);
+		List<Position> expected = new ArrayList<>();
+		List<Position> actual = new ChunkedPositionList();
+		for (int i = 0; i < 20000; i++) {
+			int op = random.nextInt(10);
+			if (op < 6 || expected.isEmpty()) {
+				int index = random.nextInt(expected.size() + 1);
+				Position pos = new Position(i);
+				expected.add(index, pos);
+				actual.add(index, pos);
+			} else if (op < 9) {
+				int index = random.nextInt(expected.size());
+				assertSame(expected.remove(index), actual.remove(index));
+			} else {
+				int index = random.nextInt(expected.size());
+				Position pos = new Position(i);
+				assertSame(expected.set(index, pos), actual.set(index, pos));
+			}
+		}
+		assertSameList(expected, actual);
+	}
+
+	@Test
+	public void removeWithIterator() {
+		List<Position> expected = new ArrayList<>();
+		List<Position> actual = new ChunkedPositionList();
+		for (int i = 0; i < 5000; i++) {
+			Position pos = new Position(i);
+			expected.add(pos);
+			actual.add(pos);
+		}
+		for (Iterator<Position> it = actual.listIterator(100); it.hasNext();) {
+			if (it.next().offset % 3 != 0) {
+				it.remove();
+			}
+		}
+		expected.subList(100, expected.size()).removeIf(pos -> pos.offset % 3 != 0);
+		assertSameList(expected, actual);
+	}
+
+	@Test
+	public void removeAll() {
+		List<Position> expected = new ArrayList<>();
+		List<Position> actual = new ChunkedPositionList();
+		Set<Position> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < 5000; i++) {
+			Position pos = new Position(i);
+			expected.add(pos);
+			actual.add(pos);
+			if (i >= 1000 && i < 3000 || i % 7 == 0) {
+				toRemove.add(pos);
+			}
+		}
+		expected.removeIf(toRemove::contains);
+		actual.removeAll(toRemove);
+		assertSameList(expected, actual);
+		actual.add(0, new Position(0));
+		actual.clear();
+		assertEquals(0, actual.size());
+	}
+
+	/**
+	 * Shifts the offsets of the positions after the middle of the list, which
+	 * only updates the positions of the chunk of the middle right away.
+	 */
+	@Test
+	public void shift() {
+		ChunkedPositionList model = new ChunkedPositionList();
+		ChunkedPositionList category = new ChunkedPositionList(model);
+		Position[] positions = new Position[5000];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = new Position(10 * i, 10);
+			model.add(positions[i]);
+			if (i % 2 == 0) {
+				category.add(positions[i]);
+			}
+		}
+		model.shift(2500, 5);
+		model.shift(2500, 1);
+		assertEquals(10 * 2500 + 6, positions[2500].offset);
+		// the shift of the positions of the other chunks is pending
+		assertEquals(10 * 4999, positions[4999].offset);
+		assertEquals(10 * 4000, positions[4000].offset);
+
+		// reading the positions from any of the lists applies it
+		assertEquals(10 * 4000 + 6, category.get(2000).offset);
+		model.settle(positions[4999]);
+		assertEquals(10 * 4999 + 6, positions[4999].offset);
+		for (int i = 0; i < positions.length; i++) {
+			assertEquals(10 * i + (i < 2500 ? 0 : 6), model.get(i).offset);
+		}
+	}
+
+	@Test
+	public void editWithPendingShift() {
+		ChunkedPositionList model = new ChunkedPositionList();
+		Position[] positions = new Position[2000];
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = new Position(10 * i, 10);
+			model.add(positions[i]);
+		}
+		model.shift(0, 1);
+		// the removed positions and those next to an inserted one are up to date
+		assertSame(positions[1500], model.remove(1500));
+		assertEquals(10 * 1500 + 1, positions[1500].offset);
+		assertSame(positions[1600], model.set(1599, new Position(10 * 1600 + 1, 10)));
+		assertEquals(10 * 1600 + 1, positions[1600].offset);
+		model.add(1800, new Position(10 * 1801 + 1, 0));
+		assertEquals(10 * 1801 + 1, model.get(1800).offset);
+		model.removeAll(Collections.singleton(positions[1900]));
+		assertEquals(10 * 1900 + 1, positions[1900].offset);
+		for (Position pos : model) {
+			assertEquals(1, pos.offset % 10);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.disassembly;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+
+import org.eclipse.cdt.debug.internal.ui.disassembly.dsf.AddressRangePosition;
+import org.eclipse.cdt.dsf.debug.internal.ui.disassembly.model.DisassemblyDocument;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Position;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures the insertion of the lines of a large function into the disassembly
+ * document, from the middle of the document, as when scrolling up.
+ */
+public class DisassemblyDocumentPerformanceTests {
+
+	private static final int LINES = 50000;
+	private static final BigInteger START = BigInteger.valueOf(0x400000);
+	private static final int INSTRUCTION_LENGTH = 4;
+
+	@Test
+	public void insertFromMiddle() throws Exception {
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(getClass()));
+		try {
+			for (int run = 0; run < 5; run++) {
+				DisassemblyDocument document = new DisassemblyDocument();
+				document.insertInvalidAddressRange(0, 0, START, address(LINES));
+				// the second half of the function is there, the first half is
+				// inserted before it, line after line
+				insertLines(document, LINES / 2, LINES);
+				System.gc();
+				meter.start();
+				insertLines(document, 0, LINES / 2);
+				meter.stop();
+				assertConsistent(document);
+				document.dispose();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	private static BigInteger address(int line) {
+		return START.add(BigInteger.valueOf((long) line * INSTRUCTION_LENGTH));
+	}
+
+	private static void insertLines(DisassemblyDocument document, int from, int to) throws BadLocationException {
+		AddressRangePosition pos = null;
+		for (int line = from; line < to; line++) {
+			String instruction = "insn" + line; //$NON-NLS-1$
+			pos = document.insertDisassemblyLine(pos, address(line), INSTRUCTION_LENGTH, "", instruction, null, -1); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Checks that the model positions follow each other, and that each line is
+	 * at the offset of its position.
+	 */
+	private static void assertConsistent(DisassemblyDocument document) throws Exception {
+		int offset = 0;
+		int lines = 0;
+		for (Iterator<Position> it = document.getPositionIterator(DisassemblyDocument.CATEGORY_MODEL, 0); it
+				.hasNext();) {
+			AddressRangePosition pos = (AddressRangePosition) it.next();
+			assertEquals(offset, pos.offset);
+			if (pos.fValid) {
+				String line = "insn" + pos.fAddressOffset.subtract(START).intValue() / INSTRUCTION_LENGTH; //$NON-NLS-1$
+				assertTrue(line, document.get(pos.offset, pos.length).trim().endsWith(line));
+				lines++;
+			}
+			offset += pos.length;
+		}
+		assertEquals(document.getLength(), offset);
+		assertEquals(LINES, lines);
+	}
+}
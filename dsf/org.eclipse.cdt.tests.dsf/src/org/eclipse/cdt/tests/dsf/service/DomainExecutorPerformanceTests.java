@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateExecutor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.DsfTestPlugin;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.osgi.framework.BundleContext;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests to measure the throughput of services confined to separate domains,
+ * compared to the same services sharing the executor of the session.
+ */
+public class DomainExecutorPerformanceTests extends TestCase {
+	private static final int SERVICES = 3;
+	private static final int REQUESTS = 2000;
+	private static final int WORK = 20000;
+
+	/**
+	 * A service that spends some time on each request, like a service parsing
+	 * or caching the answers of a debugger.
+	 */
+	public static class WorkService extends AbstractDsfService {
+		private final String fDomain;
+		private long fTotal;
+		volatile boolean fEventInDomain;
+
+		public WorkService(DsfSession session, String domain) {
+			super(session);
+			fDomain = domain;
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return DsfTestPlugin.getBundleContext();
+		}
+
+		@Override
+		protected String getConfinementDomain() {
+			return fDomain;
+		}
+
+		@Override
+		public void initialize(final RequestMonitor rm) {
+			super.initialize(new RequestMonitor(getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					getSession().addServiceEventListener(WorkService.this, null);
+					rm.done();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown(RequestMonitor rm) {
+			getSession().removeServiceEventListener(this);
+			super.shutdown(rm);
+		}
+
+		public void compute(int seed, DataRequestMonitor<Long> rm) {
+			assert getExecutor().isInExecutorThread();
+			long value = seed;
+			for (int i = 0; i < WORK; i++) {
+				value = value * 6364136223846793005L + 1442695040888963407L;
+			}
+			fTotal += value;
+			rm.done(fTotal);
+		}
+
+		@DsfServiceEventHandler
+		public void eventDispatched(String event) {
+			fEventInDomain = getExecutor().isInExecutorThread();
+		}
+	}
+
+	private DsfExecutor fExecutor;
+	private DsfSession fSession;
+	private WorkService[] fServices;
+
+	public DomainExecutorPerformanceTests(String name) {
+		super(name);
+	}
+
+	private void startServices(boolean domainExecutors) throws Exception {
+		fExecutor = new DefaultDsfExecutor();
+		fSession = DsfSession.startSession(fExecutor, DsfTestPlugin.PLUGIN_ID, domainExecutors);
+		fServices = new WorkService[SERVICES];
+		for (int i = 0; i < SERVICES; i++) {
+			final WorkService service = new WorkService(fSession, "work" + i); //$NON-NLS-1$
+			Query<Object> query = new Query<Object>() {
+				@Override
+				protected void execute(DataRequestMonitor<Object> rm) {
+					service.initialize(rm);
+				}
+			};
+			service.getExecutor().execute(query);
+			query.get();
+			fServices[i] = service;
+		}
+	}
+
+	private void stopServices() throws Exception {
+		if (fSession == null) {
+			return;
+		}
+		for (final WorkService service : fServices) {
+			Query<Object> query = new Query<Object>() {
+				@Override
+				protected void execute(DataRequestMonitor<Object> rm) {
+					service.shutdown(rm);
+				}
+			};
+			service.getExecutor().execute(query);
+			query.get();
+		}
+		DsfSession.endSession(fSession);
+		fExecutor.shutdown();
+		fSession = null;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		stopServices();
+		super.tearDown();
+	}
+
+	private void sendRequests() throws InterruptedException {
+		final CountDownLatch done = new CountDownLatch(SERVICES * REQUESTS);
+		for (int i = 0; i < REQUESTS; i++) {
+			for (final WorkService service : fServices) {
+				final int seed = i;
+				service.getExecutor().execute(() -> service.compute(seed,
+						new DataRequestMonitor<Long>(ImmediateExecutor.getInstance(), null) {
+							@Override
+							protected void handleCompleted() {
+								done.countDown();
+							}
+						}));
+			}
+		}
+		assertTrue(done.await(60, TimeUnit.SECONDS));
+	}
+
+	private void measureRequests() throws InterruptedException {
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int x = 0; x < 10; x++) {
+				meter.start();
+				sendRequests();
+				meter.stop();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	/**
+	 * Returns the shortest time, in nanoseconds, to answer the requests.
+	 */
+	private long timeRequests() throws InterruptedException {
+		// Warm up the compiler before timing
+		sendRequests();
+		long best = Long.MAX_VALUE;
+		for (int x = 0; x < 5; x++) {
+			long start = System.nanoTime();
+			sendRequests();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	public void testSessionExecutor() throws Exception {
+		startServices(false);
+		measureRequests();
+	}
+
+	public void testDomainExecutors() throws Exception {
+		startServices(true);
+		measureRequests();
+	}
+
+	/**
+	 * Checks that the services answer at least 1.5 times faster on their own
+	 * domains than on the executor of the session, when there is a processor
+	 * for each service.
+	 */
+	public void testDomainExecutorsGain() throws Exception {
+		if (Runtime.getRuntime().availableProcessors() < SERVICES) {
+			return;
+		}
+		startServices(false);
+		long shared = timeRequests();
+		stopServices();
+		startServices(true);
+		long confined = timeRequests();
+		String times = "session executor " + shared / 1000000 + " ms, domain executors " //$NON-NLS-1$ //$NON-NLS-2$
+				+ confined / 1000000 + " ms"; //$NON-NLS-1$
+		assertTrue(times, confined * 3 < shared * 2);
+	}
+
+	public void testEventsOnDomainExecutor() throws Exception {
+		startServices(true);
+		assertNotSame(fSession.getExecutor(), fServices[0].getExecutor());
+		fSession.dispatchEvent("event", null); //$NON-NLS-1$
+		for (WorkService service : fServices) {
+			// Wait for the event dispatched by the session's executor to reach the domain
+			fExecutor.submit(() -> null).get();
+			service.getExecutor().submit(() -> null).get();
+			assertTrue(service.fEventInDomain);
+		}
+	}
+}
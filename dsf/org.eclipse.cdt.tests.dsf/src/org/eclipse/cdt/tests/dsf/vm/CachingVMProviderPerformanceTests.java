@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.vm;
+
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.dsf.service.IDsfService;
+import org.eclipse.cdt.dsf.ui.viewmodel.AbstractVMAdapter;
+import org.eclipse.cdt.dsf.ui.viewmodel.IVMProvider;
+import org.eclipse.cdt.dsf.ui.viewmodel.update.AbstractCachingVMProvider;
+import org.eclipse.cdt.tests.dsf.IViewerUpdatesListenerConstants;
+import org.eclipse.cdt.tests.dsf.vm.TestModel.TestElement;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.ITreeModelViewer;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.PresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.VirtualTreeModelViewer;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.ui.PlatformUI;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures how a view is populated again from the cache of the view model,
+ * with the cache of {@link AbstractCachingVMProvider} limited to several
+ * sizes.
+ */
+public class CachingVMProviderPerformanceTests extends TestCase implements IViewerUpdatesListenerConstants {
+	Display fDisplay;
+	Shell fShell;
+	DsfExecutor fDsfExecutor;
+	DsfSession fDsfSession;
+	ITreeModelViewer fViewer;
+	TestModelUpdatesListener fListener;
+	TestModel fModel;
+	AbstractVMAdapter fVMAdapter;
+	TestModelCachingVMProvider fVMProvider;
+	long fCacheSizeLimit;
+
+	public CachingVMProviderPerformanceTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		fDsfExecutor = new DefaultDsfExecutor();
+		fDsfSession = DsfSession.startSession(fDsfExecutor, getClass().getName());
+
+		fDisplay = PlatformUI.getWorkbench().getDisplay();
+		fShell = new Shell(fDisplay);
+		fShell.setMaximized(true);
+		fShell.setLayout(new FillLayout());
+
+		fViewer = new VirtualTreeModelViewer(fDisplay, 0, new PresentationContext("TestViewer"));
+		fListener = new TestModelUpdatesListener(fViewer, false, false);
+
+		fModel = new TestModel(fDsfSession);
+		initializeService(fModel);
+		fModel.setRoot(new TestElement(fModel, "root", new TestElement[0]));
+		fModel.setElementChildren(TreePath.EMPTY, makeModelElements(fModel, 7, "model"));
+
+		fVMAdapter = new AbstractVMAdapter() {
+			@Override
+			protected IVMProvider createViewModelProvider(IPresentationContext context) {
+				return fVMProvider;
+			}
+		};
+		fVMProvider = new TestModelCachingVMProvider(fVMAdapter, fViewer.getPresentationContext(), fDsfSession) {
+			@Override
+			protected long getCacheSizeLimit() {
+				return fCacheSizeLimit;
+			}
+		};
+
+		fShell.open();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fVMAdapter.dispose();
+
+		fListener.dispose();
+		fViewer.getPresentationContext().dispose();
+		fShell.close();
+		while (!fShell.isDisposed())
+			if (!fDisplay.readAndDispatch())
+				fDisplay.sleep();
+		DsfSession.endSession(fDsfSession);
+		fDsfExecutor.shutdown();
+	}
+
+	private void initializeService(final IDsfService service) throws InterruptedException, ExecutionException {
+		Query<Object> initQuery = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<Object> rm) {
+				rm.setData(new Object());
+				service.initialize(rm);
+			}
+		};
+		fDsfExecutor.execute(initQuery);
+		initQuery.get();
+	}
+
+	public void testRepopulateDefaultLimit() {
+		repopulate(AbstractCachingVMProvider.DEFAULT_CACHE_SIZE_LIMIT);
+	}
+
+	public void testRepopulateSmallLimit() {
+		repopulate(256 * 1024);
+	}
+
+	public void testRepopulateNoLimit() {
+		repopulate(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Sets the input of the viewer again and again, so that the view is
+	 * populated from the cache as far as it fits in the given limit.
+	 */
+	private void repopulate(long cacheSizeLimit) {
+		fCacheSizeLimit = cacheSizeLimit;
+		fViewer.setAutoExpandLevel(-1);
+
+		TestElementVMContext rootVMC = fVMProvider.getElementVMContext(fViewer.getPresentationContext(),
+				fModel.getRootElement());
+		fListener.reset(TreePath.EMPTY, rootVMC.getElement(), -1, true, false);
+		fViewer.setInput(rootVMC);
+		while (!fListener.isFinished(ALL_UPDATES_COMPLETE))
+			if (!fDisplay.readAndDispatch())
+				fDisplay.sleep();
+
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(perf.getDefaultScenarioId(this));
+		try {
+			for (int i = 0; i < 20; i++) {
+				fViewer.setInput(null);
+				fListener.reset(TreePath.EMPTY, rootVMC.getElement(), -1, false, false);
+
+				System.gc();
+				meter.start();
+				fViewer.setInput(rootVMC);
+				while (!fListener.isFinished(ALL_UPDATES_COMPLETE))
+					if (!fDisplay.readAndDispatch())
+						fDisplay.sleep();
+				meter.stop();
+			}
+
+			meter.commit();
+			perf.assertPerformance(meter);
+			// The view was populated from the cache, which stayed in its limit
+			assertTrue(fVMProvider.getCacheHitCount() > 0);
+			assertTrue(fVMProvider.getCacheSize() <= cacheSizeLimit);
+			if (cacheSizeLimit == Long.MAX_VALUE) {
+				assertEquals(0, fVMProvider.getCacheEvictionCount());
+			}
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	private TestElement[] makeModelElements(TestModel model, int depth, String prefix) {
+		TestElement[] elements = new TestElement[depth];
+		for (int i = 0; i < depth; i++) {
+			String name = prefix + "." + i;
+			elements[i] = new TestElement(model, name, makeModelElements(model, i, name));
+		}
+		return elements;
+	}
+}
@@ -14,7 +14,8 @@
 package org.eclipse.cdt.debug.core.memory.tests;
 
 import java.math.BigInteger;
-import java.util.LinkedHashMap;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
@@ -33,44 +34,64 @@ final class EmulateMemory implements WriteMemory, IReadMemory {
 
 	private final BigInteger addressable;
 	private final BigInteger base;
-	//FIXME: needs improvements, assumes identical pattern during write and read
-	private final Map<BigInteger, byte[]> storage;
+	private final Map<BigInteger, Page> storage;
+
+	/**
+	 * The bytes of an aligned range of the memory, with the ones written so far
+	 */
+	private static final class Page {
+		static final int SIZE = 4096;
+		static final BigInteger BIG_SIZE = BigInteger.valueOf(SIZE);
+
+		final byte[] values = new byte[SIZE];
+		final BitSet written = new BitSet(SIZE);
+	}
 
 	EmulateMemory(BigInteger addressable, BigInteger base) {
 		this.addressable = addressable;
 		this.base = base;
-		this.storage = new LinkedHashMap<>();
+		this.storage = new HashMap<>();
 	}
 
 	@Override
-	public MemoryByte[] from(BigInteger offset, long units) throws DebugException {
+	public synchronized MemoryByte[] from(BigInteger offset, long units) throws DebugException {
 		int length = (int) (units * addressable.longValue());
 		MemoryByte[] result = new MemoryByte[length];
-		int i = 0;
-		while (i < length) {
-			byte[] raw = storage.getOrDefault(offset.add(BigInteger.valueOf(i)), new byte[0]);
-			int obtained = raw.length;
-			if (obtained > 0) {
-				for (int j = 0; j < obtained; j++) {
-					result[i + j] = new MemoryByte(raw[j]);
-				}
-				i = i + obtained;
+		BigInteger[] position = offset.divideAndRemainder(Page.BIG_SIZE);
+		BigInteger key = position[0];
+		int index = position[1].intValue();
+		for (int i = 0; i < length; i++, index++) {
+			if (index == Page.SIZE) {
+				key = key.add(BigInteger.ONE);
+				index = 0;
+			}
+			Page page = storage.get(key);
+			if (page != null && page.written.get(index)) {
+				result[i] = new MemoryByte(page.values[index]);
 			} else {
-				//unreachable with current test data
 				MemoryByte unavailable = new MemoryByte();
 				unavailable.setReadable(false);
-				for (int j = i; j < length; j++) {
-					result[i + j] = unavailable;
-				}
-				i = length;
+				result[i] = unavailable;
 			}
 		}
 		return result;
 	}
 
 	@Override
-	public void to(BigInteger offset, byte[] data) throws DebugException {
-		storage.put(base.add(offset), data);
+	public synchronized void to(BigInteger offset, byte[] data) throws DebugException {
+		BigInteger[] position = base.add(offset).divideAndRemainder(Page.BIG_SIZE);
+		BigInteger key = position[0];
+		int index = position[1].intValue();
+		int i = 0;
+		while (i < data.length) {
+			Page page = storage.computeIfAbsent(key, k -> new Page());
+			int count = Math.min(data.length - i, Page.SIZE - index);
+			System.arraycopy(data, i, page.values, index, count);
+			page.written.set(index, index + count);
+			i += count;
+			key = key.add(BigInteger.ONE);
+			index = 0;
+		}
 	}
 
 	@Override
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.core.memory.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.cdt.debug.internal.core.memory.search.BytePatternMatcher;
+import org.eclipse.cdt.debug.internal.core.memory.search.MemorySearch;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+public final class MemorySearchTest {
+
+	private static final BigInteger BASE = BigInteger.valueOf(0x20000000L);
+	private static final byte[] NEEDLE = "needle".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+
+	/**
+	 * Synthetic memory of pseudo-random bytes, with the needle written every
+	 * <code>stride</code> bytes and a hole of unreadable bytes.
+	 */
+	private static final class SyntheticMemory implements IReadMemory {
+		private final int stride;
+		private final long holeStart;
+		private final long holeEnd;
+		private final boolean bigEndian;
+		private int reads;
+
+		SyntheticMemory(int stride, long holeStart, long holeEnd, boolean bigEndian) {
+			this.stride = stride;
+			this.holeStart = holeStart;
+			this.holeEnd = holeEnd;
+			this.bigEndian = bigEndian;
+		}
+
+		@Override
+		public MemoryByte[] from(BigInteger address, long units) throws DebugException {
+			reads++;
+			long offset = address.subtract(BASE).longValue();
+			MemoryByte[] result = new MemoryByte[(int) units];
+			for (int i = 0; i < units; i++) {
+				long a = offset + i;
+				int inStride = (int) (a % stride);
+				byte value = inStride < NEEDLE.length ? NEEDLE[inStride] : (byte) ((a * 0x9E3779B1L) >>> 24);
+				MemoryByte b = new MemoryByte(value);
+				b.setEndianessKnown(true);
+				b.setBigEndian(bigEndian);
+				b.setReadable(a < holeStart || a >= holeEnd);
+				result[i] = b;
+			}
+			return result;
+		}
+	}
+
+	private static final class Pattern implements MemorySearch.IPattern {
+		private final byte[] bytes;
+		private final boolean caseInsensitive;
+
+		Pattern(byte[] bytes, boolean caseInsensitive) {
+			this.bytes = bytes;
+			this.caseInsensitive = caseInsensitive;
+		}
+
+		@Override
+		public byte[] getBytes(boolean littleEndian) {
+			if (!littleEndian) {
+				return bytes;
+			}
+			byte[] swapped = new byte[bytes.length];
+			for (int i = 0; i < bytes.length; i++) {
+				swapped[i] = bytes[bytes.length - i - 1];
+			}
+			return swapped;
+		}
+
+		@Override
+		public boolean isCaseInsensitive() {
+			return caseInsensitive;
+		}
+	}
+
+	private static final class Collect implements MemorySearch.IListener {
+		private final List<Long> matches = new ArrayList<>();
+		private final int limit;
+
+		Collect(int limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public boolean matchFound(BigInteger address, boolean littleEndian) {
+			matches.add(address.subtract(BASE).longValue());
+			return matches.size() < limit;
+		}
+
+		@Override
+		public void blockSearched() {
+		}
+	}
+
+	private static List<Long> search(IReadMemory memory, long length, boolean forward, int blockSize,
+			MemorySearch.IPattern pattern, int limit) throws DebugException {
+		MemorySearch search = new MemorySearch(memory, BASE, BASE.add(BigInteger.valueOf(length - 1)), forward,
+				blockSize);
+		Collect collect = new Collect(limit);
+		search.search(pattern, collect, new NullProgressMonitor());
+		return collect.matches;
+	}
+
+	/**
+	 * Finds the needle the way the memory search dialog used to: reading the
+	 * memory at each address of the range.
+	 */
+	private static List<Long> searchEachAddress(IReadMemory memory, long length) throws DebugException {
+		List<Long> matches = new ArrayList<>();
+		for (long a = 0; a <= length - NEEDLE.length; a++) {
+			MemoryByte[] bytes = memory.from(BASE.add(BigInteger.valueOf(a)), NEEDLE.length);
+			boolean match = true;
+			for (int i = 0; i < NEEDLE.length && match; i++) {
+				match = bytes[i].isReadable() && bytes[i].getValue() == NEEDLE[i];
+			}
+			if (match) {
+				matches.add(a);
+			}
+		}
+		return matches;
+	}
+
+	private static List<Long> expected(long length, int stride, long holeStart, long holeEnd) {
+		List<Long> result = new ArrayList<>();
+		for (long a = 0; a + NEEDLE.length <= length; a += stride) {
+			if (a + NEEDLE.length <= holeStart || a >= holeEnd) {
+				result.add(a);
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void matcher() {
+		byte[] data = "abcabcABCab".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		BytePatternMatcher matcher = new BytePatternMatcher("abc".getBytes(StandardCharsets.US_ASCII), false); //$NON-NLS-1$
+		assertEquals(0, matcher.indexOf(data, 0, data.length));
+		assertEquals(3, matcher.indexOf(data, 1, data.length));
+		assertEquals(-1, matcher.indexOf(data, 4, data.length));
+		assertEquals(3, matcher.lastIndexOf(data, 0, data.length));
+		assertEquals(0, matcher.lastIndexOf(data, 0, 5));
+		BytePatternMatcher folding = new BytePatternMatcher("aBc".getBytes(StandardCharsets.US_ASCII), true); //$NON-NLS-1$
+		assertEquals(6, folding.indexOf(data, 4, data.length));
+		assertEquals(6, folding.lastIndexOf(data, 0, data.length));
+	}
+
+	@Test
+	public void forwardAcrossBlocks() throws DebugException {
+		// A small block size puts some of the needles across two blocks
+		SyntheticMemory memory = new SyntheticMemory(997, -1, -1, true);
+		List<Long> matches = search(memory, 100000, true, 4096, new Pattern(NEEDLE, false), Integer.MAX_VALUE);
+		assertEquals(expected(100000, 997, -1, -1), matches);
+		assertEquals(searchEachAddress(memory, 100000), matches);
+	}
+
+	@Test
+	public void backwardAcrossBlocks() throws DebugException {
+		SyntheticMemory memory = new SyntheticMemory(997, -1, -1, true);
+		List<Long> matches = search(memory, 100000, false, 4096, new Pattern(NEEDLE, false), Integer.MAX_VALUE);
+		Collections.reverse(matches);
+		assertEquals(expected(100000, 997, -1, -1), matches);
+	}
+
+	@Test
+	public void lastAddressIsSearched() throws DebugException {
+		SyntheticMemory memory = new SyntheticMemory(1000, -1, -1, true);
+		assertEquals(Arrays.asList(0L, 1000L), search(memory, 1006, true, 64, new Pattern(NEEDLE, false), 10));
+		assertEquals(Arrays.asList(1000L, 0L), search(memory, 1006, false, 64, new Pattern(NEEDLE, false), 10));
+		assertEquals(Arrays.asList(0L), search(memory, 1005, true, 64, new Pattern(NEEDLE, false), 10));
+	}
+
+	@Test
+	public void unreadableBytesDoNotMatch() throws DebugException {
+		SyntheticMemory memory = new SyntheticMemory(1000, 2003, 4001, true);
+		assertEquals(expected(10000, 1000, 2003, 4001),
+				search(memory, 10000, true, 4096, new Pattern(NEEDLE, false), Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void stopAtFirstMatch() throws DebugException {
+		SyntheticMemory memory = new SyntheticMemory(1000, -1, -1, true);
+		assertEquals(Arrays.asList(0L), search(memory, 100000, true, 4096, new Pattern(NEEDLE, false), 1));
+		assertEquals(Arrays.asList(99000L), search(memory, 99999, false, 4096, new Pattern(NEEDLE, false), 1));
+	}
+
+	@Test
+	public void endianessAndCase() throws DebugException {
+		SyntheticMemory memory = new SyntheticMemory(1000, -1, -1, false);
+		byte[] swapped = new Pattern(NEEDLE, false).getBytes(true);
+		assertEquals(expected(5000, 1000, -1, -1),
+				search(memory, 5000, true, 4096, new Pattern(swapped, false), Integer.MAX_VALUE));
+		byte[] upper = "NEEDLE".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		memory = new SyntheticMemory(1000, -1, -1, true);
+		assertEquals(0, search(memory, 5000, true, 4096, new Pattern(upper, false), Integer.MAX_VALUE).size());
+		assertEquals(expected(5000, 1000, -1, -1),
+				search(memory, 5000, true, 4096, new Pattern(upper, true), Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Compares the number of reads of the search of a region by blocks with the
+	 * search at each address of the region.
+	 */
+	@Test
+	public void readsByBlocks() throws DebugException {
+		long length = 4 * MemorySearch.DEFAULT_BLOCK_SIZE + 100;
+		int stride = 1000;
+
+		SyntheticMemory memory = new SyntheticMemory(stride, -1, -1, true);
+		List<Long> each = searchEachAddress(memory, length);
+		assertEquals(length - NEEDLE.length + 1, memory.reads);
+
+		memory = new SyntheticMemory(stride, -1, -1, true);
+		List<Long> blocks = search(memory, length, true, MemorySearch.DEFAULT_BLOCK_SIZE, new Pattern(NEEDLE, false),
+				Integer.MAX_VALUE);
+
+		assertEquals(expected(length, stride, -1, -1), blocks);
+		assertEquals(each, blocks);
+		// One read per block, including the last partial one
+		assertEquals(5, memory.reads);
+		assertEquals(new MemorySearch(memory, BASE, BASE.add(BigInteger.valueOf(length - 1)), true)
+				.getBlockCount(NEEDLE.length), memory.reads);
+	}
+}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.core.memory.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.debug.core.memory.transport.ExportRequest;
+import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.cdt.debug.core.memory.transport.ImportRequest;
+import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
+import org.eclipse.cdt.debug.internal.core.memory.transport.ElfSegmentImport;
+import org.eclipse.cdt.debug.internal.core.memory.transport.IntelHexImport;
+import org.eclipse.cdt.debug.internal.core.memory.transport.PipelinedReadMemory;
+import org.eclipse.cdt.debug.internal.core.memory.transport.PipelinedWriteMemory;
+import org.eclipse.cdt.debug.internal.core.memory.transport.RAWBinaryExport;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class PipelinedTransportTest {
+
+	/**
+	 * Simulates the latency of a target connection, each request waits for its
+	 * answer
+	 */
+	private static final class LatentMemory implements WriteMemory, IReadMemory {
+
+		private final EmulateMemory memory;
+		private final long latency;
+		private final AtomicInteger outstanding = new AtomicInteger();
+		private final AtomicInteger maxOutstanding = new AtomicInteger();
+		private final AtomicInteger requests = new AtomicInteger();
+
+		LatentMemory(EmulateMemory memory, long latency) {
+			this.memory = memory;
+			this.latency = latency;
+		}
+
+		@Override
+		public MemoryByte[] from(BigInteger address, long units) throws DebugException {
+			request();
+			try {
+				return memory.from(address, units);
+			} finally {
+				outstanding.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void to(BigInteger offset, byte[] data) throws DebugException {
+			request();
+			try {
+				memory.to(offset, data);
+			} finally {
+				outstanding.decrementAndGet();
+			}
+		}
+
+		@Override
+		public void flush() throws DebugException {
+			memory.flush();
+		}
+
+		private void request() {
+			requests.incrementAndGet();
+			maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static byte[] random(int length) {
+		byte[] data = new byte[length];
+		new Random(length).nextBytes(data);
+		return data;
+	}
+
+	private static byte[] values(MemoryByte[] bytes) {
+		byte[] values = new byte[bytes.length];
+		for (int i = 0; i < bytes.length; i++) {
+			Assert.assertTrue(bytes[i].isReadable());
+			values[i] = bytes[i].getValue();
+		}
+		return values;
+	}
+
+	@Test
+	public void writeWithOutstandingRequests() throws DebugException {
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		LatentMemory target = new LatentMemory(memory, 5);
+		byte[] data = random(1024 * 1024);
+		WriteMemory write = new PipelinedWriteMemory(target);
+		for (int i = 0; i < data.length; i += 256) {
+			write.to(BigInteger.valueOf(i), Arrays.copyOfRange(data, i, i + 256));
+		}
+		write.flush();
+		Assert.assertArrayEquals(data, values(memory.from(BigInteger.ZERO, data.length)));
+		Assert.assertTrue(target.maxOutstanding.get() > 1);
+	}
+
+	@Test
+	public void lastWriteWins() throws DebugException {
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		WriteMemory write = new PipelinedWriteMemory(new LatentMemory(memory, 1));
+		byte[] expected = new byte[1000];
+		Arrays.fill(expected, (byte) 1);
+		write.to(BigInteger.ZERO, Arrays.copyOf(expected, 1000));
+		byte[] overwrite = new byte[100];
+		Arrays.fill(overwrite, (byte) 2);
+		write.to(BigInteger.valueOf(500), overwrite);
+		System.arraycopy(overwrite, 0, expected, 500, 100);
+		write.flush();
+		Assert.assertArrayEquals(expected, values(memory.from(BigInteger.ZERO, expected.length)));
+	}
+
+	@Test
+	public void readAhead() throws DebugException {
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		byte[] data = random(300 * 1024);
+		memory.to(BigInteger.ZERO, data);
+		LatentMemory source = new LatentMemory(memory, 2);
+		IReadMemory read = new PipelinedReadMemory(source, BigInteger.ONE, BigInteger.valueOf(data.length));
+		for (int i = 0; i < data.length; i += 1000) {
+			int length = Math.min(1000, data.length - i);
+			Assert.assertArrayEquals(Arrays.copyOfRange(data, i, i + length),
+					values(read.from(BigInteger.valueOf(i), length)));
+		}
+		Assert.assertTrue(source.requests.get() < data.length / 1000);
+		// starts over from an address out of the blocks read ahead
+		Assert.assertArrayEquals(Arrays.copyOfRange(data, 10, 2010), values(read.from(BigInteger.TEN, 2000)));
+	}
+
+	@Test
+	public void exportReadAhead() throws CoreException, IOException {
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		byte[] data = random(200 * 1024);
+		memory.to(BigInteger.ZERO, data);
+		IReadMemory read = new PipelinedReadMemory(new LatentMemory(memory, 1), BigInteger.ONE,
+				BigInteger.valueOf(data.length), 1);
+		File output = new OutputFile("pipelined.bin").get(); //$NON-NLS-1$
+		new RAWBinaryExport(output,
+				new ExportRequest(BigInteger.ZERO, BigInteger.valueOf(data.length), BigInteger.ONE, read))
+						.run(new NullProgressMonitor());
+		Assert.assertArrayEquals(data, Files.readAllBytes(output.toPath()));
+	}
+
+	@Test
+	public void importIntelHex() throws CoreException, IOException {
+		byte[] data = random(600);
+		StringBuilder hex = new StringBuilder();
+		// the data crosses a 64K boundary, with an extended linear address record
+		hex.append(record(0x04, 0, new byte[] { 0x00, 0x01 }));
+		hex.append(record(0x00, 0xFF00, Arrays.copyOfRange(data, 0, 128)));
+		hex.append(record(0x00, 0xFF80, Arrays.copyOfRange(data, 128, 256)));
+		hex.append(record(0x04, 0, new byte[] { 0x00, 0x02 }));
+		for (int i = 256; i < data.length; i += 32) {
+			hex.append(record(0x00, i - 256, Arrays.copyOfRange(data, i, Math.min(i + 32, data.length))));
+		}
+		hex.append(record(0x05, 0, new byte[] { 0x00, 0x01, (byte) 0xFF, 0x00 }));
+		hex.append(record(0x01, 0, new byte[0]));
+		File input = new OutputFile("memory.hex").get(); //$NON-NLS-1$
+		input.getParentFile().mkdirs();
+		Files.write(input.toPath(), hex.toString().getBytes(StandardCharsets.US_ASCII));
+
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		CollectScrolls scroll = new CollectScrolls();
+		BigInteger start = BigInteger.valueOf(0x1FF00);
+		new IntelHexImport(input, new ImportRequest(BigInteger.ZERO, BigInteger.ZERO, memory), scroll, false)
+				.run(new NullProgressMonitor());
+		Assert.assertArrayEquals(data, values(memory.from(start, data.length)));
+		Assert.assertEquals(Arrays.asList(start), scroll.collected());
+
+		memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		new IntelHexImport(input, new ImportRequest(BigInteger.ZERO, BigInteger.TEN, memory), scroll, true)
+				.run(new NullProgressMonitor());
+		Assert.assertArrayEquals(data, values(memory.from(BigInteger.TEN, data.length)));
+	}
+
+	@Test(expected = CoreException.class)
+	public void importIntelHexChecksumFailure() throws CoreException, IOException {
+		String line = record(0x00, 0, new byte[] { 1, 2, 3 });
+		line = line.substring(0, line.length() - 3) + "00\n"; //$NON-NLS-1$
+		File input = new OutputFile("checksum.hex").get(); //$NON-NLS-1$
+		input.getParentFile().mkdirs();
+		Files.write(input.toPath(), line.getBytes(StandardCharsets.US_ASCII));
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		new IntelHexImport(input, new ImportRequest(BigInteger.ZERO, BigInteger.ZERO, memory), new CollectScrolls(),
+				false).run(new NullProgressMonitor());
+	}
+
+	private static String record(int type, int address, byte[] data) {
+		StringBuilder line = new StringBuilder(":"); //$NON-NLS-1$
+		byte[] record = new byte[data.length + 4];
+		record[0] = (byte) data.length;
+		record[1] = (byte) (address >> 8);
+		record[2] = (byte) address;
+		record[3] = (byte) type;
+		System.arraycopy(data, 0, record, 4, data.length);
+		byte checksum = 0;
+		for (byte b : record) {
+			line.append(String.format("%02X", b & 0xFF)); //$NON-NLS-1$
+			checksum += b;
+		}
+		line.append(String.format("%02X\n", -checksum & 0xFF)); //$NON-NLS-1$
+		return line.toString();
+	}
+
+	@Test
+	public void importElfSegments() throws CoreException, IOException {
+		byte[] text = random(3000);
+		byte[] data = random(700);
+		// ELF32 little endian: header, three program headers, then the segments
+		ByteBuffer elf = ByteBuffer.allocate(52 + 3 * 32 + text.length + data.length).order(ByteOrder.LITTLE_ENDIAN);
+		elf.put(new byte[] { 0x7F, 'E', 'L', 'F', 1, 1, 1 });
+		elf.putInt(28, 52); // e_phoff
+		elf.putShort(42, (short) 32); // e_phentsize
+		elf.putShort(44, (short) 3); // e_phnum
+		programHeader(elf, 52, 1, 52 + 3 * 32, 0x2000, text.length);
+		programHeader(elf, 84, 4, 0, 0x9000, 16); // PT_NOTE
+		programHeader(elf, 116, 1, 52 + 3 * 32 + text.length, 0x3000, data.length);
+		elf.position(52 + 3 * 32);
+		elf.put(text).put(data);
+		File input = new OutputFile("memory.elf").get(); //$NON-NLS-1$
+		input.getParentFile().mkdirs();
+		Files.write(input.toPath(), elf.array());
+
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		CollectScrolls scroll = new CollectScrolls();
+		new ElfSegmentImport(input, new ImportRequest(BigInteger.ZERO, BigInteger.ZERO, memory), scroll, false)
+				.run(new NullProgressMonitor());
+		Assert.assertArrayEquals(text, values(memory.from(BigInteger.valueOf(0x2000), text.length)));
+		Assert.assertArrayEquals(data, values(memory.from(BigInteger.valueOf(0x3000), data.length)));
+		Assert.assertFalse(memory.from(BigInteger.valueOf(0x9000), 1)[0].isReadable());
+		Assert.assertEquals(Arrays.asList(BigInteger.valueOf(0x2000)), scroll.collected());
+	}
+
+	private static void programHeader(ByteBuffer elf, int at, int type, int offset, int address, int size) {
+		elf.putInt(at, type);
+		elf.putInt(at + 4, offset);
+		elf.putInt(at + 8, address);
+		elf.putInt(at + 12, address);
+		elf.putInt(at + 16, size);
+		elf.putInt(at + 20, size);
+	}
+
+	/**
+	 * Writes 2 MB in requests of 4 KB, against a memory answering in 2 ms. The
+	 * requests are gathered in chunks of at least 64 KB, written with several
+	 * of them outstanding.
+	 */
+	@Test
+	public void gatherSmallWrites() throws DebugException {
+		byte[] data = random(2 * 1024 * 1024);
+		EmulateMemory memory = new EmulateMemory(BigInteger.ONE, BigInteger.ZERO);
+		LatentMemory target = new LatentMemory(memory, 2);
+		WriteMemory pipelined = new PipelinedWriteMemory(target);
+		for (int i = 0; i < data.length; i += 4096) {
+			pipelined.to(BigInteger.valueOf(i), Arrays.copyOfRange(data, i, i + 4096));
+		}
+		pipelined.flush();
+		Assert.assertArrayEquals(data, values(memory.from(BigInteger.ZERO, data.length)));
+		Assert.assertTrue(target.requests.get() <= data.length / (64 * 1024));
+		Assert.assertTrue(target.maxOutstanding.get() > 1);
+		Assert.assertTrue(target.maxOutstanding.get() <= PipelinedWriteMemory.DEFAULT_DEPTH);
+	}
+
+}
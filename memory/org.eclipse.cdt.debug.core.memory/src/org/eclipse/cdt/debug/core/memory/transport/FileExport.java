@@ -21,6 +21,7 @@ import java.io.OutputStream;
 import java.math.BigInteger;
 
 import org.eclipse.cdt.debug.internal.core.memory.transport.Messages;
+import org.eclipse.cdt.debug.internal.core.memory.transport.TransferRate;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -43,6 +44,7 @@ public abstract class FileExport implements ICoreRunnable {
 	protected final IReadMemory read;
 
 	private final File file;
+	private TransferRate rate = new TransferRate();
 
 	protected FileExport(File input, ExportRequest request) {
 		this.file = input;
@@ -62,6 +64,7 @@ public abstract class FileExport implements ICoreRunnable {
 				jobs = jobs.divide(factor);
 			}
 			monitor.beginTask(Messages.FileExport_task_transferring, jobs.intValue());
+			rate = new TransferRate();
 			transfer(output, factor, monitor);
 			output.flush();
 		} catch (IOException ex) {
@@ -98,7 +101,9 @@ public abstract class FileExport implements ICoreRunnable {
 			throws IOException, DebugException;
 
 	protected String transferring(BigInteger length, BigInteger address) {
-		return String.format(Messages.FileExport_sub_transferring, length.toString(10), address.toString(16));
+		rate.add(length.longValue());
+		return String.format(Messages.FileExport_sub_transferring, length.toString(10), address.toString(16),
+				rate.toString());
 	}
 
 	protected void requestFailed(String message, Throwable exception) throws DebugException {
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.math.BigInteger;
 
 import org.eclipse.cdt.debug.internal.core.memory.transport.Messages;
+import org.eclipse.cdt.debug.internal.core.memory.transport.TransferRate;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -41,6 +42,7 @@ public abstract class FileImport<I extends AutoCloseable> implements ICoreRunnab
 	protected final IScrollMemory scroll;
 
 	private final File file;
+	private TransferRate rate = new TransferRate();
 
 	protected FileImport(File input, ImportRequest request, IScrollMemory scroll) {
 		this.file = input;
@@ -60,6 +62,7 @@ public abstract class FileImport<I extends AutoCloseable> implements ICoreRunnab
 				jobs = jobs.divide(factor);
 			}
 			monitor.beginTask(Messages.FileImport_task_transferring, jobs.intValue());
+			rate = new TransferRate();
 			transfer(reader, factor, monitor);
 			if (!monitor.isCanceled()) {
 				write.flush();
@@ -87,6 +90,21 @@ public abstract class FileImport<I extends AutoCloseable> implements ICoreRunnab
 	protected abstract void transfer(I input, BigInteger factor, IProgressMonitor monitor)
 			throws IOException, DebugException;
 
+	/**
+	 * Counts the bytes written to the memory, and reports the throughput of the
+	 * transfer from time to time
+	 *
+	 * @param bytes the number of bytes written
+	 * @param monitor the monitor to report to
+	 *
+	 * @since 0.3
+	 */
+	protected void transferred(long bytes, IProgressMonitor monitor) {
+		if (rate.add(bytes)) {
+			monitor.subTask(rate.toString());
+		}
+	}
+
 	protected void requestFailed(String message, Throwable exception) throws DebugException {
 		failed(DebugException.REQUEST_FAILED, message, exception);
 	}
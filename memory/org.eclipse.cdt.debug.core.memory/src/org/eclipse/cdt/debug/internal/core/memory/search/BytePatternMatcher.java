@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.search;
+
+/**
+ * Finds a byte pattern in an array with the Boyer-Moore-Horspool algorithm,
+ * searching forward or backward. The case of ASCII letters can be ignored.
+ */
+public final class BytePatternMatcher {
+
+	private final byte[] pattern;
+	private final boolean caseInsensitive;
+	// How far the window moves forward, by the last byte of the window
+	private final int[] forwardShift = new int[256];
+	// How far the window moves backward, by the first byte of the window
+	private final int[] backwardShift = new int[256];
+
+	public BytePatternMatcher(byte[] pattern, boolean caseInsensitive) {
+		if (pattern.length == 0) {
+			throw new IllegalArgumentException("Empty pattern"); //$NON-NLS-1$
+		}
+		this.caseInsensitive = caseInsensitive;
+		this.pattern = new byte[pattern.length];
+		for (int i = 0; i < pattern.length; i++) {
+			this.pattern[i] = fold(pattern[i]);
+		}
+		int m = pattern.length;
+		for (int b = 0; b < 256; b++) {
+			forwardShift[b] = m;
+			backwardShift[b] = m;
+		}
+		for (int i = 0; i < m - 1; i++) {
+			forwardShift[this.pattern[i] & 0xff] = m - 1 - i;
+		}
+		for (int i = m - 1; i > 0; i--) {
+			backwardShift[this.pattern[i] & 0xff] = i;
+		}
+	}
+
+	public int length() {
+		return pattern.length;
+	}
+
+	private byte fold(byte b) {
+		if (caseInsensitive && b >= 'a' && b <= 'z') {
+			return (byte) (b - ('a' - 'A'));
+		}
+		return b;
+	}
+
+	/**
+	 * Returns the first position in <code>[from, to - length()]</code> where the
+	 * pattern is found in <code>data</code>, or -1.
+	 */
+	public int indexOf(byte[] data, int from, int to) {
+		int m = pattern.length;
+		int i = from;
+		while (i <= to - m) {
+			int j = m - 1;
+			while (j >= 0 && fold(data[i + j]) == pattern[j]) {
+				j--;
+			}
+			if (j < 0) {
+				return i;
+			}
+			i += forwardShift[fold(data[i + m - 1]) & 0xff];
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the last position in <code>[from, to - length()]</code> where the
+	 * pattern is found in <code>data</code>, or -1.
+	 */
+	public int lastIndexOf(byte[] data, int from, int to) {
+		int m = pattern.length;
+		int i = to - m;
+		while (i >= from) {
+			int j = 0;
+			while (j < m && fold(data[i + j]) == pattern[j]) {
+				j++;
+			}
+			if (j == m) {
+				return i;
+			}
+			i -= backwardShift[fold(data[i]) & 0xff];
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.search;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Searches a range of memory for a pattern. The memory is read in large
+ * blocks, overlapping by the length of the pattern minus one so that matches
+ * across two blocks are found, and each block is searched with a
+ * {@link BytePatternMatcher}. The positions are kept as offsets from the start
+ * of the range, addresses are only computed for the matches.
+ * <p>
+ * Bytes that cannot be read never match. The memory is assumed to have an
+ * addressable size of one byte.
+ */
+public final class MemorySearch {
+
+	public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+	/**
+	 * What to search for.
+	 */
+	public interface IPattern {
+		/**
+		 * Returns the bytes to find, in memory of the given endianness.
+		 */
+		byte[] getBytes(boolean littleEndian);
+
+		/**
+		 * Returns whether ASCII letters match regardless of their case.
+		 */
+		boolean isCaseInsensitive();
+	}
+
+	/**
+	 * Receives the results of a search.
+	 */
+	public interface IListener {
+		/**
+		 * A match was found, in the order of the search.
+		 *
+		 * @param address the address of the first byte of the match
+		 * @param littleEndian whether the memory of the match is little-endian
+		 * @return whether to continue the search
+		 */
+		boolean matchFound(BigInteger address, boolean littleEndian);
+
+		/**
+		 * All the matches of a block were reported. This is the time to show
+		 * the matches found so far.
+		 */
+		void blockSearched();
+	}
+
+	private final IReadMemory memory;
+	private final BigInteger start;
+	private final long length;
+	private final boolean forward;
+	private final int blockSize;
+
+	/**
+	 * @param memory the memory to search
+	 * @param start the first address of the range
+	 * @param end the last address of the range, inclusive
+	 * @param forward whether to report the matches from the lowest address
+	 */
+	public MemorySearch(IReadMemory memory, BigInteger start, BigInteger end, boolean forward) {
+		this(memory, start, end, forward, DEFAULT_BLOCK_SIZE);
+	}
+
+	public MemorySearch(IReadMemory memory, BigInteger start, BigInteger end, boolean forward, int blockSize) {
+		this.memory = memory;
+		this.start = start;
+		BigInteger range = end.subtract(start).add(BigInteger.ONE);
+		this.length = range.signum() <= 0 ? 0 : range.bitLength() < Long.SIZE ? range.longValue() : Long.MAX_VALUE;
+		this.forward = forward;
+		this.blockSize = blockSize;
+	}
+
+	/**
+	 * Returns the number of blocks to read, which is the amount of work
+	 * reported by {@link #search}.
+	 */
+	public int getBlockCount(int patternLength) {
+		long step = getBlockSize(patternLength) - (patternLength - 1);
+		long blocks = Math.max(1, (length - (patternLength - 1) + step - 1) / step);
+		return (int) Math.min(blocks, Integer.MAX_VALUE);
+	}
+
+	private int getBlockSize(int patternLength) {
+		return Math.max(blockSize, 2 * patternLength);
+	}
+
+	/**
+	 * Searches the range until the end, the listener asks to stop, or the
+	 * monitor is canceled. One unit of work is reported to the monitor for each
+	 * block.
+	 */
+	public void search(IPattern pattern, IListener listener, IProgressMonitor monitor) throws DebugException {
+		BytePatternMatcher bigEndianMatcher = new BytePatternMatcher(pattern.getBytes(false),
+				pattern.isCaseInsensitive());
+		BytePatternMatcher littleEndianMatcher = new BytePatternMatcher(pattern.getBytes(true),
+				pattern.isCaseInsensitive());
+		int m = bigEndianMatcher.length();
+		int size = getBlockSize(m);
+		if (length < m) {
+			return;
+		}
+
+		// The block being searched, as offsets from the start of the range
+		long blockStart = forward ? 0 : Math.max(0, length - size);
+		long blockEnd = forward ? Math.min(length, size) : length;
+		while (!monitor.isCanceled()) {
+			int n = (int) (blockEnd - blockStart);
+			MemoryByte[] bytes = memory.from(start.add(BigInteger.valueOf(blockStart)), n);
+			n = Math.min(n, bytes.length);
+			byte[] data = new byte[n];
+			BitSet unreadable = new BitSet();
+			boolean littleEndian = false;
+			boolean endiannessKnown = false;
+			for (int i = 0; i < n; i++) {
+				MemoryByte b = bytes[i];
+				if (!b.isReadable()) {
+					unreadable.set(i);
+					continue;
+				}
+				data[i] = b.getValue();
+				if (!endiannessKnown && b.isEndianessKnown()) {
+					endiannessKnown = true;
+					littleEndian = !b.isBigEndian();
+				}
+			}
+
+			BytePatternMatcher matcher = littleEndian ? littleEndianMatcher : bigEndianMatcher;
+			if (!searchBlock(matcher, data, unreadable, blockStart, littleEndian, listener)) {
+				listener.blockSearched();
+				return;
+			}
+			listener.blockSearched();
+			monitor.worked(1);
+
+			// The next block starts with the last bytes of this one, which can begin a match
+			if (forward) {
+				if (blockEnd >= length) {
+					return;
+				}
+				blockStart = blockEnd - (m - 1);
+				blockEnd = Math.min(length, blockStart + size);
+			} else {
+				if (blockStart == 0) {
+					return;
+				}
+				blockEnd = blockStart + (m - 1);
+				blockStart = Math.max(0, blockEnd - size);
+			}
+		}
+	}
+
+	private boolean searchBlock(BytePatternMatcher matcher, byte[] data, BitSet unreadable, long blockStart,
+			boolean littleEndian, IListener listener) {
+		int m = matcher.length();
+		int n = data.length;
+		if (forward) {
+			int i = matcher.indexOf(data, 0, n);
+			while (i >= 0) {
+				if (isReadable(unreadable, i, m) && !report(listener, blockStart + i, littleEndian)) {
+					return false;
+				}
+				i = matcher.indexOf(data, i + 1, n);
+			}
+		} else {
+			int i = matcher.lastIndexOf(data, 0, n);
+			while (i >= 0) {
+				if (isReadable(unreadable, i, m) && !report(listener, blockStart + i, littleEndian)) {
+					return false;
+				}
+				i = i > 0 ? matcher.lastIndexOf(data, 0, i - 1 + m) : -1;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isReadable(BitSet unreadable, int from, int length) {
+		int next = unreadable.nextSetBit(from);
+		return next < 0 || next >= from + length;
+	}
+
+	private boolean report(IListener listener, long offset, boolean littleEndian) {
+		return listener.matchFound(start.add(BigInteger.valueOf(offset)), littleEndian);
+	}
+}
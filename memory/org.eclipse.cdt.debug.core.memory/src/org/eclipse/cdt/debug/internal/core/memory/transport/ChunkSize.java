@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size of the target memory requests of a pipelined transfer, adapted to the
+ * measured latency of the requests: it doubles while the requests are served
+ * fast, so that the per-request overhead of the debugger is amortized, and it
+ * halves when a request takes long, so that the pipeline stays responsive to
+ * cancellation.
+ *
+ */
+final class ChunkSize {
+
+	static final int MIN = 4 * 1024;
+	static final int MAX = 1024 * 1024;
+	static final int INITIAL = 64 * 1024;
+	static final long TARGET_LATENCY = 50_000_000L;
+
+	private volatile int size = INITIAL;
+
+	int get() {
+		return size;
+	}
+
+	/**
+	 * Adapts the size to a request served in the given time
+	 *
+	 * @param bytes the size of the request
+	 * @param nanos the time it took
+	 */
+	synchronized void measured(int bytes, long nanos) {
+		if (bytes < size) {
+			// the last request of a range tells little
+			return;
+		}
+		if (nanos < TARGET_LATENCY / 2 && size < MAX) {
+			size *= 2;
+		} else if (nanos > TARGET_LATENCY * 2 && size > MIN) {
+			size /= 2;
+		}
+	}
+
+	/**
+	 * Creates the threads to wait for the requests, they end when idle
+	 *
+	 * @param depth the number of outstanding requests
+	 */
+	static ThreadPoolExecutor executor(int depth) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(depth, depth, 1, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Memory Transport"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.eclipse.cdt.debug.core.memory.transport.FileImport;
+import org.eclipse.cdt.debug.core.memory.transport.IScrollMemory;
+import org.eclipse.cdt.debug.core.memory.transport.ImportRequest;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Imports the loadable segments of an ELF file at their physical addresses.
+ * Only the part of a segment present in the file is written, the memory the
+ * program zeroes at startup is left as is.
+ *
+ */
+public final class ElfSegmentImport extends FileImport<RandomAccessFile> {
+
+	private static final int PT_LOAD = 1;
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	private final boolean transfer;
+
+	/**
+	 *
+	 * @param input the file to import
+	 * @param request the import request
+	 * @param scroll the callback to scroll to the imported data
+	 * @param transfer whether to move the segments to the start address of the
+	 *                 request, rather than to use their physical addresses
+	 */
+	public ElfSegmentImport(File input, ImportRequest request, IScrollMemory scroll, boolean transfer) {
+		super(input, request, scroll);
+		this.transfer = transfer;
+	}
+
+	@Override
+	protected RandomAccessFile input(File file) throws FileNotFoundException {
+		return new RandomAccessFile(file, "r"); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void transfer(RandomAccessFile input, BigInteger factor, IProgressMonitor monitor)
+			throws IOException, DebugException {
+		FileChannel channel = input.getChannel();
+		ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), 64));
+		if (header.limit() < 52 || header.getInt(0) != 0x7F454C46) { // \177ELF
+			throw invalidFormat();
+		}
+		boolean elf64 = header.get(4) == 2;
+		header.order(header.get(5) == 2 ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+		if (elf64 && header.limit() < 64) {
+			throw invalidFormat();
+		}
+		long phoff = elf64 ? header.getLong(32) : Integer.toUnsignedLong(header.getInt(28));
+		int phentsize = Short.toUnsignedInt(header.getShort(elf64 ? 54 : 42));
+		int phnum = Short.toUnsignedInt(header.getShort(elf64 ? 56 : 44));
+		if (phoff < 0 || phentsize < (elf64 ? 56 : 32) || phoff + (long) phentsize * phnum > channel.size()) {
+			throw invalidFormat();
+		}
+		ByteBuffer headers = channel.map(FileChannel.MapMode.READ_ONLY, phoff, (long) phentsize * phnum)
+				.order(header.order());
+
+		BigInteger scrollToAddress = null;
+		BigInteger offset = transfer ? null : BigInteger.ZERO;
+		for (int i = 0; i < phnum && !monitor.isCanceled(); i++) {
+			int entry = i * phentsize;
+			if (headers.getInt(entry) != PT_LOAD) {
+				continue;
+			}
+			long fileOffset = elf64 ? headers.getLong(entry + 8) : Integer.toUnsignedLong(headers.getInt(entry + 4));
+			long fileSize = elf64 ? headers.getLong(entry + 32) : Integer.toUnsignedLong(headers.getInt(entry + 16));
+			BigInteger address = elf64 ? new BigInteger(Long.toUnsignedString(headers.getLong(entry + 24)))
+					: BigInteger.valueOf(Integer.toUnsignedLong(headers.getInt(entry + 12)));
+			if (fileSize == 0) {
+				continue;
+			}
+			if (fileOffset < 0 || fileSize < 0 || fileOffset + fileSize > channel.size()
+					|| fileSize > Integer.MAX_VALUE) {
+				throw invalidFormat();
+			}
+			if (offset == null) {
+				offset = start.subtract(address);
+			}
+			address = address.add(offset);
+			if (scrollToAddress == null) {
+				scrollToAddress = address;
+			}
+			MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, fileOffset, fileSize);
+			while (segment.hasRemaining() && !monitor.isCanceled()) {
+				byte data[] = new byte[Math.min(CHUNK_SIZE, segment.remaining())];
+				segment.get(data);
+				write.to(address.subtract(base), data);
+				BigInteger jobCount = BigInteger.valueOf(data.length).divide(factor);
+				monitor.worked(jobCount.intValue());
+				transferred(data.length, monitor);
+				address = address.add(BigInteger.valueOf(data.length));
+			}
+		}
+		scroll.accept(scrollToAddress != null ? scrollToAddress : start);
+	}
+
+	private DebugException invalidFormat() {
+		return new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.REQUEST_FAILED,
+				Messages.ElfSegmentImport_e_invalid_format, null));
+	}
+
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+
+import org.eclipse.cdt.debug.core.memory.transport.FileImport;
+import org.eclipse.cdt.debug.core.memory.transport.IScrollMemory;
+import org.eclipse.cdt.debug.core.memory.transport.ImportRequest;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Imports the data records of an Intel HEX file, with the extended segment and
+ * extended linear address records applied to their addresses.
+ *
+ */
+public final class IntelHexImport extends FileImport<BufferedReader> {
+
+	private static final int DATA = 0x00;
+	private static final int END_OF_FILE = 0x01;
+	private static final int EXTENDED_SEGMENT_ADDRESS = 0x02;
+	private static final int EXTENDED_LINEAR_ADDRESS = 0x04;
+
+	private final boolean transfer;
+
+	/**
+	 *
+	 * @param input the file to import
+	 * @param request the import request
+	 * @param scroll the callback to scroll to the imported data
+	 * @param transfer whether to move the data of the file to the start address
+	 *                 of the request, rather than to use the addresses of the file
+	 */
+	public IntelHexImport(File input, ImportRequest request, IScrollMemory scroll, boolean transfer) {
+		super(input, request, scroll);
+		this.transfer = transfer;
+	}
+
+	@Override
+	protected BufferedReader input(File file) throws FileNotFoundException {
+		return new BufferedReader(new InputStreamReader(new FileInputStream(file)));
+	}
+
+	@Override
+	protected void transfer(BufferedReader reader, BigInteger factor, IProgressMonitor monitor)
+			throws IOException, DebugException {
+		BigInteger scrollToAddress = null;
+		BigInteger offset = transfer ? null : BigInteger.ZERO;
+		long upper = 0;
+		String line = reader.readLine();
+		int lineNo = 1; // line error reporting
+		while (line != null && !monitor.isCanceled()) {
+			line = line.trim();
+			if (line.isEmpty()) {
+				line = reader.readLine();
+				lineNo++;
+				continue;
+			}
+			byte[] record = record(line, lineNo);
+			int count = record[0] & 0xFF;
+			int type = record[3] & 0xFF;
+			if (type == END_OF_FILE) {
+				break;
+			}
+			if (type == DATA) {
+				BigInteger recordAddress = BigInteger
+						.valueOf(upper + ((record[1] & 0xFF) << 8 | record[2] & 0xFF));
+				if (offset == null) {
+					offset = start.subtract(recordAddress);
+				}
+				recordAddress = recordAddress.add(offset);
+				if (scrollToAddress == null) {
+					scrollToAddress = recordAddress;
+				}
+				byte data[] = new byte[count];
+				System.arraycopy(record, 4, data, 0, count);
+				write.to(recordAddress.subtract(base), data);
+				transferred(count, monitor);
+			} else if (type == EXTENDED_SEGMENT_ADDRESS) {
+				upper = ((record[4] & 0xFF) << 8 | record[5] & 0xFF) << 4;
+			} else if (type == EXTENDED_LINEAR_ADDRESS) {
+				upper = ((long) (record[4] & 0xFF) << 8 | record[5] & 0xFF) << 16;
+			} // start address records do not apply to memory
+			BigInteger jobCount = BigInteger.valueOf(line.length()).divide(factor);
+			monitor.worked(jobCount.intValue());
+			line = reader.readLine();
+			lineNo++;
+		}
+		scroll.accept(scrollToAddress != null ? scrollToAddress : start);
+	}
+
+	/**
+	 * Decodes a record and checks its length and checksum
+	 *
+	 * @return the bytes of the record, from the byte count to the checksum
+	 */
+	private byte[] record(String line, int lineNo) throws DebugException {
+		if (line.charAt(0) != ':' || line.length() % 2 == 0 || line.length() < 11) {
+			throw invalidRecord(lineNo);
+		}
+		byte[] record = new byte[(line.length() - 1) / 2];
+		byte checksum = 0;
+		for (int i = 0; i < record.length; i++) {
+			int high = Character.digit(line.charAt(1 + 2 * i), 16);
+			int low = Character.digit(line.charAt(2 + 2 * i), 16);
+			if (high < 0 || low < 0) {
+				throw invalidRecord(lineNo);
+			}
+			record[i] = (byte) (high << 4 | low);
+			checksum += record[i];
+		}
+		if (record.length != (record[0] & 0xFF) + 5) {
+			throw invalidRecord(lineNo);
+		}
+		int type = record[3] & 0xFF;
+		if ((type == EXTENDED_SEGMENT_ADDRESS || type == EXTENDED_LINEAR_ADDRESS) && record[0] != 2) {
+			throw invalidRecord(lineNo);
+		}
+		/*
+		 * The checksum is the two's complement of the sum of the other bytes of the
+		 * record, so that all the bytes sum to zero.
+		 */
+		if (checksum != 0) {
+			throw new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.REQUEST_FAILED,
+					String.format(Messages.IntelHexImport_e_checksum_failure, lineNo), null));
+		}
+		return record;
+	}
+
+	private DebugException invalidRecord(int lineNo) {
+		return new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.REQUEST_FAILED,
+				String.format(Messages.IntelHexImport_e_invalid_record, lineNo), null));
+	}
+
+}
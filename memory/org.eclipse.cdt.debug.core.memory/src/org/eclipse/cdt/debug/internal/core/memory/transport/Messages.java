@@ -26,12 +26,16 @@ public class Messages extends NLS {
 	public static String FileImport_e_read_file;
 	public static String FileImport_e_write_target;
 	public static String FileImport_task_transferring;
+	public static String ElfSegmentImport_e_invalid_format;
+	public static String IntelHexImport_e_checksum_failure;
+	public static String IntelHexImport_e_invalid_record;
 	public static String PlainTextImport_e_invalid_format;
 	public static String SRecordImport_e_checksum_failure;
 	public static String SRecordImport_e_invalid_address;
 	public static String SRecordImport_e_invalid_checksum_format;
 	public static String SRecordImport_e_invalid_data;
 	public static String SRecordImport_e_invalid_line_length;
+	public static String TransferRate_sub_throughput;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
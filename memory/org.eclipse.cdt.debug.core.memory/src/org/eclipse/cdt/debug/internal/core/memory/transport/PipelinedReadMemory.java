@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Reads a range of a target memory ahead of the requests, with several target
+ * requests outstanding at a time.
+ * <p>
+ * The range is read in blocks from the first address requested, their size
+ * follows the latency measured for the reads. The requests are served from the
+ * blocks, whatever their size. A request out of the blocks read ahead starts
+ * over from its address.
+ *
+ */
+public final class PipelinedReadMemory implements IReadMemory {
+
+	public static final int DEFAULT_DEPTH = 4;
+
+	private final IReadMemory source;
+	private final int addressable;
+	private final BigInteger end;
+	private final int depth;
+	private final ExecutorService executor;
+	private final ChunkSize chunkSize = new ChunkSize();
+
+	private final Deque<Block> blocks = new ArrayDeque<>();
+	// the first address not read ahead yet
+	private BigInteger next;
+
+	private final class Block {
+		final BigInteger start;
+		final BigInteger end;
+		final Future<MemoryByte[]> bytes;
+
+		Block(BigInteger start, long units) {
+			this.start = start;
+			this.end = start.add(BigInteger.valueOf(units));
+			this.bytes = executor.submit(() -> {
+				long started = System.nanoTime();
+				MemoryByte[] result = source.from(start, units);
+				chunkSize.measured(result.length, System.nanoTime() - started);
+				return result;
+			});
+		}
+	}
+
+	/**
+	 *
+	 * @param source the memory to read
+	 * @param addressable the size of an addressable unit in bytes
+	 * @param end the address where to stop reading ahead
+	 */
+	public PipelinedReadMemory(IReadMemory source, BigInteger addressable, BigInteger end) {
+		this(source, addressable, end, DEFAULT_DEPTH);
+	}
+
+	public PipelinedReadMemory(IReadMemory source, BigInteger addressable, BigInteger end, int depth) {
+		this.source = source;
+		this.addressable = addressable.intValue();
+		this.end = end;
+		this.depth = depth;
+		this.executor = ChunkSize.executor(depth);
+	}
+
+	@Override
+	public MemoryByte[] from(BigInteger address, long units) throws DebugException {
+		BigInteger requestEnd = address.add(BigInteger.valueOf(units));
+		while (!blocks.isEmpty() && blocks.peekFirst().end.compareTo(address) <= 0) {
+			blocks.removeFirst();
+		}
+		if (blocks.isEmpty() ? !address.equals(next) : blocks.peekFirst().start.compareTo(address) > 0) {
+			// not a continuation of the previous requests
+			blocks.forEach(block -> block.bytes.cancel(false));
+			blocks.clear();
+			next = address;
+		}
+		readAhead(requestEnd);
+
+		MemoryByte[] result = new MemoryByte[(int) units * addressable];
+		int filled = 0;
+		for (Block block : blocks) {
+			if (block.start.compareTo(requestEnd) >= 0) {
+				break;
+			}
+			MemoryByte[] bytes = get(block);
+			int from = address.max(block.start).subtract(block.start).intValue() * addressable;
+			int to = requestEnd.min(block.end).subtract(block.start).intValue() * addressable;
+			if (bytes.length < to) {
+				// the target returned less than asked, let it answer the request itself
+				return source.from(address, units);
+			}
+			System.arraycopy(bytes, from, result, filled, to - from);
+			filled += to - from;
+		}
+		return result;
+	}
+
+	/**
+	 * Keeps the given number of blocks read ahead, and at least up to the given
+	 * address
+	 */
+	private void readAhead(BigInteger requestEnd) {
+		while (next.compareTo(requestEnd) < 0 || (blocks.size() < depth && next.compareTo(end) < 0)) {
+			BigInteger limit = next.compareTo(requestEnd) < 0 ? requestEnd.max(end) : end;
+			long units = Math.min(chunkSize.get() / addressable, limit.subtract(next).longValue());
+			units = Math.max(units, 1);
+			blocks.addLast(new Block(next, units));
+			next = next.add(BigInteger.valueOf(units));
+		}
+	}
+
+	private MemoryByte[] get(Block block) throws DebugException {
+		try {
+			return block.bytes.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DebugException(
+					new Status(IStatus.CANCEL, getClass(), DebugException.REQUEST_FAILED, e.getMessage(), e));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DebugException) {
+				throw (DebugException) e.getCause();
+			}
+			throw new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.INTERNAL_ERROR,
+					e.getCause().getMessage(), e.getCause()));
+		}
+	}
+}
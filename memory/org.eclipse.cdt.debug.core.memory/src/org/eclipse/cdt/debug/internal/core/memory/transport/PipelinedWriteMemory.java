@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+
+/**
+ * Writes to a target memory with several requests outstanding at a time.
+ * <p>
+ * Contiguous data is gathered into chunks, their size follows the latency
+ * measured for the requests. A chunk is written by the given
+ * {@link WriteMemory} on a thread of its own, which is expected to write it
+ * before it returns. Data written before the end of a chunk still outstanding
+ * waits for all the outstanding chunks, so that the last write to an address
+ * wins.
+ *
+ */
+public final class PipelinedWriteMemory implements WriteMemory {
+
+	public static final int DEFAULT_DEPTH = 4;
+
+	private final WriteMemory target;
+	private final int depth;
+	private final Semaphore outstanding;
+	private final ExecutorService executor;
+	private final ChunkSize chunkSize = new ChunkSize();
+
+	private byte[] buffer;
+	private int length;
+	private BigInteger bufferStart;
+	// the end of the chunks written since all the requests completed
+	private BigInteger writtenEnd;
+	private volatile DebugException failure;
+
+	public PipelinedWriteMemory(WriteMemory target) {
+		this(target, DEFAULT_DEPTH);
+	}
+
+	public PipelinedWriteMemory(WriteMemory target, int depth) {
+		this.target = target;
+		this.depth = depth;
+		this.outstanding = new Semaphore(depth);
+		this.executor = ChunkSize.executor(depth);
+	}
+
+	@Override
+	public void to(BigInteger offset, byte[] data) throws DebugException {
+		checkFailure();
+		int position = 0;
+		while (position < data.length) {
+			if (bufferStart != null && !bufferStart.add(BigInteger.valueOf(length)).equals(offset)) {
+				submit();
+			}
+			if (bufferStart == null) {
+				bufferStart = offset;
+				buffer = new byte[chunkSize.get()];
+				length = 0;
+			}
+			int count = Math.min(data.length - position, buffer.length - length);
+			System.arraycopy(data, position, buffer, length, count);
+			length += count;
+			position += count;
+			offset = offset.add(BigInteger.valueOf(count));
+			if (length == buffer.length) {
+				submit();
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws DebugException {
+		submit();
+		drain();
+		target.flush();
+	}
+
+	private void submit() throws DebugException {
+		if (bufferStart == null) {
+			return;
+		}
+		final BigInteger address = bufferStart;
+		final byte[] data = length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+		bufferStart = null;
+		buffer = null;
+
+		if (writtenEnd != null && address.compareTo(writtenEnd) < 0) {
+			drain();
+		}
+		BigInteger end = address.add(BigInteger.valueOf(data.length));
+		writtenEnd = writtenEnd == null ? end : writtenEnd.max(end);
+
+		acquire(1);
+		executor.execute(() -> {
+			try {
+				long started = System.nanoTime();
+				target.to(address, data);
+				chunkSize.measured(data.length, System.nanoTime() - started);
+			} catch (DebugException e) {
+				failed(e);
+			} catch (RuntimeException e) {
+				failed(new DebugException(new Status(IStatus.ERROR, getClass(), DebugException.INTERNAL_ERROR,
+						e.getMessage(), e)));
+			} finally {
+				outstanding.release();
+			}
+		});
+	}
+
+	/**
+	 * Waits for the outstanding requests
+	 */
+	private void drain() throws DebugException {
+		acquire(depth);
+		outstanding.release(depth);
+		writtenEnd = null;
+		checkFailure();
+	}
+
+	private void acquire(int permits) throws DebugException {
+		try {
+			outstanding.acquire(permits);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DebugException(
+					new Status(IStatus.CANCEL, getClass(), DebugException.REQUEST_FAILED, e.getMessage(), e));
+		}
+	}
+
+	private synchronized void failed(DebugException e) {
+		if (failure == null) {
+			failure = e;
+		}
+	}
+
+	private void checkFailure() throws DebugException {
+		DebugException e = failure;
+		if (e != null) {
+			throw e;
+		}
+	}
+}
@@ -72,6 +72,7 @@ public final class PlainTextImport extends FileImport<BufferedReader> {
 			recordAddress = recordAddress.add(BigInteger.valueOf(bytesRead));
 			BigInteger jobCount = BigInteger.valueOf(bytesRead).divide(factor);
 			monitor.worked(jobCount.intValue());
+			transferred(bytesRead, monitor);
 			line = reader.readLine();
 			lineNo++;
 		}
@@ -15,10 +15,12 @@
 package org.eclipse.cdt.debug.internal.core.memory.transport;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.eclipse.cdt.debug.core.memory.transport.FileImport;
 import org.eclipse.cdt.debug.core.memory.transport.IScrollMemory;
@@ -26,33 +28,39 @@ import org.eclipse.cdt.debug.core.memory.transport.ImportRequest;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.DebugException;
 
-public final class RAWBinaryImport extends FileImport<FileInputStream> {
+public final class RAWBinaryImport extends FileImport<RandomAccessFile> {
+
+	// the file is mapped by windows of this size
+	private static final long WINDOW_SIZE = 64 * 1024 * 1024;
+	private static final int CHUNK_SIZE = 64 * 1024;
 
 	public RAWBinaryImport(File input, ImportRequest request, IScrollMemory scroll) {
 		super(input, request, scroll);
 	}
 
 	@Override
-	protected FileInputStream input(File file) throws FileNotFoundException {
-		return new FileInputStream(file);
+	protected RandomAccessFile input(File file) throws FileNotFoundException {
+		return new RandomAccessFile(file, "r"); //$NON-NLS-1$
 	}
 
 	@Override
-	protected void transfer(FileInputStream input, BigInteger factor, IProgressMonitor monitor)
+	protected void transfer(RandomAccessFile input, BigInteger factor, IProgressMonitor monitor)
 			throws IOException, DebugException {
-		byte[] byteValues = new byte[1024];
-		int actualByteCount = input.read(byteValues);
+		FileChannel channel = input.getChannel();
+		long size = channel.size();
 		BigInteger recordAddress = start;
-		while (actualByteCount != -1 && !monitor.isCanceled()) {
-			byte data[] = new byte[actualByteCount];
-			for (int i = 0; i < data.length; i++) {
-				data[i] = byteValues[i];
+		for (long position = 0; position < size && !monitor.isCanceled(); position += WINDOW_SIZE) {
+			MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+					Math.min(WINDOW_SIZE, size - position));
+			while (window.hasRemaining() && !monitor.isCanceled()) {
+				byte data[] = new byte[Math.min(CHUNK_SIZE, window.remaining())];
+				window.get(data);
+				write.to(recordAddress.subtract(base), data);
+				BigInteger jobCount = BigInteger.valueOf(data.length).divide(factor);
+				monitor.worked(jobCount.intValue());
+				transferred(data.length, monitor);
+				recordAddress = recordAddress.add(BigInteger.valueOf(data.length));
 			}
-			write.to(recordAddress.subtract(base), data);
-			BigInteger jobCount = BigInteger.valueOf(actualByteCount).divide(factor);
-			monitor.worked(jobCount.intValue());
-			recordAddress = recordAddress.add(BigInteger.valueOf(actualByteCount));
-			actualByteCount = input.read(byteValues);
 		}
 		scroll.accept(start);
 	}
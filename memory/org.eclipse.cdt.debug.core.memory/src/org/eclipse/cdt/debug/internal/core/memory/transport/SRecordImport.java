@@ -143,6 +143,7 @@ public class SRecordImport extends FileImport<BufferedReader> {
 			write.to(recordAddress.subtract(base), data);
 			BigInteger jobCount = BigInteger.valueOf(bytesRead).divide(factor);
 			monitor.worked(jobCount.intValue());
+			transferred(data.length, monitor);
 			line = reader.readLine();
 			lineNo++;
 		}
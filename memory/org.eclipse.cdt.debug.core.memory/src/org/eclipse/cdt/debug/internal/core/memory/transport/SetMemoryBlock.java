@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+import java.math.BigInteger;
+
+import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IMemoryBlockExtension;
+
+/**
+ * Writes each piece of data to the given {@link IMemoryBlockExtension} as it
+ * comes, meant to be wrapped by a {@link PipelinedWriteMemory}
+ *
+ */
+public final class SetMemoryBlock implements WriteMemory {
+
+	private final IMemoryBlockExtension memory;
+
+	public SetMemoryBlock(IMemoryBlockExtension memory) {
+		this.memory = memory;
+	}
+
+	@Override
+	public void to(BigInteger offset, byte[] data) throws DebugException {
+		memory.setValue(offset, data);
+	}
+
+	@Override
+	public void flush() throws DebugException {
+		// nothing is kept
+	}
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.internal.core.memory.transport;
+
+/**
+ * Counts the bytes of a transfer and computes its throughput in MB/s
+ *
+ */
+public final class TransferRate {
+
+	private static final double MB = 1024 * 1024;
+	private static final long REPORT_INTERVAL = 250_000_000L;
+
+	private final long started;
+	private long bytes;
+	private long reported;
+
+	public TransferRate() {
+		this.started = System.nanoTime();
+		this.reported = started;
+	}
+
+	/**
+	 * Counts transferred bytes
+	 *
+	 * @param count the number of bytes
+	 * @return whether the throughput has not been reported for a while
+	 */
+	public boolean add(long count) {
+		bytes += count;
+		long now = System.nanoTime();
+		if (now - reported >= REPORT_INTERVAL) {
+			reported = now;
+			return true;
+		}
+		return false;
+	}
+
+	public long bytes() {
+		return bytes;
+	}
+
+	/**
+	 *
+	 * @return MB transferred per second since the start
+	 */
+	public double throughput() {
+		long elapsed = Math.max(1, System.nanoTime() - started);
+		return bytes / MB / (elapsed / 1e9);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Messages.TransferRate_sub_throughput, bytes / MB, throughput());
+	}
+}
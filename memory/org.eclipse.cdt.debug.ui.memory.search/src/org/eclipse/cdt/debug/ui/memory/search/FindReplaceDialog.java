@@ -16,10 +16,13 @@ package org.eclipse.cdt.debug.ui.memory.search;
 
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.StringTokenizer;
 import java.util.Vector;
 
+import org.eclipse.cdt.debug.internal.core.memory.search.MemorySearch;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -27,7 +30,6 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
-import org.eclipse.debug.core.model.MemoryByte;
 import org.eclipse.debug.ui.memory.IMemoryRendering;
 import org.eclipse.debug.ui.memory.IMemoryRenderingContainer;
 import org.eclipse.debug.ui.memory.IMemoryRenderingSite;
@@ -63,7 +65,6 @@ public class FindReplaceDialog extends SelectionDialog {
 
 	private IMemoryBlockExtension fMemoryBlock;
 
-	final static int preFetchSize = 20 * 1024;
 
 	private Text fFindText;
 	private Text fReplaceText;
@@ -764,217 +765,6 @@ public class FindReplaceDialog extends SelectionDialog {
 		return composite;
 	}
 
-	class FindReplaceMemoryCache {
-		BigInteger memoryCacheStartAddress = BigInteger.ZERO;
-		MemoryByte memoryCacheData[] = new MemoryByte[0];
-	}
-
-	/**
-	 * Function : getSearchableBytes
-	 *
-	 * This function returns to the user an array of memory
-	 * @param start Address ( inclusive ) of the beginning byte of the memory region to be searched
-	 * @param end Address ( inclusive ) of the ending
-	 * @param forwardSearch direction of the search ( true == searching forward , false = searching backwards
-	 * @param address Address ( inclusive ) of the byte set being requested/returned
-	 * @param length Number of bytes of data to be returned
-	 * @param cache Cached memory byte data ( this routine fetches additional bytes of memory to try and reduce interaction with the debug engine )
-	 * @return MemoryByte[] array which contains the requested bytes
-	 * @throws DebugException
-	 */
-	private MemoryByte[] getSearchableBytes(BigInteger start, BigInteger end, boolean forwardSearch, BigInteger address,
-			int length, FindReplaceMemoryCache cache) throws DebugException {
-		BigInteger endCacheAddress = cache.memoryCacheStartAddress
-				.add(BigInteger.valueOf(cache.memoryCacheData.length));
-
-		/*
-		 * Determine if the requested data is already within the cache.
-		 */
-
-		if (!((address.compareTo(cache.memoryCacheStartAddress) >= 0)
-				&& (address.add(BigInteger.valueOf(length)).compareTo(endCacheAddress) < 0))) {
-			BigInteger prefetchSize = BigInteger.valueOf(preFetchSize);
-			BigInteger len = BigInteger.valueOf(length);
-			BigInteger fetchAddress = address;
-			BigInteger fetchSize;
-
-			/*
-			 *  Determine which way we are searching. Whichever way we are searching we need to make sure
-			 *  we capture the minimum requested amount of data in the forward direction.
-			 */
-
-			if (forwardSearch) {
-				/*
-				 *  Legend : "#" == minimum requested data , "*" == additional data we want to prefetch/cache
-				 *
-				 *  This is the best case where everything cleanly fits within the starting/ending ranges
-				 *  to be searched.  What we cannot do is to fetch data outside of these ranges. The user
-				 *  has specified them, if they are in error that is OK, but we must respect the boundaries
-				 *  they specified.
-				 *
-				 *  +-- address
-				 *  |
-				 *  +--length--+--prefetch--+------------------------------------+
-				 *  |##########|************|                                    |
-				 *  |##########|************|                                    |
-				 *  |##########|************|                                    |
-				 *  +----------+------------+------------------------------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the worst case scenario. We cannot even get the requested minimum ( no matter
-				 *  the desired prefetch ) before we run out of the specified range.
-				 *
-				 *                                                       +-- address
-				 *                                                       |
-				 *  +----------------------------------------------------+--length--+--prefetch--+
-				 *  |                                                    |##########|************|
-				 *  |                                                    |##########|************|
-				 *  |                                                    |##########|************|
-				 *  +----------------------------------------------------+-------+--+------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  See if the desired size ( minimum length + desired prefetch ) fits in to the current range.
-				 *  If so there is nothing to adjust.
-				 */
-
-				if (prefetchSize.compareTo(len) >= 0) {
-					fetchSize = prefetchSize;
-				} else {
-					fetchSize = len;
-				}
-
-				if (address.add(fetchSize).compareTo(end) > 0) {
-					/*
-					 *  It does not all fit. Get as much as we can ( end - current ) + 1.
-					 */
-					fetchSize = end.subtract(address).add(BigInteger.ONE);
-
-					/*
-					 *  If the amount of data we can get does not even meet the minimum request. In this case
-					 *  we have to readjust how much we copy to match what we can actually read. If we do not
-					 *  do this then we will run past the actual data fetched and generate an exception.
-					 */
-					if (fetchSize.compareTo(len) < 0) {
-						length = fetchSize.intValue();
-					}
-				}
-
-				/*
-				 *  The fetch address just starts at the current requested location since we are searching in
-				 *  the forward direction and thus prefetching in the forward direction.
-				 */
-				fetchAddress = address;
-			} else {
-
-				/*
-				 *  Legend : "#" == minimum requested data , "*" == additional data we want to prefetch/cache
-				 *
-				 *  This is the best case where everything cleanly fits within the starting/ending ranges
-				 *  to be searched.  What we cannot do is to fetch data outside of these ranges. The user
-				 *  has specified them, if they are in error that is OK, but we must respect the boundaries
-				 *  they specified.
-				 *
-				 *               +-- address
-				 *               |
-				 *  +--prefetch--+--length--+------------------------------------+
-				 *  |************|##########|                                    |
-				 *  |************|##########|                                    |
-				 *  |************|##########|                                    |
-				 *  +------------+----------+------------------------------------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the second worst case scenario. We cannot even get the requested minimum ( no matter
-				 *  the desired prefetch ) before we run out of the specified range.
-				 *
-				 *                                                            +-- address
-				 *                                                            |
-				 *  +--------------------------------------------+--prefetch--+--length--+
-				 *  |                                            |************|##########|
-				 *  |                                            |************|##########|
-				 *  |                                            |************|##########|
-				 *  +--------------------------------------------+------------+--+-------+
-				 *  |                                                            |
-				 *  +-- start                                              end --+
-				 *
-				 *  This is the worst case scenario. The minimum length moves us off the end of the high range
-				 *  end and the prefetch before this minimum data request ( remember we are fetching backwards
-				 *  since we are searching backwards ) runs us off the start of the data.
-				 *
-				 *                                                                +-- address
-				 *                                                                |
-				 *  +---+-----------------------------------------------prefetch--+--length--+
-				 *  |*************************************************************|##########|
-				 *  |*************************************************************|##########|
-				 *  |*************************************************************|##########|
-				 *  +---+---------------------------------------------------------+--+-------+
-				 *      |                                                            |
-				 *      +-- start                                              end --+
-				 *
-				 *  See if the desired size ( minimum length + desired prefetch ) fits in to the current range.
-				 *  Without running off the end.
-				 */
-				if (address.add(len).compareTo(end) > 0) {
-					/*
-					 *  We need to reduce the amount we can ask for to whats left. Also make sure to reduce the
-					 *  amount to copy, otherwise we will overrun the buffer and generate an exception.
-					 */
-					len = end.subtract(address).add(BigInteger.ONE);
-					length = len.intValue();
-				}
-
-				/*
-				 *  Now determine  if the prefetch is going to run backwards past the "start" of where we are allowed
-				 *  to access the memory. We will normalize the prefetch size so it takes in to account the amount of
-				 *  data being gathered as part of the length requested portion.  This should insure that  in the end
-				 *  we will request the prefetch amount of data unless there is not enough to service this request.
-				 */
-				if (len.compareTo(prefetchSize) > 0) {
-					prefetchSize = BigInteger.ZERO;
-				} else {
-					prefetchSize = prefetchSize.subtract(len);
-				}
-
-				if (address.subtract(prefetchSize).compareTo(start) < 0) {
-					/*
-					 *  Just get what we can from the beginning up to the current required address.
-					 */
-					prefetchSize = address.subtract(start);
-					fetchAddress = start;
-				} else {
-					/*
-					 *  It fits so just start reading from the calculated position prior to the requested point.
-					 */
-					fetchAddress = address.subtract(prefetchSize);
-				}
-
-				fetchSize = len.add(prefetchSize);
-			}
-
-			/*
-			 *  OK, we have determined where to start reading the data and how much. Just get the data
-			 *  and store it in the cache.
-			 */
-			MemoryByte bytes[] = fMemoryBlock.getBytesFromAddress(fetchAddress, fetchSize.longValue());
-
-			cache.memoryCacheStartAddress = fetchAddress;
-			cache.memoryCacheData = bytes;
-		}
-
-		/*
-		 * Either it was already cached or just has been, either way we have the data so copy what we can
-		 * back to the user buffer.
-		 */
-
-		MemoryByte bytes[] = new MemoryByte[length];
-		System.arraycopy(cache.memoryCacheData, address.subtract(cache.memoryCacheStartAddress).intValue(), bytes, 0,
-				length);
-
-		return bytes;
-	}
-
 	private BigInteger parseHexBigInteger(String s) {
 		if (s.toUpperCase().startsWith("0X")) //$NON-NLS-1$
 			return new BigInteger(s.substring(2), 16);
@@ -1051,137 +841,118 @@ public class FindReplaceDialog extends SelectionDialog {
 
 				final BigInteger searchPhraseLength = BigInteger.valueOf(searchPhrase.getByteLength());
 				BigInteger range = end.subtract(start).add(BigInteger.ONE);
-				BigInteger currentPosition = searchForward ? start : end.subtract(searchPhraseLength);
 
-				if (searchPhraseLength.compareTo(range) >= 0) {
+				if (searchPhraseLength.signum() == 0 || searchPhraseLength.compareTo(range) >= 0) {
 					return Status.OK_STATUS;
 				}
 
-				boolean isReplace = replaceData != null;
-
-				BigInteger jobs = range;
-				BigInteger factor = BigInteger.ONE;
-				if (jobs.compareTo(BigInteger.valueOf(0x07FFFFFF)) > 0) {
-					factor = jobs.divide(BigInteger.valueOf(0x07FFFFFF));
-					jobs = jobs.divide(factor);
-				}
-
-				BigInteger jobCount = BigInteger.ZERO;
-
-				BigInteger replaceCount = BigInteger.ZERO;
-
-				FindReplaceMemoryCache cache = new FindReplaceMemoryCache();
+				MemorySearch search = new MemorySearch(fMemoryBlock::getBytesFromAddress, start, end, searchForward);
 
 				monitor.beginTask(Messages.getString("FindReplaceDialog.SearchingMemoryFor") + searchPhrase, //$NON-NLS-1$
-						jobs.intValue());
-
-				boolean matched = false;
-				while (((searchForward && currentPosition.compareTo(end.subtract(searchPhraseLength)) < 0)
-						|| (!searchForward && currentPosition.compareTo(start) > 0)) && !monitor.isCanceled()) {
-					try {
-						MemoryByte bytes[] = getSearchableBytes(start, end, searchForward, currentPosition,
-								searchPhraseLength.intValue(), cache);
-						matched = searchPhrase.isMatch(bytes);
-						if (matched) {
-							if (all && !isReplace)
-								((MemorySearchResult) getSearchResult())
-										.addMatch(new MemoryMatch(currentPosition, searchPhraseLength));
-
-							if (isReplace) {
-								try {
-									if ((searchPhrase instanceof BigIntegerSearchPhrase) && (bytes.length > 0)
-											&& bytes[0].isEndianessKnown() && !bytes[0].isBigEndian()) {
-										// swap the bytes when replacing an integer on little-endian targets
-										fMemoryBlock.setValue(
-												currentPosition.subtract(fMemoryBlock.getBigBaseAddress()),
-												swapBytes(replaceData));
-									} else {
-										fMemoryBlock.setValue(
-												currentPosition.subtract(fMemoryBlock.getBigBaseAddress()),
-												replaceData);
-									}
-								} catch (DebugException de) {
-									MemorySearchPlugin
-											.logError(Messages.getString("FindReplaceDialog.MemoryReadFailed"), de); //$NON-NLS-1$
+						search.getBlockCount(searchPhraseLength.intValue()));
+
+				MemorySearch.IListener listener = new MemorySearch.IListener() {
+					private final List<MemoryMatch> fBlockMatches = new ArrayList<>();
+					private boolean fIsReplace = replaceData != null;
+					private BigInteger fReplaceCount = BigInteger.ZERO;
+
+					@Override
+					public boolean matchFound(BigInteger currentPosition, boolean littleEndian) {
+						if (all && !fIsReplace)
+							fBlockMatches.add(new MemoryMatch(currentPosition, searchPhraseLength));
+
+						if (fIsReplace) {
+							try {
+								if ((searchPhrase instanceof BigIntegerSearchPhrase) && littleEndian) {
+									// swap the bytes when replacing an integer on little-endian targets
+									fMemoryBlock.setValue(currentPosition.subtract(fMemoryBlock.getBigBaseAddress()),
+											swapBytes(replaceData));
+								} else {
+									fMemoryBlock.setValue(currentPosition.subtract(fMemoryBlock.getBigBaseAddress()),
+											replaceData);
 								}
-
-								replaceCount = replaceCount.add(BigInteger.ONE);
+							} catch (DebugException de) {
+								MemorySearchPlugin.logError(Messages.getString("FindReplaceDialog.MemoryReadFailed"), //$NON-NLS-1$
+										de);
 							}
 
-							if (isReplace && replaceThenFind && replaceCount.compareTo(BigInteger.ONE) == 0) {
-								isReplace = false;
-								matched = false;
+							fReplaceCount = fReplaceCount.add(BigInteger.ONE);
+
+							if (replaceThenFind && fReplaceCount.compareTo(BigInteger.ONE) == 0) {
+								fIsReplace = false;
+								return true;
 							}
+						}
 
-							if (matched && !all) {
-								final BigInteger finalCurrentPosition = currentPosition;
-								final BigInteger finalStart = start;
-								final BigInteger finalEnd = end;
-								Display.getDefault().asyncExec(() -> {
-									IMemoryRenderingContainer containers[] = getMemoryView()
-											.getMemoryRenderingContainers();
-									for (int i = 0; i < containers.length; i++) {
-										IMemoryRendering rendering = containers[i].getActiveRendering();
-										if (rendering instanceof IRepositionableMemoryRendering) {
-											try {
-												((IRepositionableMemoryRendering) rendering)
-														.goToAddress(finalCurrentPosition);
-											} catch (DebugException e1) {
-												MemorySearchPlugin.logError(
-														Messages.getString(
-																"FindReplaceDialog.RepositioningMemoryViewFailed"), //$NON-NLS-1$
-														e1);
-											}
-										}
-										if (rendering != null) {
-											// Temporary, until platform accepts/adds new interface for setting the selection
-											try {
-												Method m = rendering.getClass().getMethod("setSelection", //$NON-NLS-1$
-														new Class[] { BigInteger.class, BigInteger.class });
-												if (m != null)
-													m.invoke(rendering, finalCurrentPosition,
-															finalCurrentPosition.add(searchPhraseLength));
-											} catch (Exception e2) {
-												// do nothing
-											}
-										}
-									}
-								});
+						if (!all) {
+							showMatch(currentPosition);
+							return false;
+						}
+						return true;
+					}
 
-								fProperties.setProperty(SEARCH_ENABLE_FIND_NEXT, Boolean.TRUE.toString());
-								if (searchForward) {
-									BigInteger newFinalStart = finalCurrentPosition.add(BigInteger.ONE);
-									fProperties.setProperty(SEARCH_LAST_START, "0x" + newFinalStart.toString(16)); //$NON-NLS-1$
-									fProperties.setProperty(SEARCH_LAST_END, "0x" + finalEnd.toString(16)); //$NON-NLS-1$
-								} else {
-									BigInteger newFinalEnd = finalCurrentPosition.subtract(BigInteger.ONE);
-									fProperties.setProperty(SEARCH_LAST_START, "0x" + finalStart.toString(16)); //$NON-NLS-1$
-									fProperties.setProperty(SEARCH_LAST_END, "0x" + newFinalEnd.toString(16)); //$NON-NLS-1$
+					@Override
+					public void blockSearched() {
+						if (!fBlockMatches.isEmpty()) {
+							((MemorySearchResult) getSearchResult())
+									.addMatches(fBlockMatches.toArray(new MemoryMatch[fBlockMatches.size()]));
+							fBlockMatches.clear();
+						}
+					}
+
+					private void showMatch(final BigInteger finalCurrentPosition) {
+						final BigInteger finalStart = start;
+						final BigInteger finalEnd = end;
+						Display.getDefault().asyncExec(() -> {
+							IMemoryRenderingContainer containers[] = getMemoryView().getMemoryRenderingContainers();
+							for (int i = 0; i < containers.length; i++) {
+								IMemoryRendering rendering = containers[i].getActiveRendering();
+								if (rendering instanceof IRepositionableMemoryRendering) {
+									try {
+										((IRepositionableMemoryRendering) rendering).goToAddress(finalCurrentPosition);
+									} catch (DebugException e1) {
+										MemorySearchPlugin.logError(
+												Messages.getString("FindReplaceDialog.RepositioningMemoryViewFailed"), //$NON-NLS-1$
+												e1);
+									}
 								}
-								if (fFindAction != null) {
-									fFindAction.setEnabled(true);
+								if (rendering != null) {
+									// Temporary, until platform accepts/adds new interface for setting the selection
+									try {
+										Method m = rendering.getClass().getMethod("setSelection", //$NON-NLS-1$
+												new Class[] { BigInteger.class, BigInteger.class });
+										if (m != null)
+											m.invoke(rendering, finalCurrentPosition,
+													finalCurrentPosition.add(searchPhraseLength));
+									} catch (Exception e2) {
+										// do nothing
+									}
 								}
-								return Status.OK_STATUS;
 							}
+						});
+
+						fProperties.setProperty(SEARCH_ENABLE_FIND_NEXT, Boolean.TRUE.toString());
+						if (searchForward) {
+							BigInteger newFinalStart = finalCurrentPosition.add(BigInteger.ONE);
+							fProperties.setProperty(SEARCH_LAST_START, "0x" + newFinalStart.toString(16)); //$NON-NLS-1$
+							fProperties.setProperty(SEARCH_LAST_END, "0x" + finalEnd.toString(16)); //$NON-NLS-1$
+						} else {
+							BigInteger newFinalEnd = finalCurrentPosition.add(searchPhraseLength)
+									.subtract(BigInteger.valueOf(2));
+							fProperties.setProperty(SEARCH_LAST_START, "0x" + finalStart.toString(16)); //$NON-NLS-1$
+							fProperties.setProperty(SEARCH_LAST_END, "0x" + newFinalEnd.toString(16)); //$NON-NLS-1$
+						}
+						if (fFindAction != null) {
+							fFindAction.setEnabled(true);
 						}
-
-						matched = false;
-
-						if (searchForward)
-							currentPosition = currentPosition.add(BigInteger.ONE);
-						else
-							currentPosition = currentPosition.subtract(BigInteger.ONE);
-
-					} catch (DebugException e) {
-						MemorySearchPlugin.logError(Messages.getString("FindReplaceDialog.MemorySearchFailure"), e); //$NON-NLS-1$
-						return Status.CANCEL_STATUS;
 					}
+				};
 
-					jobCount = jobCount.add(BigInteger.ONE);
-					if (jobCount.compareTo(factor) == 0) {
-						jobCount = BigInteger.ZERO;
-						monitor.worked(1);
-					}
+				try {
+					search.search(searchPhrase, listener, monitor);
+				} catch (DebugException e) {
+					MemorySearchPlugin.logError(Messages.getString("FindReplaceDialog.MemorySearchFailure"), e); //$NON-NLS-1$
+					return Status.CANCEL_STATUS;
 				}
 
 				if (monitor.isCanceled())
@@ -1213,9 +984,7 @@ public class FindReplaceDialog extends SelectionDialog {
 
 	}
 
-	interface SearchPhrase {
-		boolean isMatch(MemoryByte[] bytes);
-
+	interface SearchPhrase extends MemorySearch.IPattern {
 		int getByteLength();
 
 		@Override
@@ -1233,7 +1002,7 @@ public class FindReplaceDialog extends SelectionDialog {
 
 		@Override
 		public int getByteLength() {
-			return fPhrase.length();
+			return fPhrase.getBytes().length;
 		}
 
 		@Override
@@ -1242,20 +1011,13 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			byte[] targetBytes = new byte[bytes.length];
-			for (int i = 0; i < bytes.length; i++)
-				targetBytes[i] = bytes[i].getValue();
-
-			String searchString = fPhrase;
-			String targetString = new String(targetBytes);
-
-			if (fIsCaseInsensitive) {
-				searchString = searchString.toUpperCase();
-				targetString = targetString.toUpperCase();
-			}
+		public byte[] getBytes(boolean littleEndian) {
+			return fPhrase.getBytes();
+		}
 
-			return searchString.equals(targetString);
+		@Override
+		public boolean isCaseInsensitive() {
+			return fIsCaseInsensitive;
 		}
 	}
 
@@ -1286,13 +1048,13 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			if (fBytes == null)
-				return false;
-			for (int i = 0; i < bytes.length; i++)
-				if (bytes[i].getValue() != fBytes[i])
-					return false;
-			return true;
+		public byte[] getBytes(boolean littleEndian) {
+			return fBytes != null ? fBytes : new byte[0];
+		}
+
+		@Override
+		public boolean isCaseInsensitive() {
+			return false;
 		}
 	}
 
@@ -1316,21 +1078,15 @@ public class FindReplaceDialog extends SelectionDialog {
 		}
 
 		@Override
-		public boolean isMatch(MemoryByte[] bytes) {
-			byte[] targetBytes = new byte[bytes.length + 1];
-			targetBytes[0] = 0;
-			for (int i = 0; i < bytes.length; i++) {
-				if (bytes[i].isEndianessKnown() && !bytes[i].isBigEndian()) {
-					// swap the bytes when matching an integer on little-endian targets
-					targetBytes[i + 1] = bytes[bytes.length - i - 1].getValue();
-				} else {
-					targetBytes[i + 1] = bytes[i].getValue();
-				}
-			}
-
-			BigInteger targetBigInteger = new BigInteger(targetBytes);
+		public byte[] getBytes(boolean littleEndian) {
+			byte[] bytes = removeZeroPrefixByte(fPhrase.toByteArray());
+			// swap the bytes when matching an integer on little-endian targets
+			return littleEndian ? swapBytes(bytes) : bytes;
+		}
 
-			return fPhrase.equals(targetBigInteger);
+		@Override
+		public boolean isCaseInsensitive() {
+			return false;
 		}
 	}
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.cdt.debug.ui.memory.search;
 
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Vector;
 
@@ -70,6 +71,16 @@ public class MemorySearchResult implements ISearchResult {
 		fireChange();
 	}
 
+	/**
+	 * Adds several matches with a single change notification.
+	 *
+	 * @since 1.6
+	 */
+	public void addMatches(MemoryMatch[] matches) {
+		fMatches.addAll(Arrays.asList(matches));
+		fireChange();
+	}
+
 	private void fireChange() {
 		Enumeration<ISearchResultListener> en = listeners.elements();
 		while (en.hasMoreElements()) {
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.traditional;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Assert;
+import org.junit.Test;
+
+public final class MemoryUnitTest {
+
+	private static final byte READABLE = (byte) (MemoryByte.READABLE | MemoryByte.WRITABLE);
+
+	private static MemoryUnit unit(long start, int addressableSize, int... values) {
+		MemoryUnit unit = new MemoryUnit();
+		unit.start = BigInteger.valueOf(start);
+		unit.end = BigInteger.valueOf(start + values.length / addressableSize);
+		unit.values = new byte[values.length];
+		unit.flags = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			unit.values[i] = (byte) values[i];
+			unit.flags[i] = READABLE;
+		}
+		return unit;
+	}
+
+	private static BitSet bits(int... indexes) {
+		BitSet bits = new BitSet();
+		for (int index : indexes) {
+			bits.set(index);
+		}
+		return bits;
+	}
+
+	@Test
+	public void changesAgainstEachHistory() {
+		MemoryUnit history[] = { unit(0x100, 1, 0, 1, 2, 3, 4, 5, 6, 7), null };
+		MemoryUnit cache = unit(0x100, 1, 0, 1, 9, 3, 4, 5, 6, 9);
+		cache.computeChanges(history, 1);
+		Assert.assertEquals(2, cache.changed.length);
+		Assert.assertEquals(bits(2, 7), cache.changed[0]);
+		// not known when there is no history
+		Assert.assertNull(cache.changed[1]);
+	}
+
+	@Test
+	public void changesOnlyInOverlap() {
+		// the viewport scrolled by 4 addresses of 2 bytes
+		MemoryUnit history[] = { unit(0x100, 2, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15),
+				unit(0x200, 2, 0, 0) };
+		MemoryUnit cache = unit(0x104, 2, 8, 9, 10, 99, 12, 13, 14, 15, 99, 99, 99, 99, 99, 99, 99, 99);
+		cache.computeChanges(history, 2);
+		// the bytes after the end of the history are not changed
+		Assert.assertEquals(bits(3), cache.changed[0]);
+		// not known when the history does not overlap
+		Assert.assertNull(cache.changed[1]);
+	}
+
+	@Test
+	public void archiveShiftsHistory() {
+		MemoryUnit history[] = new MemoryUnit[2];
+		MemoryUnit cache = unit(0x100, 1, 1, 2, 3, 4);
+		cache.archiveInto(history);
+		Assert.assertNotSame(cache.values, history[0].values);
+		Assert.assertArrayEquals(cache.values, history[0].values);
+		Assert.assertNull(history[1]);
+
+		cache.values[0] = 5;
+		cache.archiveInto(history);
+		Assert.assertArrayEquals(new byte[] { 5, 2, 3, 4 }, history[0].values);
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3, 4 }, history[1].values);
+
+		// the array of the dropped history takes the copy of the cache
+		byte oldest[] = history[1].values;
+		cache.values[0] = 6;
+		cache.archiveInto(history);
+		Assert.assertSame(oldest, history[0].values);
+		Assert.assertArrayEquals(new byte[] { 6, 2, 3, 4 }, history[0].values);
+		Assert.assertArrayEquals(new byte[] { 5, 2, 3, 4 }, history[1].values);
+	}
+
+	@Test
+	public void archiveOtherRange() {
+		MemoryUnit history[] = new MemoryUnit[1];
+		unit(0x100, 1, 1, 2, 3, 4).archiveInto(history);
+		MemoryUnit cache = unit(0x200, 1, 1, 2);
+		cache.archiveInto(history);
+		Assert.assertEquals(BigInteger.valueOf(0x200), history[0].start);
+		Assert.assertEquals(BigInteger.valueOf(0x202), history[0].end);
+		Assert.assertArrayEquals(new byte[] { 1, 2 }, history[0].values);
+	}
+
+	@Test
+	public void changesAfterArchive() {
+		MemoryUnit history[] = new MemoryUnit[2];
+		MemoryUnit first = unit(0x100, 1, 0, 0, 0, 0);
+		first.archiveInto(history);
+		MemoryUnit second = unit(0x100, 1, 1, 0, 0, 0);
+		second.archiveInto(history);
+		MemoryUnit cache = unit(0x100, 1, 1, 2, 0, 0);
+		cache.computeChanges(history, 1);
+		Assert.assertEquals(bits(1), cache.changed[0]);
+		Assert.assertEquals(bits(0, 1), cache.changed[1]);
+	}
+
+	@Test
+	public void dirtyBytes() {
+		MemoryUnit history[] = { unit(0x100, 1, 0, 0, 0, 0, 0, 0) };
+		MemoryUnit previous = unit(0x100, 1, 0, 1, 0, 0, 0, 0);
+		previous.computeChanges(history, 1);
+		MemoryUnit cache = unit(0x100, 1, 0, 1, 0, 2, 0, 0);
+		cache.flags[5] = 0;
+		cache.computeChanges(history, 1);
+		// 3 changed its value and highlighting, 5 its flags
+		Assert.assertEquals(bits(3, 5), cache.getDirtyBytes(previous));
+
+		// 1 is no longer highlighted
+		history[0] = unit(0x100, 1, 0, 1, 0, 0, 0, 0);
+		cache = unit(0x100, 1, 0, 1, 0, 0, 0, 0);
+		cache.computeChanges(history, 1);
+		Assert.assertEquals(bits(1), cache.getDirtyBytes(previous));
+	}
+
+	@Test
+	public void dirtyBytesUnknownChanges() {
+		MemoryUnit previous = unit(0x100, 1, 0, 1);
+		previous.computeChanges(new MemoryUnit[1], 1);
+		MemoryUnit cache = unit(0x100, 1, 0, 1);
+		cache.computeChanges(new MemoryUnit[] { unit(0x100, 1, 0, 0) }, 1);
+		Assert.assertNull(cache.getDirtyBytes(previous));
+	}
+
+	@Test
+	public void copyByteToReusedByte() {
+		MemoryUnit history[] = { unit(0x100, 1, 0, 0), unit(0x100, 1, 1, 1) };
+		MemoryUnit cache = unit(0x100, 1, 1, 0);
+		cache.computeChanges(history, 1);
+
+		TraditionalMemoryByte b = new TraditionalMemoryByte();
+		cache.copyByteTo(0, b);
+		Assert.assertEquals(1, b.getValue());
+		Assert.assertTrue(b.isReadable());
+		Assert.assertTrue(b.isChanged(0));
+		Assert.assertFalse(b.isChanged(1));
+
+		cache.copyByteTo(1, b);
+		Assert.assertEquals(0, b.getValue());
+		Assert.assertFalse(b.isChanged(0));
+		Assert.assertTrue(b.isChanged(1));
+	}
+
+	@Test
+	public void copyByteToKeepsChangedFlagWhenUnknown() {
+		MemoryUnit cache = unit(0x100, 1, 1);
+		cache.flags[0] |= MemoryByte.CHANGED;
+		cache.computeChanges(new MemoryUnit[1], 1);
+
+		TraditionalMemoryByte b = new TraditionalMemoryByte();
+		cache.copyByteTo(0, b);
+		Assert.assertTrue(b.isChanged());
+		Assert.assertFalse(b.isChanged(0));
+	}
+}
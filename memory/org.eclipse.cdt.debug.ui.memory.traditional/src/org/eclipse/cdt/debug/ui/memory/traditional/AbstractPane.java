@@ -712,6 +712,22 @@ public abstract class AbstractPane extends Canvas {
 		return null;
 	}
 
+	/**
+	 * Repaints the cell at the given address, laid out in rows of
+	 * {@link Rendering#getColumnCount()} cells from the start of the viewport.
+	 *
+	 * @since 1.8
+	 */
+	protected void redrawCell(BigInteger cellAddress) {
+		int cell = cellAddress.subtract(fRendering.getViewportStartAddress()).intValue()
+				/ fRendering.getAddressesPerColumn();
+		int columns = fRendering.getColumnCount();
+		int x = cell % columns * getCellWidth();
+		int y = cell / columns * getCellHeight();
+		// the cell box can start one pixel to the left of the cell, and the text is padded
+		redraw(x - 1, y, getCellWidth() + fRendering.getCellPadding() + 2, getCellHeight(), false);
+	}
+
 	protected String getCellText(MemoryByte bytes[]) {
 		return null;
 	}
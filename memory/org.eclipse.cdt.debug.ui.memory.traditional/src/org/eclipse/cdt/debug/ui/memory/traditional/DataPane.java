@@ -363,8 +363,13 @@ public class DataPane extends AbstractPane {
 		try {
 			BigInteger startAddress = fRendering.getViewportStartAddress();
 
-			for (int i = 0; i < fRendering.getRowCount(); i++) {
+			// only the rows and columns of the area to repaint
+			int lastRow = Math.min(fRendering.getRowCount(), (pe.y + pe.height) / cellHeight + 1);
+			for (int i = pe.y / cellHeight; i < lastRow; i++) {
 				for (int col = 0; col < columns; col++) {
+					if (cellWidth * (col + 1) + fRendering.getCellPadding() < pe.x || cellWidth * col > pe.x + pe.width)
+						continue;
+
 					gc.setFont(fRendering.getFont());
 
 					if (isOdd(col))
@@ -375,7 +380,8 @@ public class DataPane extends AbstractPane {
 					BigInteger cellAddress = startAddress.add(BigInteger
 							.valueOf((i * fRendering.getColumnCount() + col) * fRendering.getAddressesPerColumn()));
 
-					TraditionalMemoryByte bytes[] = fRendering.getBytes(cellAddress, fRendering.getBytesPerColumn());
+					TraditionalMemoryByte bytes[] = fRendering.getCellBytes(cellAddress,
+							fRendering.getBytesPerColumn());
 
 					boolean drawBox = false;
 
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   See git history
+ *******************************************************************************/
+package org.eclipse.cdt.debug.ui.memory.traditional;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+
+/**
+ * The memory of a range of addresses, as a sequential byte stream. The values
+ * and the flags of the bytes are kept in arrays, the bytes painted by the panes
+ * are filled from them.
+ */
+class MemoryUnit {
+	BigInteger start;
+
+	BigInteger end;
+
+	byte[] values;
+
+	byte[] flags;
+
+	// for each history depth, the bytes that differ from the history, or null when not known
+	BitSet[] changed;
+
+	/**
+	 * Copies the values into the given unit, reusing its array when the size is
+	 * the same.
+	 */
+	MemoryUnit copyValuesTo(MemoryUnit b) {
+		if (b == null || b.values == null || b.values.length != this.values.length) {
+			b = new MemoryUnit();
+			b.values = new byte[this.values.length];
+		}
+
+		b.start = this.start;
+		b.end = this.end;
+		System.arraycopy(this.values, 0, b.values, 0, this.values.length);
+
+		return b;
+	}
+
+	public boolean isValid() {
+		return this.start != null && this.end != null && this.values != null;
+	}
+
+	boolean hasSameRange(MemoryUnit b) {
+		return b != null && b.isValid() && this.start.equals(b.start) && this.end.equals(b.end)
+				&& this.values.length == b.values.length;
+	}
+
+	/**
+	 * Drops the oldest unit of the history and puts a copy of the values of
+	 * this unit first, in the array of the dropped unit.
+	 */
+	void archiveInto(MemoryUnit history[]) {
+		if (history.length == 0)
+			return;
+
+		MemoryUnit oldest = history[history.length - 1];
+		System.arraycopy(history, 0, history, 1, history.length - 1);
+		history[0] = copyValuesTo(oldest);
+	}
+
+	/**
+	 * Computes, for each unit of the history, the bytes of this unit that
+	 * differ from the bytes at the same addresses in the history. The changes
+	 * are not known for a unit of the history that does not overlap this one.
+	 */
+	void computeChanges(MemoryUnit history[], int addressableSize) {
+		changed = new BitSet[history.length];
+		for (int historyIndex = 0; historyIndex < history.length; historyIndex++) {
+			MemoryUnit old = history[historyIndex];
+			if (old == null || !old.isValid())
+				continue;
+
+			BigInteger maxStart = start.max(old.start);
+			BigInteger minEnd = end.min(old.end);
+			if (minEnd.compareTo(maxStart) <= 0)
+				continue;
+
+			int offsetIntoOld = maxStart.subtract(old.start).intValue() * addressableSize;
+			int offsetIntoNew = maxStart.subtract(start).intValue() * addressableSize;
+			int overlapLength = Math.min(minEnd.subtract(maxStart).intValue() * addressableSize,
+					Math.min(old.values.length - offsetIntoOld, values.length - offsetIntoNew));
+
+			BitSet bytes = new BitSet(values.length);
+			for (int i = 0; i < overlapLength; i++) {
+				if (values[offsetIntoNew + i] != old.values[offsetIntoOld + i])
+					bytes.set(offsetIntoNew + i);
+			}
+			changed[historyIndex] = bytes;
+		}
+	}
+
+	/**
+	 * Returns the bytes whose value, flags or change highlighting differ from
+	 * the given unit of the same range, or null when the changes against a
+	 * unit of the history are known for only one of the two units.
+	 */
+	BitSet getDirtyBytes(MemoryUnit previous) {
+		BitSet dirty = new BitSet(values.length);
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != previous.values[i] || flags[i] != previous.flags[i])
+				dirty.set(i);
+		}
+		for (int historyIndex = 0; historyIndex < changed.length; historyIndex++) {
+			BitSet bytes = changed[historyIndex];
+			BitSet previousBytes = historyIndex < previous.changed.length ? previous.changed[historyIndex] : null;
+			if (bytes == null || previousBytes == null) {
+				if (bytes != previousBytes)
+					return null;
+				continue;
+			}
+			BitSet toggled = (BitSet) bytes.clone();
+			toggled.xor(previousBytes);
+			dirty.or(toggled);
+		}
+		return dirty;
+	}
+
+	/**
+	 * Sets the value, the flags and the change history of the given byte to
+	 * those of the byte at the given offset.
+	 */
+	void copyByteTo(int offset, TraditionalMemoryByte b) {
+		b.setValue(values[offset]);
+		b.setFlags(flags[offset]);
+		for (int historyIndex = 0; historyIndex < changed.length; historyIndex++) {
+			b.setChanged(historyIndex, changed[historyIndex] != null && changed[historyIndex].get(offset));
+		}
+		// the changed flag stays the one read when the changes against the last suspend are not known
+		if (changed.length > 0 && changed[0] == null)
+			b.setFlags(flags[offset]);
+	}
+}
@@ -21,6 +21,7 @@ package org.eclipse.cdt.debug.ui.memory.traditional;
 import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -616,6 +617,17 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 		return getViewportCache().getBytes(address, bytes);
 	}
 
+	/**
+	 * Returns the bytes of the cell at the given address, for painting it. The
+	 * same objects are returned for the next cell painted, so the bytes must not
+	 * be kept.
+	 *
+	 * @since 1.8
+	 */
+	protected TraditionalMemoryByte[] getCellBytes(BigInteger address, int bytes) throws DebugException {
+		return fViewportCache.getBytes(address, bytes, true);
+	}
+
 	// default visibility for performance
 	ViewportCache fViewportCache = new ViewportCache();
 
@@ -653,31 +665,6 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		}
 
-		class MemoryUnit {
-			BigInteger start;
-
-			BigInteger end;
-
-			TraditionalMemoryByte[] bytes;
-
-			@Override
-			public MemoryUnit clone() {
-				MemoryUnit b = new MemoryUnit();
-
-				b.start = this.start;
-				b.end = this.end;
-				b.bytes = new TraditionalMemoryByte[this.bytes.length];
-				for (int i = 0; i < this.bytes.length; i++)
-					b.bytes[i] = new TraditionalMemoryByte(this.bytes[i].getValue());
-
-				return b;
-			}
-
-			public boolean isValid() {
-				return this.start != null && this.end != null && this.bytes != null;
-			}
-		}
-
 		private HashMap<BigInteger, TraditionalMemoryByte[]> fEditBuffer = new HashMap<>();
 
 		private boolean fDisposed = false;
@@ -692,6 +679,9 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 
 		protected int fHistoryDepth = 0;
 
+		// the bytes of the cell being painted
+		private TraditionalMemoryByte fCellBytes[] = new TraditionalMemoryByte[0];
+
 		public ViewportCache() {
 			start();
 		}
@@ -711,6 +701,7 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 		public void setHistoryDepth(int depth) {
 			fHistoryDepth = depth;
 			fHistoryCache = new MemoryUnit[fHistoryDepth];
+			fCellBytes = new TraditionalMemoryByte[0];
 		}
 
 		@Override
@@ -775,10 +766,8 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 					}
 				}
 				if (archiveDeltas) {
-					for (int i = fViewportCache.getHistoryDepth() - 1; i > 0; i--)
-						fHistoryCache[i] = fHistoryCache[i - 1];
-
-					fHistoryCache[0] = fCache.clone();
+					// in order with the updates of the cache, which are made on the display thread
+					Display.getDefault().asyncExec(this::archiveCache);
 				} else if (pair != null) {
 					populateCache(pair.startAddress, pair.endAddress);
 				} else {
@@ -795,9 +784,15 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 			}
 		}
 
+		private void archiveCache() {
+			if (fCache == null || !fCache.isValid() || fHistoryCache.length == 0)
+				return;
+
+			fCache.archiveInto(fHistoryCache);
+		}
+
 		// cache memory necessary to paint viewport
 		// TODO: user setting to buffer +/- x lines
-		// TODO: reuse existing cache? probably only a minor performance gain
 		private void populateCache(final BigInteger startAddress, final BigInteger endAddress) {
 			try {
 				IMemoryBlockExtension memoryBlock = getMemoryBlock();
@@ -817,14 +812,17 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 				// of the MemoryBlock.
 				MemoryByte readBytes[] = memoryBlock.getBytesFromAddress(startAddress, units);
 
-				TraditionalMemoryByte cachedBytes[] = new TraditionalMemoryByte[readBytes.length];
-				for (int i = 0; i < readBytes.length; i++)
-					cachedBytes[i] = new TraditionalMemoryByte(readBytes[i].getValue(), readBytes[i].getFlags());
+				byte values[] = new byte[readBytes.length];
+				byte flags[] = new byte[readBytes.length];
+				for (int i = 0; i < readBytes.length; i++) {
+					values[i] = readBytes[i].getValue();
+					flags[i] = readBytes[i].getFlags();
+				}
 
 				// derive the target endian from the read MemoryBytes.
-				if (cachedBytes.length > 0) {
-					if (cachedBytes[0].isEndianessKnown()) {
-						setTargetLittleEndian(!cachedBytes[0].isBigEndian());
+				if (readBytes.length > 0) {
+					if (readBytes[0].isEndianessKnown()) {
+						setTargetLittleEndian(!readBytes[0].isBigEndian());
 					}
 				}
 
@@ -833,59 +831,26 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 					// there isn't an order when the unit size is one, so skip for performance
 					if (addressableSize.compareTo(BigInteger.ONE) != 0) {
 						int unitSize = addressableSize.intValue();
-						TraditionalMemoryByte cachedBytesAsByteSequence[] = new TraditionalMemoryByte[cachedBytes.length];
-						for (int unit = 0; unit < units; unit++) {
-							for (int unitbyte = 0; unitbyte < unitSize; unitbyte++) {
-								cachedBytesAsByteSequence[unit * unitSize + unitbyte] = cachedBytes[unit * unitSize
-										+ unitSize - unitbyte - 1];
+						for (int unit = 0; (unit + 1) * unitSize <= values.length; unit++) {
+							for (int low = unit * unitSize, high = low + unitSize - 1; low < high; low++, high--) {
+								byte value = values[low];
+								values[low] = values[high];
+								values[high] = value;
+								byte flag = flags[low];
+								flags[low] = flags[high];
+								flags[high] = flag;
 							}
 						}
-						cachedBytes = cachedBytesAsByteSequence;
 					}
 				}
 
-				final TraditionalMemoryByte[] cachedBytesFinal = cachedBytes;
-
-				fCache = new MemoryUnit();
-				fCache.start = startAddress;
-				fCache.end = endAddress;
-				fCache.bytes = cachedBytesFinal;
-
-				Display.getDefault().asyncExec(() -> {
-					// generate deltas
-					for (int historyIndex = 0; historyIndex < getHistoryDepth(); historyIndex++) {
-						if (fHistoryCache[historyIndex] != null && fHistoryCache[historyIndex].isValid()) {
-							BigInteger maxStart = startAddress.max(fHistoryCache[historyIndex].start);
-							BigInteger minEnd = endAddress.min(fHistoryCache[historyIndex].end)
-									.subtract(BigInteger.valueOf(1));
-
-							BigInteger overlapLength = minEnd.subtract(maxStart).multiply(addressableSize);
-							if (overlapLength.compareTo(BigInteger.valueOf(0)) > 0) {
-								// there is overlap
-
-								int offsetIntoOld = (maxStart.subtract(fHistoryCache[historyIndex].start)
-										.multiply(addressableSize)).intValue();
-								int offsetIntoNew = maxStart.subtract(startAddress).multiply(addressableSize)
-										.intValue();
-
-								for (int i = overlapLength.intValue(); i >= 0; i--) {
-									cachedBytesFinal[offsetIntoNew + i].setChanged(historyIndex,
-											cachedBytesFinal[offsetIntoNew + i]
-													.getValue() != fHistoryCache[historyIndex].bytes[offsetIntoOld + i]
-															.getValue());
-								}
-							}
-						}
-					}
-
-					// If the history does not exist, populate the history with the just populated cache. This solves the
-					// use case of 1) connect to target; 2) edit memory before the first suspend debug event; 3) paint
-					// differences in changed color.
-					if (fHistoryCache[0] == null)
-						fHistoryCache[0] = fCache.clone();
+				final MemoryUnit cache = new MemoryUnit();
+				cache.start = startAddress;
+				cache.end = endAddress;
+				cache.values = values;
+				cache.flags = flags;
 
-					Rendering.this.redrawPanes();
-				});
+				Display.getDefault().asyncExec(() -> updateCache(cache));
 
 			} catch (Exception e) {
 				// User can scroll to any memory, whether it's valid on the
@@ -897,9 +862,51 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 			}
 		}
 
+		/**
+		 * Replaces the cache with memory just read, and repaints the cells
+		 * whose bytes or change highlighting differ from the previous cache.
+		 * The panes are repainted as a whole when the range differs, or when
+		 * many cells changed.
+		 */
+		private void updateCache(MemoryUnit cache) {
+			final int addressableSize = getAddressableSize();
+			MemoryUnit previous = fCache;
+			fCache = cache;
+
+			// generate deltas
+			cache.computeChanges(fHistoryCache, addressableSize);
+
+			// If the history does not exist, populate the history with the just populated cache. This solves the
+			// use case of 1) connect to target; 2) edit memory before the first suspend debug event; 3) paint
+			// differences in changed color.
+			if (fHistoryCache.length > 0 && fHistoryCache[0] == null)
+				fHistoryCache[0] = cache.copyValuesTo(null);
+
+			if (!cache.hasSameRange(previous) || !cache.start.equals(getViewportStartAddress())) {
+				Rendering.this.redrawPanes();
+				return;
+			}
+
+			BitSet dirty = cache.getDirtyBytes(previous);
+			if (dirty == null) {
+				Rendering.this.redrawPanes();
+				return;
+			}
+
+			Rendering.this.redrawBytes(cache.start, dirty);
+		}
+
 		// bytes will be fetched from cache
 		@Override
 		public TraditionalMemoryByte[] getBytes(BigInteger address, int bytesRequested) throws DebugException {
+			return getBytes(address, bytesRequested, false);
+		}
+
+		/**
+		 * Returns the bytes at the given address. When reused, the bytes of the
+		 * cache are filled into the same objects at each call.
+		 */
+		TraditionalMemoryByte[] getBytes(BigInteger address, int bytesRequested, boolean reuse) throws DebugException {
 			assert Thread.currentThread().equals(Display.getDefault().getThread())
 					: TraditionalRenderingMessages.getString("TraditionalRendering.CALLED_ON_NON_DISPATCH_THREAD"); //$NON-NLS-1$
 
@@ -910,23 +917,36 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 			if (containsEditedCell(address)) // cell size cannot be switched during an edit
 				return getEditedMemory(address);
 
-			boolean contains = false;
-			if (fCache != null && fCache.start != null) {
+			MemoryUnit cache = fCache;
+			int offset = -1;
+			if (cache != null && cache.isValid()) {
 				// see if all of the data requested is in the cache
 				BigInteger dataEnd = address.add(BigInteger.valueOf(units));
 
-				if (fCache.start.compareTo(address) <= 0 && fCache.end.compareTo(dataEnd) >= 0
-						&& fCache.bytes.length > 0)
-					contains = true;
+				if (cache.start.compareTo(address) <= 0 && cache.end.compareTo(dataEnd) >= 0) {
+					offset = address.subtract(cache.start).multiply(BigInteger.valueOf(getAddressableSize()))
+							.intValue();
+					if (offset + bytesRequested > cache.values.length)
+						offset = -1;
+				}
 			}
 
-			if (contains) {
-				int offset = address.subtract(fCache.start).multiply(BigInteger.valueOf(getAddressableSize()))
-						.intValue();
-				TraditionalMemoryByte bytes[] = new TraditionalMemoryByte[bytesRequested];
-				for (int i = 0; i < bytes.length; i++) {
-					bytes[i] = fCache.bytes[offset + i];
+			if (offset >= 0) {
+				TraditionalMemoryByte bytes[];
+				if (reuse) {
+					if (fCellBytes.length != bytesRequested) {
+						fCellBytes = new TraditionalMemoryByte[bytesRequested];
+						for (int i = 0; i < fCellBytes.length; i++)
+							fCellBytes[i] = new TraditionalMemoryByte();
+					}
+					bytes = fCellBytes;
+				} else {
+					bytes = new TraditionalMemoryByte[bytesRequested];
+					for (int i = 0; i < bytes.length; i++)
+						bytes[i] = new TraditionalMemoryByte();
 				}
+				for (int i = 0; i < bytes.length; i++)
+					cache.copyByteTo(offset + i, bytes[i]);
 
 				return bytes;
 			}
@@ -1666,6 +1686,36 @@ public class Rendering extends Composite implements IDebugEventSetListener {
 		fParent.updateRenderingLabels();
 	}
 
+	/**
+	 * Repaints the cells of the data and text panes that contain the given
+	 * bytes, or the whole panes when too many cells are affected.
+	 *
+	 * @param startAddress the address of the first byte of the set
+	 * @param bytes the offsets of the bytes from the start address
+	 * @since 1.8
+	 */
+	protected void redrawBytes(BigInteger startAddress, BitSet bytes) {
+		if (bytes.cardinality() > getBytesPerRow() * getRowCount() / 4) {
+			redrawPanes();
+			return;
+		}
+
+		if (!isDisposed() && this.isVisible()) {
+			int bytesPerColumn = getBytesPerColumn();
+			int addressesPerColumn = getAddressesPerColumn();
+			for (int i = bytes.nextSetBit(0); i >= 0; i = bytes.nextSetBit((i / bytesPerColumn + 1) * bytesPerColumn)) {
+				BigInteger cellAddress = startAddress
+						.add(BigInteger.valueOf((long) (i / bytesPerColumn) * addressesPerColumn));
+				if (fBinaryPane.isPaneVisible())
+					fBinaryPane.redrawCell(cellAddress);
+				if (fTextPane.isPaneVisible())
+					fTextPane.redrawCell(cellAddress);
+			}
+		}
+
+		fParent.updateRenderingLabels();
+	}
+
 	protected void redrawPanes() {
 		if (!isDisposed() && this.isVisible()) {
 			if (fAddressPane.isPaneVisible()) {
@@ -192,8 +192,13 @@ public class TextPane extends AbstractPane {
 		try {
 			BigInteger start = fRendering.getViewportStartAddress();
 
-			for (int i = 0; i < fRendering.getRowCount(); i++) {
+			// only the rows and columns of the area to repaint
+			int lastRow = Math.min(fRendering.getRowCount(), (pe.y + pe.height) / cellHeight + 1);
+			for (int i = pe.y / cellHeight; i < lastRow; i++) {
 				for (int col = 0; col < columns; col++) {
+					if (cellWidth * (col + 1) < pe.x || cellWidth * col > pe.x + pe.width)
+						continue;
+
 					gc.setFont(fRendering.getFont());
 
 					if (isOdd(col))
@@ -204,7 +209,8 @@ public class TextPane extends AbstractPane {
 					BigInteger cellAddress = start
 							.add(BigInteger.valueOf((i * columns + col) * fRendering.getAddressesPerColumn()));
 
-					TraditionalMemoryByte bytes[] = fRendering.getBytes(cellAddress, fRendering.getBytesPerColumn());
+					TraditionalMemoryByte bytes[] = fRendering.getCellBytes(cellAddress,
+							fRendering.getBytesPerColumn());
 
 					boolean drawBox = false;
 
@@ -16,27 +16,27 @@ package org.eclipse.cdt.debug.internal.ui.memory.transport;
 import java.math.BigInteger;
 
 import org.eclipse.cdt.debug.core.memory.transport.WriteMemory;
-import org.eclipse.cdt.debug.ui.memory.transport.BufferedMemoryWriter;
+import org.eclipse.cdt.debug.internal.core.memory.transport.PipelinedWriteMemory;
+import org.eclipse.cdt.debug.internal.core.memory.transport.SetMemoryBlock;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IMemoryBlockExtension;
 
 /**
- * Writes to a given {@link IMemoryBlockExtension} using {@link BufferedMemoryWriter}
+ * Writes to a given {@link IMemoryBlockExtension} using {@link PipelinedWriteMemory}
  *
  *
  */
 public final class WriteMemoryBlock implements WriteMemory {
 
-	private final BufferedMemoryWriter writer;
-	private final int capacity = 64 * 1024;
+	private final WriteMemory writer;
 
 	public WriteMemoryBlock(IMemoryBlockExtension block) {
-		this.writer = new BufferedMemoryWriter(block, capacity);
+		this.writer = new PipelinedWriteMemory(new SetMemoryBlock(block));
 	}
 
 	@Override
 	public void to(BigInteger offset, byte[] data) throws DebugException {
-		writer.write(offset, data);
+		writer.to(offset, data);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.math.BigInteger;
 
 import org.eclipse.cdt.debug.core.memory.transport.ExportRequest;
 import org.eclipse.cdt.debug.core.memory.transport.IReadMemory;
+import org.eclipse.cdt.debug.internal.core.memory.transport.PipelinedReadMemory;
 import org.eclipse.cdt.debug.internal.core.memory.transport.RAWBinaryExport;
 import org.eclipse.cdt.debug.internal.core.memory.transport.ReadMemoryBlock;
 import org.eclipse.cdt.debug.internal.core.memory.transport.TransportJob;
@@ -454,8 +455,10 @@ public class RAWBinaryExporter implements IMemoryExporter {
 
 	@Override
 	public void exportMemory() {
-		IReadMemory read = new ReadMemoryBlock((IMemoryBlockExtension) fMemoryBlock);
 		BigInteger addressable = new AddressableSize((IMemoryBlockExtension) fMemoryBlock).get();
+		// memory blocks are not meant to be read concurrently, read ahead one block at a time
+		IReadMemory read = new PipelinedReadMemory(new ReadMemoryBlock((IMemoryBlockExtension) fMemoryBlock),
+				addressable, fEndAddress, 1);
 		ExportRequest request = new ExportRequest(fStartAddress, fEndAddress, addressable, read);
 		RAWBinaryExport memoryExport = new RAWBinaryExport(fOutputFile, request);
 		TransportJob job = new TransportJob("Memory Export to RAW Binary File", memoryExport);